@@ -0,0 +1,476 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.ClosedChannelException;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.carne.util.Check;
+
+/**
+ * {@linkplain MCDOutput} implementation which decouples the emitting thread from the actual output.
+ * <p>
+ * All calls are recorded into a bounded single-producer/single-consumer ring buffer which is drained by a dedicated
+ * writer thread forwarding the calls to the wrapped {@linkplain MCDOutput}. If the ring buffer is full the emitting
+ * thread waits until the writer thread has caught up (backpressure). Any failure encountered by the writer thread is
+ * re-thrown (as an {@linkplain IOException}) by the next call of the emitting thread. {@linkplain #close()} drains all
+ * pending calls and waits for the writer thread to terminate before it returns (even if the emitting thread is
+ * interrupted).
+ * </p>
+ * <p>
+ * Instances of this class must only be used by a single emitting thread at a time.
+ * </p>
+ */
+public class AsyncMCDOutput implements MCDOutput, Closeable, Flushable {
+
+	/**
+	 * The default ring buffer capacity.
+	 */
+	public static final int DEFAULT_CAPACITY = 8 * 1024;
+
+	private static final byte INCREASE_INDENT = 0;
+	private static final byte DECREASE_INDENT = 1;
+	private static final byte PRINTLN = 2;
+	private static final byte PRINT_TEXT = 3;
+	private static final byte PRINTLN_TEXT = 4;
+	private static final byte PRINT_VALUE = 5;
+	private static final byte PRINTLN_VALUE = 6;
+	private static final byte PRINT_COMMENT = 7;
+	private static final byte PRINTLN_COMMENT = 8;
+	private static final byte PRINT_KEYWORD = 9;
+	private static final byte PRINTLN_KEYWORD = 10;
+	private static final byte PRINT_OPERATOR = 11;
+	private static final byte PRINTLN_OPERATOR = 12;
+	private static final byte PRINT_LABEL = 13;
+	private static final byte PRINTLN_LABEL = 14;
+	private static final byte PRINT_ERROR = 15;
+	private static final byte PRINTLN_ERROR = 16;
+	private static final byte FLUSH = 17;
+	private static final byte CLOSE = 18;
+
+	private static final int SPIN_COUNT = 100;
+
+	private final MCDOutput out;
+	private final boolean autoClose;
+	private final byte[] kinds;
+	private final String[] arguments;
+	private final int mask;
+	private final Thread writer;
+	// Written by the producer only
+	private volatile long writeIndex = 0;
+	// Written by the writer thread only
+	private volatile long readIndex = 0;
+	private volatile boolean writerWaiting = false;
+	private volatile @Nullable Thread waitingProducer = null;
+	private volatile @Nullable Throwable failure = null;
+	private volatile boolean writerTerminated = false;
+	// Accessed by the producer only
+	private boolean closed = false;
+	private boolean closeInterrupted = false;
+
+	/**
+	 * Constructs a new {@linkplain AsyncMCDOutput} instance using the default ring buffer capacity.
+	 *
+	 * @param out the {@linkplain MCDOutput} to forward the output to.
+	 * @param autoClose whether to automatically close the wrapped {@linkplain MCDOutput} (if it is
+	 * {@linkplain Closeable}) when this output is closed.
+	 */
+	public AsyncMCDOutput(MCDOutput out, boolean autoClose) {
+		this(out, DEFAULT_CAPACITY, autoClose);
+	}
+
+	/**
+	 * Constructs a new {@linkplain AsyncMCDOutput} instance.
+	 *
+	 * @param out the {@linkplain MCDOutput} to forward the output to.
+	 * @param capacity the ring buffer capacity (rounded up to the next power of two).
+	 * @param autoClose whether to automatically close the wrapped {@linkplain MCDOutput} (if it is
+	 * {@linkplain Closeable}) when this output is closed.
+	 */
+	public AsyncMCDOutput(MCDOutput out, int capacity, boolean autoClose) {
+		Check.isTrue(0 < capacity && capacity <= (1 << 30));
+
+		int ringCapacity = Integer.highestOneBit(capacity);
+
+		if (ringCapacity < capacity) {
+			ringCapacity <<= 1;
+		}
+		this.out = out;
+		this.autoClose = autoClose;
+		this.kinds = new byte[ringCapacity];
+		this.arguments = new String[ringCapacity];
+		Arrays.fill(this.arguments, "");
+		this.mask = ringCapacity - 1;
+		this.writer = new Thread(this::drain, getClass().getSimpleName());
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		ensureNotClosed();
+		awaitRecord(put(FLUSH, ""));
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!this.closed) {
+			this.closed = true;
+			this.closeInterrupted = Thread.interrupted();
+			try {
+				awaitRecord(put(CLOSE, ""));
+				joinWriter();
+			} finally {
+				if (this.closeInterrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			checkFailure();
+		}
+	}
+
+	@Override
+	public @NonNull MCDOutput increaseIndent() throws IOException {
+		return enqueue(INCREASE_INDENT, "");
+	}
+
+	@Override
+	public @NonNull MCDOutput decreaseIndent() throws IOException {
+		return enqueue(DECREASE_INDENT, "");
+	}
+
+	@Override
+	public MCDOutput println() throws IOException {
+		return enqueue(PRINTLN, "");
+	}
+
+	@Override
+	public MCDOutput print(String text) throws IOException {
+		return enqueue(PRINT_TEXT, text);
+	}
+
+	@Override
+	public MCDOutput println(String text) throws IOException {
+		return enqueue(PRINTLN_TEXT, text);
+	}
+
+	@Override
+	public MCDOutput printValue(String value) throws IOException {
+		return enqueue(PRINT_VALUE, value);
+	}
+
+	@Override
+	public MCDOutput printlnValue(String value) throws IOException {
+		return enqueue(PRINTLN_VALUE, value);
+	}
+
+	@Override
+	public MCDOutput printComment(String comment) throws IOException {
+		return enqueue(PRINT_COMMENT, comment);
+	}
+
+	@Override
+	public MCDOutput printlnComment(String comment) throws IOException {
+		return enqueue(PRINTLN_COMMENT, comment);
+	}
+
+	@Override
+	public MCDOutput printKeyword(String keyword) throws IOException {
+		return enqueue(PRINT_KEYWORD, keyword);
+	}
+
+	@Override
+	public MCDOutput printlnKeyword(String keyword) throws IOException {
+		return enqueue(PRINTLN_KEYWORD, keyword);
+	}
+
+	@Override
+	public MCDOutput printOperator(String operator) throws IOException {
+		return enqueue(PRINT_OPERATOR, operator);
+	}
+
+	@Override
+	public MCDOutput printlnOperator(String operator) throws IOException {
+		return enqueue(PRINTLN_OPERATOR, operator);
+	}
+
+	@Override
+	public MCDOutput printLabel(String label) throws IOException {
+		return enqueue(PRINT_LABEL, label);
+	}
+
+	@Override
+	public MCDOutput printlnLabel(String label) throws IOException {
+		return enqueue(PRINTLN_LABEL, label);
+	}
+
+	@Override
+	public MCDOutput printError(String error) throws IOException {
+		return enqueue(PRINT_ERROR, error);
+	}
+
+	@Override
+	public MCDOutput printlnError(String error) throws IOException {
+		return enqueue(PRINTLN_ERROR, error);
+	}
+
+	private void ensureNotClosed() throws IOException {
+		if (this.closed) {
+			throw new ClosedChannelException();
+		}
+		checkFailure();
+	}
+
+	private void checkFailure() throws IOException {
+		Throwable checkedFailure = this.failure;
+
+		if (checkedFailure != null) {
+			throw new IOException("Asynchronous output failed", checkedFailure);
+		}
+	}
+
+	private MCDOutput enqueue(byte kind, String argument) throws IOException {
+		ensureNotClosed();
+		put(kind, argument);
+		return this;
+	}
+
+	private long put(byte kind, String argument) throws IOException {
+		long index = this.writeIndex;
+		int spinCount = 0;
+
+		while (index - this.readIndex > this.mask) {
+			if (spinCount < SPIN_COUNT) {
+				Thread.onSpinWait();
+				spinCount++;
+			} else {
+				// The writer thread publishes its final read index before it terminates, hence check it afterwards
+				if (this.writerTerminated && index - this.readIndex > this.mask) {
+					throwWriterTerminated();
+				}
+				this.waitingProducer = Thread.currentThread();
+				if (index - this.readIndex > this.mask && !this.writerTerminated) {
+					LockSupport.park(this);
+				}
+				this.waitingProducer = null;
+				checkInterrupted();
+			}
+		}
+
+		int slot = (int) index & this.mask;
+
+		this.kinds[slot] = kind;
+		this.arguments[slot] = argument;
+		// The volatile write publishes the record to the writer thread
+		this.writeIndex = index + 1;
+		if (this.writerWaiting) {
+			LockSupport.unpark(this.writer);
+		}
+		return index;
+	}
+
+	private void awaitRecord(long index) throws IOException {
+		while (this.readIndex <= index) {
+			if (this.writerTerminated && this.readIndex <= index) {
+				throwWriterTerminated();
+			}
+			this.waitingProducer = Thread.currentThread();
+			if (this.readIndex <= index && !this.writerTerminated) {
+				LockSupport.park(this);
+			}
+			this.waitingProducer = null;
+			checkInterrupted();
+		}
+	}
+
+	private void joinWriter() {
+		while (this.writer.isAlive()) {
+			try {
+				this.writer.join();
+			} catch (InterruptedException e) {
+				this.closeInterrupted = true;
+			}
+		}
+	}
+
+	private void throwWriterTerminated() throws IOException {
+		checkFailure();
+		throw new IOException("Asynchronous output writer terminated");
+	}
+
+	private void checkInterrupted() throws IOException {
+		if (this.closed) {
+			// Closing waits for the writer thread regardless of any interrupt (which is restored afterwards)
+			this.closeInterrupted |= Thread.interrupted();
+		} else if (Thread.currentThread().isInterrupted()) {
+			throw new InterruptedIOException();
+		}
+	}
+
+	@SuppressWarnings("squid:S1181")
+	private void drain() {
+		try {
+			drainRecords();
+		} catch (Throwable e) {
+			recordFailure(e);
+		} finally {
+			this.writerTerminated = true;
+
+			Thread checkedWaitingProducer = this.waitingProducer;
+
+			if (checkedWaitingProducer != null) {
+				LockSupport.unpark(checkedWaitingProducer);
+			}
+		}
+	}
+
+	private void drainRecords() {
+		boolean closing = false;
+
+		while (!closing) {
+			long index = this.readIndex;
+			int spinCount = 0;
+
+			while (index == this.writeIndex) {
+				if (spinCount < SPIN_COUNT) {
+					Thread.onSpinWait();
+					spinCount++;
+				} else {
+					this.writerWaiting = true;
+					if (index == this.writeIndex) {
+						LockSupport.park(this);
+					}
+					this.writerWaiting = false;
+				}
+			}
+
+			long available = this.writeIndex;
+
+			while (index < available) {
+				int slot = (int) index & this.mask;
+				byte kind = this.kinds[slot];
+				String argument = this.arguments[slot];
+
+				this.arguments[slot] = "";
+				closing = kind == CLOSE;
+				// Once failed, skip any further output but still close the wrapped output
+				if (this.failure == null || closing) {
+					try {
+						replay(kind, argument);
+					} catch (IOException e) {
+						recordFailure(e);
+					} catch (RuntimeException e) {
+						recordFailure(new IOException(e));
+					}
+				}
+				index++;
+				// The volatile write releases the slot to the producer
+				this.readIndex = index;
+			}
+			Thread checkedWaitingProducer = this.waitingProducer;
+
+			if (checkedWaitingProducer != null) {
+				LockSupport.unpark(checkedWaitingProducer);
+			}
+		}
+	}
+
+	private void recordFailure(Throwable e) {
+		if (this.failure == null) {
+			this.failure = e;
+		}
+	}
+
+	private void replay(byte kind, String argument) throws IOException {
+		switch (kind) {
+		case INCREASE_INDENT:
+			this.out.increaseIndent();
+			break;
+		case DECREASE_INDENT:
+			this.out.decreaseIndent();
+			break;
+		case PRINTLN:
+			this.out.println();
+			break;
+		case PRINT_TEXT:
+			this.out.print(argument);
+			break;
+		case PRINTLN_TEXT:
+			this.out.println(argument);
+			break;
+		case PRINT_VALUE:
+			this.out.printValue(argument);
+			break;
+		case PRINTLN_VALUE:
+			this.out.printlnValue(argument);
+			break;
+		case PRINT_COMMENT:
+			this.out.printComment(argument);
+			break;
+		case PRINTLN_COMMENT:
+			this.out.printlnComment(argument);
+			break;
+		case PRINT_KEYWORD:
+			this.out.printKeyword(argument);
+			break;
+		case PRINTLN_KEYWORD:
+			this.out.printlnKeyword(argument);
+			break;
+		case PRINT_OPERATOR:
+			this.out.printOperator(argument);
+			break;
+		case PRINTLN_OPERATOR:
+			this.out.printlnOperator(argument);
+			break;
+		case PRINT_LABEL:
+			this.out.printLabel(argument);
+			break;
+		case PRINTLN_LABEL:
+			this.out.printlnLabel(argument);
+			break;
+		case PRINT_ERROR:
+			this.out.printError(argument);
+			break;
+		case PRINTLN_ERROR:
+			this.out.printlnError(argument);
+			break;
+		case FLUSH:
+			if (this.out instanceof Flushable) {
+				((Flushable) this.out).flush();
+			}
+			break;
+		case CLOSE:
+			if (this.out instanceof Closeable && this.autoClose) {
+				((Closeable) this.out).close();
+			} else if (this.out instanceof Flushable) {
+				((Flushable) this.out).flush();
+			}
+			break;
+		default:
+			throw new IllegalStateException("Unexpected record kind: " + kind);
+		}
+	}
+
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.carne.mcd.io.MCDTokenCache;
+import de.carne.util.Check;
+
+/**
+ * {@linkplain MCDOutput} implementation which encodes the decoded data directly into a {@linkplain WritableByteChannel}.
+ * <p>
+ * The emitted bytes are identical to the ones emitted by a {@linkplain PlainMCDOutput} instance using the same
+ * {@linkplain Charset}. In contrast to {@linkplain PlainMCDOutput} the decoded data is encoded into a reused direct
+ * buffer which is written to the channel in large chunks. For ASCII compatible charsets indentation prefixes and line
+ * separators are pre-encoded and ASCII only text is copied without invoking the encoder. For UTF-8 output tokens
+ * registered in the {@linkplain MCDTokenCache} are emitted by copying their pre-encoded bytes. Instances of this class
+ * are not thread-safe.
+ * </p>
+ */
+public class ChannelMCDOutput implements MCDOutput, Closeable, Flushable {
+
+	/**
+	 * The default buffer size used for encoding the decoded data.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	private static final String INDENT = "    ";
+
+	private final WritableByteChannel channel;
+	private final boolean autoClose;
+	private final CharsetEncoder encoder;
+	private final boolean asciiCompatible;
+	private final boolean utf8;
+	private final ByteBuffer buffer;
+	private final byte @Nullable [] lineSeparator;
+	private byte[][] indents = new byte[0][];
+	private @Nullable String pendingText = null;
+	private boolean closed = false;
+	private int indentLevel = 0;
+	private boolean newLine = true;
+
+	/**
+	 * Constructs a new {@linkplain MCDOutput} instance using the platform's default {@linkplain Charset}.
+	 *
+	 * @param channel the {@linkplain WritableByteChannel} to emit the decoded data to.
+	 * @param autoClose whether to automatically close the {@linkplain WritableByteChannel} when this output is closed.
+	 */
+	public ChannelMCDOutput(WritableByteChannel channel, boolean autoClose) {
+		this(channel, Charset.defaultCharset(), autoClose);
+	}
+
+	/**
+	 * Constructs a new {@linkplain MCDOutput} instance.
+	 *
+	 * @param channel the {@linkplain WritableByteChannel} to emit the decoded data to.
+	 * @param charset the {@linkplain Charset} to use for encoding the decoded data.
+	 * @param autoClose whether to automatically close the {@linkplain WritableByteChannel} when this output is closed.
+	 */
+	public ChannelMCDOutput(WritableByteChannel channel, Charset charset, boolean autoClose) {
+		this(channel, charset, DEFAULT_BUFFER_SIZE, autoClose);
+	}
+
+	/**
+	 * Constructs a new {@linkplain MCDOutput} instance.
+	 *
+	 * @param channel the {@linkplain WritableByteChannel} to emit the decoded data to.
+	 * @param charset the {@linkplain Charset} to use for encoding the decoded data.
+	 * @param bufferSize the size of the buffer used for encoding the decoded data.
+	 * @param autoClose whether to automatically close the {@linkplain WritableByteChannel} when this output is closed.
+	 */
+	public ChannelMCDOutput(WritableByteChannel channel, Charset charset, int bufferSize, boolean autoClose) {
+		Check.isTrue(bufferSize >= 16);
+
+		this.channel = channel;
+		this.autoClose = autoClose;
+		this.encoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.utf8 = StandardCharsets.UTF_8.equals(charset);
+		this.asciiCompatible = StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)
+				|| StandardCharsets.ISO_8859_1.equals(charset);
+		this.buffer = ByteBuffer.allocateDirect(bufferSize);
+		this.lineSeparator = (this.asciiCompatible ? encode(charset, System.lineSeparator()) : null);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		ensureNotClosed();
+		writeBuffer();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!this.closed) {
+			try {
+				flushEncoder();
+				writeBuffer();
+			} finally {
+				this.closed = true;
+				if (this.autoClose) {
+					this.channel.close();
+				}
+			}
+		}
+	}
+
+	@Override
+	public @NonNull MCDOutput increaseIndent() throws IOException {
+		this.indentLevel++;
+		return this;
+	}
+
+	@Override
+	public @NonNull MCDOutput decreaseIndent() throws IOException {
+		Check.isTrue(this.indentLevel > 0);
+
+		this.indentLevel--;
+		return this;
+	}
+
+	@Override
+	public MCDOutput println() throws IOException {
+		ensureNotClosed();
+		printIndentIfNeeded();
+		putLineSeparator();
+		this.newLine = true;
+		return this;
+	}
+
+	@Override
+	public MCDOutput print(String text) throws IOException {
+		ensureNotClosed();
+		printIndentIfNeeded();
+		putText(text);
+		return this;
+	}
+
+	@Override
+	public MCDOutput println(String text) throws IOException {
+		ensureNotClosed();
+		printIndentIfNeeded();
+		putText(text);
+		putLineSeparator();
+		this.newLine = true;
+		return this;
+	}
+
+	@Override
+	public MCDOutput printValue(String value) throws IOException {
+		return print(value);
+	}
+
+	@Override
+	public MCDOutput printlnValue(String value) throws IOException {
+		return println(value);
+	}
+
+	@Override
+	public MCDOutput printComment(String comment) throws IOException {
+		return print(comment);
+	}
+
+	@Override
+	public MCDOutput printlnComment(String comment) throws IOException {
+		return println(comment);
+	}
+
+	@Override
+	public MCDOutput printKeyword(String keyword) throws IOException {
+		return print(keyword);
+	}
+
+	@Override
+	public MCDOutput printlnKeyword(String keyword) throws IOException {
+		return println(keyword);
+	}
+
+	@Override
+	public MCDOutput printOperator(String operator) throws IOException {
+		return print(operator);
+	}
+
+	@Override
+	public MCDOutput printlnOperator(String operator) throws IOException {
+		return println(operator);
+	}
+
+	@Override
+	public MCDOutput printLabel(String label) throws IOException {
+		return print(label);
+	}
+
+	@Override
+	public MCDOutput printlnLabel(String label) throws IOException {
+		return println(label);
+	}
+
+	@Override
+	public MCDOutput printError(String error) throws IOException {
+		return print(error);
+	}
+
+	@Override
+	public MCDOutput printlnError(String error) throws IOException {
+		return println(error);
+	}
+
+	private void ensureNotClosed() throws IOException {
+		if (this.closed) {
+			throw new ClosedChannelException();
+		}
+	}
+
+	private void printIndentIfNeeded() throws IOException {
+		if (this.newLine) {
+			if (this.asciiCompatible && this.pendingText == null) {
+				if (this.indentLevel > 0) {
+					putBytes(indent(this.indentLevel));
+				}
+			} else {
+				for (int indentCount = 0; indentCount < this.indentLevel; indentCount++) {
+					putText(INDENT);
+				}
+			}
+			this.newLine = false;
+		}
+	}
+
+	private void putLineSeparator() throws IOException {
+		byte[] checkedLineSeparator = this.lineSeparator;
+
+		if (checkedLineSeparator != null && this.pendingText == null) {
+			putBytes(checkedLineSeparator);
+		} else {
+			putText(System.lineSeparator());
+		}
+	}
+
+	private byte[] indent(int level) {
+		if (level > this.indents.length) {
+			byte[][] newIndents = Arrays.copyOf(this.indents, Math.max(level, this.indents.length * 2));
+			byte[] indentBytes = encode(this.encoder.charset(), INDENT);
+
+			for (int indentIndex = this.indents.length; indentIndex < newIndents.length; indentIndex++) {
+				byte[] levelIndent = new byte[indentBytes.length * (indentIndex + 1)];
+
+				for (int levelIndex = 0; levelIndex <= indentIndex; levelIndex++) {
+					System.arraycopy(indentBytes, 0, levelIndent, levelIndex * indentBytes.length, indentBytes.length);
+				}
+				newIndents[indentIndex] = levelIndent;
+			}
+			this.indents = newIndents;
+		}
+		return this.indents[level - 1];
+	}
+
+	private static byte[] encode(Charset charset, String text) {
+		ByteBuffer encoded = charset.encode(text);
+		byte[] bytes = new byte[encoded.remaining()];
+
+		encoded.get(bytes);
+		return bytes;
+	}
+
+	private void putBytes(byte[] bytes) throws IOException {
+		int bytesOffset = 0;
+
+		while (bytesOffset < bytes.length) {
+			if (!this.buffer.hasRemaining()) {
+				writeBuffer();
+			}
+
+			int putLength = Math.min(bytes.length - bytesOffset, this.buffer.remaining());
+
+			this.buffer.put(bytes, bytesOffset, putLength);
+			bytesOffset += putLength;
+		}
+	}
+
+	private void putText(String text) throws IOException {
+		String checkedPendingText = this.pendingText;
+
+		if (checkedPendingText != null) {
+			this.pendingText = null;
+			encodeText(checkedPendingText + text, false);
+		} else if (!putToken(text) && (!this.asciiCompatible || !putAscii(text))) {
+			encodeText(text, false);
+		}
+	}
+
+	private boolean putToken(String text) throws IOException {
+		int tokenId = (this.utf8 ? MCDTokenCache.id(text) : MCDTokenCache.NO_TOKEN);
+		boolean token = tokenId != MCDTokenCache.NO_TOKEN;
+
+		if (token) {
+			putBytes(MCDTokenCache.utf8Bytes(tokenId));
+		}
+		return token;
+	}
+
+	private boolean putAscii(String text) throws IOException {
+		int textLength = text.length();
+
+		if (textLength > this.buffer.remaining()) {
+			writeBuffer();
+		}
+
+		boolean ascii = textLength <= this.buffer.remaining();
+
+		if (ascii) {
+			int start = this.buffer.position();
+
+			for (int charIndex = 0; charIndex < textLength; charIndex++) {
+				char c = text.charAt(charIndex);
+
+				if (c >= 0x80) {
+					this.buffer.position(start);
+					ascii = false;
+					break;
+				}
+				this.buffer.put((byte) c);
+			}
+		}
+		return ascii;
+	}
+
+	private void encodeText(String text, boolean endOfInput) throws IOException {
+		CharBuffer chars = CharBuffer.wrap(text);
+		CoderResult result;
+
+		do {
+			result = this.encoder.encode(chars, this.buffer, endOfInput);
+			if (result.isOverflow()) {
+				writeBuffer();
+			}
+		} while (result.isOverflow());
+		// Keep any incomplete surrogate pair for the next call (like the standard stream encoder does)
+		if (chars.hasRemaining()) {
+			this.pendingText = chars.toString();
+		}
+	}
+
+	private void flushEncoder() throws IOException {
+		String checkedPendingText = this.pendingText;
+
+		this.pendingText = null;
+		encodeText((checkedPendingText != null ? checkedPendingText : ""), true);
+
+		CoderResult result;
+
+		do {
+			result = this.encoder.flush(this.buffer);
+			if (result.isOverflow()) {
+				writeBuffer();
+			}
+		} while (result.isOverflow());
+	}
+
+	private void writeBuffer() throws IOException {
+		this.buffer.flip();
+		while (this.buffer.hasRemaining()) {
+			this.channel.write(this.buffer);
+		}
+		this.buffer.clear();
+	}
+
+}
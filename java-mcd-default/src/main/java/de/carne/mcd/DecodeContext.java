@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Context of a single decode call.
+ * <p>
+ * A new context is created by {@linkplain MachineCodeDecoder} for every decode call and is passed down to the
+ * instructions and operands being decoded. In contrast to a thread bound lookup it stays valid regardless of the thread
+ * decoding and is not affected by nested decode calls.
+ * </p>
+ */
+public final class DecodeContext {
+
+	private final MachineCodeDecoder decoder;
+	private final Object state;
+	@Nullable
+	private final DecodedInstructionSink instructionSink;
+
+	DecodeContext(MachineCodeDecoder decoder, Object state, @Nullable DecodedInstructionSink instructionSink) {
+		this.decoder = decoder;
+		this.state = state;
+		this.instructionSink = instructionSink;
+	}
+
+	/**
+	 * Gets the {@linkplain MachineCodeDecoder} performing the decode call.
+	 *
+	 * @return the {@linkplain MachineCodeDecoder} performing the decode call.
+	 */
+	public MachineCodeDecoder decoder() {
+		return this.decoder;
+	}
+
+	/**
+	 * Gets the {@linkplain MachineCodeDecoder} performing the decode call.
+	 *
+	 * @param <T> the actual decoder type.
+	 * @param decoderType the decoder type to get.
+	 * @return the {@linkplain MachineCodeDecoder} performing the decode call.
+	 * @throws IllegalStateException if the decoder is not of the requested type.
+	 */
+	public <T extends MachineCodeDecoder> T decoder(Class<T> decoderType) {
+		if (!decoderType.isInstance(this.decoder)) {
+			throw new IllegalStateException("Decoder type mismatch: " + this.decoder.getClass().getName());
+		}
+		return decoderType.cast(this.decoder);
+	}
+
+	/**
+	 * Gets the decoder specific state of the decode call.
+	 * <p>
+	 * The state object is exclusively owned by the decode call until it returns.
+	 * </p>
+	 *
+	 * @param <T> the actual state type.
+	 * @param stateType the state type to get.
+	 * @return the decoder specific state of the decode call.
+	 * @throws IllegalStateException if the state is not of the requested type.
+	 * @see MachineCodeDecoder#newDecodeState()
+	 */
+	public <T> T state(Class<T> stateType) {
+		if (!stateType.isInstance(this.state)) {
+			throw new IllegalStateException("Decode state type mismatch: " + this.state.getClass().getName());
+		}
+		return stateType.cast(this.state);
+	}
+
+	/**
+	 * Gets the {@linkplain DecodedInstructionSink} of the decode call.
+	 *
+	 * @return the {@linkplain DecodedInstructionSink} of the decode call or {@code null} if the decode call emits text
+	 * output.
+	 */
+	@Nullable
+	public DecodedInstructionSink instructionSink() {
+		return this.instructionSink;
+	}
+
+}
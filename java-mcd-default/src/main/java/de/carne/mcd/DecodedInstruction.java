@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.carne.mcd.io.MCDInputBuffer;
+import de.carne.mcd.io.MCDTokenCache;
+
+/**
+ * Immutable snapshot of a single decoded instruction as provided by
+ * {@linkplain MachineCodeDecoder#instructions(java.nio.channels.ReadableByteChannel, long, long)}.
+ */
+public final class DecodedInstruction {
+
+	private static final int OPERAND_FIELDS = 3;
+
+	private final long address;
+	private final int mnemonicId;
+	private final byte[] bytes;
+	private final int[] operands;
+
+	DecodedInstruction(long address, int mnemonicId, DecodedOperands operands, MCDInputBuffer.ArrayView rawBytes) {
+		int length = rawBytes.length();
+		int operandCount = operands.count();
+
+		this.address = address;
+		this.mnemonicId = mnemonicId;
+		this.bytes = new byte[length];
+		for (int byteIndex = 0; byteIndex < length; byteIndex++) {
+			this.bytes[byteIndex] = rawBytes.getI8(byteIndex);
+		}
+		this.operands = new int[operandCount * OPERAND_FIELDS];
+		for (int operandIndex = 0; operandIndex < operandCount; operandIndex++) {
+			int operandBase = operandIndex * OPERAND_FIELDS;
+
+			this.operands[operandBase] = operands.typeId(operandIndex);
+			this.operands[operandBase + 1] = operands.offset(operandIndex);
+			this.operands[operandBase + 2] = operands.length(operandIndex);
+		}
+	}
+
+	/**
+	 * Gets the instruction's address.
+	 *
+	 * @return the instruction's address.
+	 */
+	public long address() {
+		return this.address;
+	}
+
+	/**
+	 * Gets the instruction's length in bytes.
+	 *
+	 * @return the instruction's length in bytes.
+	 */
+	public int length() {
+		return this.bytes.length;
+	}
+
+	/**
+	 * Gets the {@linkplain MCDTokenCache} id of the instruction's mnemonic.
+	 *
+	 * @return the {@linkplain MCDTokenCache} id of the instruction's mnemonic or {@linkplain MCDTokenCache#NO_TOKEN} if
+	 * the decoder did not report a mnemonic.
+	 */
+	public int mnemonicId() {
+		return this.mnemonicId;
+	}
+
+	/**
+	 * Gets the instruction's mnemonic.
+	 *
+	 * @return the instruction's mnemonic or {@code null} if the decoder did not report a mnemonic.
+	 */
+	@Nullable
+	public String mnemonic() {
+		return (this.mnemonicId != MCDTokenCache.NO_TOKEN ? MCDTokenCache.text(this.mnemonicId) : null);
+	}
+
+	/**
+	 * Gets the instruction's raw bytes.
+	 *
+	 * @return a copy of the instruction's raw bytes.
+	 */
+	public byte[] bytes() {
+		return this.bytes.clone();
+	}
+
+	/**
+	 * Gets the number of operands.
+	 *
+	 * @return the number of operands.
+	 */
+	public int operandCount() {
+		return this.operands.length / OPERAND_FIELDS;
+	}
+
+	/**
+	 * Gets an operand's type id.
+	 *
+	 * @param index the index of the operand.
+	 * @return the {@linkplain MCDTokenCache} id of the operand's type name.
+	 * @see DecodedOperands#typeId(int)
+	 */
+	public int operandTypeId(int index) {
+		return this.operands[Objects.checkIndex(index, operandCount()) * OPERAND_FIELDS];
+	}
+
+	/**
+	 * Gets the offset of an operand's encoding within the instruction's raw bytes.
+	 *
+	 * @param index the index of the operand.
+	 * @return the offset of the operand's encoding.
+	 * @see DecodedOperands#offset(int)
+	 */
+	public int operandOffset(int index) {
+		return this.operands[Objects.checkIndex(index, operandCount()) * OPERAND_FIELDS + 1];
+	}
+
+	/**
+	 * Gets the length of an operand's encoding.
+	 *
+	 * @param index the index of the operand.
+	 * @return the length of the operand's encoding.
+	 * @see DecodedOperands#length(int)
+	 */
+	public int operandLength(int index) {
+		return this.operands[Objects.checkIndex(index, operandCount()) * OPERAND_FIELDS + 2];
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder();
+
+		buffer.append(Long.toHexString(this.address)).append(": ").append(Objects.toString(mnemonic(), "?"));
+		buffer.append(' ').append(Arrays.toString(this.bytes));
+		return buffer.toString();
+	}
+
+}
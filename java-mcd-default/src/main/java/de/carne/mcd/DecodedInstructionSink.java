@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd;
+
+import java.io.IOException;
+
+import de.carne.mcd.io.MCDInputBuffer;
+import de.carne.mcd.io.MCDTokenCache;
+
+/**
+ * Structured alternative to {@linkplain MCDOutput} receiving one primitive callback per decoded instruction.
+ * <p>
+ * Decoders supporting this interface (see {@linkplain MachineCodeDecoder#supportsInstructionSink()}) skip any text
+ * rendering when decoding to an instruction sink. All objects handed over to the sink are owned and re-used by the
+ * decoder and are only valid during the callback.
+ * </p>
+ */
+@FunctionalInterface
+public interface DecodedInstructionSink {
+
+	/**
+	 * Called for every decoded instruction.
+	 *
+	 * @param address the instruction's address.
+	 * @param length the instruction's length in bytes.
+	 * @param mnemonicId the {@linkplain MCDTokenCache} id of the instruction's mnemonic.
+	 * @param operands the instruction's operand descriptors.
+	 * @param rawBytes the instruction's raw bytes.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	void instruction(long address, int length, int mnemonicId, DecodedOperands operands,
+			MCDInputBuffer.ArrayView rawBytes) throws IOException;
+
+}
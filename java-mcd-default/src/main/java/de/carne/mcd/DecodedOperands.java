@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import de.carne.mcd.io.MCDTokenCache;
+
+/**
+ * Re-usable list of operand descriptors reported to a {@linkplain DecodedInstructionSink}.
+ * <p>
+ * Every operand is described by its type (the {@linkplain MCDTokenCache} id of the decoder specific operand type name)
+ * as well as the position and length of its encoding within the instruction's raw bytes.
+ * </p>
+ */
+public final class DecodedOperands {
+
+	private static final int INITIAL_CAPACITY = 4;
+
+	private int[] typeIds = new int[INITIAL_CAPACITY];
+	private int[] offsets = new int[INITIAL_CAPACITY];
+	private int[] lengths = new int[INITIAL_CAPACITY];
+	private int count = 0;
+
+	/**
+	 * Adds an operand descriptor.
+	 *
+	 * @param typeId the {@linkplain MCDTokenCache} id of the operand's type name.
+	 * @param offset the offset of the operand's encoding within the instruction's raw bytes.
+	 * @param length the length of the operand's encoding.
+	 */
+	public void add(int typeId, int offset, int length) {
+		if (this.count == this.typeIds.length) {
+			int newCapacity = this.count * 2;
+
+			this.typeIds = Arrays.copyOf(this.typeIds, newCapacity);
+			this.offsets = Arrays.copyOf(this.offsets, newCapacity);
+			this.lengths = Arrays.copyOf(this.lengths, newCapacity);
+		}
+		this.typeIds[this.count] = typeId;
+		this.offsets[this.count] = offset;
+		this.lengths[this.count] = length;
+		this.count++;
+	}
+
+	/**
+	 * Removes all operand descriptors.
+	 */
+	public void clear() {
+		this.count = 0;
+	}
+
+	/**
+	 * Gets the number of operands.
+	 *
+	 * @return the number of operands.
+	 */
+	public int count() {
+		return this.count;
+	}
+
+	/**
+	 * Gets an operand's type id.
+	 *
+	 * @param index the index of the operand.
+	 * @return the {@linkplain MCDTokenCache} id of the operand's type name.
+	 */
+	public int typeId(int index) {
+		return this.typeIds[Objects.checkIndex(index, this.count)];
+	}
+
+	/**
+	 * Gets the offset of an operand's encoding within the instruction's raw bytes.
+	 *
+	 * @param index the index of the operand.
+	 * @return the offset of the operand's encoding.
+	 */
+	public int offset(int index) {
+		return this.offsets[Objects.checkIndex(index, this.count)];
+	}
+
+	/**
+	 * Gets the length of an operand's encoding.
+	 *
+	 * @param index the index of the operand.
+	 * @return the length of the operand's encoding (may be 0 for operands encoded within the opcode;
+	 *         operands sharing a common encoding byte like the x86 ModR/M byte report overlapping ranges).
+	 */
+	public int length(int index) {
+		return this.lengths[Objects.checkIndex(index, this.count)];
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * {@linkplain Flow.Publisher} decoding instructions on demand.
+ * <p>
+ * Instructions are pulled from an {@linkplain InstructionSpliterator} only while the subscriber has outstanding demand.
+ * Hence no input is read while there is no demand. As the underlying input can only be consumed once, only a single
+ * subscriber is accepted.
+ * </p>
+ */
+final class InstructionPublisher implements Flow.Publisher<DecodedInstruction> {
+
+	private final Spliterator<DecodedInstruction> instructions;
+	private final Executor executor;
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+
+	InstructionPublisher(Spliterator<DecodedInstruction> instructions, Executor executor) {
+		this.instructions = instructions;
+		this.executor = executor;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super DecodedInstruction> subscriber) {
+		Objects.requireNonNull(subscriber);
+		if (this.subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(new Subscription(subscriber));
+		} else {
+			subscriber.onSubscribe(new Flow.Subscription() {
+
+				@Override
+				public void request(long n) {
+					// Nothing to do here
+				}
+
+				@Override
+				public void cancel() {
+					// Nothing to do here
+				}
+
+			});
+			subscriber.onError(new IllegalStateException("Publisher supports only a single subscriber"));
+		}
+	}
+
+	private final class Subscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super DecodedInstruction> subscriber;
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicInteger pendingDrains = new AtomicInteger();
+		private volatile boolean done = false;
+		private volatile @Nullable Throwable requestError = null;
+
+		Subscription(Flow.Subscriber<? super DecodedInstruction> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if (!this.done) {
+				if (n > 0) {
+					this.demand.getAndUpdate(current -> {
+						long updated = current + n;
+
+						return (updated < 0 ? Long.MAX_VALUE : updated);
+					});
+				} else if (this.requestError == null) {
+					// Signaled by the drain loop, as it may be calling onNext concurrently
+					this.requestError = new IllegalArgumentException("Non-positive request: " + n);
+				}
+				if (this.pendingDrains.getAndIncrement() == 0) {
+					InstructionPublisher.this.executor.execute(this::drain);
+				}
+			}
+		}
+
+		@Override
+		public void cancel() {
+			this.done = true;
+		}
+
+		private void drain() {
+			int missed = 1;
+
+			do {
+				long requested = this.demand.get();
+				long emitted = 0;
+
+				signalRequestError();
+				while (emitted < requested && !this.done) {
+					try {
+						if (!InstructionPublisher.this.instructions.tryAdvance(this.subscriber::onNext)) {
+							this.done = true;
+							this.subscriber.onComplete();
+						}
+					} catch (RuntimeException e) {
+						this.done = true;
+						this.subscriber.onError(e);
+					}
+					emitted++;
+					signalRequestError();
+				}
+				if (this.done) {
+					break;
+				}
+				this.demand.addAndGet(-emitted);
+				missed = this.pendingDrains.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void signalRequestError() {
+			Throwable checkedRequestError = this.requestError;
+
+			if (checkedRequestError != null && !this.done) {
+				this.done = true;
+				this.subscriber.onError(checkedRequestError);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import de.carne.mcd.io.MCDInputBuffer;
+
+/**
+ * Pull-based {@linkplain Spliterator} decoding one window of instructions at a time.
+ * <p>
+ * Decoders supporting incremental decoding (see {@linkplain MachineCodeDecoder#supportsIncrementalDecode()}) are
+ * invoked on windows of {@value #WINDOW_SIZE} bytes and only the current window's instructions are buffered. Any
+ * other decoder is invoked once for the whole range. Splitting is done by batching already decoded instructions into
+ * an array based (and hence sized) {@linkplain Spliterator}, as instruction boundaries of variable length instruction
+ * sets are only known after decoding.
+ * </p>
+ */
+final class InstructionSpliterator extends Spliterators.AbstractSpliterator<DecodedInstruction> {
+
+	static final int WINDOW_SIZE = 4096;
+
+	private final MachineCodeDecoder decoder;
+	private final MCDInputBuffer in;
+	private final long offset;
+	private final long limit;
+	private final ArrayDeque<DecodedInstruction> window = new ArrayDeque<>();
+	private long decoded = 0;
+	private boolean exhausted = false;
+
+	InstructionSpliterator(MachineCodeDecoder decoder, MCDInputBuffer in, long offset, long limit) {
+		super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+		this.decoder = decoder;
+		this.in = in;
+		this.offset = offset;
+		this.limit = limit;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super DecodedInstruction> action) {
+		while (this.window.isEmpty() && !this.exhausted) {
+			decodeWindow();
+		}
+
+		DecodedInstruction instruction = this.window.poll();
+
+		if (instruction != null) {
+			action.accept(instruction);
+		}
+		return instruction != null;
+	}
+
+	private void decodeWindow() {
+		boolean incremental = this.decoder.supportsIncrementalDecode();
+		long windowLimit = (incremental ? Math.min(this.limit - this.decoded, WINDOW_SIZE) : this.limit);
+
+		try {
+			long totalDecoded = this.decoder.decodeWindow(this.in, this::addInstruction, this.offset + this.decoded,
+					windowLimit);
+
+			this.exhausted = !incremental || totalDecoded <= this.decoded || totalDecoded >= this.limit;
+			this.decoded = totalDecoded;
+		} catch (IOException e) {
+			this.exhausted = true;
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void addInstruction(long address, int length, int mnemonicId, DecodedOperands operands,
+			MCDInputBuffer.ArrayView rawBytes) {
+		this.window.add(new DecodedInstruction(address, mnemonicId, operands, rawBytes));
+	}
+
+}
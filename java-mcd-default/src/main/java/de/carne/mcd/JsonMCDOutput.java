@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.ClosedChannelException;
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import de.carne.mcd.io.JsonWriter;
+import de.carne.util.Check;
+
+/**
+ * {@linkplain MCDOutput} implementation which emits the decoded data as newline delimited JSON (one JSON object per
+ * decoded line).
+ * <p>
+ * Every line is emitted as an object with the following members (absent members are omitted):
+ * </p>
+ * <ul>
+ * <li>{@code indent}: the line's indent level (omitted if 0)</li>
+ * <li>{@code label}: the line's leading label (e.g. the instruction address)</li>
+ * <li>{@code mnemonic}: the first keyword following the label</li>
+ * <li>{@code operands}: the tokens following the mnemonic grouped into operands (separated by {@code ","} texts)</li>
+ * <li>{@code tokens}: the line's tokens in case no mnemonic has been recognized</li>
+ * <li>{@code comment}: the line's concatenated comment tokens</li>
+ * </ul>
+ * <p>
+ * Empty lines are skipped. Tokens are emitted as objects with a {@code kind} ({@code text}, {@code value},
+ * {@code keyword}, {@code operator}, {@code label} or {@code error}) and a {@code text} member. Adjacent tokens of the
+ * same kind are merged and whitespace only texts are dropped. The line's tokens are collected in re-used arrays and
+ * encoded by a {@linkplain JsonWriter}; hence no memory is allocated per line once the arrays have grown to the
+ * required size.
+ * </p>
+ */
+public class JsonMCDOutput implements MCDOutput, Closeable, Flushable {
+
+	private static final byte KIND_TEXT = 0;
+	private static final byte KIND_VALUE = 1;
+	private static final byte KIND_COMMENT = 2;
+	private static final byte KIND_KEYWORD = 3;
+	private static final byte KIND_OPERATOR = 4;
+	private static final byte KIND_LABEL = 5;
+	private static final byte KIND_ERROR = 6;
+
+	private static final String[] KIND_NAMES = { "text", "value", "comment", "keyword", "operator", "label", "error" };
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final JsonWriter json;
+	private final StringBuilder tokenBuilder = new StringBuilder();
+	private byte[] kinds = new byte[INITIAL_CAPACITY];
+	private String[] texts = new String[INITIAL_CAPACITY];
+	private int size = 0;
+	private int lineIndentLevel = 0;
+	private int indentLevel = 0;
+	private boolean closed = false;
+
+	/**
+	 * Constructs a new {@linkplain MCDOutput} instance.
+	 *
+	 * @param out the {@linkplain OutputStream} to emit the JSON lines to.
+	 */
+	public JsonMCDOutput(OutputStream out) {
+		this.json = new JsonWriter(out);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		ensureNotClosed();
+		this.json.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!this.closed) {
+			try {
+				if (this.size > 0) {
+					writeLine();
+				}
+			} finally {
+				this.closed = true;
+				this.json.close();
+			}
+		}
+	}
+
+	@Override
+	public @NonNull MCDOutput increaseIndent() throws IOException {
+		this.indentLevel++;
+		return this;
+	}
+
+	@Override
+	public @NonNull MCDOutput decreaseIndent() throws IOException {
+		Check.isTrue(this.indentLevel > 0);
+
+		this.indentLevel--;
+		return this;
+	}
+
+	@Override
+	public MCDOutput println() throws IOException {
+		ensureNotClosed();
+		if (this.size > 0) {
+			writeLine();
+		}
+		return this;
+	}
+
+	@Override
+	public MCDOutput print(String text) throws IOException {
+		return addToken(KIND_TEXT, text);
+	}
+
+	@Override
+	public MCDOutput println(String text) throws IOException {
+		return addToken(KIND_TEXT, text).println();
+	}
+
+	@Override
+	public MCDOutput printValue(String value) throws IOException {
+		return addToken(KIND_VALUE, value);
+	}
+
+	@Override
+	public MCDOutput printlnValue(String value) throws IOException {
+		return addToken(KIND_VALUE, value).println();
+	}
+
+	@Override
+	public MCDOutput printComment(String comment) throws IOException {
+		return addToken(KIND_COMMENT, comment);
+	}
+
+	@Override
+	public MCDOutput printlnComment(String comment) throws IOException {
+		return addToken(KIND_COMMENT, comment).println();
+	}
+
+	@Override
+	public MCDOutput printKeyword(String keyword) throws IOException {
+		return addToken(KIND_KEYWORD, keyword);
+	}
+
+	@Override
+	public MCDOutput printlnKeyword(String keyword) throws IOException {
+		return addToken(KIND_KEYWORD, keyword).println();
+	}
+
+	@Override
+	public MCDOutput printOperator(String operator) throws IOException {
+		return addToken(KIND_OPERATOR, operator);
+	}
+
+	@Override
+	public MCDOutput printlnOperator(String operator) throws IOException {
+		return addToken(KIND_OPERATOR, operator).println();
+	}
+
+	@Override
+	public MCDOutput printLabel(String label) throws IOException {
+		return addToken(KIND_LABEL, label);
+	}
+
+	@Override
+	public MCDOutput printlnLabel(String label) throws IOException {
+		return addToken(KIND_LABEL, label).println();
+	}
+
+	@Override
+	public MCDOutput printError(String error) throws IOException {
+		return addToken(KIND_ERROR, error);
+	}
+
+	@Override
+	public MCDOutput printlnError(String error) throws IOException {
+		return addToken(KIND_ERROR, error).println();
+	}
+
+	private void ensureNotClosed() throws IOException {
+		if (this.closed) {
+			throw new ClosedChannelException();
+		}
+	}
+
+	private MCDOutput addToken(byte kind, String text) throws IOException {
+		ensureNotClosed();
+		if (this.size == 0) {
+			this.lineIndentLevel = this.indentLevel;
+		}
+		if (this.size == this.kinds.length) {
+			int newCapacity = this.size * 2;
+
+			this.kinds = Arrays.copyOf(this.kinds, newCapacity);
+			this.texts = Arrays.copyOf(this.texts, newCapacity);
+		}
+		this.kinds[this.size] = kind;
+		this.texts[this.size] = text;
+		this.size++;
+		return this;
+	}
+
+	private void writeLine() throws IOException {
+		int tokenIndex = skipWhitespace(0);
+
+		this.json.beginObject();
+		if (this.lineIndentLevel > 0) {
+			this.json.name("indent").value(this.lineIndentLevel);
+		}
+		if (tokenIndex < this.size && this.kinds[tokenIndex] == KIND_LABEL) {
+			int labelEnd = tokenEnd(tokenIndex, KIND_LABEL);
+
+			this.json.name("label").value(mergeTokens(tokenIndex, labelEnd, KIND_LABEL));
+			tokenIndex = skipWhitespace(labelEnd);
+		}
+		if (tokenIndex < this.size && this.kinds[tokenIndex] == KIND_KEYWORD) {
+			this.json.name("mnemonic").value(this.texts[tokenIndex]);
+			writeOperands(tokenIndex + 1);
+		} else if (tokenIndex < this.size) {
+			this.json.name("tokens").beginArray();
+			writeTokens(tokenIndex, this.size);
+			this.json.endArray();
+		}
+		writeComment();
+		this.json.endObject().newLine();
+		Arrays.fill(this.texts, 0, this.size, null);
+		this.size = 0;
+		this.lineIndentLevel = this.indentLevel;
+	}
+
+	private void writeOperands(int start) throws IOException {
+		int operandStart = skipWhitespace(start);
+
+		if (operandStart < this.size && hasNonComment(operandStart, this.size)) {
+			this.json.name("operands").beginArray();
+			while (operandStart < this.size) {
+				int operandEnd = operandStart;
+
+				while (operandEnd < this.size && !isSeparator(operandEnd)) {
+					operandEnd++;
+				}
+				if (hasNonComment(operandStart, operandEnd)) {
+					this.json.beginArray();
+					writeTokens(operandStart, operandEnd);
+					this.json.endArray();
+				}
+				operandStart = operandEnd + 1;
+			}
+			this.json.endArray();
+		}
+	}
+
+	private void writeTokens(int start, int end) throws IOException {
+		int tokenIndex = start;
+
+		while (tokenIndex < end) {
+			byte kind = this.kinds[tokenIndex];
+			int tokenEnd = tokenEnd(tokenIndex, kind);
+
+			if (kind != KIND_COMMENT && !(kind == KIND_TEXT && isWhitespace(tokenIndex, tokenEnd))) {
+				this.json.beginObject();
+				this.json.name("kind").value(KIND_NAMES[kind]);
+				this.json.name("text").value(mergeTokens(tokenIndex, Math.min(tokenEnd, end), kind));
+				this.json.endObject();
+			}
+			tokenIndex = tokenEnd;
+		}
+	}
+
+	private void writeComment() throws IOException {
+		this.tokenBuilder.setLength(0);
+		for (int tokenIndex = 0; tokenIndex < this.size; tokenIndex++) {
+			if (this.kinds[tokenIndex] == KIND_COMMENT) {
+				this.tokenBuilder.append(this.texts[tokenIndex]);
+			}
+		}
+		if (this.tokenBuilder.length() > 0) {
+			this.json.name("comment").value(this.tokenBuilder);
+		}
+	}
+
+	private int skipWhitespace(int start) {
+		int tokenIndex = start;
+
+		while (tokenIndex < this.size && this.kinds[tokenIndex] == KIND_TEXT
+				&& isWhitespace(tokenIndex, tokenIndex + 1)) {
+			tokenIndex++;
+		}
+		return tokenIndex;
+	}
+
+	private int tokenEnd(int start, byte kind) {
+		int tokenIndex = start + 1;
+
+		while (tokenIndex < this.size && this.kinds[tokenIndex] == kind && !isSeparator(tokenIndex)) {
+			tokenIndex++;
+		}
+		return tokenIndex;
+	}
+
+	private boolean isSeparator(int tokenIndex) {
+		String text = this.texts[tokenIndex];
+
+		return this.kinds[tokenIndex] == KIND_TEXT && (",".equals(text) || ", ".equals(text));
+	}
+
+	private boolean isWhitespace(int start, int end) {
+		boolean whitespace = true;
+
+		for (int tokenIndex = start; whitespace && tokenIndex < end; tokenIndex++) {
+			String text = this.texts[tokenIndex];
+			int textLength = text.length();
+
+			for (int charIndex = 0; whitespace && charIndex < textLength; charIndex++) {
+				whitespace = Character.isWhitespace(text.charAt(charIndex));
+			}
+		}
+		return whitespace;
+	}
+
+	private boolean hasNonComment(int start, int end) {
+		boolean nonComment = false;
+
+		for (int tokenIndex = start; !nonComment && tokenIndex < end; tokenIndex++) {
+			byte kind = this.kinds[tokenIndex];
+
+			nonComment = kind != KIND_COMMENT && !(kind == KIND_TEXT && isWhitespace(tokenIndex, tokenIndex + 1));
+		}
+		return nonComment;
+	}
+
+	private CharSequence mergeTokens(int start, int end, byte kind) {
+		CharSequence merged;
+
+		if (end - start == 1) {
+			merged = this.texts[start];
+		} else {
+			this.tokenBuilder.setLength(0);
+			for (int tokenIndex = start; tokenIndex < end; tokenIndex++) {
+				if (this.kinds[tokenIndex] == kind) {
+					this.tokenBuilder.append(this.texts[tokenIndex]);
+				}
+			}
+			merged = this.tokenBuilder;
+		}
+		return merged;
+	}
+
+}
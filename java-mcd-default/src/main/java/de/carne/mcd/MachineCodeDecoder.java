@@ -17,24 +17,45 @@
 package de.carne.mcd;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.jdt.annotation.Nullable;
 
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
+import de.carne.util.Exceptions;
+import de.carne.util.logging.Log;
 
 /**
  * Base class for all kinds of machine code decoders.
+ * <p>
+ * Decoder instances are thread-safe and can be shared. Any state required during a decode call is kept in the
+ * call's {@linkplain DecodeContext} (see {@linkplain #newDecodeState()}). Configuration changes (e.g.
+ * {@linkplain #setByteOrder(ByteOrder)}) take effect for subsequent decode calls only.
+ * </p>
  */
 public abstract class MachineCodeDecoder {
 
-	private static final ThreadLocal<@Nullable MachineCodeDecoder> ACTIVE_DECODER_HOLDER = new ThreadLocal<>();
+	private static final Log LOG = new Log();
+
+	private static final Object NO_DECODE_STATE = new Object();
 
 	private final String name;
-	private ByteOrder byteOrder;
-	private long defaultLimit;
+	private volatile ByteOrder byteOrder;
+	private volatile long defaultLimit;
+	private volatile boolean readAhead = false;
+	private volatile boolean mapped = true;
+	private final ConcurrentLinkedQueue<Object> decodeStatePool = new ConcurrentLinkedQueue<>();
 
 	protected MachineCodeDecoder(String name, ByteOrder byteOrder, long defaultLimit) {
 		this.name = name;
@@ -42,39 +63,6 @@ public abstract class MachineCodeDecoder {
 		this.defaultLimit = defaultLimit;
 	}
 
-	/**
-	 * Gets the active {@linkplain MachineCodeDecoder}.
-	 *
-	 * @return the {@linkplain MachineCodeDecoder} instance associated with the current decode call.
-	 * @throws IllegalStateException if called outside a decode call.
-	 */
-	public static MachineCodeDecoder getDecoder() {
-		MachineCodeDecoder activeDecoder = ACTIVE_DECODER_HOLDER.get();
-
-		if (activeDecoder == null) {
-			throw new IllegalStateException("Decoder only accessible during decode call");
-		}
-		return activeDecoder;
-	}
-
-	/**
-	 * Gets the active {@linkplain MachineCodeDecoder}.
-	 *
-	 * @param <T> the actual decoder type.
-	 * @param decoderType the decoder type to get.
-	 * @return the {@linkplain MachineCodeDecoder} instance associated with the current decode call.
-	 * @throws IllegalStateException if called outside a decode call.
-	 */
-	public static <T extends MachineCodeDecoder> T getDecoder(Class<T> decoderType) {
-		MachineCodeDecoder activeDecoder = getDecoder();
-		Class<?> activeDecoderType = activeDecoder.getClass();
-
-		if (!decoderType.isAssignableFrom(activeDecoderType)) {
-			throw new IllegalStateException("Decoder type mismatch: " + activeDecoderType.getName());
-		}
-		return decoderType.cast(activeDecoder);
-	}
-
 	/**
 	 * Gets this {@linkplain MachineCodeDecoder} instance's name.
 	 *
@@ -120,6 +108,56 @@ public abstract class MachineCodeDecoder {
 		this.defaultLimit = defaultLimit;
 	}
 
+	/**
+	 * Gets this {@linkplain MachineCodeDecoder} instance's read-ahead flag.
+	 *
+	 * @return this {@linkplain MachineCodeDecoder} instance's read-ahead flag.
+	 */
+	public boolean readAhead() {
+		return this.readAhead;
+	}
+
+	/**
+	 * Sets this {@linkplain MachineCodeDecoder} instance's read-ahead flag.
+	 * <p>
+	 * If read-ahead is enabled, the input channel is read in chunks rather than on a per value basis. As a
+	 * consequence the input channel may have been read beyond the decoded bytes after the decode call. Hence
+	 * read-ahead is disabled by default and should only be enabled if the input channel is not accessed by other means
+	 * after the decode call. Seekable input (see {@linkplain MCDInputBuffer#isSeekable()}) is always read ahead, as it
+	 * is repositioned to the first byte not decoded after the decode call.
+	 * </p>
+	 *
+	 * @param readAhead whether to read ahead or not.
+	 * @see MCDInputBuffer#setReadAhead(boolean)
+	 */
+	public void setReadAhead(boolean readAhead) {
+		this.readAhead = readAhead;
+	}
+
+	/**
+	 * Gets this {@linkplain MachineCodeDecoder} instance's mapped input flag.
+	 *
+	 * @return this {@linkplain MachineCodeDecoder} instance's mapped input flag.
+	 */
+	public boolean mapped() {
+		return this.mapped;
+	}
+
+	/**
+	 * Sets this {@linkplain MachineCodeDecoder} instance's mapped input flag.
+	 * <p>
+	 * If mapped input is enabled (the default), a {@linkplain FileChannel} input is decoded directly from the memory
+	 * mapped file instead of being read into an intermediate buffer. Channels not reporting a size or position (e.g.
+	 * pipes or special files) are always read via an intermediate buffer.
+	 * </p>
+	 *
+	 * @param mapped whether to map {@linkplain FileChannel} input or not.
+	 * @see MCDInputBuffer#map(FileChannel, ByteOrder)
+	 */
+	public void setMapped(boolean mapped) {
+		this.mapped = mapped;
+	}
+
 	/**
 	 * Decodes the given byte channel's data.
 	 *
@@ -156,22 +194,338 @@ public abstract class MachineCodeDecoder {
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public long decode(ReadableByteChannel in, MCDOutput out, long offset, long limit) throws IOException {
-		@Nullable MachineCodeDecoder savedDecoder = ACTIVE_DECODER_HOLDER.get();
+		MCDInputBuffer inputBuffer = inputBuffer(in);
+
+		return decode(inputBuffer, out, offset, limit);
+	}
+
+	/**
+	 * Decodes the given buffer's data.
+	 * <p>
+	 * The buffer's remaining bytes are decoded in place. The buffer itself (including its position) is not modified.
+	 * </p>
+	 *
+	 * @param in the {@linkplain ByteBuffer} to decode from.
+	 * @param out the {@linkplain MCDOutput} to decode to.
+	 * @return the number of decoded bytes.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public long decode(ByteBuffer in, MCDOutput out) throws IOException {
+		return decode(in, out, 0, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Decodes the given buffer's data.
+	 * <p>
+	 * The buffer's remaining bytes are decoded in place. The buffer itself (including its position) is not modified.
+	 * </p>
+	 *
+	 * @param in the {@linkplain ByteBuffer} to decode from.
+	 * @param out the {@linkplain MCDOutput} to decode to.
+	 * @param offset the current decode offset.
+	 * @return the number of decoded bytes.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public long decode(ByteBuffer in, MCDOutput out, long offset) throws IOException {
+		return decode(in, out, offset, this.defaultLimit);
+	}
+
+	/**
+	 * Decodes the given buffer's data.
+	 * <p>
+	 * The buffer's remaining bytes are decoded in place. The buffer itself (including its position) is not modified.
+	 * </p>
+	 *
+	 * @param in the {@linkplain ByteBuffer} to decode from.
+	 * @param out the {@linkplain MCDOutput} to decode to.
+	 * @param offset the current decode offset.
+	 * @param limit the number of bytes after which decoding should stop.
+	 * @return the number of decoded bytes.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public long decode(ByteBuffer in, MCDOutput out, long offset, long limit) throws IOException {
+		return decode(new MCDInputBuffer(in, this.byteOrder), out, offset, limit);
+	}
+
+	/**
+	 * Checks whether this {@linkplain MachineCodeDecoder} instance supports decoding to a
+	 * {@linkplain DecodedInstructionSink}.
+	 *
+	 * @return {@code true} if this {@linkplain MachineCodeDecoder} instance supports decoding to a
+	 * {@linkplain DecodedInstructionSink}.
+	 */
+	public boolean supportsInstructionSink() {
+		return false;
+	}
+
+	/**
+	 * Decodes the given byte channel's data to a {@linkplain DecodedInstructionSink}.
+	 *
+	 * @param in the {@linkplain ReadableByteChannel} to decode from.
+	 * @param sink the {@linkplain DecodedInstructionSink} to decode to.
+	 * @param offset the current decode offset.
+	 * @param limit the number of bytes after which decoding should stop.
+	 * @return the number of decoded bytes.
+	 * @throws IOException if an I/O error occurs.
+	 * @throws UnsupportedOperationException if this decoder does not support instruction sinks.
+	 * @see #supportsInstructionSink()
+	 */
+	public long decode(ReadableByteChannel in, DecodedInstructionSink sink, long offset, long limit)
+			throws IOException {
+		MCDInputBuffer inputBuffer = inputBuffer(in);
+
+		return decode(inputBuffer, sink, offset, limit);
+	}
+
+	/**
+	 * Decodes the given buffer's data to a {@linkplain DecodedInstructionSink}.
+	 * <p>
+	 * The buffer's remaining bytes are decoded in place. The buffer itself (including its position) is not modified.
+	 * </p>
+	 *
+	 * @param in the {@linkplain ByteBuffer} to decode from.
+	 * @param sink the {@linkplain DecodedInstructionSink} to decode to.
+	 * @param offset the current decode offset.
+	 * @param limit the number of bytes after which decoding should stop.
+	 * @return the number of decoded bytes.
+	 * @throws IOException if an I/O error occurs.
+	 * @throws UnsupportedOperationException if this decoder does not support instruction sinks.
+	 * @see #supportsInstructionSink()
+	 */
+	public long decode(ByteBuffer in, DecodedInstructionSink sink, long offset, long limit) throws IOException {
+		return decode(new MCDInputBuffer(in, this.byteOrder), sink, offset, limit);
+	}
+
+	/**
+	 * Checks whether this {@linkplain MachineCodeDecoder} instance supports incremental decoding.
+	 * <p>
+	 * A decoder supporting incremental decoding stops decoding at the first instruction starting beyond the submitted
+	 * limit and can resume decoding at this instruction when called again with the same {@linkplain MCDInputBuffer}
+	 * (see {@linkplain #instructions(ReadableByteChannel, long, long)}).
+	 * </p>
+	 *
+	 * @return {@code true} if this {@linkplain MachineCodeDecoder} instance supports incremental decoding.
+	 */
+	protected boolean supportsIncrementalDecode() {
+		return false;
+	}
+
+	/**
+	 * Streams the instructions decoded from the given byte channel.
+	 * <p>
+	 * Decoding is pull-based and is performed while the returned stream is consumed. If this decoder supports
+	 * incremental decoding only a small window of decoded instructions is buffered at any time. The stream is ordered
+	 * and may be consumed in parallel (the input itself is still decoded sequentially). I/O errors are reported as
+	 * {@linkplain java.io.UncheckedIOException}. The channel is not closed by the stream.
+	 * </p>
+	 *
+	 * @param in the {@linkplain ReadableByteChannel} to decode from.
+	 * @param offset the current decode offset.
+	 * @param limit the number of bytes after which decoding should stop.
+	 * @return the {@linkplain Stream} of {@linkplain DecodedInstruction}s.
+	 * @throws IOException if an I/O error occurs.
+	 * @throws UnsupportedOperationException if this decoder does not support instruction sinks.
+	 * @see #supportsInstructionSink()
+	 */
+	public Stream<DecodedInstruction> instructions(ReadableByteChannel in, long offset, long limit)
+			throws IOException {
+		MCDInputBuffer inputBuffer = inputBuffer(in);
+
+		return instructions(inputBuffer, offset, limit);
+	}
+
+	/**
+	 * Streams the instructions decoded from the given buffer.
+	 * <p>
+	 * The buffer's remaining bytes are decoded in place. The buffer itself (including its position) is not modified.
+	 * See {@linkplain #instructions(ReadableByteChannel, long, long)} for the details of the returned stream.
+	 * </p>
+	 *
+	 * @param in the {@linkplain ByteBuffer} to decode from.
+	 * @param offset the current decode offset.
+	 * @param limit the number of bytes after which decoding should stop.
+	 * @return the {@linkplain Stream} of {@linkplain DecodedInstruction}s.
+	 * @throws UnsupportedOperationException if this decoder does not support instruction sinks.
+	 * @see #supportsInstructionSink()
+	 */
+	public Stream<DecodedInstruction> instructions(ByteBuffer in, long offset, long limit) {
+		return instructions(new MCDInputBuffer(in, this.byteOrder), offset, limit);
+	}
+
+	private Stream<DecodedInstruction> instructions(MCDInputBuffer inputBuffer, long offset, long limit) {
+		return StreamSupport.stream(instructionSpliterator(inputBuffer, offset, limit), false);
+	}
+
+	/**
+	 * Publishes the instructions decoded from the given byte channel.
+	 * <p>
+	 * Decoding is performed on {@linkplain ForkJoinPool#commonPool()}. See
+	 * {@linkplain #instructionPublisher(ReadableByteChannel, long, long, Executor)} for the details.
+	 * </p>
+	 *
+	 * @param in the {@linkplain ReadableByteChannel} to decode from.
+	 * @param offset the current decode offset.
+	 * @param limit the number of bytes after which decoding should stop.
+	 * @return the {@linkplain Flow.Publisher} of {@linkplain DecodedInstruction}s.
+	 * @throws IOException if an I/O error occurs.
+	 * @throws UnsupportedOperationException if this decoder does not support instruction sinks.
+	 * @see #supportsInstructionSink()
+	 */
+	public Flow.Publisher<DecodedInstruction> instructionPublisher(ReadableByteChannel in, long offset, long limit)
+			throws IOException {
+		return instructionPublisher(in, offset, limit, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Publishes the instructions decoded from the given byte channel.
+	 * <p>
+	 * Decoding is performed on the given {@linkplain Executor} and only while the subscriber has outstanding demand.
+	 * Hence the channel is not read while there is no demand and (if this decoder supports incremental decoding) only a
+	 * small window of decoded instructions is buffered at any time. The publisher accepts a single subscriber. I/O
+	 * errors are reported as {@linkplain java.io.UncheckedIOException} via
+	 * {@linkplain Flow.Subscriber#onError(Throwable)}. The channel is not closed by the publisher.
+	 * </p>
+	 *
+	 * @param in the {@linkplain ReadableByteChannel} to decode from.
+	 * @param offset the current decode offset.
+	 * @param limit the number of bytes after which decoding should stop.
+	 * @param executor the {@linkplain Executor} to decode on.
+	 * @return the {@linkplain Flow.Publisher} of {@linkplain DecodedInstruction}s.
+	 * @throws IOException if an I/O error occurs.
+	 * @throws UnsupportedOperationException if this decoder does not support instruction sinks.
+	 * @see #supportsInstructionSink()
+	 */
+	public Flow.Publisher<DecodedInstruction> instructionPublisher(ReadableByteChannel in, long offset, long limit,
+			Executor executor) throws IOException {
+		MCDInputBuffer inputBuffer = inputBuffer(in);
+
+		return new InstructionPublisher(instructionSpliterator(inputBuffer, offset, limit), executor);
+	}
+
+	private MCDInputBuffer inputBuffer(ReadableByteChannel in) throws IOException {
+		MCDInputBuffer inputBuffer = (this.mapped && in instanceof FileChannel && isMappable((FileChannel) in)
+				? MCDInputBuffer.map((FileChannel) in, this.byteOrder)
+				: new MCDInputBuffer(in, this.byteOrder));
+
+		inputBuffer.setReadAhead(this.readAhead || inputBuffer.isSeekable());
+		return inputBuffer;
+	}
+
+	private static boolean isMappable(FileChannel in) {
+		boolean mappable = false;
+
+		// Special files (e.g. pipes or procfs entries) may be readable but neither sized nor seekable
+		try {
+			mappable = in.size() > 0 && in.position() >= 0;
+		} catch (IOException e) {
+			Exceptions.ignore(e);
+		}
+		return mappable;
+	}
+
+	private Spliterator<DecodedInstruction> instructionSpliterator(MCDInputBuffer inputBuffer, long offset,
+			long limit) {
+		if (!supportsInstructionSink()) {
+			throw new UnsupportedOperationException("Decoder does not support instruction sinks: " + this.name);
+		}
+		return new InstructionSpliterator(this, inputBuffer, offset, limit);
+	}
+
+	long decodeWindow(MCDInputBuffer inputBuffer, DecodedInstructionSink sink, long offset, long limit)
+			throws IOException {
+		return decode(inputBuffer, sink, offset, limit);
+	}
+
+	/**
+	 * Reports a decoded instruction to the {@linkplain DecodedInstructionSink} of the running decode call.
+	 * <p>
+	 * The instruction's raw bytes are the ones decoded since the last commit of the submitted
+	 * {@linkplain MCDInputBuffer}. Hence this function must be called before the input is committed.
+	 * </p>
+	 *
+	 * @param sink the {@linkplain DecodedInstructionSink} to report to.
+	 * @param address the instruction's address.
+	 * @param in the {@linkplain MCDInputBuffer} the instruction has been decoded from.
+	 * @param mnemonicId the {@linkplain de.carne.mcd.io.MCDTokenCache} id of the instruction's mnemonic.
+	 * @param operands the instruction's operand descriptors.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	protected static void reportInstruction(DecodedInstructionSink sink, long address, MCDInputBuffer in,
+			int mnemonicId, DecodedOperands operands) throws IOException {
+		MCDInputBuffer.ArrayView rawBytes = in.uncommittedView();
+
+		sink.instruction(address, rawBytes.length(), mnemonicId, operands, rawBytes);
+	}
+
+	private long decode(MCDInputBuffer inputBuffer, DecodedInstructionSink sink, long offset, long limit)
+			throws IOException {
+		if (!supportsInstructionSink()) {
+			throw new UnsupportedOperationException("Decoder does not support instruction sinks: " + this.name);
+		}
+		return decode(inputBuffer, MCDOutputBuffer.discarding(), sink, offset, limit);
+	}
+
+	private long decode(MCDInputBuffer inputBuffer, MCDOutput out, long offset, long limit) throws IOException {
+		return decode(inputBuffer, new MCDOutputBuffer(out), null, offset, limit);
+	}
+
+	private long decode(MCDInputBuffer inputBuffer, MCDOutputBuffer outputBuffer,
+			@Nullable DecodedInstructionSink sink, long offset, long limit) throws IOException {
+		Object decodeState = this.decodeStatePool.poll();
+
+		if (decodeState == null) {
+			decodeState = newDecodeState();
+		}
+
+		DecodeContext context = new DecodeContext(this, decodeState, sink);
 		long decoded;
+		Throwable decodeException = null;
 
-		ACTIVE_DECODER_HOLDER.set(this);
 		try {
-			decoded = decode0(new MCDInputBuffer(in, this.byteOrder), new MCDOutputBuffer(out), offset, limit);
+			decoded = decode0(context, inputBuffer, outputBuffer, offset, limit);
+		} catch (IOException | RuntimeException | Error e) {
+			decodeException = e;
+			throw e;
 		} finally {
-			if (savedDecoder != null) {
-				ACTIVE_DECODER_HOLDER.set(savedDecoder);
-			} else {
-				ACTIVE_DECODER_HOLDER.remove();
-			}
+			this.decodeStatePool.offer(decodeState);
+			releaseReadAhead(inputBuffer, decodeException);
 		}
+
+		LOG.debug("Decoded {0} byte(s) using {1} channel read(s)", inputBuffer.getTotalRead(),
+				inputBuffer.getChannelReads());
 		return decoded;
 	}
 
-	protected abstract long decode0(MCDInputBuffer in, MCDOutputBuffer out, long offset, long limit) throws IOException;
+	private static void releaseReadAhead(MCDInputBuffer inputBuffer, @Nullable Throwable decodeException)
+			throws IOException {
+		try {
+			inputBuffer.releaseReadAhead();
+		} catch (IOException e) {
+			if (decodeException == null) {
+				throw e;
+			}
+			decodeException.addSuppressed(e);
+		}
+	}
+
+	/**
+	 * Creates a new decoder specific state object for the {@linkplain DecodeContext} of a decode call.
+	 * <p>
+	 * State objects are pooled and recycled by subsequent decode calls. Hence the pool never holds more state objects
+	 * than the maximum number of concurrent decode calls seen so far and a state object may contain leftovers of an
+	 * earlier decode call. Decoders must therefore (re-)initialize any state they depend on at the beginning of
+	 * {@linkplain #decode0(DecodeContext, MCDInputBuffer, MCDOutputBuffer, long, long)}. The default implementation
+	 * returns a shared placeholder object.
+	 * </p>
+	 *
+	 * @return the created state object.
+	 * @see DecodeContext#state(Class)
+	 */
+	protected Object newDecodeState() {
+		return NO_DECODE_STATE;
+	}
+
+	protected abstract long decode0(DecodeContext context, MCDInputBuffer in, MCDOutputBuffer out, long offset,
+			long limit) throws IOException;
 
 }
@@ -16,10 +16,13 @@
  */
 package de.carne.mcd.bootstrap;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.util.Map;
@@ -40,6 +43,11 @@ public final class InstructionIndexBuilder implements InstructionIndexParameters
 
 	private static final Log LOG = new Log();
 
+	// Every index byte is encoded into a single char; as a char is at most 2 bytes in the class file's constant pool,
+	// chunks of this size stay well below the 64K limit for a single string constant
+	private static final int SOURCE_CHUNK_SIZE = 0x4000;
+	private static final int SOURCE_LINE_SIZE = 24;
+
 	private static class InstructionEntry {
 
 		private final Instruction instruction;
@@ -96,42 +104,119 @@ public final class InstructionIndexBuilder implements InstructionIndexParameters
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public long save(File file) throws IOException {
-		long totalIndexSize = 0;
-
 		LOG.info("Saving instruction index to file ''{0}''...", file);
 
-		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file.toPath(), StandardOpenOption.CREATE,
-				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))) {
+		long totalIndexSize;
 
-			out.writeInt(parameters());
-			totalIndexSize += 4;
+		try (OutputStream fileStream = Files.newOutputStream(file.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			totalIndexSize = save(fileStream);
+		}
+		return totalIndexSize;
+	}
 
-			int entryCount = this.instructionTable.size();
-			int opcodeBytes = opcodeBytes();
-			int positionBytes = positionBytes();
+	/**
+	 * Saves the current state of this instance to a Java source file.
+	 * <p>
+	 * The generated class embeds the index data (as also written by {@linkplain #save(File)}) into string constants,
+	 * hence opening the index requires no resource access and no further I/O. The resulting class provides a static
+	 * {@code indexData()} function whose result can be accessed via
+	 * {@linkplain InstructionIndex#open(InstructionFactory, java.nio.ByteBuffer)}.
+	 * </p>
+	 *
+	 * @param file the file write to.
+	 * @param className the fully qualified name of the class to generate.
+	 * @return the size of the stored index.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public long saveSource(File file, String className) throws IOException {
+		LOG.info("Saving instruction index source ''{0}'' to file ''{1}''...", className, file);
 
-			LOG.debug(" Index parameters: {0}/{1}/{2}", entryCount, opcodeBytes, positionBytes);
+		byte[] indexData;
 
-			long nextInstructionPosition = 0;
+		try (ByteArrayOutputStream indexStream = new ByteArrayOutputStream()) {
+			save(indexStream);
+			indexData = indexStream.toByteArray();
+		}
 
-			for (Map.Entry<InstructionOpcode, InstructionEntry> entry : this.instructionTable.entrySet()) {
-				InstructionOpcode opcode = entry.getKey();
+		int packageNameEnd = className.lastIndexOf('.');
 
-				LOG.trace(" {0} -> position:{1}", opcode, nextInstructionPosition);
+		try (BufferedWriter out = Files.newBufferedWriter(file.toPath(), StandardCharsets.US_ASCII,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			if (packageNameEnd > 0) {
+				out.write("package " + className.substring(0, packageNameEnd) + ";\n\n");
+			}
+			out.write("import java.nio.ByteBuffer;\n");
+			out.write("import java.nio.charset.StandardCharsets;\n\n");
+			out.write("/**\n * Generated by " + getClass().getSimpleName() + " - do not edit.\n */\n");
+			out.write("public final class " + className.substring(packageNameEnd + 1) + " {\n\n");
+			out.write("\tprivate static final int INDEX_DATA_SIZE = " + indexData.length + ";\n\n");
+			out.write("\tprivate static final String[] INDEX_DATA = {");
+			for (int chunkStart = 0; chunkStart < indexData.length; chunkStart += SOURCE_CHUNK_SIZE) {
+				int chunkEnd = Math.min(chunkStart + SOURCE_CHUNK_SIZE, indexData.length);
 
-				InstructionEntry instructionEntry = entry.getValue();
+				out.write(chunkStart > 0 ? ",\n\t\t\t" : "\n\t\t\t");
+				for (int lineStart = chunkStart; lineStart < chunkEnd; lineStart += SOURCE_LINE_SIZE) {
+					int lineEnd = Math.min(lineStart + SOURCE_LINE_SIZE, chunkEnd);
 
-				out.write(opcode.encode(opcodeBytes));
-				totalIndexSize += opcodeBytes;
-				out.write(getEncodedPosition(nextInstructionPosition, positionBytes));
-				totalIndexSize += positionBytes;
-				nextInstructionPosition += instructionEntry.instructionSize();
-			}
-			for (InstructionEntry instructionEntry : this.instructionTable.values()) {
-				instructionEntry.instruction().save(out);
-				totalIndexSize += instructionEntry.instructionSize();
+					out.write(lineStart > chunkStart ? "\n\t\t\t+ \"" : "\"");
+					for (int byteIndex = lineStart; byteIndex < lineEnd; byteIndex++) {
+						out.write(String.format("\\%03o", Byte.toUnsignedInt(indexData[byteIndex])));
+					}
+					out.write("\"");
+				}
 			}
+			out.write(" };\n\n");
+			out.write("\tprivate " + className.substring(packageNameEnd + 1) + "() {\n");
+			out.write("\t\t// Prevent instantiation\n\t}\n\n");
+			out.write("\t/**\n\t * Gets the index data.\n\t *\n\t * @return the index data.\n\t */\n");
+			out.write("\tpublic static ByteBuffer indexData() {\n");
+			out.write("\t\tbyte[] indexData = new byte[INDEX_DATA_SIZE];\n");
+			out.write("\t\tint indexDataPosition = 0;\n\n");
+			out.write("\t\tfor (String chunk : INDEX_DATA) {\n");
+			out.write("\t\t\tbyte[] chunkBytes = chunk.getBytes(StandardCharsets.ISO_8859_1);\n\n");
+			out.write("\t\t\tSystem.arraycopy(chunkBytes, 0, indexData, indexDataPosition, chunkBytes.length);\n");
+			out.write("\t\t\tindexDataPosition += chunkBytes.length;\n");
+			out.write("\t\t}\n");
+			out.write("\t\treturn ByteBuffer.wrap(indexData).asReadOnlyBuffer();\n");
+			out.write("\t}\n\n}\n");
+		}
+		return indexData.length;
+	}
+
+	private long save(OutputStream stream) throws IOException {
+		long totalIndexSize = 0;
+		DataOutputStream out = new DataOutputStream(stream);
+
+		out.writeInt(parameters());
+		totalIndexSize += 4;
+
+		int entryCount = this.instructionTable.size();
+		int opcodeBytes = opcodeBytes();
+		int positionBytes = positionBytes();
+
+		LOG.debug(" Index parameters: {0}/{1}/{2}", entryCount, opcodeBytes, positionBytes);
+
+		long nextInstructionPosition = 0;
+
+		for (Map.Entry<InstructionOpcode, InstructionEntry> entry : this.instructionTable.entrySet()) {
+			InstructionOpcode opcode = entry.getKey();
+
+			LOG.trace(" {0} -> position:{1}", opcode, nextInstructionPosition);
+
+			InstructionEntry instructionEntry = entry.getValue();
+
+			out.write(opcode.encode(opcodeBytes));
+			totalIndexSize += opcodeBytes;
+			out.write(getEncodedPosition(nextInstructionPosition, positionBytes));
+			totalIndexSize += positionBytes;
+			nextInstructionPosition += instructionEntry.instructionSize();
+		}
+		for (InstructionEntry instructionEntry : this.instructionTable.values()) {
+			instructionEntry.instruction().save(out);
+			totalIndexSize += instructionEntry.instructionSize();
 		}
+		out.flush();
 		return totalIndexSize;
 	}
 
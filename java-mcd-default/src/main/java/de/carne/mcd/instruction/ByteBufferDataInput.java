@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd.instruction;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * {@linkplain DataInput} implementation reading from a shared {@linkplain ByteBuffer} via positional (absolute) reads.
+ * <p>
+ * As the underlying buffer's position is never touched, any number of instances may read the same buffer concurrently.
+ * </p>
+ */
+final class ByteBufferDataInput implements DataInput {
+
+	private final ByteBuffer buffer;
+	private int position;
+
+	ByteBufferDataInput(ByteBuffer buffer, int position) {
+		this.buffer = buffer;
+		this.position = position;
+	}
+
+	private int advance(int length) throws EOFException {
+		int readPosition = this.position;
+
+		if (length > this.buffer.limit() - readPosition) {
+			throw new EOFException();
+		}
+		this.position += length;
+		return readPosition;
+	}
+
+	@Override
+	public void readFully(byte[] b) throws IOException {
+		readFully(b, 0, b.length);
+	}
+
+	@Override
+	public void readFully(byte[] b, int off, int len) throws IOException {
+		this.buffer.duplicate().position(advance(len)).get(b, off, len);
+	}
+
+	@Override
+	public int skipBytes(int n) throws IOException {
+		int skipped = Math.max(0, Math.min(n, this.buffer.limit() - this.position));
+
+		this.position += skipped;
+		return skipped;
+	}
+
+	@Override
+	public boolean readBoolean() throws IOException {
+		return this.buffer.get(advance(1)) != 0;
+	}
+
+	@Override
+	public byte readByte() throws IOException {
+		return this.buffer.get(advance(1));
+	}
+
+	@Override
+	public int readUnsignedByte() throws IOException {
+		return Byte.toUnsignedInt(readByte());
+	}
+
+	@Override
+	public short readShort() throws IOException {
+		return this.buffer.getShort(advance(2));
+	}
+
+	@Override
+	public int readUnsignedShort() throws IOException {
+		return Short.toUnsignedInt(readShort());
+	}
+
+	@Override
+	public char readChar() throws IOException {
+		return this.buffer.getChar(advance(2));
+	}
+
+	@Override
+	public int readInt() throws IOException {
+		return this.buffer.getInt(advance(4));
+	}
+
+	@Override
+	public long readLong() throws IOException {
+		return this.buffer.getLong(advance(8));
+	}
+
+	@Override
+	public float readFloat() throws IOException {
+		return this.buffer.getFloat(advance(4));
+	}
+
+	@Override
+	public double readDouble() throws IOException {
+		return this.buffer.getDouble(advance(8));
+	}
+
+	@Override
+	@Nullable
+	public String readLine() throws IOException {
+		int limit = this.buffer.limit();
+		String line = null;
+
+		if (this.position < limit) {
+			StringBuilder lineBuilder = new StringBuilder();
+			boolean eol = false;
+
+			while (!eol && this.position < limit) {
+				char c = (char) Byte.toUnsignedInt(this.buffer.get(this.position));
+
+				this.position++;
+				if (c == '\r') {
+					if (this.position < limit && this.buffer.get(this.position) == '\n') {
+						this.position++;
+					}
+					eol = true;
+				} else if (c == '\n') {
+					eol = true;
+				} else {
+					lineBuilder.append(c);
+				}
+			}
+			line = lineBuilder.toString();
+		}
+		return line;
+	}
+
+	@Override
+	public String readUTF() throws IOException {
+		return DataInputStream.readUTF(this);
+	}
+
+}
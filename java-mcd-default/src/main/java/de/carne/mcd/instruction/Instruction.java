@@ -19,6 +19,7 @@ package de.carne.mcd.instruction;
 import java.io.DataOutput;
 import java.io.IOException;
 
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
 
@@ -39,12 +40,14 @@ public interface Instruction {
 	/**
 	 * Decodes this instruction.
 	 *
+	 * @param context the {@linkplain DecodeContext} of the running decode call.
 	 * @param ip the current instruction pointer.
 	 * @param opcode the instruction opcode.
 	 * @param in the {@linkplain MCDInputBuffer} to read any additional instruction data from.
 	 * @param out the {@linkplain MCDOutputBuffer} to decode to.
 	 * @throws IOException if an I/O error occurs.
 	 */
-	void decode(long ip, InstructionOpcode opcode, MCDInputBuffer in, MCDOutputBuffer out) throws IOException;
+	void decode(DecodeContext context, long ip, InstructionOpcode opcode, MCDInputBuffer in, MCDOutputBuffer out)
+			throws IOException;
 
 }
@@ -17,24 +17,28 @@
 package de.carne.mcd.instruction;
 
 import java.io.Closeable;
-import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.ref.SoftReference;
+import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.channels.Channels;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
 
 import org.eclipse.jdt.annotation.Nullable;
 
-import de.carne.io.IOUtil;
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.bootstrap.InstructionIndexBuilder;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
+import de.carne.util.Check;
 import de.carne.util.logging.Log;
 
 /**
@@ -44,22 +48,81 @@ public final class InstructionIndex implements InstructionIndexParameters, Close
 
 	private static final Log LOG = new Log();
 
+	private static volatile CacheMode defaultCacheMode = CacheMode.STRONG;
+
 	private final InstructionFactory instructionFactory;
 	private final int entryCount;
 	private final int entryBytes;
 	private final int opcodeBytes;
 	private final byte[] lookupTable;
-	private final FileChannel dataFile;
-	private final Map<Integer, SoftReference<Instruction>> instructionCache = new HashMap<>();
+	// Not retained in PRELOAD mode to release any underlying file mapping early
+	private final @Nullable ByteBuffer data;
+	private final OpcodeTrie opcodeTrie;
+	private final CacheMode cacheMode;
+	private final AtomicReferenceArray<Instruction> instructionCache;
+	private final AtomicReferenceArray<SoftReference<Instruction>> softInstructionCache;
 
 	private InstructionIndex(InstructionFactory instructionFactory, int entryCount, int entryBytes, int opcodeBytes,
-			byte[] lookupTable, FileChannel dataFile) {
+			byte[] lookupTable, @Nullable ByteBuffer data, CacheMode cacheMode) {
 		this.instructionFactory = instructionFactory;
 		this.entryCount = entryCount;
 		this.entryBytes = entryBytes;
 		this.opcodeBytes = opcodeBytes;
 		this.lookupTable = lookupTable;
-		this.dataFile = dataFile;
+		this.data = data;
+		this.opcodeTrie = OpcodeTrie.build(lookupTable, entryCount, entryBytes);
+		this.cacheMode = cacheMode;
+		this.instructionCache = new AtomicReferenceArray<>(cacheMode != CacheMode.SOFT ? entryCount : 0);
+		this.softInstructionCache = new AtomicReferenceArray<>(cacheMode == CacheMode.SOFT ? entryCount : 0);
+	}
+
+	/**
+	 * Available instruction cache modes.
+	 */
+	public enum CacheMode {
+
+		/**
+		 * Loaded instructions are kept until the index is closed.
+		 */
+		STRONG,
+
+		/**
+		 * Loaded instructions are softly referenced and may be evicted (and re-loaded on demand) if memory gets low.
+		 */
+		SOFT,
+
+		/**
+		 * All instructions are loaded in parallel while opening the index and are kept until the index is closed. The
+		 * index data is not retained afterwards.
+		 */
+		PRELOAD
+
+	}
+
+	/**
+	 * Gets the {@linkplain CacheMode} used for indices opened via {@linkplain #open(InstructionFactory, URL)}.
+	 *
+	 * @return the default {@linkplain CacheMode}.
+	 */
+	public static CacheMode getDefaultCacheMode() {
+		return defaultCacheMode;
+	}
+
+	/**
+	 * Sets the {@linkplain CacheMode} used for indices opened via {@linkplain #open(InstructionFactory, URL)}.
+	 * <p>
+	 * As the decoders open their instruction index once and share it afterwards, this has to be set prior to the first
+	 * decode call to be effective.
+	 * </p>
+	 *
+	 * @param cacheMode the {@linkplain CacheMode} to set.
+	 * @return the previous default {@linkplain CacheMode}.
+	 */
+	public static CacheMode setDefaultCacheMode(CacheMode cacheMode) {
+		CacheMode previousCacheMode = defaultCacheMode;
+
+		defaultCacheMode = cacheMode;
+		return previousCacheMode;
 	}
 
 	/**
@@ -71,30 +134,103 @@ public final class InstructionIndex implements InstructionIndexParameters, Close
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public static InstructionIndex open(InstructionFactory instructionFactory, URL url) throws IOException {
+		return open(instructionFactory, url, defaultCacheMode);
+	}
+
+	/**
+	 * Opens an {@linkplain InstructionIndex} previously created via the {@linkplain InstructionIndexBuilder} class.
+	 *
+	 * @param instructionFactory the {@linkplain InstructionFactory} to use for this index.
+	 * @param url the {@linkplain URL} to use for index data access.
+	 * @param cacheMode the {@linkplain CacheMode} to use for caching loaded instructions.
+	 * @return the opened {@linkplain InstructionIndex} instance.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public static InstructionIndex open(InstructionFactory instructionFactory, URL url, CacheMode cacheMode)
+			throws IOException {
 		LOG.info("Opening index: ''{0}''...", url);
 
-		InstructionIndex index;
+		return open(instructionFactory, readIndex(url), cacheMode);
+	}
 
-		try (DataInputStream indexStream = new DataInputStream(url.openStream())) {
-			int parameters = indexStream.readInt();
-			int entryCount = (parameters >> 8) & 0xffffff;
-			int opcodeBytes = 1 + (parameters >> 4) & 0xf;
-			int positionBytes = 1 + (parameters & 0xf);
+	/**
+	 * Opens an {@linkplain InstructionIndex} from index data already residing in memory (e.g. as provided by a class
+	 * generated via {@linkplain InstructionIndexBuilder#saveSource(java.io.File, String)}).
+	 *
+	 * @param instructionFactory the {@linkplain InstructionFactory} to use for this index.
+	 * @param indexData the index data (as written by {@linkplain InstructionIndexBuilder#save(java.io.File)}).
+	 * @return the opened {@linkplain InstructionIndex} instance.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public static InstructionIndex open(InstructionFactory instructionFactory, ByteBuffer indexData)
+			throws IOException {
+		return open(instructionFactory, indexData, defaultCacheMode);
+	}
 
-			LOG.debug(" Index parameters: {0}/{1}/{2}", entryCount, opcodeBytes, positionBytes);
+	/**
+	 * Opens an {@linkplain InstructionIndex} from index data already residing in memory (e.g. as provided by a class
+	 * generated via {@linkplain InstructionIndexBuilder#saveSource(java.io.File, String)}).
+	 *
+	 * @param instructionFactory the {@linkplain InstructionFactory} to use for this index.
+	 * @param indexData the index data (as written by {@linkplain InstructionIndexBuilder#save(java.io.File)}).
+	 * @param cacheMode the {@linkplain CacheMode} to use for caching loaded instructions.
+	 * @return the opened {@linkplain InstructionIndex} instance.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public static InstructionIndex open(InstructionFactory instructionFactory, ByteBuffer indexData,
+			CacheMode cacheMode) throws IOException {
+		ByteBuffer index = indexData.duplicate().order(ByteOrder.BIG_ENDIAN);
 
-			int entryBytes = opcodeBytes + positionBytes;
-			byte[] lookupTable = new byte[entryCount * entryBytes];
+		if (index.remaining() < 4) {
+			throw new IOException("Invalid index data");
+		}
 
-			indexStream.readFully(lookupTable);
+		int parameters = index.getInt();
+		int entryCount = (parameters >> 8) & 0xffffff;
+		int opcodeBytes = 1 + (parameters >> 4) & 0xf;
+		int positionBytes = 1 + (parameters & 0xf);
 
-			Path dataFilePath = Files.createTempFile(InstructionIndex.class.getSimpleName(), null);
+		LOG.debug(" Index parameters: {0}/{1}/{2}", entryCount, opcodeBytes, positionBytes);
 
-			LOG.debug(" Data file: ''{0}''", dataFilePath);
+		int entryBytes = opcodeBytes + positionBytes;
+		byte[] lookupTable = new byte[entryCount * entryBytes];
 
-			IOUtil.copyStream(dataFilePath.toFile(), indexStream);
-			index = new InstructionIndex(instructionFactory, entryCount, entryBytes, opcodeBytes, lookupTable,
-					FileChannel.open(dataFilePath, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE));
+		if (index.remaining() < lookupTable.length) {
+			throw new IOException("Invalid index data");
+		}
+		index.get(lookupTable);
+
+		ByteBuffer data = index.slice().order(ByteOrder.BIG_ENDIAN);
+
+		LOG.debug(" Index data: {0} byte(s)", data.limit());
+
+		InstructionIndex openedIndex = new InstructionIndex(instructionFactory, entryCount, entryBytes, opcodeBytes,
+				lookupTable, (cacheMode != CacheMode.PRELOAD ? data : null), cacheMode);
+
+		if (cacheMode == CacheMode.PRELOAD) {
+			openedIndex.preload(data);
+		}
+		return openedIndex;
+	}
+
+	private static ByteBuffer readIndex(URL url) throws IOException {
+		ByteBuffer index;
+
+		if ("file".equals(url.getProtocol())) {
+			Path indexFile;
+
+			try {
+				indexFile = Paths.get(url.toURI());
+			} catch (URISyntaxException e) {
+				throw new IOException("Invalid index URL: " + url, e);
+			}
+			try (FileChannel indexChannel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+				index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, indexChannel.size());
+			}
+		} else {
+			try (InputStream indexStream = url.openStream()) {
+				index = ByteBuffer.wrap(indexStream.readAllBytes()).asReadOnlyBuffer();
+			}
 		}
 		return index;
 	}
@@ -131,16 +267,19 @@ public final class InstructionIndex implements InstructionIndexParameters, Close
 		}
 
 		/**
-		 * Invokes the {@linkplain Instruction#decode(long, InstructionOpcode, MCDInputBuffer, MCDOutputBuffer)}
+		 * Invokes the
+		 * {@linkplain Instruction#decode(DecodeContext, long, InstructionOpcode, MCDInputBuffer, MCDOutputBuffer)}
 		 * function for this lookup result.
 		 *
+		 * @param context the {@linkplain DecodeContext} of the running decode call.
 		 * @param ip the current instruction pointer.
 		 * @param in the {@linkplain MCDInputBuffer} to read any additional instruction data from.
 		 * @param out the {@linkplain MCDOutputBuffer} to decode to.
 		 * @throws IOException if an I/O error occurs.
 		 */
-		public void decode(long ip, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
-			this.instruction.decode(ip, this.opcode, in, out);
+		public void decode(DecodeContext context, long ip, MCDInputBuffer in, MCDOutputBuffer out)
+				throws IOException {
+			this.instruction.decode(context, ip, this.opcode, in, out);
 		}
 
 		@Override
@@ -159,7 +298,6 @@ public final class InstructionIndex implements InstructionIndexParameters, Close
 	 * @return the resolved {@linkplain Instruction} instance (or {@code null} if EOF is reached).
 	 * @throws IOException if an I/O error occurs.
 	 */
-	@SuppressWarnings("squid:S3776")
 	@Nullable
 	public LookupResult lookupNextInstruction(MCDInputBuffer buffer, boolean eager) throws IOException {
 		LookupResult lookupResult = null;
@@ -168,82 +306,94 @@ public final class InstructionIndex implements InstructionIndexParameters, Close
 		if (opcodeByte >= 0) {
 			byte[] opcode = new byte[this.opcodeBytes];
 			int opcodeLength = 0;
-			int previousMatch = -1;
+			int node = OpcodeTrie.ROOT;
+			int match = OpcodeTrie.NO_MATCH;
+			int matchLength = 1;
+			boolean matching = true;
+
+			while (matching) {
+				opcode[opcodeLength] = (byte) opcodeByte;
+				opcodeLength++;
+				node = this.opcodeTrie.child(node, opcodeByte);
 
-			do {
-				int match = -1;
+				int nodeMatch = (node != OpcodeTrie.NO_NODE ? this.opcodeTrie.match(node) : OpcodeTrie.NO_MATCH);
 
-				if (opcodeByte >= 0) {
-					opcode[opcodeLength] = (byte) opcodeByte;
-					opcodeLength++;
-					match = matchOpcode(opcode, 0, opcodeLength);
+				if (nodeMatch != OpcodeTrie.NO_MATCH) {
+					match = nodeMatch;
+					matchLength = opcodeLength;
 				}
-				if (match >= 0) {
-					if (!eager) {
-						lookupResult = new LookupResult(opcode, 0, opcodeLength, loadInstruction(match));
-					} else {
-						previousMatch = match;
-						opcodeByte = buffer.read();
-					}
-				} else if (previousMatch >= 0) {
-					if (opcodeByte >= 0) {
-						int previousOpcodeLength = opcodeLength - 1;
-
-						lookupResult = new LookupResult(opcode, 0, previousOpcodeLength,
-								loadInstruction(previousMatch));
-						buffer.discard(-1);
-					} else {
-						lookupResult = new LookupResult(opcode, 0, opcodeLength, loadInstruction(previousMatch));
-					}
-				} else if (opcodeByte >= 0 && opcodeLength < this.opcodeBytes - 1) {
+				// Continue as long as a longer opcode may match (once matched, every longer opcode must match, too)
+				if (node != OpcodeTrie.NO_NODE && this.opcodeTrie.hasChildren(node)
+						&& (nodeMatch != OpcodeTrie.NO_MATCH ? eager : match == OpcodeTrie.NO_MATCH)) {
 					opcodeByte = buffer.read();
+					matching = opcodeByte >= 0;
 				} else {
-					lookupResult = new LookupResult(opcode, 0, 1, this.instructionFactory.getDefaultInstruction());
-					buffer.discard(-opcodeLength + 1);
+					matching = false;
 				}
-			} while (lookupResult == null);
+			}
+			if (match != OpcodeTrie.NO_MATCH) {
+				lookupResult = new LookupResult(opcode, 0, matchLength, loadInstruction(match));
+			} else {
+				lookupResult = new LookupResult(opcode, 0, 1, this.instructionFactory.getDefaultInstruction());
+			}
+			if (opcodeLength > matchLength) {
+				buffer.discard(matchLength - opcodeLength);
+			}
 		}
 		return lookupResult;
 	}
 
-	private int matchOpcode(byte[] bytes, int offset, int length) {
-		int matchStart = 0;
-		int matchEnd = this.entryCount;
-		int match = -1;
-
-		while (matchStart < matchEnd && match < 0) {
-			int matchNext = matchStart + (matchEnd - matchStart) / 2;
-			int lookupTableOffset = matchNext * this.entryBytes;
-			int comparision = InstructionOpcode.compareTo(bytes, offset, length, this.lookupTable,
-					lookupTableOffset + 1, this.lookupTable[lookupTableOffset] & 0xff);
-
-			if (comparision < 0) {
-				matchEnd = matchNext;
-			} else if (comparision > 0) {
-				matchStart = matchNext + 1;
-			} else {
-				match = matchNext;
+	private Instruction loadInstruction(int lookupTableIndex) throws IOException {
+		Instruction instruction;
+
+		if (this.cacheMode != CacheMode.SOFT) {
+			instruction = this.instructionCache.get(lookupTableIndex);
+			if (instruction == null) {
+				// Concurrent loads of the same instruction are benign; the last one wins
+				instruction = readInstruction(lookupTableIndex);
+				this.instructionCache.set(lookupTableIndex, instruction);
+			}
+		} else {
+			SoftReference<Instruction> instructionReference = this.softInstructionCache.get(lookupTableIndex);
+
+			instruction = (instructionReference != null ? instructionReference.get() : null);
+			if (instruction == null) {
+				instruction = readInstruction(lookupTableIndex);
+				this.softInstructionCache.set(lookupTableIndex, new SoftReference<>(instruction));
 			}
 		}
-		return match;
+		return instruction;
 	}
 
-	private synchronized Instruction loadInstruction(int lookupTableIndex) throws IOException {
-		Integer dataCacheKey = Integer.valueOf(lookupTableIndex);
-		SoftReference<Instruction> instructionReference = this.instructionCache.get(dataCacheKey);
-		Instruction instruction = (instructionReference != null ? instructionReference.get() : null);
-
-		if (instruction == null) {
-			int positionBytes = positionBytes();
-			long dataPosition = getDecodedPosition(this.lookupTable,
-					(lookupTableIndex * this.entryBytes) + this.opcodeBytes, positionBytes);
+	private void preload(ByteBuffer preloadData) throws IOException {
+		LOG.debug(" Preloading {0} instruction(s)...", this.entryCount);
 
-			this.dataFile.position(dataPosition);
-			instruction = this.instructionFactory
-					.loadInstruction(new DataInputStream(Channels.newInputStream(this.dataFile)));
-			this.instructionCache.put(dataCacheKey, new SoftReference<>(instruction));
+		try {
+			IntStream.range(0, this.entryCount).parallel().forEach(lookupTableIndex -> {
+				try {
+					this.instructionCache.set(lookupTableIndex, readInstruction(preloadData, lookupTableIndex));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
 		}
-		return instruction;
+	}
+
+	private Instruction readInstruction(int lookupTableIndex) throws IOException {
+		// In PRELOAD mode all instructions are cached, hence the data is only required in the other modes
+		return readInstruction(Check.notNull(this.data), lookupTableIndex);
+	}
+
+	private Instruction readInstruction(ByteBuffer readData, int lookupTableIndex) throws IOException {
+		return this.instructionFactory
+				.loadInstruction(new ByteBufferDataInput(readData, dataPosition(lookupTableIndex)));
+	}
+
+	private int dataPosition(int lookupTableIndex) {
+		return (int) getDecodedPosition(this.lookupTable, (lookupTableIndex * this.entryBytes) + this.opcodeBytes,
+				positionBytes());
 	}
 
 	private long getDecodedPosition(byte[] bytes, int offset, int length) {
@@ -272,7 +422,7 @@ public final class InstructionIndex implements InstructionIndexParameters, Close
 
 	@Override
 	public void close() throws IOException {
-		this.dataFile.close();
+		// The index data buffer is released via garbage collection; there are no further resources to close
 	}
 
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd.instruction;
+
+import java.util.Arrays;
+
+/**
+ * Compact 256-way trie mapping opcode byte sequences to lookup table entries.
+ * <p>
+ * Every trie node is identified by an {@code int} id (with {@code 0} being the root node). Only nodes with children own
+ * a row of 256 transitions. Hence resolving the next node is a single array access per opcode byte.
+ * </p>
+ */
+final class OpcodeTrie {
+
+	/**
+	 * The root node id.
+	 */
+	static final int ROOT = 0;
+
+	/**
+	 * The node id returned for non-existent transitions.
+	 */
+	static final int NO_NODE = 0;
+
+	/**
+	 * The match value of nodes not matching any lookup table entry.
+	 */
+	static final int NO_MATCH = -1;
+
+	private static final int FANOUT = 256;
+
+	private int[] transitions = new int[FANOUT];
+	private int transitionsSize = 0;
+	private int[] rows = new int[FANOUT];
+	private int[] matches = new int[FANOUT];
+	private int nodeCount = 0;
+
+	private OpcodeTrie() {
+		newNode();
+	}
+
+	/**
+	 * Builds the trie for the given lookup table.
+	 *
+	 * @param lookupTable the lookup table to build the trie for.
+	 * @param entryCount the number of lookup table entries.
+	 * @param entryBytes the size of a single lookup table entry.
+	 * @return the created {@linkplain OpcodeTrie} instance.
+	 */
+	static OpcodeTrie build(byte[] lookupTable, int entryCount, int entryBytes) {
+		OpcodeTrie trie = new OpcodeTrie();
+
+		for (int entryIndex = 0; entryIndex < entryCount; entryIndex++) {
+			int entryOffset = entryIndex * entryBytes;
+			int opcodeLength = Byte.toUnsignedInt(lookupTable[entryOffset]);
+			int node = ROOT;
+
+			for (int opcodeIndex = 0; opcodeIndex < opcodeLength; opcodeIndex++) {
+				node = trie.addChild(node, Byte.toUnsignedInt(lookupTable[entryOffset + 1 + opcodeIndex]));
+			}
+			trie.matches[node] = entryIndex;
+		}
+		trie.transitions = Arrays.copyOf(trie.transitions, trie.transitionsSize);
+		trie.rows = Arrays.copyOf(trie.rows, trie.nodeCount);
+		trie.matches = Arrays.copyOf(trie.matches, trie.nodeCount);
+		return trie;
+	}
+
+	/**
+	 * Gets the child node reached via the given opcode byte.
+	 *
+	 * @param node the node to start from.
+	 * @param opcodeByte the opcode byte to follow.
+	 * @return the child node id or {@linkplain #NO_NODE} if there is no such child.
+	 */
+	int child(int node, int opcodeByte) {
+		int row = this.rows[node];
+
+		return (row >= 0 ? this.transitions[row + opcodeByte] : NO_NODE);
+	}
+
+	/**
+	 * Checks whether the given node has any children.
+	 *
+	 * @param node the node to check.
+	 * @return {@code true} if the node has children.
+	 */
+	boolean hasChildren(int node) {
+		return this.rows[node] >= 0;
+	}
+
+	/**
+	 * Gets the lookup table entry matched by the given node.
+	 *
+	 * @param node the node to get the match for.
+	 * @return the matched lookup table index or {@linkplain #NO_MATCH} if the node does not match any entry.
+	 */
+	int match(int node) {
+		return this.matches[node];
+	}
+
+	private int newNode() {
+		if (this.nodeCount == this.rows.length) {
+			this.rows = Arrays.copyOf(this.rows, this.nodeCount * 2);
+			this.matches = Arrays.copyOf(this.matches, this.nodeCount * 2);
+		}
+		this.rows[this.nodeCount] = -1;
+		this.matches[this.nodeCount] = NO_MATCH;
+		return this.nodeCount++;
+	}
+
+	private int addChild(int node, int opcodeByte) {
+		if (this.rows[node] < 0) {
+			if (this.transitionsSize == this.transitions.length) {
+				this.transitions = Arrays.copyOf(this.transitions, this.transitionsSize * 2);
+			}
+			this.rows[node] = this.transitionsSize;
+			this.transitionsSize += FANOUT;
+		}
+
+		int transition = this.rows[node] + opcodeByte;
+		int child = this.transitions[transition];
+
+		if (child == NO_NODE) {
+			child = newNode();
+			this.transitions[transition] = child;
+		}
+		return child;
+	}
+
+}
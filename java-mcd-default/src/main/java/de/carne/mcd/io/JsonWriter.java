@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.carne.util.Check;
+
+/**
+ * Minimal streaming JSON writer emitting UTF-8 encoded JSON text.
+ * <p>
+ * The writer encodes directly into a reused byte buffer and performs no intermediate allocations. It only checks the
+ * nesting of objects and arrays; it is up to the caller to emit well-formed name/value sequences.
+ * </p>
+ */
+public final class JsonWriter implements Closeable, Flushable {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final byte[] HEX_DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd',
+			'e', 'f' };
+	private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+	private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+	private static final byte[] NULL = { 'n', 'u', 'l', 'l' };
+
+	private final OutputStream out;
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+	private int bufferLength = 0;
+	private boolean[] separatorNeeded = new boolean[16];
+	private int depth = 0;
+	private boolean nameWritten = false;
+
+	/**
+	 * Constructs a new {@linkplain JsonWriter} instance.
+	 *
+	 * @param out the {@linkplain OutputStream} to write to.
+	 */
+	public JsonWriter(OutputStream out) {
+		this.out = out;
+	}
+
+	/**
+	 * Begins a JSON object.
+	 *
+	 * @return this instance for chaining.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public JsonWriter beginObject() throws IOException {
+		beginValue();
+		putByte('{');
+		push();
+		return this;
+	}
+
+	/**
+	 * Ends the current JSON object.
+	 *
+	 * @return this instance for chaining.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public JsonWriter endObject() throws IOException {
+		pop();
+		putByte('}');
+		return this;
+	}
+
+	/**
+	 * Begins a JSON array.
+	 *
+	 * @return this instance for chaining.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public JsonWriter beginArray() throws IOException {
+		beginValue();
+		putByte('[');
+		push();
+		return this;
+	}
+
+	/**
+	 * Ends the current JSON array.
+	 *
+	 * @return this instance for chaining.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public JsonWriter endArray() throws IOException {
+		pop();
+		putByte(']');
+		return this;
+	}
+
+	/**
+	 * Writes the name of the next object member.
+	 *
+	 * @param name the name to write.
+	 * @return this instance for chaining.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public JsonWriter name(String name) throws IOException {
+		Check.isTrue(this.depth > 0 && !this.nameWritten);
+
+		beginValue();
+		putString(name);
+		putByte(':');
+		this.nameWritten = true;
+		return this;
+	}
+
+	/**
+	 * Writes a string value.
+	 *
+	 * @param value the value to write (may be {@code null}).
+	 * @return this instance for chaining.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public JsonWriter value(@Nullable CharSequence value) throws IOException {
+		beginValue();
+		if (value != null) {
+			putString(value);
+		} else {
+			putBytes(NULL);
+		}
+		return this;
+	}
+
+	/**
+	 * Writes a number value.
+	 *
+	 * @param value the value to write.
+	 * @return this instance for chaining.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public JsonWriter value(long value) throws IOException {
+		beginValue();
+		if (value == Long.MIN_VALUE) {
+			putAscii(Long.toString(value));
+		} else {
+			long remaining = value;
+
+			if (remaining < 0) {
+				putByte('-');
+				remaining = -remaining;
+			}
+
+			long divisor = 1;
+
+			while (remaining / divisor >= 10) {
+				divisor *= 10;
+			}
+			while (divisor > 0) {
+				putByte('0' + (int) ((remaining / divisor) % 10));
+				divisor /= 10;
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Writes a boolean value.
+	 *
+	 * @param value the value to write.
+	 * @return this instance for chaining.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public JsonWriter value(boolean value) throws IOException {
+		beginValue();
+		putBytes(value ? TRUE : FALSE);
+		return this;
+	}
+
+	/**
+	 * Ends the current top-level JSON value with a line break (as required for newline delimited JSON).
+	 *
+	 * @return this instance for chaining.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public JsonWriter newLine() throws IOException {
+		Check.isTrue(this.depth == 0);
+
+		putByte('\n');
+		this.separatorNeeded[0] = false;
+		return this;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		writeBuffer();
+		this.out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			writeBuffer();
+		} finally {
+			this.out.close();
+		}
+	}
+
+	private void beginValue() throws IOException {
+		if (this.nameWritten) {
+			this.nameWritten = false;
+		} else {
+			if (this.separatorNeeded[this.depth]) {
+				putByte(',');
+			}
+			this.separatorNeeded[this.depth] = true;
+		}
+	}
+
+	private void push() {
+		this.depth++;
+		if (this.depth == this.separatorNeeded.length) {
+			this.separatorNeeded = Arrays.copyOf(this.separatorNeeded, this.depth * 2);
+		}
+		this.separatorNeeded[this.depth] = false;
+	}
+
+	private void pop() {
+		Check.isTrue(this.depth > 0 && !this.nameWritten);
+
+		this.depth--;
+	}
+
+	private void putString(CharSequence string) throws IOException {
+		putByte('"');
+
+		int stringLength = string.length();
+
+		for (int charIndex = 0; charIndex < stringLength; charIndex++) {
+			char c = string.charAt(charIndex);
+
+			if (c >= 0x20 && c < 0x80) {
+				if (c == '"' || c == '\\') {
+					putByte('\\');
+				}
+				putByte(c);
+			} else if (c < 0x20) {
+				putEscape(c);
+			} else if (c < 0x800) {
+				putByte(0xc0 | (c >> 6));
+				putByte(0x80 | (c & 0x3f));
+			} else if (Character.isHighSurrogate(c) && charIndex + 1 < stringLength
+					&& Character.isLowSurrogate(string.charAt(charIndex + 1))) {
+				int codePoint = Character.toCodePoint(c, string.charAt(charIndex + 1));
+
+				putByte(0xf0 | (codePoint >> 18));
+				putByte(0x80 | ((codePoint >> 12) & 0x3f));
+				putByte(0x80 | ((codePoint >> 6) & 0x3f));
+				putByte(0x80 | (codePoint & 0x3f));
+				charIndex++;
+			} else if (Character.isSurrogate(c)) {
+				// Unpaired surrogates are not representable in UTF-8; emit them escaped
+				putEscape(c);
+			} else {
+				putByte(0xe0 | (c >> 12));
+				putByte(0x80 | ((c >> 6) & 0x3f));
+				putByte(0x80 | (c & 0x3f));
+			}
+		}
+		putByte('"');
+	}
+
+	private void putEscape(char c) throws IOException {
+		putByte('\\');
+		switch (c) {
+		case '\n':
+			putByte('n');
+			break;
+		case '\r':
+			putByte('r');
+			break;
+		case '\t':
+			putByte('t');
+			break;
+		default:
+			putByte('u');
+			putByte(HEX_DIGITS[(c >> 12) & 0xf]);
+			putByte(HEX_DIGITS[(c >> 8) & 0xf]);
+			putByte(HEX_DIGITS[(c >> 4) & 0xf]);
+			putByte(HEX_DIGITS[c & 0xf]);
+		}
+	}
+
+	private void putAscii(String ascii) throws IOException {
+		int asciiLength = ascii.length();
+
+		for (int charIndex = 0; charIndex < asciiLength; charIndex++) {
+			putByte(ascii.charAt(charIndex));
+		}
+	}
+
+	private void putBytes(byte[] bytes) throws IOException {
+		for (byte b : bytes) {
+			putByte(b);
+		}
+	}
+
+	private void putByte(int b) throws IOException {
+		if (this.bufferLength == this.buffer.length) {
+			writeBuffer();
+		}
+		this.buffer[this.bufferLength] = (byte) b;
+		this.bufferLength++;
+	}
+
+	private void writeBuffer() throws IOException {
+		if (this.bufferLength > 0) {
+			this.out.write(this.buffer, 0, this.bufferLength);
+			this.bufferLength = 0;
+		}
+	}
+
+}
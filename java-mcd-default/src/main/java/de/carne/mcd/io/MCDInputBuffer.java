@@ -20,21 +20,19 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.channels.NonWritableChannelException;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SeekableByteChannel;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 
 import de.carne.io.Defaults;
-import de.carne.nio.file.FileUtil;
-import de.carne.nio.file.attribute.FileAttributes;
 import de.carne.util.Check;
+import de.carne.util.Exceptions;
 
 /**
  * Buffered byte channel access during decoding.
@@ -43,17 +41,45 @@ public final class MCDInputBuffer implements MCDBuffer {
 
 	private static final String MESSAGE_ILLEGAL_DISCARD_LENGTH = "Illegal discard length {0}";
 
+	private static final String MESSAGE_ILLEGAL_CHECKPOINT = "Illegal checkpoint {0}";
+
 	private static final String MESSAGE_UNEXPECTED_MAGIC_VALUE = "Unexpected magic value: ";
 
+	private static final int MIN_READ_AHEAD = 64;
+
+	private static final int MAPPED_WINDOW_SIZE = 64 << 20;
+
+	/**
+	 * The default maximum size an input buffer may grow to.
+	 */
+	public static final int DEFAULT_MAX_BUFFER_SIZE = 64 << 20;
+
+	/**
+	 * The default number of sliced bytes kept in memory before spilling them to disk.
+	 */
+	public static final long DEFAULT_SPOOL_THRESHOLD = 4 << 20;
+
 	private final ReadableByteChannel in;
+	private final boolean direct;
+	@Nullable
+	private final FileChannel mappedIn;
+	private long mappedPosition;
 	private ByteBuffer inputBuffer;
 	private long totalRead = 0;
+	private long channelReads = 0;
+	private boolean readAhead = false;
+	private int readAheadSize = MIN_READ_AHEAD;
+	private int maxBufferSize = DEFAULT_MAX_BUFFER_SIZE;
+	private long spoolThreshold = DEFAULT_SPOOL_THRESHOLD;
 	private int commitPosition = 0;
 	private int uncommittedPosition = 0;
 	private boolean autoCommit = true;
+	private int[] checkpoints = new int[8];
+	private int checkpointCount = 0;
 	private int sliceCount = 0;
 	@Nullable
-	private SeekableByteChannel sliceChannel = null;
+	private SpoolChannel sliceChannel = null;
+	private final ArrayView arrayView = new ArrayView();
 
 	/**
 	 * Constructs a new {@linkplain MCDInputBuffer} instance.
@@ -74,9 +100,94 @@ public final class MCDInputBuffer implements MCDBuffer {
 	 */
 	public MCDInputBuffer(ReadableByteChannel in, ByteOrder byteOrder, int bufferSize) {
 		this.in = in;
+		this.direct = false;
+		this.mappedIn = null;
+		this.mappedPosition = 0;
 		this.inputBuffer = ByteBuffer.allocate(bufferSize).order(byteOrder);
 	}
 
+	/**
+	 * Constructs a new {@linkplain MCDInputBuffer} instance decoding directly from the given buffer.
+	 * <p>
+	 * The buffer's remaining bytes are used as storage without any copying. Neither the buffer's content nor its
+	 * position or limit are modified during decoding.
+	 * </p>
+	 *
+	 * @param in the {@linkplain ByteBuffer} to decode from.
+	 * @param byteOrder the {@linkplain ByteOrder} to use for decoding.
+	 */
+	public MCDInputBuffer(ByteBuffer in, ByteOrder byteOrder) {
+		ByteBuffer buffer = in.slice().order(byteOrder);
+
+		this.in = new BufferChannel(buffer);
+		this.direct = true;
+		this.mappedIn = null;
+		this.mappedPosition = 0;
+		this.inputBuffer = buffer.position(buffer.limit());
+	}
+
+	private MCDInputBuffer(FileChannel in, ByteOrder byteOrder) throws IOException {
+		this.in = in;
+		this.direct = true;
+		this.mappedIn = in;
+		this.mappedPosition = in.position();
+		this.inputBuffer = ByteBuffer.allocate(0).order(byteOrder);
+	}
+
+	/**
+	 * Creates a new {@linkplain MCDInputBuffer} instance decoding directly from the memory mapped file.
+	 * <p>
+	 * Decoding starts at the file channel's current position. The file is mapped in windows of up to 64 MiB. Each time
+	 * a window is exhausted the next window is mapped (counted as a single channel read). Like for buffers decoded via
+	 * {@linkplain #MCDInputBuffer(ByteBuffer, ByteOrder)} committing, discarding, slicing and skipping bytes do not
+	 * involve any copying. Especially the file channel's position is not touched
+	 * until {@linkplain #releaseReadAhead()} is called.
+	 * </p>
+	 *
+	 * @param in the {@linkplain FileChannel} to map.
+	 * @param byteOrder the {@linkplain ByteOrder} to use for decoding.
+	 * @return the created {@linkplain MCDInputBuffer} instance.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public static MCDInputBuffer map(FileChannel in, ByteOrder byteOrder) throws IOException {
+		return new MCDInputBuffer(in, byteOrder);
+	}
+
+	/**
+	 * Checks whether this {@linkplain MCDInputBuffer} instance decodes directly from a memory mapped file.
+	 *
+	 * @return {@code true} if this {@linkplain MCDInputBuffer} instance has been created via
+	 * {@linkplain #map(FileChannel, ByteOrder)}.
+	 */
+	public boolean isMapped() {
+		return this.mappedIn != null;
+	}
+
+	/**
+	 * Checks whether the channel underlying this {@linkplain MCDInputBuffer} instance can be repositioned.
+	 * <p>
+	 * Mapped files are always seekable. For any other {@linkplain SeekableByteChannel} the channel's position is
+	 * queried; a channel failing to report its position (e.g. a {@linkplain FileChannel} reading from a pipe) is
+	 * considered not seekable.
+	 * </p>
+	 *
+	 * @return {@code true} if the channel underlying this {@linkplain MCDInputBuffer} instance can be repositioned.
+	 * @see #releaseReadAhead()
+	 */
+	public boolean isSeekable() {
+		boolean seekable = this.mappedIn != null;
+
+		if (!seekable && !this.direct && this.in instanceof SeekableByteChannel) {
+			try {
+				((SeekableByteChannel) this.in).position();
+				seekable = true;
+			} catch (IOException e) {
+				Exceptions.ignore(e);
+			}
+		}
+		return seekable;
+	}
+
 	/**
 	 * Gets the total number of bytes read via this {@linkplain MCDInputBuffer} instance.
 	 *
@@ -86,6 +197,124 @@ public final class MCDInputBuffer implements MCDBuffer {
 		return this.totalRead;
 	}
 
+	/**
+	 * Gets the total number of read calls issued to the underlying {@linkplain ReadableByteChannel}.
+	 * <p>
+	 * Together with {@linkplain #getTotalRead()} this gives the number of channel reads per decoded byte.
+	 * </p>
+	 *
+	 * @return the total number of read calls issued to the underlying {@linkplain ReadableByteChannel}.
+	 */
+	public long getChannelReads() {
+		return this.channelReads;
+	}
+
+	/**
+	 * Gets the maximum size this {@linkplain MCDInputBuffer} instance's buffer may grow to.
+	 *
+	 * @return the maximum size this {@linkplain MCDInputBuffer} instance's buffer may grow to.
+	 */
+	public int getMaxBufferSize() {
+		return this.maxBufferSize;
+	}
+
+	/**
+	 * Sets the maximum size this {@linkplain MCDInputBuffer} instance's buffer may grow to.
+	 * <p>
+	 * Whenever the uncommitted bytes plus the requested bytes exceed the current buffer capacity, committed bytes are
+	 * compacted out and (if still required) the buffer capacity is doubled until the request fits. Only requests
+	 * exceeding the maximum buffer size fail.
+	 * </p>
+	 *
+	 * @param maxBufferSize the maximum buffer size to set.
+	 * @return the previous maximum buffer size.
+	 */
+	public int setMaxBufferSize(int maxBufferSize) {
+		Check.isTrue(maxBufferSize > 0);
+
+		int previousMaxBufferSize = this.maxBufferSize;
+
+		this.maxBufferSize = maxBufferSize;
+		return previousMaxBufferSize;
+	}
+
+	/**
+	 * Gets the number of sliced bytes this {@linkplain MCDInputBuffer} instance keeps in memory before spilling them to
+	 * disk.
+	 *
+	 * @return the number of sliced bytes this {@linkplain MCDInputBuffer} instance keeps in memory.
+	 */
+	public long getSpoolThreshold() {
+		return this.spoolThreshold;
+	}
+
+	/**
+	 * Sets the number of sliced bytes this {@linkplain MCDInputBuffer} instance keeps in memory before spilling them to
+	 * disk.
+	 * <p>
+	 * Slicing a non-seekable channel (see {@linkplain #slice(long)}) requires the sliced bytes to be spooled. The
+	 * spooled bytes are kept in memory until the spool size exceeds this threshold. Afterwards they are moved to a
+	 * temporary file. The spool is only released once all slices are closed. Hence the spool size covers all
+	 * slices created since the spool has been allocated (including already closed ones) and not only the currently
+	 * open ones. Changing the threshold affects the next spool allocated.
+	 * </p>
+	 *
+	 * @param spoolThreshold the spool threshold to set.
+	 * @return the previous spool threshold.
+	 */
+	public long setSpoolThreshold(long spoolThreshold) {
+		Check.isTrue(spoolThreshold >= 0);
+
+		long previousSpoolThreshold = this.spoolThreshold;
+
+		this.spoolThreshold = spoolThreshold;
+		return previousSpoolThreshold;
+	}
+
+	/**
+	 * Sets the read-ahead flag for this {@linkplain MCDInputBuffer} instance.
+	 * <p>
+	 * If read-ahead is enabled, any channel read fills the free buffer capacity (instead of reading only the number
+	 * of bytes currently requested). The read-ahead size starts small and is doubled with every further read until the
+	 * buffer capacity is reached. It is reset whenever the buffer is repositioned via {@linkplain #skip(long)} or
+	 * {@linkplain #slice(long)}. For mapped buffers (see {@linkplain #map(FileChannel, ByteOrder)}) this flag has no
+	 * effect.
+	 * </p>
+	 *
+	 * @param readAhead whether to read ahead or not.
+	 * @return the previous read-ahead flag state.
+	 * @see #releaseReadAhead()
+	 */
+	public boolean setReadAhead(boolean readAhead) {
+		boolean previousReadAhead = this.readAhead;
+
+		this.readAhead = readAhead;
+		this.readAheadSize = MIN_READ_AHEAD;
+		return previousReadAhead;
+	}
+
+	/**
+	 * Releases any bytes read ahead but not yet decoded.
+	 * <p>
+	 * If bytes have been read ahead and the underlying channel is seekable (see {@linkplain #isSeekable()}) it is
+	 * repositioned to the first byte not yet decoded. A mapped file is always repositioned. For any other channel this
+	 * function has no effect.
+	 * </p>
+	 *
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public void releaseReadAhead() throws IOException {
+		FileChannel mappedChannel = this.mappedIn;
+
+		if (mappedChannel != null) {
+			mappedChannel.position(this.mappedPosition + this.uncommittedPosition);
+		} else if (this.inputBuffer.position() > this.uncommittedPosition && isSeekable()) {
+			SeekableByteChannel channel = (SeekableByteChannel) this.in;
+
+			seekChannel(channel, channelPosition(channel));
+		}
+	}
+
 	@Override
 	public boolean setAutoCommit(boolean autoCommit) {
 		boolean previousAutoCommit = this.autoCommit;
@@ -96,17 +325,86 @@ public final class MCDInputBuffer implements MCDBuffer {
 
 	@Override
 	public void commit() throws IOException {
-		if (this.uncommittedPosition == this.inputBuffer.position()) {
+		if (this.uncommittedPosition == this.inputBuffer.position() && !this.direct) {
 			this.uncommittedPosition = 0;
 			this.inputBuffer.clear();
 		}
 		this.commitPosition = this.uncommittedPosition;
+		this.checkpointCount = 0;
 	}
 
 	@Override
 	public void discard() {
 		this.totalRead -= (this.uncommittedPosition - this.commitPosition);
 		this.uncommittedPosition = this.commitPosition;
+		this.checkpointCount = 0;
+	}
+
+	/**
+	 * Gets a view of the bytes decoded since the last commit.
+	 * <p>
+	 * The returned view is owned by this {@linkplain MCDInputBuffer} instance. It is re-used by every view decode call
+	 * and only valid until the next decode call.
+	 * </p>
+	 *
+	 * @return this buffer's {@linkplain ArrayView} providing access to the uncommitted bytes.
+	 */
+	public ArrayView uncommittedView() {
+		this.arrayView.reset(this.inputBuffer, this.commitPosition, this.uncommittedPosition - this.commitPosition);
+		return this.arrayView;
+	}
+
+	/**
+	 * Sets a checkpoint at the current decode position.
+	 * <p>
+	 * Checkpoints are kept on a stack and are relative to the current commit position. Any checkpoint is dropped on
+	 * commit as well as on a full discard. Hence checkpoints are only of use if auto commit is disabled.
+	 * </p>
+	 *
+	 * @return the checkpoint handle to use for {@linkplain #rewind(int)} and {@linkplain #release(int)}.
+	 */
+	public int mark() {
+		if (this.checkpointCount == this.checkpoints.length) {
+			this.checkpoints = Arrays.copyOf(this.checkpoints, this.checkpointCount * 2);
+		}
+		this.checkpoints[this.checkpointCount] = this.uncommittedPosition - this.commitPosition;
+		return this.checkpointCount++;
+	}
+
+	/**
+	 * Rewinds the decode position to a previously set checkpoint.
+	 * <p>
+	 * The given checkpoint stays valid (and can be rewound to again). Any checkpoint set after it is dropped. Rewinding
+	 * never reads from the underlying channel as all bytes since the last commit are still buffered.
+	 * </p>
+	 *
+	 * @param checkpoint the checkpoint handle returned by {@linkplain #mark()}.
+	 */
+	public void rewind(int checkpoint) {
+		Check.isTrue(0 <= checkpoint && checkpoint < this.checkpointCount, MESSAGE_ILLEGAL_CHECKPOINT, checkpoint);
+
+		int uncommittedPositionAfterRewind = this.commitPosition + this.checkpoints[checkpoint];
+
+		Check.isTrue(uncommittedPositionAfterRewind <= this.uncommittedPosition, MESSAGE_ILLEGAL_CHECKPOINT,
+				checkpoint);
+
+		this.totalRead -= (this.uncommittedPosition - uncommittedPositionAfterRewind);
+		this.uncommittedPosition = uncommittedPositionAfterRewind;
+		this.checkpointCount = checkpoint + 1;
+	}
+
+	/**
+	 * Releases a previously set checkpoint as well as any checkpoint set after it.
+	 * <p>
+	 * The decode position is not changed. Releasing an already dropped checkpoint has no effect.
+	 * </p>
+	 *
+	 * @param checkpoint the checkpoint handle returned by {@linkplain #mark()}.
+	 */
+	public void release(int checkpoint) {
+		Check.isTrue(checkpoint >= 0, MESSAGE_ILLEGAL_CHECKPOINT, checkpoint);
+
+		this.checkpointCount = Math.min(this.checkpointCount, checkpoint);
 	}
 
 	/**
@@ -156,19 +454,33 @@ public final class MCDInputBuffer implements MCDBuffer {
 		Check.assertTrue(this.commitPosition == this.uncommittedPosition);
 
 		SeekableByteChannel slice;
-
-		if (this.in instanceof SeekableByteChannel) {
+		FileChannel mappedChannel = this.mappedIn;
+
+		if (this.direct && length <= this.inputBuffer.position() - this.uncommittedPosition) {
+			ByteBuffer buffer = this.inputBuffer.asReadOnlyBuffer();
+
+			buffer.position(this.uncommittedPosition).limit(this.uncommittedPosition + (int) length);
+			slice = new BufferChannel(buffer.slice());
+			advanceDirect(length);
+		} else if (mappedChannel != null) {
+			long start = this.mappedPosition + this.uncommittedPosition;
+
+			advanceDirect(length);
+			slice = new SlicedChannel(mappedChannel, start, length);
+		} else if (this.direct) {
+			throw new EOFException();
+		} else if (this.in instanceof SeekableByteChannel) {
 			SeekableByteChannel channel = (SeekableByteChannel) this.in;
-			long position = channel.position();
+			long position = channelPosition(channel);
 
 			slice = new SlicedChannel(channel, position, length);
-			channel.position(position + length);
+			seekChannel(channel, position + length);
 		} else {
 			SeekableByteChannel channel = allocateSliceChannel();
 			long position = channel.size();
 
 			channel.position(position);
-			passThrough(length, channel::write);
+			passThrough(passThroughBuffered(length, channel::write), channel::write);
 			slice = new SlicedChannel(channel, position, length, this::releaseSliceChannel);
 		}
 		this.totalRead += length;
@@ -178,7 +490,10 @@ public final class MCDInputBuffer implements MCDBuffer {
 	/**
 	 * Skips the requested number of bytes from the byte channel.
 	 * <p>
-	 * This function requires this buffer instance to be committed prior to calling it.
+	 * If auto commit is enabled, this function requires this buffer instance to be committed prior to calling it. If
+	 * auto commit is disabled, the skipped bytes are buffered and become part of the uncommitted bytes (e.g. to skip
+	 * padding bytes within an instruction). Skipping beyond the end of the input fails with an
+	 * {@linkplain EOFException} regardless of the input type.
 	 * </p>
 	 *
 	 * @param length the number of bytes to skip.
@@ -187,16 +502,28 @@ public final class MCDInputBuffer implements MCDBuffer {
 	public void skip(long length) throws IOException {
 		Check.isTrue(length >= 0);
 
-		Check.assertTrue(this.commitPosition == this.uncommittedPosition);
+		if (this.autoCommit) {
+			Check.assertTrue(this.commitPosition == this.uncommittedPosition);
 
-		if (this.in instanceof SeekableByteChannel) {
-			SeekableByteChannel channel = (SeekableByteChannel) this.in;
+			if (this.direct) {
+				advanceDirect(length);
+			} else if (this.in instanceof SeekableByteChannel) {
+				SeekableByteChannel channel = (SeekableByteChannel) this.in;
+				long skipPosition = channelPosition(channel) + length;
 
-			channel.position(channel.position() + length);
+				if (skipPosition > channel.size()) {
+					throw new EOFException();
+				}
+				seekChannel(channel, skipPosition);
+			} else {
+				PassThroughHandler handler = b -> b.position(b.position() + b.remaining());
+
+				passThrough(passThroughBuffered(length, handler), handler);
+			}
+			this.totalRead += length;
 		} else {
-			passThrough(length, b -> b.position(b.position() + b.remaining()));
+			feedArray((int) Math.min(length, Integer.MAX_VALUE), Byte.BYTES);
 		}
-		this.totalRead += length;
 	}
 
 	/**
@@ -251,18 +578,10 @@ public final class MCDInputBuffer implements MCDBuffer {
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public ByteBuffer decodeI8Array(int arrayLength) throws IOException {
-		Check.isTrue(arrayLength >= 0);
+		int start = feedArray(arrayLength, Byte.BYTES);
+		ByteBuffer decoded = this.inputBuffer.asReadOnlyBuffer().order(this.inputBuffer.order());
 
-		int length = arrayLength * Byte.BYTES;
-
-		feedInputBuffer(length, true);
-
-		ByteBuffer decoded = this.inputBuffer.asReadOnlyBuffer();
-		int uncommittedPositionAfterDecode = this.uncommittedPosition + length;
-
-		decoded.position(this.uncommittedPosition).limit(uncommittedPositionAfterDecode);
-		this.uncommittedPosition = uncommittedPositionAfterDecode;
-		this.totalRead += length;
+		decoded.position(start).limit(this.uncommittedPosition);
 		if (this.autoCommit) {
 			commit();
 		}
@@ -283,6 +602,59 @@ public final class MCDInputBuffer implements MCDBuffer {
 		return array;
 	}
 
+	/**
+	 * Decodes an array of {@code byte} values into the given array.
+	 *
+	 * @param array the array to decode into.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public void decodeI8Array(byte[] array) throws IOException {
+		decodeI8Array(array, 0, array.length);
+	}
+
+	/**
+	 * Decodes an array of {@code byte} values into the given array.
+	 *
+	 * @param array the array to decode into.
+	 * @param offset the array offset to start decoding at.
+	 * @param arrayLength the number of array elements to decode.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public void decodeI8Array(byte[] array, int offset, int arrayLength) throws IOException {
+		Objects.checkFromIndexSize(offset, arrayLength, array.length);
+
+		int index = feedArray(arrayLength, Byte.BYTES);
+
+		for (int arrayIndex = offset; arrayIndex < offset + arrayLength; arrayIndex++) {
+			array[arrayIndex] = this.inputBuffer.get(index);
+			index += Byte.BYTES;
+		}
+		if (this.autoCommit) {
+			commit();
+		}
+	}
+
+	/**
+	 * Decodes an array of {@code byte} values into this buffer's {@linkplain ArrayView}.
+	 * <p>
+	 * The returned view is owned by this {@linkplain MCDInputBuffer} instance. It is re-used by every view decode call
+	 * and only valid until the next decode call.
+	 * </p>
+	 *
+	 * @param arrayLength the array length to decode.
+	 * @return this buffer's {@linkplain ArrayView} providing access to the decoded values.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public ArrayView decodeI8ArrayView(int arrayLength) throws IOException {
+		int start = feedArray(arrayLength, Byte.BYTES);
+
+		this.arrayView.reset(this.inputBuffer, start, arrayLength);
+		if (this.autoCommit) {
+			commit();
+		}
+		return this.arrayView;
+	}
+
 	/**
 	 * Decodes the given magic byte.
 	 *
@@ -324,18 +696,10 @@ public final class MCDInputBuffer implements MCDBuffer {
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public ByteBuffer decodeI16Array(int arrayLength) throws IOException {
-		Check.isTrue(arrayLength >= 0);
-
-		int length = arrayLength * Short.BYTES;
+		int start = feedArray(arrayLength, Short.BYTES);
+		ByteBuffer decoded = this.inputBuffer.asReadOnlyBuffer().order(this.inputBuffer.order());
 
-		feedInputBuffer(length, true);
-
-		ByteBuffer decoded = this.inputBuffer.asReadOnlyBuffer();
-		int uncommittedPositionAfterDecode = this.uncommittedPosition + length;
-
-		decoded.position(this.uncommittedPosition).limit(uncommittedPositionAfterDecode);
-		this.uncommittedPosition = uncommittedPositionAfterDecode;
-		this.totalRead += length;
+		decoded.position(start).limit(this.uncommittedPosition);
 		if (this.autoCommit) {
 			commit();
 		}
@@ -352,12 +716,64 @@ public final class MCDInputBuffer implements MCDBuffer {
 		int length = buffer.remaining() / Short.BYTES;
 		short[] array = new short[length];
 
-		for (int index = 0; index < length; index++) {
-			array[index] = buffer.getShort();
-		}
+		buffer.asShortBuffer().get(array);
+		buffer.position(buffer.position() + length * Short.BYTES);
 		return array;
 	}
 
+	/**
+	 * Decodes an array of {@code short} values into the given array.
+	 *
+	 * @param array the array to decode into.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public void decodeI16Array(short[] array) throws IOException {
+		decodeI16Array(array, 0, array.length);
+	}
+
+	/**
+	 * Decodes an array of {@code short} values into the given array.
+	 *
+	 * @param array the array to decode into.
+	 * @param offset the array offset to start decoding at.
+	 * @param arrayLength the number of array elements to decode.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public void decodeI16Array(short[] array, int offset, int arrayLength) throws IOException {
+		Objects.checkFromIndexSize(offset, arrayLength, array.length);
+
+		int index = feedArray(arrayLength, Short.BYTES);
+
+		for (int arrayIndex = offset; arrayIndex < offset + arrayLength; arrayIndex++) {
+			array[arrayIndex] = this.inputBuffer.getShort(index);
+			index += Short.BYTES;
+		}
+		if (this.autoCommit) {
+			commit();
+		}
+	}
+
+	/**
+	 * Decodes an array of {@code short} values into this buffer's {@linkplain ArrayView}.
+	 * <p>
+	 * The returned view is owned by this {@linkplain MCDInputBuffer} instance. It is re-used by every view decode call
+	 * and only valid until the next decode call.
+	 * </p>
+	 *
+	 * @param arrayLength the array length to decode.
+	 * @return this buffer's {@linkplain ArrayView} providing access to the decoded values.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public ArrayView decodeI16ArrayView(int arrayLength) throws IOException {
+		int start = feedArray(arrayLength, Short.BYTES);
+
+		this.arrayView.reset(this.inputBuffer, start, arrayLength);
+		if (this.autoCommit) {
+			commit();
+		}
+		return this.arrayView;
+	}
+
 	/**
 	 * Decodes the given magic word.
 	 *
@@ -399,18 +815,10 @@ public final class MCDInputBuffer implements MCDBuffer {
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public ByteBuffer decodeI32Array(int arrayLength) throws IOException {
-		Check.isTrue(arrayLength >= 0);
-
-		int length = arrayLength * Integer.BYTES;
-
-		feedInputBuffer(length, true);
-
-		ByteBuffer decoded = this.inputBuffer.asReadOnlyBuffer();
-		int uncommittedPositionAfterDecode = this.uncommittedPosition + length;
+		int start = feedArray(arrayLength, Integer.BYTES);
+		ByteBuffer decoded = this.inputBuffer.asReadOnlyBuffer().order(this.inputBuffer.order());
 
-		decoded.position(this.uncommittedPosition).limit(uncommittedPositionAfterDecode);
-		this.uncommittedPosition = uncommittedPositionAfterDecode;
-		this.totalRead += length;
+		decoded.position(start).limit(this.uncommittedPosition);
 		if (this.autoCommit) {
 			commit();
 		}
@@ -427,12 +835,64 @@ public final class MCDInputBuffer implements MCDBuffer {
 		int length = buffer.remaining() / Integer.BYTES;
 		int[] array = new int[length];
 
-		for (int index = 0; index < length; index++) {
-			array[index] = buffer.getInt();
-		}
+		buffer.asIntBuffer().get(array);
+		buffer.position(buffer.position() + length * Integer.BYTES);
 		return array;
 	}
 
+	/**
+	 * Decodes an array of {@code int} values into the given array.
+	 *
+	 * @param array the array to decode into.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public void decodeI32Array(int[] array) throws IOException {
+		decodeI32Array(array, 0, array.length);
+	}
+
+	/**
+	 * Decodes an array of {@code int} values into the given array.
+	 *
+	 * @param array the array to decode into.
+	 * @param offset the array offset to start decoding at.
+	 * @param arrayLength the number of array elements to decode.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public void decodeI32Array(int[] array, int offset, int arrayLength) throws IOException {
+		Objects.checkFromIndexSize(offset, arrayLength, array.length);
+
+		int index = feedArray(arrayLength, Integer.BYTES);
+
+		for (int arrayIndex = offset; arrayIndex < offset + arrayLength; arrayIndex++) {
+			array[arrayIndex] = this.inputBuffer.getInt(index);
+			index += Integer.BYTES;
+		}
+		if (this.autoCommit) {
+			commit();
+		}
+	}
+
+	/**
+	 * Decodes an array of {@code int} values into this buffer's {@linkplain ArrayView}.
+	 * <p>
+	 * The returned view is owned by this {@linkplain MCDInputBuffer} instance. It is re-used by every view decode call
+	 * and only valid until the next decode call.
+	 * </p>
+	 *
+	 * @param arrayLength the array length to decode.
+	 * @return this buffer's {@linkplain ArrayView} providing access to the decoded values.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public ArrayView decodeI32ArrayView(int arrayLength) throws IOException {
+		int start = feedArray(arrayLength, Integer.BYTES);
+
+		this.arrayView.reset(this.inputBuffer, start, arrayLength);
+		if (this.autoCommit) {
+			commit();
+		}
+		return this.arrayView;
+	}
+
 	/**
 	 * Decodes the given magic dword.
 	 *
@@ -474,18 +934,10 @@ public final class MCDInputBuffer implements MCDBuffer {
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public ByteBuffer decodeI64Array(int arrayLength) throws IOException {
-		Check.isTrue(arrayLength >= 0);
+		int start = feedArray(arrayLength, Long.BYTES);
+		ByteBuffer decoded = this.inputBuffer.asReadOnlyBuffer().order(this.inputBuffer.order());
 
-		int length = arrayLength * Long.BYTES;
-
-		feedInputBuffer(length, true);
-
-		ByteBuffer decoded = this.inputBuffer.asReadOnlyBuffer();
-		int uncommittedPositionAfterDecode = this.uncommittedPosition + length;
-
-		decoded.position(this.uncommittedPosition).limit(uncommittedPositionAfterDecode);
-		this.uncommittedPosition = uncommittedPositionAfterDecode;
-		this.totalRead += length;
+		decoded.position(start).limit(this.uncommittedPosition);
 		if (this.autoCommit) {
 			commit();
 		}
@@ -502,12 +954,64 @@ public final class MCDInputBuffer implements MCDBuffer {
 		int length = buffer.remaining() / Long.BYTES;
 		long[] array = new long[length];
 
-		for (int index = 0; index < length; index++) {
-			array[index] = buffer.getLong();
-		}
+		buffer.asLongBuffer().get(array);
+		buffer.position(buffer.position() + length * Long.BYTES);
 		return array;
 	}
 
+	/**
+	 * Decodes an array of {@code long} values into the given array.
+	 *
+	 * @param array the array to decode into.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public void decodeI64Array(long[] array) throws IOException {
+		decodeI64Array(array, 0, array.length);
+	}
+
+	/**
+	 * Decodes an array of {@code long} values into the given array.
+	 *
+	 * @param array the array to decode into.
+	 * @param offset the array offset to start decoding at.
+	 * @param arrayLength the number of array elements to decode.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public void decodeI64Array(long[] array, int offset, int arrayLength) throws IOException {
+		Objects.checkFromIndexSize(offset, arrayLength, array.length);
+
+		int index = feedArray(arrayLength, Long.BYTES);
+
+		for (int arrayIndex = offset; arrayIndex < offset + arrayLength; arrayIndex++) {
+			array[arrayIndex] = this.inputBuffer.getLong(index);
+			index += Long.BYTES;
+		}
+		if (this.autoCommit) {
+			commit();
+		}
+	}
+
+	/**
+	 * Decodes an array of {@code long} values into this buffer's {@linkplain ArrayView}.
+	 * <p>
+	 * The returned view is owned by this {@linkplain MCDInputBuffer} instance. It is re-used by every view decode call
+	 * and only valid until the next decode call.
+	 * </p>
+	 *
+	 * @param arrayLength the array length to decode.
+	 * @return this buffer's {@linkplain ArrayView} providing access to the decoded values.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public ArrayView decodeI64ArrayView(int arrayLength) throws IOException {
+		int start = feedArray(arrayLength, Long.BYTES);
+
+		this.arrayView.reset(this.inputBuffer, start, arrayLength);
+		if (this.autoCommit) {
+			commit();
+		}
+		return this.arrayView;
+	}
+
 	/**
 	 * Decodes the given magic qword.
 	 *
@@ -560,58 +1064,139 @@ public final class MCDInputBuffer implements MCDBuffer {
 		return decoded;
 	}
 
+	private int feedArray(int arrayLength, int elementBytes) throws IOException {
+		Check.isTrue(arrayLength >= 0);
+
+		long arraySize = (long) arrayLength * elementBytes;
+
+		if (arraySize > this.maxBufferSize) {
+			throw new IOException("Input buffer size limit exceeded: " + arraySize + "/" + this.maxBufferSize);
+		}
+
+		int length = (int) arraySize;
+
+		feedInputBuffer(length, true);
+
+		int start = this.uncommittedPosition;
+
+		this.uncommittedPosition += length;
+		this.totalRead += length;
+		return start;
+	}
+
 	private void feedInputBuffer(int length, boolean fully) throws IOException {
-		int inputBufferPosition = this.inputBuffer.position();
-		int available = inputBufferPosition - this.uncommittedPosition;
+		int available = this.inputBuffer.position() - this.uncommittedPosition;
+		FileChannel mappedChannel = this.mappedIn;
 
-		if (available < length) {
+		if (available < length && mappedChannel != null) {
+			mapInputBuffer(mappedChannel, length, fully);
+		} else if (available < length && this.direct) {
+			if (fully) {
+				throw new EOFException();
+			}
+		} else if (available < length) {
 			int unavailable = length - available;
 
+			if (this.inputBuffer.remaining() < unavailable && this.commitPosition > 0) {
+				compactInputBuffer();
+			}
 			if (this.inputBuffer.remaining() < unavailable) {
-				if (inputBufferPosition == 0) {
-					this.inputBuffer = ByteBuffer.allocate(length).order(this.inputBuffer.order());
-				} else {
-					throw new IOException("Insufficient input buffer capacity: " + this.uncommittedPosition + "/"
-							+ available + "/" + unavailable);
-				}
+				growInputBuffer((long) this.inputBuffer.position() + unavailable);
 			}
 
+			int inputBufferPosition = this.inputBuffer.position();
 			ByteBuffer buffer = this.inputBuffer.duplicate();
+			int readLimit = inputBufferPosition + unavailable;
 
-			buffer.limit(inputBufferPosition + unavailable);
-
-			int read;
+			if (this.readAhead) {
+				int capacity = this.inputBuffer.capacity();
 
-			if (fully) {
-				read = readFully(buffer);
-			} else {
-				read = readAny(buffer);
+				readLimit = Math.max(readLimit, Math.min(inputBufferPosition + this.readAheadSize, capacity));
+				this.readAheadSize = Math.min(this.readAheadSize << 1, capacity);
 			}
+			buffer.limit(readLimit);
+
+			int read = readInputBuffer(buffer, unavailable, fully);
+
 			this.inputBuffer.position(inputBufferPosition + read);
 		}
 	}
 
-	private int readFully(ByteBuffer buffer) throws IOException {
-		int read = 0;
+	private void mapInputBuffer(FileChannel mappedChannel, int length, boolean fully) throws IOException {
+		long windowPosition = this.mappedPosition + this.commitPosition;
+		long windowRequired = (long) this.uncommittedPosition - this.commitPosition + length;
+		long windowSize = Math.min(Math.max(windowRequired, MAPPED_WINDOW_SIZE), mappedChannel.size() - windowPosition);
 
-		while (buffer.hasRemaining()) {
-			int read0 = this.in.read(buffer);
+		if (windowSize < windowRequired && fully) {
+			throw new EOFException();
+		}
+		if (windowSize > this.inputBuffer.position() - this.commitPosition) {
+			ByteBuffer window = mappedChannel.map(FileChannel.MapMode.READ_ONLY, windowPosition, windowSize);
+
+			this.channelReads++;
+			this.inputBuffer = window.order(this.inputBuffer.order()).position(window.limit());
+			this.mappedPosition = windowPosition;
+			this.uncommittedPosition -= this.commitPosition;
+			this.commitPosition = 0;
+		}
+	}
 
-			if (read0 < 0) {
-				throw new EOFException();
-			}
-			read += read0;
+	private void advanceDirect(long length) throws IOException {
+		long available = (long) this.inputBuffer.position() - this.uncommittedPosition;
+		FileChannel mappedChannel = this.mappedIn;
+
+		if (length <= available) {
+			this.uncommittedPosition += (int) length;
+			this.commitPosition = this.uncommittedPosition;
+		} else if (mappedChannel != null
+				&& this.mappedPosition + this.uncommittedPosition + length <= mappedChannel.size()) {
+			this.mappedPosition += this.uncommittedPosition + length;
+			this.inputBuffer = ByteBuffer.allocate(0).order(this.inputBuffer.order());
+			this.commitPosition = 0;
+			this.uncommittedPosition = 0;
+		} else {
+			throw new EOFException();
 		}
-		return read;
 	}
 
-	private int readAny(ByteBuffer buffer) throws IOException {
+	private void growInputBuffer(long required) throws IOException {
+		if (required > this.maxBufferSize) {
+			throw new IOException("Input buffer size limit exceeded: " + required + "/" + this.maxBufferSize);
+		}
+
+		long capacity = Math.min(Math.max(this.inputBuffer.capacity(), MIN_READ_AHEAD), this.maxBufferSize);
+
+		while (capacity < required) {
+			capacity = Math.min(capacity << 1, this.maxBufferSize);
+		}
+
+		ByteBuffer grownInputBuffer = ByteBuffer.allocate((int) capacity).order(this.inputBuffer.order());
+
+		this.inputBuffer.flip();
+		grownInputBuffer.put(this.inputBuffer);
+		this.inputBuffer = grownInputBuffer;
+	}
+
+	private void compactInputBuffer() {
+		int committed = this.commitPosition;
+
+		this.inputBuffer.flip().position(committed);
+		this.inputBuffer.compact();
+		this.commitPosition = 0;
+		this.uncommittedPosition -= committed;
+	}
+
+	private int readInputBuffer(ByteBuffer buffer, int minimum, boolean fully) throws IOException {
 		int read = 0;
 
-		while (buffer.hasRemaining()) {
+		while (read < minimum) {
 			int read0 = this.in.read(buffer);
 
+			this.channelReads++;
 			if (read0 < 0) {
+				if (fully) {
+					throw new EOFException();
+				}
 				break;
 			}
 			read += read0;
@@ -619,6 +1204,35 @@ public final class MCDInputBuffer implements MCDBuffer {
 		return read;
 	}
 
+	private long channelPosition(SeekableByteChannel channel) throws IOException {
+		return channel.position() - (this.inputBuffer.position() - this.uncommittedPosition);
+	}
+
+	private void seekChannel(SeekableByteChannel channel, long position) throws IOException {
+		channel.position(position);
+		this.inputBuffer.clear();
+		this.commitPosition = 0;
+		this.uncommittedPosition = 0;
+		this.readAheadSize = MIN_READ_AHEAD;
+	}
+
+	private long passThroughBuffered(long length, PassThroughHandler handler) throws IOException {
+		int buffered = (int) Math.min(this.inputBuffer.position() - this.uncommittedPosition, length);
+
+		if (buffered > 0) {
+			ByteBuffer buffer = this.inputBuffer.duplicate();
+
+			buffer.position(this.uncommittedPosition).limit(this.uncommittedPosition + buffered);
+			while (buffer.hasRemaining()) {
+				handler.accept(buffer);
+			}
+			this.uncommittedPosition += buffered;
+			this.commitPosition = this.uncommittedPosition;
+		}
+		this.readAheadSize = MIN_READ_AHEAD;
+		return length - buffered;
+	}
+
 	private void passThrough(long length, PassThroughHandler handler) throws IOException {
 		ByteBuffer readBuffer = ByteBuffer.allocate(Defaults.DEFAULT_BUFFER_SIZE);
 		long remaining = length;
@@ -630,6 +1244,7 @@ public final class MCDInputBuffer implements MCDBuffer {
 
 			int read = this.in.read(readBuffer);
 
+			this.channelReads++;
 			if (read < 0) {
 				throw new EOFException();
 			}
@@ -637,14 +1252,88 @@ public final class MCDInputBuffer implements MCDBuffer {
 			while (readBuffer.hasRemaining()) {
 				handler.accept(readBuffer);
 			}
-			remaining -= readLimit;
+			remaining -= read;
 		}
 	}
 
 	@Override
 	public @NonNull String toString() {
 		return "commit: " + this.commitPosition + "; uncommitted: " + this.uncommittedPosition + "; total: "
-				+ this.totalRead;
+				+ this.totalRead + "; channel reads: " + this.channelReads;
+	}
+
+	/**
+	 * Re-usable view on an array of decoded values.
+	 * <p>
+	 * The view's elements are accessed directly from the underlying {@linkplain MCDInputBuffer} without any copying.
+	 * The {@code get} function to use must match the element type the view has been decoded with.
+	 * </p>
+	 */
+	public static final class ArrayView {
+
+		private ByteBuffer buffer = ByteBuffer.allocate(0);
+		private int start = 0;
+		private int length = 0;
+
+		ArrayView() {
+			// Prevent instantiation outside MCDInputBuffer
+		}
+
+		void reset(ByteBuffer viewBuffer, int viewStart, int viewLength) {
+			this.buffer = viewBuffer;
+			this.start = viewStart;
+			this.length = viewLength;
+		}
+
+		/**
+		 * Gets the number of elements in this view.
+		 *
+		 * @return the number of elements in this view.
+		 */
+		public int length() {
+			return this.length;
+		}
+
+		/**
+		 * Gets a {@code byte} element.
+		 *
+		 * @param index the index of the element to get.
+		 * @return the element value.
+		 */
+		public byte getI8(int index) {
+			return this.buffer.get(this.start + Objects.checkIndex(index, this.length) * Byte.BYTES);
+		}
+
+		/**
+		 * Gets a {@code short} element.
+		 *
+		 * @param index the index of the element to get.
+		 * @return the element value.
+		 */
+		public short getI16(int index) {
+			return this.buffer.getShort(this.start + Objects.checkIndex(index, this.length) * Short.BYTES);
+		}
+
+		/**
+		 * Gets an {@code int} element.
+		 *
+		 * @param index the index of the element to get.
+		 * @return the element value.
+		 */
+		public int getI32(int index) {
+			return this.buffer.getInt(this.start + Objects.checkIndex(index, this.length) * Integer.BYTES);
+		}
+
+		/**
+		 * Gets a {@code long} element.
+		 *
+		 * @param index the index of the element to get.
+		 * @return the element value.
+		 */
+		public long getI64(int index) {
+			return this.buffer.getLong(this.start + Objects.checkIndex(index, this.length) * Long.BYTES);
+		}
+
 	}
 
 	@FunctionalInterface
@@ -655,15 +1344,11 @@ public final class MCDInputBuffer implements MCDBuffer {
 	}
 
 	@SuppressWarnings({ "null" })
-	private SeekableByteChannel allocateSliceChannel() throws IOException {
+	private SeekableByteChannel allocateSliceChannel() {
 		SeekableByteChannel channel;
 
 		if (this.sliceCount == 0) {
-			Path tempDir = FileUtil.tmpDir();
-			Path channelPath = Files.createTempFile(tempDir, null, null, FileAttributes.userFileDefault(tempDir));
-
-			channel = this.sliceChannel = Files.newByteChannel(channelPath, StandardOpenOption.READ,
-					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DELETE_ON_CLOSE);
+			channel = this.sliceChannel = new SpoolChannel(this.spoolThreshold);
 		} else {
 			channel = this.sliceChannel;
 		}
@@ -673,13 +1358,85 @@ public final class MCDInputBuffer implements MCDBuffer {
 
 	@SuppressWarnings({ "null" })
 	private void releaseSliceChannel() throws IOException {
-		this.sliceCount++;
+		this.sliceCount--;
 		if (this.sliceCount == 0) {
 			this.sliceChannel.close();
 			this.sliceChannel = null;
 		}
 	}
 
+	private static class BufferChannel implements SeekableByteChannel {
+
+		private final ByteBuffer buffer;
+		private boolean open = true;
+
+		BufferChannel(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return this.open;
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.open = false;
+		}
+
+		@Override
+		public int read(@Nullable ByteBuffer dst) throws IOException {
+			Objects.requireNonNull(dst);
+
+			int readLimit = Math.min(this.buffer.remaining(), dst.remaining());
+			int read = -1;
+
+			if (readLimit > 0) {
+				ByteBuffer limitedSrc = this.buffer.duplicate();
+
+				limitedSrc.limit(limitedSrc.position() + readLimit);
+				dst.put(limitedSrc);
+				this.buffer.position(limitedSrc.position());
+				read = readLimit;
+			} else if (this.buffer.hasRemaining()) {
+				read = 0;
+			}
+			return read;
+		}
+
+		@Override
+		public int write(@Nullable ByteBuffer src) throws IOException {
+			throw new NonWritableChannelException();
+		}
+
+		@Override
+		public long position() throws IOException {
+			return this.buffer.position();
+		}
+
+		@Override
+		public SeekableByteChannel position(long newPosition) throws IOException {
+			Check.isTrue(newPosition >= 0);
+
+			if (newPosition > this.buffer.limit()) {
+				throw new NonWritableChannelException();
+			}
+			this.buffer.position((int) newPosition);
+			return this;
+		}
+
+		@Override
+		public long size() throws IOException {
+			return this.buffer.limit();
+		}
+
+		@Override
+		public SeekableByteChannel truncate(long size) throws IOException {
+			throw new NonWritableChannelException();
+		}
+
+	}
+
 	@FunctionalInterface
 	private interface CloseSliceChannelHandler {
 
@@ -694,6 +1451,7 @@ public final class MCDInputBuffer implements MCDBuffer {
 		private final long length;
 		private final CloseSliceChannelHandler closeHandler;
 		private long position = 0;
+		private boolean open = true;
 
 		SlicedChannel(SeekableByteChannel channel, long start, long length) {
 			this(channel, start, length, () -> {
@@ -710,12 +1468,15 @@ public final class MCDInputBuffer implements MCDBuffer {
 
 		@Override
 		public boolean isOpen() {
-			return this.channel.isOpen();
+			return this.open && this.channel.isOpen();
 		}
 
 		@Override
 		public void close() throws IOException {
-			this.closeHandler.close();
+			if (this.open) {
+				this.open = false;
+				this.closeHandler.close();
+			}
 		}
 
 		@Override
@@ -729,8 +1490,13 @@ public final class MCDInputBuffer implements MCDBuffer {
 				ByteBuffer limitedDst = dst.duplicate();
 
 				limitedDst.limit(limitedDst.position() + readLimit);
-				this.channel.position(this.start + this.position);
-				read = this.channel.read(limitedDst);
+				if (this.channel instanceof FileChannel) {
+					// Positional read leaves the shared channel's position untouched
+					read = ((FileChannel) this.channel).read(limitedDst, this.start + this.position);
+				} else {
+					this.channel.position(this.start + this.position);
+					read = this.channel.read(limitedDst);
+				}
 				if (read > 0) {
 					dst.position(dst.position() + read);
 					this.position += read;
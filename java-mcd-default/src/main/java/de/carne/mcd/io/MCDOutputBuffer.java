@@ -18,7 +18,10 @@ package de.carne.mcd.io;
 
 import java.io.IOException;
 
+import org.eclipse.jdt.annotation.Nullable;
+
 import de.carne.mcd.MCDOutput;
+import de.carne.util.Strings;
 
 /**
  * A buffered {@linkplain MCDOutput} implementation.
@@ -26,6 +29,7 @@ import de.carne.mcd.MCDOutput;
 public class MCDOutputBuffer implements MCDOutput, MCDBuffer {
 
 	private final MCDOutput out;
+	private final boolean discarding;
 	private final MCDPrintBuffer buffer = new MCDPrintBuffer();
 	private boolean autoCommit = true;
 
@@ -35,7 +39,36 @@ public class MCDOutputBuffer implements MCDOutput, MCDBuffer {
 	 * @param out the {@linkplain MCDOutput} to emit the decoded data to.
 	 */
 	public MCDOutputBuffer(MCDOutput out) {
+		this(out, false);
+	}
+
+	private MCDOutputBuffer(MCDOutput out, boolean discarding) {
 		this.out = out;
+		this.discarding = discarding;
+	}
+
+	/**
+	 * Creates a {@linkplain MCDOutputBuffer} instance which discards all data on commit.
+	 * <p>
+	 * A discarding buffer is used whenever decoding is performed for structural information only (see
+	 * {@linkplain de.carne.mcd.DecodedInstructionSink}). Decoders may check {@linkplain #isDiscarding()} to skip any
+	 * text formatting.
+	 * </p>
+	 *
+	 * @return the created {@linkplain MCDOutputBuffer} instance.
+	 */
+	public static MCDOutputBuffer discarding() {
+		return new MCDOutputBuffer(new MCDPrintBuffer(), true);
+	}
+
+	/**
+	 * Checks whether this {@linkplain MCDOutputBuffer} instance discards all data on commit.
+	 *
+	 * @return {@code true} if this {@linkplain MCDOutputBuffer} instance discards all data on commit.
+	 * @see #discarding()
+	 */
+	public boolean isDiscarding() {
+		return this.discarding;
 	}
 
 	@Override
@@ -53,24 +86,45 @@ public class MCDOutputBuffer implements MCDOutput, MCDBuffer {
 
 	@Override
 	public void commit() throws IOException {
-		this.buffer.printTo(this.out);
+		if (!this.discarding) {
+			this.buffer.printTo(this.out);
+		}
 		this.buffer.clear();
 	}
 
-	@Override
-	public MCDOutput increaseIndent() throws IOException {
-		this.buffer.increaseIndent();
+	/*
+	 * In auto commit mode every call is committed immediately. Hence as long as nothing is pending, the call can be
+	 * forwarded to the downstream output directly instead of being buffered and replayed on commit.
+	 */
+	private boolean isDirect(@Nullable String argument) {
+		return this.autoCommit && !this.discarding && (argument == null || !Strings.isEmpty(argument))
+				&& this.buffer.isEmtpy();
+	}
+
+	private void checkAutoCommit() throws IOException {
 		if (this.autoCommit) {
 			commit();
 		}
+	}
+
+	@Override
+	public MCDOutput increaseIndent() throws IOException {
+		if (isDirect(null)) {
+			this.out.increaseIndent();
+		} else {
+			this.buffer.increaseIndent();
+			checkAutoCommit();
+		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput decreaseIndent() throws IOException {
-		this.buffer.decreaseIndent();
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(null)) {
+			this.out.decreaseIndent();
+		} else {
+			this.buffer.decreaseIndent();
+			checkAutoCommit();
 		}
 		return this;
 	}
@@ -83,126 +137,154 @@ public class MCDOutputBuffer implements MCDOutput, MCDBuffer {
 
 	@Override
 	public MCDOutput print(String text) throws IOException {
-		this.buffer.print(text);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(text)) {
+			this.out.print(text);
+		} else {
+			this.buffer.print(text);
+			checkAutoCommit();
 		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput println(String text) throws IOException {
-		this.buffer.println(text);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(text)) {
+			this.out.println(text);
+		} else {
+			this.buffer.println(text);
+			checkAutoCommit();
 		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput printValue(String value) throws IOException {
-		this.buffer.printValue(value);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(value)) {
+			this.out.printValue(value);
+		} else {
+			this.buffer.printValue(value);
+			checkAutoCommit();
 		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput printlnValue(String value) throws IOException {
-		this.buffer.printlnValue(value);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(value)) {
+			this.out.printlnValue(value);
+		} else {
+			this.buffer.printlnValue(value);
+			checkAutoCommit();
 		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput printComment(String comment) throws IOException {
-		this.buffer.printComment(comment);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(comment)) {
+			this.out.printComment(comment);
+		} else {
+			this.buffer.printComment(comment);
+			checkAutoCommit();
 		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput printlnComment(String comment) throws IOException {
-		this.buffer.printlnComment(comment);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(comment)) {
+			this.out.printlnComment(comment);
+		} else {
+			this.buffer.printlnComment(comment);
+			checkAutoCommit();
 		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput printKeyword(String keyword) throws IOException {
-		this.buffer.printKeyword(keyword);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(keyword)) {
+			this.out.printKeyword(keyword);
+		} else {
+			this.buffer.printKeyword(keyword);
+			checkAutoCommit();
 		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput printlnKeyword(String keyword) throws IOException {
-		this.buffer.printlnKeyword(keyword);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(keyword)) {
+			this.out.printlnKeyword(keyword);
+		} else {
+			this.buffer.printlnKeyword(keyword);
+			checkAutoCommit();
 		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput printOperator(String operator) throws IOException {
-		this.buffer.printOperator(operator);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(operator)) {
+			this.out.printOperator(operator);
+		} else {
+			this.buffer.printOperator(operator);
+			checkAutoCommit();
 		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput printlnOperator(String operator) throws IOException {
-		this.buffer.printlnOperator(operator);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(operator)) {
+			this.out.printlnOperator(operator);
+		} else {
+			this.buffer.printlnOperator(operator);
+			checkAutoCommit();
 		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput printLabel(String label) throws IOException {
-		this.buffer.printLabel(label);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(label)) {
+			this.out.printLabel(label);
+		} else {
+			this.buffer.printLabel(label);
+			checkAutoCommit();
 		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput printlnLabel(String label) throws IOException {
-		this.buffer.printlnLabel(label);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(label)) {
+			this.out.printlnLabel(label);
+		} else {
+			this.buffer.printlnLabel(label);
+			checkAutoCommit();
 		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput printError(String error) throws IOException {
-		this.buffer.printError(error);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(error)) {
+			this.out.printError(error);
+		} else {
+			this.buffer.printError(error);
+			checkAutoCommit();
 		}
 		return this;
 	}
 
 	@Override
 	public MCDOutput printlnError(String error) throws IOException {
-		this.buffer.printlnError(error);
-		if (this.autoCommit) {
-			commit();
+		if (isDirect(error)) {
+			this.out.printlnError(error);
+		} else {
+			this.buffer.printlnError(error);
+			checkAutoCommit();
 		}
 		return this;
 	}
@@ -18,8 +18,7 @@ package de.carne.mcd.io;
 
 import java.io.IOException;
 import java.io.StringWriter;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.Arrays;
 
 import de.carne.mcd.MCDOutput;
 import de.carne.mcd.PlainMCDOutput;
@@ -28,10 +27,37 @@ import de.carne.util.Strings;
 
 /**
  * Utility class used for queuing {@linkplain MCDOutput} commands.
+ * <p>
+ * Queued commands are stored in parallel arrays (command kind and argument) which are re-used after
+ * {@linkplain #clear()}. Hence queuing and printing commands does not allocate any memory once the arrays have grown
+ * to the required size.
+ * </p>
  */
 public final class MCDPrintBuffer implements MCDOutput {
 
-	private final Deque<Entry> buffer = new LinkedList<>();
+	private static final byte INCREASE_INDENT = 0;
+	private static final byte DECREASE_INDENT = 1;
+	private static final byte PRINTLN = 2;
+	private static final byte PRINT_TEXT = 3;
+	private static final byte PRINTLN_TEXT = 4;
+	private static final byte PRINT_VALUE = 5;
+	private static final byte PRINTLN_VALUE = 6;
+	private static final byte PRINT_COMMENT = 7;
+	private static final byte PRINTLN_COMMENT = 8;
+	private static final byte PRINT_KEYWORD = 9;
+	private static final byte PRINTLN_KEYWORD = 10;
+	private static final byte PRINT_OPERATOR = 11;
+	private static final byte PRINTLN_OPERATOR = 12;
+	private static final byte PRINT_LABEL = 13;
+	private static final byte PRINTLN_LABEL = 14;
+	private static final byte PRINT_ERROR = 15;
+	private static final byte PRINTLN_ERROR = 16;
+
+	private static final int INITIAL_CAPACITY = 32;
+
+	private byte[] kinds = new byte[INITIAL_CAPACITY];
+	private String[] arguments = new String[INITIAL_CAPACITY];
+	private int size = 0;
 
 	/**
 	 * Checks whether this buffer instance is empty or not:
@@ -39,14 +65,14 @@ public final class MCDPrintBuffer implements MCDOutput {
 	 * @return {@code true} if this buffer instance is empty (generates no output).
 	 */
 	public boolean isEmtpy() {
-		return this.buffer.isEmpty();
+		return this.size == 0;
 	}
 
 	/**
 	 * Clears this buffer instance.
 	 */
 	public void clear() {
-		this.buffer.clear();
+		this.size = 0;
 	}
 
 	/**
@@ -56,33 +82,105 @@ public final class MCDPrintBuffer implements MCDOutput {
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public void printTo(MCDOutput out) throws IOException {
-		for (Entry entry : this.buffer) {
-			entry.run(out);
+		byte[] printKinds = this.kinds;
+		String[] printArguments = this.arguments;
+		int printSize = this.size;
+
+		for (int printIndex = 0; printIndex < printSize; printIndex++) {
+			String argument = printArguments[printIndex];
+
+			switch (printKinds[printIndex]) {
+			case INCREASE_INDENT:
+				out.increaseIndent();
+				break;
+			case DECREASE_INDENT:
+				out.decreaseIndent();
+				break;
+			case PRINTLN:
+				out.println();
+				break;
+			case PRINT_TEXT:
+				out.print(argument);
+				break;
+			case PRINTLN_TEXT:
+				out.println(argument);
+				break;
+			case PRINT_VALUE:
+				out.printValue(argument);
+				break;
+			case PRINTLN_VALUE:
+				out.printlnValue(argument);
+				break;
+			case PRINT_COMMENT:
+				out.printComment(argument);
+				break;
+			case PRINTLN_COMMENT:
+				out.printlnComment(argument);
+				break;
+			case PRINT_KEYWORD:
+				out.printKeyword(argument);
+				break;
+			case PRINTLN_KEYWORD:
+				out.printlnKeyword(argument);
+				break;
+			case PRINT_OPERATOR:
+				out.printOperator(argument);
+				break;
+			case PRINTLN_OPERATOR:
+				out.printlnOperator(argument);
+				break;
+			case PRINT_LABEL:
+				out.printLabel(argument);
+				break;
+			case PRINTLN_LABEL:
+				out.printlnLabel(argument);
+				break;
+			case PRINT_ERROR:
+				out.printError(argument);
+				break;
+			case PRINTLN_ERROR:
+				out.printlnError(argument);
+				break;
+			default:
+				throw new IllegalStateException("Unexpected print buffer entry: " + printKinds[printIndex]);
+			}
+		}
+	}
+
+	private void add(byte kind, String argument) {
+		if (this.size == this.kinds.length) {
+			int capacity = this.size * 2;
+
+			this.kinds = Arrays.copyOf(this.kinds, capacity);
+			this.arguments = Arrays.copyOf(this.arguments, capacity);
 		}
+		this.kinds[this.size] = kind;
+		this.arguments[this.size] = argument;
+		this.size++;
 	}
 
 	@Override
 	public MCDPrintBuffer increaseIndent() throws IOException {
-		this.buffer.add(MCDOutput::increaseIndent);
+		add(INCREASE_INDENT, "");
 		return this;
 	}
 
 	@Override
 	public MCDPrintBuffer decreaseIndent() throws IOException {
-		this.buffer.add(MCDOutput::decreaseIndent);
+		add(DECREASE_INDENT, "");
 		return this;
 	}
 
 	@Override
 	public MCDPrintBuffer println() throws IOException {
-		this.buffer.add(MCDOutput::println);
+		add(PRINTLN, "");
 		return this;
 	}
 
 	@Override
 	public MCDPrintBuffer print(String text) throws IOException {
 		if (!Strings.isEmpty(text)) {
-			this.buffer.add(out -> out.print(text));
+			add(PRINT_TEXT, text);
 		}
 		return this;
 	}
@@ -90,9 +188,9 @@ public final class MCDPrintBuffer implements MCDOutput {
 	@Override
 	public MCDPrintBuffer println(String text) throws IOException {
 		if (!Strings.isEmpty(text)) {
-			this.buffer.add(out -> out.println(text));
+			add(PRINTLN_TEXT, text);
 		} else {
-			this.buffer.add(MCDOutput::println);
+			add(PRINTLN, "");
 		}
 		return this;
 	}
@@ -100,7 +198,7 @@ public final class MCDPrintBuffer implements MCDOutput {
 	@Override
 	public MCDPrintBuffer printValue(String value) throws IOException {
 		if (!Strings.isEmpty(value)) {
-			this.buffer.add(out -> out.printValue(value));
+			add(PRINT_VALUE, value);
 		}
 		return this;
 	}
@@ -108,9 +206,9 @@ public final class MCDPrintBuffer implements MCDOutput {
 	@Override
 	public MCDPrintBuffer printlnValue(String value) throws IOException {
 		if (!Strings.isEmpty(value)) {
-			this.buffer.add(out -> out.printlnValue(value));
+			add(PRINTLN_VALUE, value);
 		} else {
-			this.buffer.add(MCDOutput::println);
+			add(PRINTLN, "");
 		}
 		return this;
 	}
@@ -118,7 +216,7 @@ public final class MCDPrintBuffer implements MCDOutput {
 	@Override
 	public MCDPrintBuffer printComment(String comment) throws IOException {
 		if (!Strings.isEmpty(comment)) {
-			this.buffer.add(out -> out.printComment(comment));
+			add(PRINT_COMMENT, comment);
 		}
 		return this;
 	}
@@ -126,9 +224,9 @@ public final class MCDPrintBuffer implements MCDOutput {
 	@Override
 	public MCDPrintBuffer printlnComment(String comment) throws IOException {
 		if (!Strings.isEmpty(comment)) {
-			this.buffer.add(out -> out.printlnComment(comment));
+			add(PRINTLN_COMMENT, comment);
 		} else {
-			this.buffer.add(MCDOutput::println);
+			add(PRINTLN, "");
 		}
 		return this;
 	}
@@ -136,7 +234,7 @@ public final class MCDPrintBuffer implements MCDOutput {
 	@Override
 	public MCDPrintBuffer printKeyword(String keyword) throws IOException {
 		if (!Strings.isEmpty(keyword)) {
-			this.buffer.add(out -> out.printKeyword(keyword));
+			add(PRINT_KEYWORD, keyword);
 		}
 		return this;
 	}
@@ -144,9 +242,9 @@ public final class MCDPrintBuffer implements MCDOutput {
 	@Override
 	public MCDPrintBuffer printlnKeyword(String keyword) throws IOException {
 		if (!Strings.isEmpty(keyword)) {
-			this.buffer.add(out -> out.printlnKeyword(keyword));
+			add(PRINTLN_KEYWORD, keyword);
 		} else {
-			this.buffer.add(MCDOutput::println);
+			add(PRINTLN, "");
 		}
 		return this;
 	}
@@ -154,7 +252,7 @@ public final class MCDPrintBuffer implements MCDOutput {
 	@Override
 	public MCDPrintBuffer printOperator(String operator) throws IOException {
 		if (!Strings.isEmpty(operator)) {
-			this.buffer.add(out -> out.printOperator(operator));
+			add(PRINT_OPERATOR, operator);
 		}
 		return this;
 	}
@@ -162,9 +260,9 @@ public final class MCDPrintBuffer implements MCDOutput {
 	@Override
 	public MCDPrintBuffer printlnOperator(String operator) throws IOException {
 		if (!Strings.isEmpty(operator)) {
-			this.buffer.add(out -> out.printlnOperator(operator));
+			add(PRINTLN_OPERATOR, operator);
 		} else {
-			this.buffer.add(MCDOutput::println);
+			add(PRINTLN, "");
 		}
 		return this;
 	}
@@ -172,7 +270,7 @@ public final class MCDPrintBuffer implements MCDOutput {
 	@Override
 	public MCDPrintBuffer printLabel(String label) throws IOException {
 		if (!Strings.isEmpty(label)) {
-			this.buffer.add(out -> out.printLabel(label));
+			add(PRINT_LABEL, label);
 		}
 		return this;
 	}
@@ -180,9 +278,9 @@ public final class MCDPrintBuffer implements MCDOutput {
 	@Override
 	public MCDPrintBuffer printlnLabel(String label) throws IOException {
 		if (!Strings.isEmpty(label)) {
-			this.buffer.add(out -> out.printlnLabel(label));
+			add(PRINTLN_LABEL, label);
 		} else {
-			this.buffer.add(MCDOutput::println);
+			add(PRINTLN, "");
 		}
 		return this;
 	}
@@ -190,7 +288,7 @@ public final class MCDPrintBuffer implements MCDOutput {
 	@Override
 	public MCDPrintBuffer printError(String error) throws IOException {
 		if (!Strings.isEmpty(error)) {
-			this.buffer.add(out -> out.printError(error));
+			add(PRINT_ERROR, error);
 		}
 		return this;
 	}
@@ -198,9 +296,9 @@ public final class MCDPrintBuffer implements MCDOutput {
 	@Override
 	public MCDPrintBuffer printlnError(String error) throws IOException {
 		if (!Strings.isEmpty(error)) {
-			this.buffer.add(out -> out.printlnError(error));
+			add(PRINTLN_ERROR, error);
 		} else {
-			this.buffer.add(MCDOutput::println);
+			add(PRINTLN, "");
 		}
 		return this;
 	}
@@ -217,11 +315,4 @@ public final class MCDPrintBuffer implements MCDOutput {
 		return stringWriter.toString();
 	}
 
-	@FunctionalInterface
-	private interface Entry {
-
-		void run(MCDOutput out) throws IOException;
-
-	}
-
 }
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import de.carne.util.Check;
+
+/**
+ * Process wide cache of frequently emitted output tokens (mnemonics, register names, keywords and punctuation).
+ * <p>
+ * Every registered token is assigned an id which stays stable for the lifetime of the process and is stored together
+ * with its pre-encoded UTF-8 representation. {@linkplain de.carne.mcd.MCDOutput} implementations can use this cache to
+ * copy the pre-encoded bytes instead of encoding the same strings over and over again. Lookups are lock-free;
+ * registration is synchronized and typically happens during class initialization of the decoders.
+ * </p>
+ * <p>
+ * As registered tokens are never evicted, registration is meant for the fixed token set of a decoder only and not for
+ * any data dependent text. The cache is bounded by {@linkplain #MAX_SIZE}; once it is full, further registrations are
+ * ignored.
+ * </p>
+ */
+public final class MCDTokenCache {
+
+	private MCDTokenCache() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Id returned for tokens not registered in the cache.
+	 */
+	public static final int NO_TOKEN = -1;
+
+	/**
+	 * The maximum number of tokens the process wide cache accepts.
+	 */
+	public static final int MAX_SIZE = 64 * 1024;
+
+	private static final Registry REGISTRY = new Registry(MAX_SIZE);
+
+	/**
+	 * Id of the pre-registered token "[".
+	 */
+	public static final int LEFT_BRACKET = register("[");
+
+	/**
+	 * Id of the pre-registered token "]".
+	 */
+	public static final int RIGHT_BRACKET = register("]");
+
+	/**
+	 * Id of the pre-registered token ",".
+	 */
+	public static final int COMMA = register(",");
+
+	/**
+	 * Id of the pre-registered token ", ".
+	 */
+	public static final int COMMA_SPACE = register(", ");
+
+	/**
+	 * Id of the pre-registered token " ".
+	 */
+	public static final int SPACE = register(" ");
+
+	/**
+	 * Registers a token.
+	 * <p>
+	 * Registering an already registered token returns the token's existing id.
+	 * </p>
+	 *
+	 * @param token the token to register.
+	 * @return the token's id or {@linkplain #NO_TOKEN} if the cache is full.
+	 */
+	public static int register(String token) {
+		return REGISTRY.register(token);
+	}
+
+	/**
+	 * Registers multiple tokens.
+	 *
+	 * @param tokens the tokens to register.
+	 * @see #register(String)
+	 */
+	public static void registerAll(String... tokens) {
+		REGISTRY.registerAll(tokens);
+	}
+
+	/**
+	 * Looks up the id of a token.
+	 *
+	 * @param token the token to look up.
+	 * @return the token's id or {@linkplain #NO_TOKEN} if the token has not been registered.
+	 */
+	public static int id(String token) {
+		return REGISTRY.id(token);
+	}
+
+	/**
+	 * Gets the number of registered tokens.
+	 *
+	 * @return the number of registered tokens.
+	 */
+	public static int size() {
+		return REGISTRY.size();
+	}
+
+	/**
+	 * Gets the text of a registered token.
+	 *
+	 * @param id the id of the token to get.
+	 * @return the token's text.
+	 */
+	public static String text(int id) {
+		return REGISTRY.text(id);
+	}
+
+	/**
+	 * Gets the pre-encoded UTF-8 bytes of a registered token.
+	 * <p>
+	 * The returned array is shared and must not be modified by the caller.
+	 * </p>
+	 *
+	 * @param id the id of the token to get.
+	 * @return the token's UTF-8 bytes.
+	 */
+	public static byte[] utf8Bytes(int id) {
+		return REGISTRY.utf8Bytes(id);
+	}
+
+	/**
+	 * Bounded token registry backing the process wide cache.
+	 * <p>
+	 * Separate instances are independent of the process wide cache (e.g. for testing purposes).
+	 * </p>
+	 */
+	public static final class Registry {
+
+		private static final int INITIAL_CAPACITY = 256;
+
+		private final int maxSize;
+		private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+		private volatile String[] texts = new String[0];
+		private volatile byte[][] utf8Bytes = new byte[0][];
+		private volatile int size = 0;
+
+		/**
+		 * Constructs a new {@linkplain Registry} instance.
+		 *
+		 * @param maxSize the maximum number of tokens to accept.
+		 */
+		public Registry(int maxSize) {
+			Check.isTrue(maxSize >= 0);
+
+			this.maxSize = maxSize;
+		}
+
+		/**
+		 * Registers a token.
+		 *
+		 * @param token the token to register.
+		 * @return the token's id or {@linkplain MCDTokenCache#NO_TOKEN} if this registry is full.
+		 * @see MCDTokenCache#register(String)
+		 */
+		public int register(String token) {
+			Integer id = this.ids.get(token);
+
+			return (id != null ? id.intValue() : register0(token));
+		}
+
+		/**
+		 * Registers multiple tokens.
+		 *
+		 * @param tokens the tokens to register.
+		 * @see MCDTokenCache#registerAll(String...)
+		 */
+		public void registerAll(String... tokens) {
+			for (String token : tokens) {
+				register(token);
+			}
+		}
+
+		private synchronized int register0(String token) {
+			Integer id = this.ids.get(token);
+			int registeredId = NO_TOKEN;
+
+			if (id != null) {
+				registeredId = id.intValue();
+			} else if (this.size < this.maxSize) {
+				int newId = this.size;
+				String[] newTexts = this.texts;
+				byte[][] newUtf8Bytes = this.utf8Bytes;
+
+				if (newId == newTexts.length) {
+					int capacity = Math.min(Math.max(INITIAL_CAPACITY, newTexts.length << 1), this.maxSize);
+
+					newTexts = Arrays.copyOf(newTexts, capacity);
+					newUtf8Bytes = Arrays.copyOf(newUtf8Bytes, capacity);
+				}
+				newTexts[newId] = token;
+				newUtf8Bytes[newId] = token.getBytes(StandardCharsets.UTF_8);
+				// Publish the arrays and the size before the id becomes visible to lookups
+				this.utf8Bytes = newUtf8Bytes;
+				this.texts = newTexts;
+				this.size = newId + 1;
+				this.ids.put(token, newId);
+				registeredId = newId;
+			}
+			return registeredId;
+		}
+
+		/**
+		 * Looks up the id of a token.
+		 *
+		 * @param token the token to look up.
+		 * @return the token's id or {@linkplain MCDTokenCache#NO_TOKEN} if the token has not been registered.
+		 */
+		public int id(String token) {
+			Integer id = this.ids.get(token);
+
+			return (id != null ? id.intValue() : NO_TOKEN);
+		}
+
+		/**
+		 * Gets the number of registered tokens.
+		 *
+		 * @return the number of registered tokens.
+		 */
+		public int size() {
+			return this.size;
+		}
+
+		/**
+		 * Gets the text of a registered token.
+		 *
+		 * @param id the id of the token to get.
+		 * @return the token's text.
+		 */
+		public String text(int id) {
+			Check.isTrue(0 <= id && id < this.size);
+
+			return this.texts[id];
+		}
+
+		/**
+		 * Gets the pre-encoded UTF-8 bytes of a registered token.
+		 * <p>
+		 * The returned array is shared and must not be modified by the caller.
+		 * </p>
+		 *
+		 * @param id the id of the token to get.
+		 * @return the token's UTF-8 bytes.
+		 */
+		public byte[] utf8Bytes(int id) {
+			Check.isTrue(0 <= id && id < this.size);
+
+			return this.utf8Bytes[id];
+		}
+
+	}
+
+}
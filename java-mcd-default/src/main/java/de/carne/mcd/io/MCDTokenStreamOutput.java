@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import de.carne.mcd.MCDOutput;
+
+/**
+ * {@linkplain MCDOutput} implementation which serializes the emitted token stream into a compact binary format.
+ * <p>
+ * Every call is recorded as a single op byte optionally followed by a string reference. Short strings are interned in
+ * a per stream string table on first use and afterwards referenced by their table index. The recorded stream can be
+ * replayed into any other {@linkplain MCDOutput} using a {@linkplain MCDTokenStreamReader}.
+ * </p>
+ */
+public class MCDTokenStreamOutput implements MCDOutput, Closeable, Flushable {
+
+	static final byte[] MAGIC = { 'M', 'C', 'D', 'T' };
+	static final int VERSION = 1;
+
+	static final byte OP_INCREASE_INDENT = 0;
+	static final byte OP_DECREASE_INDENT = 1;
+	static final byte OP_PRINTLN = 2;
+	static final byte OP_PRINT_TEXT = 3;
+	static final byte OP_PRINTLN_TEXT = 4;
+	static final byte OP_PRINT_VALUE = 5;
+	static final byte OP_PRINTLN_VALUE = 6;
+	static final byte OP_PRINT_COMMENT = 7;
+	static final byte OP_PRINTLN_COMMENT = 8;
+	static final byte OP_PRINT_KEYWORD = 9;
+	static final byte OP_PRINTLN_KEYWORD = 10;
+	static final byte OP_PRINT_OPERATOR = 11;
+	static final byte OP_PRINTLN_OPERATOR = 12;
+	static final byte OP_PRINT_LABEL = 13;
+	static final byte OP_PRINTLN_LABEL = 14;
+	static final byte OP_PRINT_ERROR = 15;
+	static final byte OP_PRINTLN_ERROR = 16;
+
+	static final int STRING_REFERENCE = 0;
+	static final int STRING_DEFINITION = 1;
+	static final int STRING_LITERAL = 2;
+	static final int STRING_TAG_BITS = 2;
+	static final int STRING_TAG_MASK = 0x3;
+
+	static final int MAX_INTERN_LENGTH = 64;
+	static final int MAX_STRING_TABLE_SIZE = 64 * 1024;
+
+	private static final int BUFFER_SIZE = 8 * 1024;
+
+	private final OutputStream out;
+	private final boolean autoClose;
+	private final Map<String, Integer> stringTable = new HashMap<>();
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+	private int bufferLength = 0;
+	private boolean closed = false;
+
+	/**
+	 * Constructs a new {@linkplain MCDTokenStreamOutput} instance.
+	 *
+	 * @param out the {@linkplain OutputStream} to write the token stream to.
+	 * @param autoClose whether to automatically close the {@linkplain OutputStream} when this output is closed.
+	 * @throws IOException if an I/O error occurs while writing the stream header.
+	 */
+	public MCDTokenStreamOutput(OutputStream out, boolean autoClose) throws IOException {
+		this.out = out;
+		this.autoClose = autoClose;
+		for (byte magicByte : MAGIC) {
+			putByte(magicByte);
+		}
+		putByte(VERSION);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		ensureNotClosed();
+		writeBuffer();
+		this.out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!this.closed) {
+			try {
+				writeBuffer();
+			} finally {
+				this.closed = true;
+				if (this.autoClose) {
+					this.out.close();
+				} else {
+					this.out.flush();
+				}
+			}
+		}
+	}
+
+	@Override
+	public @NonNull MCDOutput increaseIndent() throws IOException {
+		return putOp(OP_INCREASE_INDENT);
+	}
+
+	@Override
+	public @NonNull MCDOutput decreaseIndent() throws IOException {
+		return putOp(OP_DECREASE_INDENT);
+	}
+
+	@Override
+	public MCDOutput println() throws IOException {
+		return putOp(OP_PRINTLN);
+	}
+
+	@Override
+	public MCDOutput print(String text) throws IOException {
+		return putOp(OP_PRINT_TEXT, text);
+	}
+
+	@Override
+	public MCDOutput println(String text) throws IOException {
+		return putOp(OP_PRINTLN_TEXT, text);
+	}
+
+	@Override
+	public MCDOutput printValue(String value) throws IOException {
+		return putOp(OP_PRINT_VALUE, value);
+	}
+
+	@Override
+	public MCDOutput printlnValue(String value) throws IOException {
+		return putOp(OP_PRINTLN_VALUE, value);
+	}
+
+	@Override
+	public MCDOutput printComment(String comment) throws IOException {
+		return putOp(OP_PRINT_COMMENT, comment);
+	}
+
+	@Override
+	public MCDOutput printlnComment(String comment) throws IOException {
+		return putOp(OP_PRINTLN_COMMENT, comment);
+	}
+
+	@Override
+	public MCDOutput printKeyword(String keyword) throws IOException {
+		return putOp(OP_PRINT_KEYWORD, keyword);
+	}
+
+	@Override
+	public MCDOutput printlnKeyword(String keyword) throws IOException {
+		return putOp(OP_PRINTLN_KEYWORD, keyword);
+	}
+
+	@Override
+	public MCDOutput printOperator(String operator) throws IOException {
+		return putOp(OP_PRINT_OPERATOR, operator);
+	}
+
+	@Override
+	public MCDOutput printlnOperator(String operator) throws IOException {
+		return putOp(OP_PRINTLN_OPERATOR, operator);
+	}
+
+	@Override
+	public MCDOutput printLabel(String label) throws IOException {
+		return putOp(OP_PRINT_LABEL, label);
+	}
+
+	@Override
+	public MCDOutput printlnLabel(String label) throws IOException {
+		return putOp(OP_PRINTLN_LABEL, label);
+	}
+
+	@Override
+	public MCDOutput printError(String error) throws IOException {
+		return putOp(OP_PRINT_ERROR, error);
+	}
+
+	@Override
+	public MCDOutput printlnError(String error) throws IOException {
+		return putOp(OP_PRINTLN_ERROR, error);
+	}
+
+	private void ensureNotClosed() throws IOException {
+		if (this.closed) {
+			throw new ClosedChannelException();
+		}
+	}
+
+	private MCDOutput putOp(byte op) throws IOException {
+		ensureNotClosed();
+		putByte(op);
+		return this;
+	}
+
+	private MCDOutput putOp(byte op, String text) throws IOException {
+		ensureNotClosed();
+		putByte(op);
+
+		Integer stringIndex = this.stringTable.get(text);
+
+		if (stringIndex != null) {
+			putVarInt((stringIndex.intValue() << STRING_TAG_BITS) | STRING_REFERENCE);
+		} else {
+			byte[] textBytes = text.getBytes(StandardCharsets.UTF_8);
+
+			if (text.length() <= MAX_INTERN_LENGTH && this.stringTable.size() < MAX_STRING_TABLE_SIZE) {
+				this.stringTable.put(text, this.stringTable.size());
+				putVarInt((textBytes.length << STRING_TAG_BITS) | STRING_DEFINITION);
+			} else {
+				putVarInt((textBytes.length << STRING_TAG_BITS) | STRING_LITERAL);
+			}
+			putBytes(textBytes);
+		}
+		return this;
+	}
+
+	private void putVarInt(int value) throws IOException {
+		int remaining = value;
+
+		while ((remaining & ~0x7f) != 0) {
+			putByte((remaining & 0x7f) | 0x80);
+			remaining >>>= 7;
+		}
+		putByte(remaining);
+	}
+
+	private void putByte(int b) throws IOException {
+		if (this.bufferLength == this.buffer.length) {
+			writeBuffer();
+		}
+		this.buffer[this.bufferLength] = (byte) b;
+		this.bufferLength++;
+	}
+
+	private void putBytes(byte[] bytes) throws IOException {
+		if (bytes.length > this.buffer.length - this.bufferLength) {
+			writeBuffer();
+		}
+		if (bytes.length > this.buffer.length) {
+			this.out.write(bytes);
+		} else {
+			System.arraycopy(bytes, 0, this.buffer, this.bufferLength, bytes.length);
+			this.bufferLength += bytes.length;
+		}
+	}
+
+	private void writeBuffer() throws IOException {
+		if (this.bufferLength > 0) {
+			this.out.write(this.buffer, 0, this.bufferLength);
+			this.bufferLength = 0;
+		}
+	}
+
+}
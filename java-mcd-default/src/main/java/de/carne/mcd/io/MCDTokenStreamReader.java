@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import de.carne.mcd.MCDOutput;
+
+/**
+ * Reader for token streams created via {@linkplain MCDTokenStreamOutput}.
+ * <p>
+ * The reader replays the recorded token stream into an arbitrary {@linkplain MCDOutput}. The stream is read in
+ * chunks and interned strings are decoded only once.
+ * </p>
+ */
+public class MCDTokenStreamReader {
+
+	private static final int BUFFER_SIZE = 8 * 1024;
+
+	private final InputStream in;
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+	private int bufferPosition = 0;
+	private int bufferLength = 0;
+	private String[] stringTable = new String[64];
+	private int stringTableSize = 0;
+	private boolean headerRead = false;
+
+	/**
+	 * Constructs a new {@linkplain MCDTokenStreamReader} instance.
+	 *
+	 * @param in the {@linkplain InputStream} to read the token stream from.
+	 */
+	public MCDTokenStreamReader(InputStream in) {
+		this.in = in;
+	}
+
+	/**
+	 * Replays the complete (remaining) token stream into a {@linkplain MCDOutput}.
+	 *
+	 * @param out the {@linkplain MCDOutput} to replay the token stream into.
+	 * @return the number of replayed ops.
+	 * @throws IOException if an I/O error occurs or if the token stream is invalid.
+	 */
+	public long replay(MCDOutput out) throws IOException {
+		readHeader();
+
+		long opCount = 0;
+		int op;
+
+		while ((op = readByte(false)) >= 0) {
+			replayOp(op, out);
+			opCount++;
+		}
+		return opCount;
+	}
+
+	private void readHeader() throws IOException {
+		if (!this.headerRead) {
+			for (byte magicByte : MCDTokenStreamOutput.MAGIC) {
+				if (readByte(true) != (magicByte & 0xff)) {
+					throw new StreamCorruptedException("Invalid token stream magic");
+				}
+			}
+
+			int version = readByte(true);
+
+			if (version != MCDTokenStreamOutput.VERSION) {
+				throw new StreamCorruptedException("Unsupported token stream version: " + version);
+			}
+			this.headerRead = true;
+		}
+	}
+
+	private void replayOp(int op, MCDOutput out) throws IOException {
+		switch (op) {
+		case MCDTokenStreamOutput.OP_INCREASE_INDENT:
+			out.increaseIndent();
+			break;
+		case MCDTokenStreamOutput.OP_DECREASE_INDENT:
+			out.decreaseIndent();
+			break;
+		case MCDTokenStreamOutput.OP_PRINTLN:
+			out.println();
+			break;
+		case MCDTokenStreamOutput.OP_PRINT_TEXT:
+			out.print(readString());
+			break;
+		case MCDTokenStreamOutput.OP_PRINTLN_TEXT:
+			out.println(readString());
+			break;
+		case MCDTokenStreamOutput.OP_PRINT_VALUE:
+			out.printValue(readString());
+			break;
+		case MCDTokenStreamOutput.OP_PRINTLN_VALUE:
+			out.printlnValue(readString());
+			break;
+		case MCDTokenStreamOutput.OP_PRINT_COMMENT:
+			out.printComment(readString());
+			break;
+		case MCDTokenStreamOutput.OP_PRINTLN_COMMENT:
+			out.printlnComment(readString());
+			break;
+		case MCDTokenStreamOutput.OP_PRINT_KEYWORD:
+			out.printKeyword(readString());
+			break;
+		case MCDTokenStreamOutput.OP_PRINTLN_KEYWORD:
+			out.printlnKeyword(readString());
+			break;
+		case MCDTokenStreamOutput.OP_PRINT_OPERATOR:
+			out.printOperator(readString());
+			break;
+		case MCDTokenStreamOutput.OP_PRINTLN_OPERATOR:
+			out.printlnOperator(readString());
+			break;
+		case MCDTokenStreamOutput.OP_PRINT_LABEL:
+			out.printLabel(readString());
+			break;
+		case MCDTokenStreamOutput.OP_PRINTLN_LABEL:
+			out.printlnLabel(readString());
+			break;
+		case MCDTokenStreamOutput.OP_PRINT_ERROR:
+			out.printError(readString());
+			break;
+		case MCDTokenStreamOutput.OP_PRINTLN_ERROR:
+			out.printlnError(readString());
+			break;
+		default:
+			throw new StreamCorruptedException("Invalid token stream op: " + op);
+		}
+	}
+
+	private String readString() throws IOException {
+		int reference = readVarInt();
+		int tag = reference & MCDTokenStreamOutput.STRING_TAG_MASK;
+		int value = reference >>> MCDTokenStreamOutput.STRING_TAG_BITS;
+		String string;
+
+		switch (tag) {
+		case MCDTokenStreamOutput.STRING_REFERENCE:
+			if (value >= this.stringTableSize) {
+				throw new StreamCorruptedException("Invalid token stream string reference: " + value);
+			}
+			string = this.stringTable[value];
+			break;
+		case MCDTokenStreamOutput.STRING_DEFINITION:
+			string = readUtf8(value);
+			if (this.stringTableSize == this.stringTable.length) {
+				this.stringTable = Arrays.copyOf(this.stringTable, this.stringTableSize * 2);
+			}
+			this.stringTable[this.stringTableSize] = string;
+			this.stringTableSize++;
+			break;
+		case MCDTokenStreamOutput.STRING_LITERAL:
+			string = readUtf8(value);
+			break;
+		default:
+			throw new StreamCorruptedException("Invalid token stream string tag: " + tag);
+		}
+		return string;
+	}
+
+	private String readUtf8(int length) throws IOException {
+		String string;
+
+		if (length <= this.bufferLength - this.bufferPosition) {
+			string = new String(this.buffer, this.bufferPosition, length, StandardCharsets.UTF_8);
+			this.bufferPosition += length;
+		} else {
+			byte[] bytes = new byte[length];
+			int bytesLength = this.bufferLength - this.bufferPosition;
+
+			System.arraycopy(this.buffer, this.bufferPosition, bytes, 0, bytesLength);
+			this.bufferPosition = this.bufferLength;
+			while (bytesLength < length) {
+				int read = this.in.read(bytes, bytesLength, length - bytesLength);
+
+				if (read < 0) {
+					throw new EOFException();
+				}
+				bytesLength += read;
+			}
+			string = new String(bytes, StandardCharsets.UTF_8);
+		}
+		return string;
+	}
+
+	private int readVarInt() throws IOException {
+		int value = 0;
+		int shift = 0;
+		int b;
+
+		do {
+			if (shift > 28) {
+				throw new StreamCorruptedException("Invalid token stream var int");
+			}
+			b = readByte(true);
+			value |= (b & 0x7f) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return value;
+	}
+
+	private int readByte(boolean required) throws IOException {
+		int read = 0;
+
+		while (this.bufferPosition == this.bufferLength && read >= 0) {
+			read = this.in.read(this.buffer);
+			this.bufferPosition = 0;
+			this.bufferLength = Math.max(read, 0);
+		}
+
+		int b;
+
+		if (read >= 0) {
+			b = this.buffer[this.bufferPosition] & 0xff;
+			this.bufferPosition++;
+		} else if (required) {
+			throw new EOFException();
+		} else {
+			b = -1;
+		}
+		return b;
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.carne.nio.file.FileUtil;
+import de.carne.nio.file.attribute.FileAttributes;
+import de.carne.util.Check;
+
+/**
+ * Scratch storage used for slicing non-seekable input channels.
+ * <p>
+ * Spooled bytes are kept in heap chunks as long as the spool size (the highest position written so far) stays below
+ * the spill threshold. As soon as the threshold is exceeded, the already spooled bytes are moved to a temporary file
+ * which is used for any further access. Space once written is never reclaimed until the channel is closed.
+ * </p>
+ */
+final class SpoolChannel implements SeekableByteChannel {
+
+	private static final int CHUNK_SIZE = 64 << 10;
+
+	private final long spillThreshold;
+	private final List<ByteBuffer> chunks = new ArrayList<>();
+	@Nullable
+	private SeekableByteChannel spillChannel = null;
+	private long size = 0;
+	private long position = 0;
+	private boolean open = true;
+
+	SpoolChannel(long spillThreshold) {
+		this.spillThreshold = spillThreshold;
+	}
+
+	@Override
+	public boolean isOpen() {
+		return this.open;
+	}
+
+	@Override
+	public void close() throws IOException {
+		SeekableByteChannel checkedSpillChannel = this.spillChannel;
+
+		this.open = false;
+		this.chunks.clear();
+		this.spillChannel = null;
+		if (checkedSpillChannel != null) {
+			checkedSpillChannel.close();
+		}
+	}
+
+	@Override
+	public int read(@Nullable ByteBuffer dst) throws IOException {
+		Objects.requireNonNull(dst);
+
+		ensureOpen();
+
+		SeekableByteChannel checkedSpillChannel = this.spillChannel;
+		int read = -1;
+
+		if (checkedSpillChannel != null) {
+			checkedSpillChannel.position(this.position);
+			read = checkedSpillChannel.read(dst);
+		} else if (this.position < this.size) {
+			read = transfer(dst, (int) Math.min(this.size - this.position, dst.remaining()), false);
+		}
+		if (read > 0) {
+			this.position += read;
+		}
+		return read;
+	}
+
+	@Override
+	public int write(@Nullable ByteBuffer src) throws IOException {
+		Objects.requireNonNull(src);
+
+		ensureOpen();
+
+		SeekableByteChannel checkedSpillChannel = this.spillChannel;
+
+		if (checkedSpillChannel == null && this.position + src.remaining() > this.spillThreshold) {
+			checkedSpillChannel = spill();
+		}
+
+		int written;
+
+		if (checkedSpillChannel != null) {
+			checkedSpillChannel.position(this.position);
+			written = checkedSpillChannel.write(src);
+		} else {
+			written = transfer(src, src.remaining(), true);
+		}
+		this.position += written;
+		this.size = Math.max(this.size, this.position);
+		return written;
+	}
+
+	private int transfer(ByteBuffer buffer, int length, boolean write) {
+		int transferred = 0;
+
+		while (transferred < length) {
+			long transferPosition = this.position + transferred;
+			int chunkIndex = (int) (transferPosition / CHUNK_SIZE);
+			int chunkPosition = (int) (transferPosition % CHUNK_SIZE);
+
+			while (write && this.chunks.size() <= chunkIndex) {
+				this.chunks.add(ByteBuffer.allocate(CHUNK_SIZE));
+			}
+
+			ByteBuffer chunk = this.chunks.get(chunkIndex).duplicate();
+			int chunkTransfer = Math.min(length - transferred, CHUNK_SIZE - chunkPosition);
+			ByteBuffer limitedBuffer = buffer.duplicate();
+
+			chunk.position(chunkPosition).limit(chunkPosition + chunkTransfer);
+			limitedBuffer.limit(limitedBuffer.position() + chunkTransfer);
+			if (write) {
+				chunk.put(limitedBuffer);
+			} else {
+				limitedBuffer.put(chunk);
+			}
+			buffer.position(limitedBuffer.position());
+			transferred += chunkTransfer;
+		}
+		return transferred;
+	}
+
+	@SuppressWarnings("resource")
+	private SeekableByteChannel spill() throws IOException {
+		Path tempDir = FileUtil.tmpDir();
+		Path spillPath = Files.createTempFile(tempDir, null, null, FileAttributes.userFileDefault(tempDir));
+		SeekableByteChannel checkedSpillChannel = Files.newByteChannel(spillPath, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DELETE_ON_CLOSE);
+		long spillPosition = 0;
+
+		for (ByteBuffer chunk : this.chunks) {
+			ByteBuffer spillBuffer = chunk.duplicate();
+
+			spillBuffer.clear().limit((int) Math.min(this.size - spillPosition, CHUNK_SIZE));
+			while (spillBuffer.hasRemaining()) {
+				spillPosition += checkedSpillChannel.write(spillBuffer);
+			}
+		}
+		this.chunks.clear();
+		this.spillChannel = checkedSpillChannel;
+		return checkedSpillChannel;
+	}
+
+	@Override
+	public long position() throws IOException {
+		ensureOpen();
+		return this.position;
+	}
+
+	@Override
+	public SeekableByteChannel position(long newPosition) throws IOException {
+		Check.isTrue(newPosition >= 0);
+
+		ensureOpen();
+		this.position = newPosition;
+		return this;
+	}
+
+	@Override
+	public long size() throws IOException {
+		ensureOpen();
+		return this.size;
+	}
+
+	@Override
+	public SeekableByteChannel truncate(long newSize) throws IOException {
+		Check.isTrue(newSize >= 0);
+
+		ensureOpen();
+
+		SeekableByteChannel checkedSpillChannel = this.spillChannel;
+
+		if (checkedSpillChannel != null) {
+			checkedSpillChannel.truncate(newSize);
+		}
+		this.size = Math.min(this.size, newSize);
+		this.position = Math.min(this.position, newSize);
+		return this;
+	}
+
+	private void ensureOpen() throws ClosedChannelException {
+		if (!this.open) {
+			throw new ClosedChannelException();
+		}
+	}
+
+}
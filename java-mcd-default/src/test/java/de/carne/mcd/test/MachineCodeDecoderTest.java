@@ -20,17 +20,42 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
+import de.carne.mcd.DecodeContext;
+import de.carne.mcd.DecodedInstruction;
+import de.carne.mcd.DecodedInstructionSink;
+import de.carne.mcd.DecodedOperands;
 import de.carne.mcd.MachineCodeDecoder;
 import de.carne.mcd.PlainMCDOutput;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
+import de.carne.mcd.io.MCDTokenCache;
 
 /**
  * Test {@linkplain MachineCodeDecoder} class.
@@ -44,13 +69,118 @@ class MachineCodeDecoderTest {
 		}
 
 		@Override
-		public long decode0(MCDInputBuffer in, MCDOutputBuffer out, long offset, long limit) throws IOException {
+		public long decode0(DecodeContext context, MCDInputBuffer in, MCDOutputBuffer out, long offset, long limit)
+				throws IOException {
 			out.print(Integer.toHexString(in.decodeI32()));
 			return in.getTotalRead();
 		}
 
 	}
 
+	private static class TestIncrementalMachineCodeDecoder extends MachineCodeDecoder {
+
+		static final int MNEMONIC_ID = MCDTokenCache.register("op");
+
+		public TestIncrementalMachineCodeDecoder() {
+			super(TestIncrementalMachineCodeDecoder.class.getSimpleName(), ByteOrder.LITTLE_ENDIAN, Long.MAX_VALUE);
+		}
+
+		@Override
+		public boolean supportsInstructionSink() {
+			return true;
+		}
+
+		@Override
+		protected boolean supportsIncrementalDecode() {
+			return true;
+		}
+
+		@Override
+		protected Object newDecodeState() {
+			return new DecodedOperands();
+		}
+
+		@Override
+		public long decode0(DecodeContext context, MCDInputBuffer in, MCDOutputBuffer out, long offset, long limit)
+				throws IOException {
+			long addressBase = offset - in.getTotalRead();
+			long addressLimit = offset + limit;
+			DecodedInstructionSink sink = context.instructionSink();
+			DecodedOperands operands = context.state(DecodedOperands.class);
+			long address;
+			int opcode;
+
+			in.setAutoCommit(false);
+			while ((address = addressBase + in.getTotalRead()) < addressLimit && (opcode = in.read()) >= 0) {
+				int length = 1 + (opcode & 0x3);
+
+				operands.clear();
+				if (length > 1) {
+					for (int operandIndex = 1; operandIndex < length; operandIndex++) {
+						in.decodeI8();
+					}
+					operands.add(MCDTokenCache.NO_TOKEN, 1, length - 1);
+				}
+				if (sink != null) {
+					reportInstruction(sink, address, in, MNEMONIC_ID, operands);
+				}
+				in.commit();
+			}
+			return in.getTotalRead();
+		}
+
+	}
+
+	private static class UnseekableChannel implements SeekableByteChannel {
+
+		private final ReadableByteChannel in;
+
+		UnseekableChannel(byte[] data) {
+			this.in = Channels.newChannel(new ByteArrayInputStream(data));
+		}
+
+		@Override
+		public boolean isOpen() {
+			return this.in.isOpen();
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.in.close();
+		}
+
+		@Override
+		public int read(@Nullable ByteBuffer dst) throws IOException {
+			return this.in.read(dst);
+		}
+
+		@Override
+		public int write(@Nullable ByteBuffer src) throws IOException {
+			throw new NonWritableChannelException();
+		}
+
+		@Override
+		public long position() throws IOException {
+			throw new IOException("Illegal seek");
+		}
+
+		@Override
+		public SeekableByteChannel position(long newPosition) throws IOException {
+			throw new IOException("Illegal seek");
+		}
+
+		@Override
+		public long size() throws IOException {
+			return 0;
+		}
+
+		@Override
+		public SeekableByteChannel truncate(long size) throws IOException {
+			throw new NonWritableChannelException();
+		}
+
+	}
+
 	private static final byte[] TEST_DATA = new byte[] { 0x01, 0x23, 0x45, 0x67 };
 
 	@Test
@@ -70,11 +200,283 @@ class MachineCodeDecoderTest {
 		Assertions.assertEquals("1234567", decodedBE);
 	}
 
-	private String runDecoder(MachineCodeDecoder decoder, byte[] data) throws IOException {
+	@Test
+	void testBufferDecoder() throws IOException {
+		TestMachineCodeDecoder decoder = new TestMachineCodeDecoder(ByteOrder.LITTLE_ENDIAN);
+		ByteBuffer data = ByteBuffer.wrap(TEST_DATA);
 		ByteArrayOutputStream decoded = new ByteArrayOutputStream();
 
-		try (ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(data));
+		try (PlainMCDOutput out = new PlainMCDOutput(new PrintWriter(decoded), true)) {
+			Assertions.assertEquals(TEST_DATA.length, decoder.decode(data, out));
+			out.flush();
+		}
+
+		Assertions.assertEquals("67452301", new String(decoded.toByteArray()));
+		Assertions.assertEquals(0, data.position());
+	}
+
+	@Test
+	void testSequentialChannelDecoder() throws IOException {
+		TestMachineCodeDecoder decoder = new TestMachineCodeDecoder(ByteOrder.BIG_ENDIAN);
+		ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+
+		Assertions.assertFalse(decoder.readAhead());
+		try (ReadableByteChannel in = Channels
+				.newChannel(new ByteArrayInputStream(new byte[] { 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08 }));
+				PlainMCDOutput out = new PlainMCDOutput(new PrintWriter(decoded), true)) {
+			Assertions.assertEquals(4, decoder.decode(in, out, 0));
+			Assertions.assertEquals(4, decoder.decode(in, out, 4));
+			out.flush();
+		}
+
+		Assertions.assertEquals("10203045060708", new String(decoded.toByteArray()));
+	}
+
+	@Test
+	void testUnseekableChannelDecoder() throws IOException {
+		TestMachineCodeDecoder decoder = new TestMachineCodeDecoder(ByteOrder.BIG_ENDIAN);
+		ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+
+		decoder.setMapped(false);
+		try (SeekableByteChannel in = new UnseekableChannel(
+				new byte[] { 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08 });
 				PlainMCDOutput out = new PlainMCDOutput(new PrintWriter(decoded), true)) {
+			Assertions.assertEquals(4, decoder.decode(in, out, 0));
+			Assertions.assertEquals(4, decoder.decode(in, out, 4));
+			out.flush();
+		}
+
+		Assertions.assertEquals("10203045060708", new String(decoded.toByteArray()));
+	}
+
+	@Test
+	void testZeroSizeFileChannelDecoder() throws IOException {
+		Path zeroSizeFile = Paths.get("/proc/version");
+
+		Assumptions.assumeTrue(Files.isReadable(zeroSizeFile) && Files.size(zeroSizeFile) == 0,
+				"No readable zero-size file available");
+
+		byte[] data = Files.readAllBytes(zeroSizeFile);
+
+		Assumptions.assumeTrue(data.length >= TEST_DATA.length, "Zero-size file provides too few bytes");
+
+		TestMachineCodeDecoder decoder = new TestMachineCodeDecoder(ByteOrder.BIG_ENDIAN);
+
+		Assertions.assertTrue(decoder.mapped());
+
+		try (FileChannel in = FileChannel.open(zeroSizeFile)) {
+			Assertions.assertEquals(Integer.toHexString(ByteBuffer.wrap(data).getInt()), runDecoder(decoder, in));
+		}
+	}
+
+	@Test
+	void testInstructions() throws IOException {
+		TestIncrementalMachineCodeDecoder decoder = new TestIncrementalMachineCodeDecoder();
+		byte[] data = incrementalTestData();
+
+		List<DecodedInstruction> instructions;
+
+		try (ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(data))) {
+			instructions = decoder.instructions(in, 0x1000, Long.MAX_VALUE).collect(Collectors.toList());
+		}
+
+		long expectedAddress = 0x1000;
+
+		for (DecodedInstruction instruction : instructions) {
+			int length = 1 + (data[(int) (expectedAddress - 0x1000)] & 0x3);
+
+			Assertions.assertEquals(expectedAddress, instruction.address());
+			Assertions.assertEquals(length, instruction.length());
+			Assertions.assertEquals("op", instruction.mnemonic());
+			Assertions.assertEquals((length > 1 ? 1 : 0), instruction.operandCount());
+			expectedAddress += length;
+		}
+		Assertions.assertEquals(0x1000 + data.length, expectedAddress);
+
+		List<DecodedInstruction> parallelInstructions = decoder.instructions(ByteBuffer.wrap(data), 0x1000, 5000)
+				.parallel().collect(Collectors.toList());
+
+		Assertions.assertEquals(instructions.stream().filter(instruction -> instruction.address() < 0x1000 + 5000)
+				.count(), parallelInstructions.size());
+		for (int instructionIndex = 0; instructionIndex < parallelInstructions.size(); instructionIndex++) {
+			Assertions.assertEquals(instructions.get(instructionIndex).address(),
+					parallelInstructions.get(instructionIndex).address());
+		}
+		Assertions.assertThrows(UnsupportedOperationException.class,
+				() -> new TestMachineCodeDecoder(ByteOrder.LITTLE_ENDIAN).instructions(ByteBuffer.wrap(data), 0, 4));
+	}
+
+	@Test
+	void testInstructionPublisher() throws IOException {
+		TestIncrementalMachineCodeDecoder decoder = new TestIncrementalMachineCodeDecoder();
+		byte[] data = incrementalTestData();
+		List<DecodedInstruction> instructions = new ArrayList<>();
+		List<Throwable> errors = new ArrayList<>();
+		AtomicBoolean completed = new AtomicBoolean();
+		AtomicReference<Flow.@Nullable Subscription> subscriptionHolder = new AtomicReference<>();
+
+		try (ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(data))) {
+			Flow.Publisher<DecodedInstruction> publisher = decoder.instructionPublisher(in, 0, Long.MAX_VALUE,
+					Runnable::run);
+
+			publisher.subscribe(new Flow.Subscriber<DecodedInstruction>() {
+
+				@Override
+				public void onSubscribe(Flow.Subscription subscription) {
+					subscriptionHolder.set(subscription);
+					subscription.request(3);
+				}
+
+				@Override
+				public void onNext(DecodedInstruction item) {
+					instructions.add(item);
+				}
+
+				@Override
+				public void onError(Throwable throwable) {
+					errors.add(throwable);
+				}
+
+				@Override
+				public void onComplete() {
+					completed.set(true);
+				}
+
+			});
+
+			Assertions.assertEquals(3, instructions.size());
+			Assertions.assertFalse(completed.get());
+
+			Objects.requireNonNull(subscriptionHolder.get()).request(Long.MAX_VALUE);
+
+			Assertions.assertTrue(completed.get());
+			Assertions.assertTrue(errors.isEmpty());
+			Assertions.assertEquals(data.length, instructions.stream().mapToInt(DecodedInstruction::length).sum());
+
+			publisher.subscribe(new Flow.Subscriber<DecodedInstruction>() {
+
+				@Override
+				public void onSubscribe(Flow.Subscription subscription) {
+					subscription.request(1);
+				}
+
+				@Override
+				public void onNext(DecodedInstruction item) {
+					Assertions.fail("Unexpected item");
+				}
+
+				@Override
+				public void onError(Throwable throwable) {
+					errors.add(throwable);
+				}
+
+				@Override
+				public void onComplete() {
+					Assertions.fail("Unexpected completion");
+				}
+
+			});
+
+			Assertions.assertEquals(1, errors.size());
+		}
+	}
+
+	@SuppressWarnings("null")
+	@Test
+	void testInstructionPublisherInvalidRequest() throws IOException {
+		TestIncrementalMachineCodeDecoder decoder = new TestIncrementalMachineCodeDecoder();
+		byte[] data = incrementalTestData();
+		List<DecodedInstruction> instructions = new ArrayList<>();
+		List<Throwable> errors = new ArrayList<>();
+		AtomicBoolean emitting = new AtomicBoolean();
+		AtomicReference<Flow.@Nullable Subscription> subscriptionHolder = new AtomicReference<>();
+
+		try (ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(data))) {
+			Flow.Publisher<DecodedInstruction> publisher = decoder.instructionPublisher(in, 0, Long.MAX_VALUE,
+					Runnable::run);
+
+			Assertions.assertThrows(NullPointerException.class, () -> publisher.subscribe(null));
+
+			publisher.subscribe(new Flow.Subscriber<DecodedInstruction>() {
+
+				@Override
+				public void onSubscribe(Flow.Subscription subscription) {
+					subscriptionHolder.set(subscription);
+					subscription.request(3);
+				}
+
+				@Override
+				public void onNext(DecodedInstruction item) {
+					emitting.set(true);
+					instructions.add(item);
+					Objects.requireNonNull(subscriptionHolder.get()).request(0);
+					emitting.set(false);
+				}
+
+				@Override
+				public void onError(Throwable throwable) {
+					Assertions.assertFalse(emitting.get());
+					errors.add(throwable);
+				}
+
+				@Override
+				public void onComplete() {
+					Assertions.fail("Unexpected completion");
+				}
+
+			});
+		}
+
+		Assertions.assertEquals(1, instructions.size());
+		Assertions.assertEquals(1, errors.size());
+		Assertions.assertEquals(IllegalArgumentException.class, errors.get(0).getClass());
+	}
+
+	@Test
+	void testSharedDecoder() throws InterruptedException, ExecutionException {
+		TestIncrementalMachineCodeDecoder decoder = new TestIncrementalMachineCodeDecoder();
+		byte[] data = incrementalTestData();
+		List<Long> expectedAddresses = decoder.instructions(ByteBuffer.wrap(data), 0, Long.MAX_VALUE)
+				.map(DecodedInstruction::address).collect(Collectors.toList());
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			List<Future<List<Long>>> results = new ArrayList<>();
+
+			for (int taskIndex = 0; taskIndex < 16; taskIndex++) {
+				results.add(executor.submit(() -> decoder.instructions(ByteBuffer.wrap(data), 0, Long.MAX_VALUE)
+						.map(DecodedInstruction::address).collect(Collectors.toList())));
+			}
+			for (Future<List<Long>> result : results) {
+				Assertions.assertEquals(expectedAddresses, result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static byte[] incrementalTestData() {
+		ByteArrayOutputStream dataBuffer = new ByteArrayOutputStream();
+
+		for (int instructionIndex = 0; dataBuffer.size() < 10000; instructionIndex++) {
+			int opcode = instructionIndex & 0x3;
+
+			dataBuffer.write(opcode);
+			dataBuffer.write(TEST_DATA, 0, opcode);
+		}
+		return dataBuffer.toByteArray();
+	}
+
+	private String runDecoder(MachineCodeDecoder decoder, byte[] data) throws IOException {
+		try (ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(data))) {
+			return runDecoder(decoder, in);
+		}
+	}
+
+	private String runDecoder(MachineCodeDecoder decoder, ReadableByteChannel in) throws IOException {
+		ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+
+		try (PlainMCDOutput out = new PlainMCDOutput(new PrintWriter(decoded), true)) {
 			decoder.decode(in, out);
 			out.flush();
 		}
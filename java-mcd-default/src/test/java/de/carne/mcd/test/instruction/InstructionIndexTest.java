@@ -17,19 +17,41 @@
 package de.carne.mcd.test.instruction;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
 import java.util.Objects;
-
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.bootstrap.InstructionIndexBuilder;
 import de.carne.mcd.instruction.Instruction;
 import de.carne.mcd.instruction.InstructionFactory;
@@ -60,6 +82,8 @@ class InstructionIndexTest {
 
 	private static final byte[] TEST_CODE = { 0x00, 0x01, 0x01, 0x02, 0x01, 0x01, 0x02, 0x02, 0x02, 0x03, 0x04, 0x00 };
 
+	private static final String SOURCE_CLASS_NAME = "TestInstructionIndexData";
+
 	private static final InstructionFactory INSTRUCTION_FACTORY = new InstructionFactory() {
 
 		@Override
@@ -105,6 +129,59 @@ class InstructionIndexTest {
 		}
 	}
 
+	@Test
+	void testStreamedOpen(@TempFile File indexFile, @TempFile File indexArchiveFile) throws IOException {
+		InstructionIndexBuilder builder = new InstructionIndexBuilder();
+
+		bootstrapInstructionIndex(builder);
+		builder.save(indexFile);
+		try (ZipOutputStream indexArchiveStream = new ZipOutputStream(
+				Files.newOutputStream(indexArchiveFile.toPath()))) {
+			indexArchiveStream.putNextEntry(new ZipEntry("index.bin"));
+			Files.copy(indexFile.toPath(), (OutputStream) indexArchiveStream);
+			indexArchiveStream.closeEntry();
+		}
+
+		URL indexUrl = new URL("jar:" + indexArchiveFile.toPath().toUri() + "!/index.bin");
+
+		try (InstructionIndex index = InstructionIndex.open(INSTRUCTION_FACTORY, indexUrl);
+				ReadableByteChannel testCodeChannel = Channels.newChannel(new ByteArrayInputStream(TEST_CODE))) {
+			MCDInputBuffer buffer = new MCDInputBuffer(testCodeChannel, ByteOrder.nativeOrder());
+
+			Assertions.assertEquals(builder.entryCount(), index.entryCount());
+			Assertions.assertEquals(OPCODE_00,
+					Objects.requireNonNull(index.lookupNextInstruction(buffer, true)).opcode());
+			Assertions.assertEquals(OPCODE_0101,
+					Objects.requireNonNull(index.lookupNextInstruction(buffer, true)).opcode());
+		}
+	}
+
+	@Test
+	void testSaveSourceAndOpen(@TempFile File sourceFile) throws ReflectiveOperationException, IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+		Assumptions.assumeTrue(compiler != null, "No system Java compiler available");
+
+		InstructionIndexBuilder builder = new InstructionIndexBuilder();
+
+		bootstrapInstructionIndex(builder);
+		builder.saveSource(sourceFile, SOURCE_CLASS_NAME);
+
+		ByteBuffer indexData = (ByteBuffer) compileSource(Check.notNull(compiler), sourceFile, SOURCE_CLASS_NAME)
+				.getMethod("indexData").invoke(null);
+
+		try (InstructionIndex index = InstructionIndex.open(INSTRUCTION_FACTORY, indexData);
+				ReadableByteChannel testCodeChannel = Channels.newChannel(new ByteArrayInputStream(TEST_CODE))) {
+			MCDInputBuffer buffer = new MCDInputBuffer(testCodeChannel, ByteOrder.nativeOrder());
+
+			Assertions.assertEquals(builder.parameters(), index.parameters());
+			Assertions.assertEquals(OPCODE_00,
+					Objects.requireNonNull(index.lookupNextInstruction(buffer, true)).opcode());
+			Assertions.assertEquals(OPCODE_0101,
+					Objects.requireNonNull(index.lookupNextInstruction(buffer, true)).opcode());
+		}
+	}
+
 	@Test
 	void testNonEagerLookup(@TempFile File indexFile) throws IOException {
 		InstructionIndexBuilder builder = new InstructionIndexBuilder();
@@ -179,6 +256,44 @@ class InstructionIndexTest {
 		}
 	}
 
+	@Test
+	void testCacheModes(@TempFile File indexFile) throws IOException {
+		InstructionIndexBuilder builder = new InstructionIndexBuilder();
+
+		bootstrapInstructionIndex(builder);
+		builder.save(indexFile);
+
+		for (InstructionIndex.CacheMode cacheMode : InstructionIndex.CacheMode.values()) {
+			try (InstructionIndex index = InstructionIndex.open(INSTRUCTION_FACTORY,
+					indexFile.toPath().toUri().toURL(), cacheMode);
+					ReadableByteChannel testCodeChannel = Channels
+							.newChannel(new ByteArrayInputStream(new byte[] { 0x01, 0x01, 0x01, 0x01 }))) {
+				MCDInputBuffer buffer = new MCDInputBuffer(testCodeChannel, ByteOrder.nativeOrder());
+
+				buffer.setAutoCommit(false);
+
+				InstructionIndex.LookupResult lookupResult1 = Objects
+						.requireNonNull(index.lookupNextInstruction(buffer, true));
+				InstructionIndex.LookupResult lookupResult2 = Objects
+						.requireNonNull(index.lookupNextInstruction(buffer, true));
+
+				Assertions.assertEquals(OPCODE_0101, lookupResult1.opcode());
+				Assertions.assertEquals(OPCODE_0101, lookupResult2.opcode());
+				if (cacheMode != InstructionIndex.CacheMode.SOFT) {
+					Assertions.assertSame(lookupResult1.instruction(), lookupResult2.instruction());
+				}
+				Assertions.assertNull(index.lookupNextInstruction(buffer, true));
+			}
+		}
+
+		InstructionIndex.CacheMode defaultCacheMode = InstructionIndex.getDefaultCacheMode();
+
+		Assertions.assertEquals(defaultCacheMode,
+				InstructionIndex.setDefaultCacheMode(InstructionIndex.CacheMode.SOFT));
+		Assertions.assertEquals(InstructionIndex.CacheMode.SOFT,
+				InstructionIndex.setDefaultCacheMode(defaultCacheMode));
+	}
+
 	private void bootstrapInstructionIndex(InstructionIndexBuilder builder) throws IOException {
 		builder.add(OPCODE_00, new TestInstruction(OPCODE_00));
 		builder.add(OPCODE_01, new TestInstruction(OPCODE_01));
@@ -189,6 +304,64 @@ class InstructionIndexTest {
 		builder.add(OPCODE_0202, new TestInstruction(OPCODE_0202));
 	}
 
+	private static Class<?> compileSource(JavaCompiler compiler, File sourceFile, String className)
+			throws IOException, ClassNotFoundException {
+		String source = Files.readString(sourceFile.toPath(), StandardCharsets.US_ASCII);
+		URI sourceUri = URI.create("string:///" + className + Kind.SOURCE.extension);
+		JavaFileObject sourceObject = new SimpleJavaFileObject(sourceUri, Kind.SOURCE) {
+
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return source;
+			}
+
+		};
+		ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+
+		try (JavaFileManager fileManager = new ForwardingJavaFileManager<JavaFileManager>(
+				compiler.getStandardFileManager(null, null, null)) {
+
+			@Override
+			public JavaFileObject getJavaFileForOutput(@Nullable Location location, @Nullable String outputClassName,
+					@Nullable Kind kind, @Nullable FileObject sibling) {
+				return new SimpleJavaFileObject(URI.create("bytes:///" + outputClassName + Kind.CLASS.extension),
+						Kind.CLASS) {
+
+					@Override
+					public OutputStream openOutputStream() {
+						return classBytes;
+					}
+
+				};
+			}
+
+		}) {
+			Assertions.assertTrue(compiler.getTask(null, fileManager, null, null, null, List.of(sourceObject)).call());
+		}
+		return new ByteArrayClassLoader(className, classBytes.toByteArray()).loadClass(className);
+	}
+
+	private static class ByteArrayClassLoader extends ClassLoader {
+
+		private final String className;
+		private final byte[] classBytes;
+
+		ByteArrayClassLoader(String className, byte[] classBytes) {
+			super(InstructionIndexTest.class.getClassLoader());
+			this.className = className;
+			this.classBytes = classBytes;
+		}
+
+		@Override
+		protected Class<?> findClass(@Nullable String name) throws ClassNotFoundException {
+			if (!this.className.equals(name)) {
+				throw new ClassNotFoundException(name);
+			}
+			return defineClass(name, this.classBytes, 0, this.classBytes.length);
+		}
+
+	}
+
 	private static class TestInstruction implements Instruction {
 
 		private final InstructionOpcode instructionOpcode;
@@ -208,8 +381,8 @@ class InstructionIndexTest {
 		}
 
 		@Override
-		public void decode(long ip, InstructionOpcode opcode, MCDInputBuffer in, MCDOutputBuffer out)
-				throws IOException {
+		public void decode(DecodeContext context, long ip, InstructionOpcode opcode, MCDInputBuffer in,
+				MCDOutputBuffer out) throws IOException {
 			out.printlnValue(opcode.toString());
 		}
 
@@ -17,17 +17,23 @@
 package de.carne.mcd.test.io;
 
 import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Objects;
 
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -58,16 +64,14 @@ class MCDInputBufferTest {
 					(byte) 0x1b, (byte) 0x1c, (byte) 0x1d, (byte) 0x1e, (byte) 0x1f, (byte) 0x20 }) Path testFile)
 			throws IOException {
 		try (ReadableByteChannel channel = Files.newByteChannel(testFile, StandardOpenOption.READ)) {
-			testSkipAndSlice(channel);
+			testSkipAndSlice(new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN));
 		}
 		try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(TEST_BYTES))) {
-			testSkipAndSlice(channel);
+			testSkipAndSlice(new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN));
 		}
 	}
 
-	private void testSkipAndSlice(ReadableByteChannel channel) throws IOException {
-		MCDInputBuffer buffer = new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN);
-
+	private void testSkipAndSlice(MCDInputBuffer buffer) throws IOException {
 		buffer.skip(16);
 
 		Assertions.assertEquals((byte) 0x10, buffer.decodeI8());
@@ -102,21 +106,226 @@ class MCDInputBufferTest {
 		}
 	}
 
+	@Test
+	void testSkipAndSliceReadAhead(@TempFile Path testFile) throws IOException {
+		Files.write(testFile, TEST_BYTES);
+		try (SeekableByteChannel channel = Files.newByteChannel(testFile, StandardOpenOption.READ)) {
+			testSkipAndSliceReadAhead(new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN));
+
+			Assertions.assertEquals(33, channel.position());
+		}
+		try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(TEST_BYTES))) {
+			testSkipAndSliceReadAhead(new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN));
+		}
+	}
+
+	private void testSkipAndSliceReadAhead(MCDInputBuffer buffer) throws IOException {
+		buffer.setReadAhead(true);
+
+		// Skip and slice bytes already read ahead
+		Assertions.assertEquals((byte) 0x00, buffer.decodeI8());
+
+		buffer.skip(15);
+
+		Assertions.assertEquals((byte) 0x10, buffer.decodeI8());
+
+		try (SeekableByteChannel slice = buffer.slice(16)) {
+			assertSlice(slice, 0x11, 16);
+		}
+
+		Assertions.assertEquals(33, buffer.getTotalRead());
+
+		buffer.releaseReadAhead();
+	}
+
 	@Test
 	void testDecodeValues() throws IOException {
+		testDecodeValues(false);
+		testDecodeValues(true);
+	}
+
+	@Test
+	void testReadAhead() throws IOException {
+		long exactChannelReads = testDecodeValues(false);
+		long readAheadChannelReads = testDecodeValues(true);
+
+		Assertions.assertTrue(readAheadChannelReads < exactChannelReads);
+	}
+
+	private long testDecodeValues(boolean readAhead) throws IOException {
+		long channelReads;
+
 		try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(TEST_BYTES))) {
 			MCDInputBuffer buffer = new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN);
 
+			buffer.setReadAhead(readAhead);
+			channelReads = testDecodeValues(buffer);
+		}
+		return channelReads;
+	}
+
+	private long testDecodeValues(MCDInputBuffer buffer) throws IOException {
+		buffer.setAutoCommit(false);
+		decodeValues(buffer);
+		buffer.discard(-16);
+		Assertions.assertEquals(41, buffer.getTotalRead());
+		Assertions.assertArrayEquals(new long[] { 0x292a2b2c2d2e2f30l, 0x3132333435363738l },
+				MCDInputBuffer.toI64Array(buffer.decodeI64Array(2)));
+		Assertions.assertEquals(57, buffer.getTotalRead());
+		buffer.discard();
+		buffer.setAutoCommit(true);
+		decodeValues(buffer);
+		return buffer.getChannelReads();
+	}
+
+	@Test
+	void testSpooledSlices() throws IOException {
+		for (long spoolThreshold : new long[] { MCDInputBuffer.DEFAULT_SPOOL_THRESHOLD, 8 }) {
+			try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(TEST_BYTES))) {
+				MCDInputBuffer buffer = new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN);
+
+				buffer.setSpoolThreshold(spoolThreshold);
+
+				Assertions.assertEquals(spoolThreshold, buffer.getSpoolThreshold());
+
+				try (SeekableByteChannel slice1 = buffer.slice(4); SeekableByteChannel slice2 = buffer.slice(12)) {
+					assertSlice(slice1, 0x00, 4);
+					assertSlice(slice2, 0x04, 12);
+				}
+				try (SeekableByteChannel slice = buffer.slice(240)) {
+					assertSlice(slice, 0x10, 240);
+				}
+			}
+		}
+	}
+
+	private void assertSlice(SeekableByteChannel slice, int start, int length) throws IOException {
+		ByteBuffer byteBuffer = ByteBuffer.allocate(length + 1);
+
+		Assertions.assertEquals(length, slice.read(byteBuffer));
+		Assertions.assertEquals(-1, slice.read(byteBuffer));
+
+		byteBuffer.flip();
+		for (int index = 0; index < length; index++) {
+			Assertions.assertEquals((byte) (start + index), byteBuffer.get());
+		}
+	}
+
+	@Test
+	void testLargeInput() throws IOException {
+		long largeOffset = 5l << 30;
+
+		try (SeekableByteChannel channel = new LargeChannel(largeOffset)) {
+			testLargeInput(new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN), largeOffset);
+		}
+	}
+
+	@Test
+	void testLargeMappedInput(@TempFile Path testFile) throws IOException {
+		long largeOffset = 5l << 30;
+
+		// The sparse test file may occupy its full size on file systems without sparse file support
+		Assumptions.assumeTrue(Files.getFileStore(testFile).getUsableSpace() > 2 * largeOffset,
+				"Insufficient space for large test file");
+
+		Files.delete(testFile);
+		try (FileChannel channel = FileChannel.open(testFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.SPARSE,
+				StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(TEST_BYTES), largeOffset);
+		}
+		try (FileChannel channel = FileChannel.open(testFile, StandardOpenOption.READ)) {
+			testLargeInput(MCDInputBuffer.map(channel, ByteOrder.BIG_ENDIAN), largeOffset);
+		}
+	}
+
+	private void testLargeInput(MCDInputBuffer buffer, long largeOffset) throws IOException {
+		buffer.skip(largeOffset);
+
+		Assertions.assertEquals(largeOffset, buffer.getTotalRead());
+		Assertions.assertEquals(0x00010203, buffer.decodeI32());
+
+		try (SeekableByteChannel slice = buffer.slice(16)) {
+			assertSlice(slice, 0x04, 16);
+		}
+
+		Assertions.assertEquals(0x14151617, buffer.decodeI32());
+		Assertions.assertEquals(largeOffset + 24, buffer.getTotalRead());
+		Assertions.assertThrows(IOException.class, () -> buffer.decodeI32Array(Integer.MAX_VALUE));
+	}
+
+	@Test
+	void testGrowingBuffer() throws IOException {
+		for (boolean readAhead : new boolean[] { false, true }) {
+			try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(TEST_BYTES))) {
+				MCDInputBuffer buffer = new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN, 4);
+
+				buffer.setReadAhead(readAhead);
+				testDecodeValues(buffer);
+			}
+		}
+		try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(TEST_BYTES))) {
+			MCDInputBuffer buffer = new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN, 4);
+
+			Assertions.assertEquals(MCDInputBuffer.DEFAULT_MAX_BUFFER_SIZE, buffer.setMaxBufferSize(16));
+			Assertions.assertEquals(16, buffer.getMaxBufferSize());
+
 			buffer.setAutoCommit(false);
-			decodeValues(buffer);
-			buffer.discard(-16);
-			Assertions.assertEquals(41, buffer.getTotalRead());
-			Assertions.assertArrayEquals(new long[] { 0x292a2b2c2d2e2f30l, 0x3132333435363738l },
-					MCDInputBuffer.toI64Array(buffer.decodeI64Array(2)));
-			Assertions.assertEquals(57, buffer.getTotalRead());
-			buffer.discard();
-			buffer.setAutoCommit(true);
-			decodeValues(buffer);
+			buffer.decodeI64Array(2);
+
+			Assertions.assertThrows(IOException.class, buffer::decodeI8);
+
+			buffer.commit();
+
+			Assertions.assertEquals(0x10111213, buffer.decodeI32());
+		}
+	}
+
+	@Test
+	void testBuffer() throws IOException {
+		ByteBuffer data = ByteBuffer.wrap(TEST_BYTES);
+		MCDInputBuffer valuesBuffer = new MCDInputBuffer(data, ByteOrder.BIG_ENDIAN);
+
+		Assertions.assertEquals(0, testDecodeValues(valuesBuffer));
+		Assertions.assertEquals(0, data.position());
+
+		MCDInputBuffer buffer = new MCDInputBuffer(data, ByteOrder.BIG_ENDIAN);
+
+		testSkipAndSlice(buffer);
+		buffer.skip(TEST_BYTES.length - 34l);
+
+		Assertions.assertEquals((byte) 0xff, buffer.decodeI8());
+		Assertions.assertEquals(-1, buffer.read());
+		Assertions.assertThrows(IOException.class, buffer::decodeI8);
+		Assertions.assertThrows(IOException.class, () -> buffer.slice(1));
+	}
+
+	@Test
+	void testMapped(@TempFile Path testFile) throws IOException {
+		Files.write(testFile, TEST_BYTES);
+		try (FileChannel channel = FileChannel.open(testFile, StandardOpenOption.READ)) {
+			MCDInputBuffer buffer = MCDInputBuffer.map(channel, ByteOrder.BIG_ENDIAN);
+
+			Assertions.assertTrue(buffer.isMapped());
+			Assertions.assertEquals(1, testDecodeValues(buffer));
+			Assertions.assertEquals(0, channel.position());
+
+			buffer.releaseReadAhead();
+
+			Assertions.assertEquals(57, channel.position());
+		}
+		try (FileChannel channel = FileChannel.open(testFile, StandardOpenOption.READ)) {
+			MCDInputBuffer buffer = MCDInputBuffer.map(channel, ByteOrder.BIG_ENDIAN);
+
+			testSkipAndSlice(buffer);
+
+			// Slices of the mapped channel use positional reads
+			Assertions.assertEquals(0, channel.position());
+
+			buffer.skip(TEST_BYTES.length - 34l);
+
+			Assertions.assertEquals((byte) 0xff, buffer.decodeI8());
+			Assertions.assertEquals(-1, buffer.read());
+			Assertions.assertThrows(IOException.class, buffer::decodeI8);
 		}
 	}
 
@@ -147,6 +356,122 @@ class MCDInputBufferTest {
 		Assertions.assertEquals(57, buffer.getTotalRead());
 	}
 
+	@Test
+	void testDecodeBulkArrays() throws IOException {
+		try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(TEST_BYTES))) {
+			MCDInputBuffer buffer = new MCDInputBuffer(channel, ByteOrder.LITTLE_ENDIAN);
+			byte[] i8Array = new byte[3];
+			short[] i16Array = new short[3];
+			int[] i32Array = new int[3];
+			long[] i64Array = new long[3];
+
+			buffer.decodeI8Array(i8Array, 1, 2);
+			Assertions.assertArrayEquals(new byte[] { 0x00, 0x00, 0x01 }, i8Array);
+			buffer.decodeI16Array(i16Array, 1, 2);
+			Assertions.assertArrayEquals(new short[] { 0x0000, 0x0302, 0x0504 }, i16Array);
+			buffer.decodeI32Array(i32Array, 1, 2);
+			Assertions.assertArrayEquals(new int[] { 0x00000000, 0x09080706, 0x0d0c0b0a }, i32Array);
+			buffer.decodeI64Array(i64Array, 1, 2);
+			Assertions.assertArrayEquals(new long[] { 0x0000000000000000l, 0x1514131211100f0el, 0x1d1c1b1a19181716l },
+					i64Array);
+			Assertions.assertEquals(30, buffer.getTotalRead());
+			Assertions.assertArrayEquals(new short[] { 0x1f1e, 0x2120 },
+					MCDInputBuffer.toI16Array(buffer.decodeI16Array(2)));
+			Assertions.assertThrows(IndexOutOfBoundsException.class, () -> buffer.decodeI8Array(i8Array, 2, 2));
+
+			MCDInputBuffer.ArrayView view = buffer.decodeI32ArrayView(2);
+
+			Assertions.assertEquals(2, view.length());
+			Assertions.assertEquals(0x25242322, view.getI32(0));
+			Assertions.assertEquals(0x29282726, view.getI32(1));
+			Assertions.assertThrows(IndexOutOfBoundsException.class, () -> view.getI32(2));
+			Assertions.assertSame(view, buffer.decodeI8ArrayView(1));
+			Assertions.assertEquals((byte) 0x2a, view.getI8(0));
+			Assertions.assertEquals((short) 0x2c2b, buffer.decodeI16ArrayView(1).getI16(0));
+			Assertions.assertEquals(0x34333231302f2e2dl, buffer.decodeI64ArrayView(1).getI64(0));
+			Assertions.assertEquals(53, buffer.getTotalRead());
+		}
+	}
+
+	@Test
+	void testCheckpoints() throws IOException {
+		try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(TEST_BYTES))) {
+			MCDInputBuffer buffer = new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN, 4);
+
+			buffer.setAutoCommit(false);
+			buffer.decodeI8();
+
+			int mark1 = buffer.mark();
+
+			Assertions.assertEquals((short) 0x0102, buffer.decodeI16());
+
+			int mark2 = buffer.mark();
+
+			Assertions.assertEquals(0x03040506, buffer.decodeI32());
+			Assertions.assertEquals(0x0708090a0b0c0d0el, buffer.decodeI64());
+			buffer.rewind(mark2);
+			Assertions.assertEquals(3, buffer.getTotalRead());
+			Assertions.assertEquals(0x03040506, buffer.decodeI32());
+			buffer.rewind(mark1);
+			Assertions.assertEquals(1, buffer.getTotalRead());
+			Assertions.assertThrows(IllegalArgumentException.class, () -> buffer.rewind(mark2));
+			Assertions.assertEquals((short) 0x0102, buffer.decodeI16());
+			buffer.release(mark1);
+			Assertions.assertThrows(IllegalArgumentException.class, () -> buffer.rewind(mark1));
+			buffer.release(mark1);
+
+			int mark3 = buffer.mark();
+
+			Assertions.assertEquals(mark1, mark3);
+
+			buffer.commit();
+
+			Assertions.assertThrows(IllegalArgumentException.class, () -> buffer.rewind(mark3));
+			Assertions.assertEquals(0x03040506, buffer.decodeI32());
+		}
+	}
+
+	@Test
+	void testSkipBeyondEnd(@TempFile Path testFile) throws IOException {
+		Files.write(testFile, TEST_BYTES);
+		testSkipBeyondEnd(new MCDInputBuffer(ByteBuffer.wrap(TEST_BYTES), ByteOrder.BIG_ENDIAN));
+		try (FileChannel channel = FileChannel.open(testFile, StandardOpenOption.READ)) {
+			testSkipBeyondEnd(MCDInputBuffer.map(channel, ByteOrder.BIG_ENDIAN));
+		}
+		try (FileChannel channel = FileChannel.open(testFile, StandardOpenOption.READ)) {
+			testSkipBeyondEnd(new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN));
+		}
+		try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(TEST_BYTES))) {
+			testSkipBeyondEnd(new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN));
+		}
+	}
+
+	private void testSkipBeyondEnd(MCDInputBuffer buffer) throws IOException {
+		buffer.skip(TEST_BYTES.length - 1l);
+
+		Assertions.assertThrows(EOFException.class, () -> buffer.skip(2));
+	}
+
+	@Test
+	void testUncommittedSkip() throws IOException {
+		try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(TEST_BYTES))) {
+			MCDInputBuffer buffer = new MCDInputBuffer(channel, ByteOrder.BIG_ENDIAN, 4);
+
+			buffer.setAutoCommit(false);
+			buffer.decodeI8();
+			buffer.skip(3);
+
+			Assertions.assertEquals(4, buffer.getTotalRead());
+			Assertions.assertEquals(0x04050607, buffer.decodeI32());
+			Assertions.assertEquals(8, buffer.uncommittedView().length());
+
+			buffer.discard();
+
+			Assertions.assertEquals(0, buffer.getTotalRead());
+			Assertions.assertEquals((byte) 0x00, buffer.decodeI8());
+		}
+	}
+
 	@Test
 	void testDecodeMagic() throws IOException {
 		try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(TEST_BYTES))) {
@@ -163,4 +488,71 @@ class MCDInputBufferTest {
 		}
 	}
 
+	// Virtual channel placing the test bytes at a large offset (preceded by zero bytes) without any actual I/O
+	private static class LargeChannel implements SeekableByteChannel {
+
+		private final long offset;
+		private long position = 0;
+		private boolean open = true;
+
+		LargeChannel(long offset) {
+			this.offset = offset;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return this.open;
+		}
+
+		@Override
+		public void close() {
+			this.open = false;
+		}
+
+		@Override
+		public int read(@Nullable ByteBuffer dst) {
+			Objects.requireNonNull(dst);
+
+			int read = -1;
+
+			if (this.position < size()) {
+				read = (int) Math.min(dst.remaining(), size() - this.position);
+				for (int readIndex = 0; readIndex < read; readIndex++) {
+					long readPosition = this.position + readIndex;
+
+					dst.put(readPosition < this.offset ? 0 : TEST_BYTES[(int) (readPosition - this.offset)]);
+				}
+				this.position += read;
+			}
+			return read;
+		}
+
+		@Override
+		public int write(@Nullable ByteBuffer src) {
+			throw new NonWritableChannelException();
+		}
+
+		@Override
+		public long position() {
+			return this.position;
+		}
+
+		@Override
+		public SeekableByteChannel position(long newPosition) {
+			this.position = newPosition;
+			return this;
+		}
+
+		@Override
+		public long size() {
+			return this.offset + TEST_BYTES.length;
+		}
+
+		@Override
+		public SeekableByteChannel truncate(long size) {
+			throw new NonWritableChannelException();
+		}
+
+	}
+
 }
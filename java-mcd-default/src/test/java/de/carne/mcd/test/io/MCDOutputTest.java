@@ -16,20 +16,38 @@
  */
 package de.carne.mcd.test.io;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.Flushable;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.io.StreamCorruptedException;
+import java.io.StringWriter;
 import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import de.carne.mcd.AsyncMCDOutput;
+import de.carne.mcd.ChannelMCDOutput;
+import de.carne.mcd.JsonMCDOutput;
+import de.carne.mcd.MCDOutput;
 import de.carne.mcd.PlainMCDOutput;
 import de.carne.mcd.io.MCDOutputBuffer;
+import de.carne.mcd.io.MCDPrintBuffer;
+import de.carne.mcd.io.MCDTokenCache;
+import de.carne.mcd.io.MCDTokenStreamOutput;
+import de.carne.mcd.io.MCDTokenStreamReader;
 
 /**
- * Test {@linkplain PlainMCDOutput} and {@linkplain MCDOutputBuffer} class.
+ * Test {@linkplain PlainMCDOutput}, {@linkplain ChannelMCDOutput}, {@linkplain JsonMCDOutput},
+ * {@linkplain AsyncMCDOutput}, {@linkplain MCDTokenStreamOutput}, {@linkplain MCDOutputBuffer} and
+ * {@linkplain MCDPrintBuffer} class.
  */
 class MCDOutputTest {
 
@@ -42,6 +60,8 @@ class MCDOutputTest {
 	private static final String OUTPUT_OPERATOR = "operator";
 	private static final String OUTPUT_LABEL = "label";
 
+	private static final String OUTPUT_TOKEN = MCDTokenCache.text(MCDTokenCache.register("t\u00f6ken\ud83d\ude00"));
+
 	private static final String OUTPUT_EMPTY = "";
 	private static final String OUTPUT_TOTAL = ">>> begin\n" + "normal\n" + "normal\n" + "value\n" + "value\n"
 			+ "comment\n" + "comment\n" + "keyword\n" + "keyword\n" + "operator\n" + "operator\n" + "label\n"
@@ -73,7 +93,249 @@ class MCDOutputTest {
 		}
 	}
 
-	private void testOutput(ByteArrayOutputStream buffer, PlainMCDOutput out) throws IOException {
+	@Test
+	void testChannelOutput() throws IOException {
+		try (ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+				ChannelMCDOutput out = new ChannelMCDOutput(Channels.newChannel(buffer), true)) {
+			testOutput(buffer, out);
+		}
+	}
+
+	@Test
+	void testChannelOutputEncoding() throws IOException {
+		StringBuilder text = new StringBuilder();
+
+		for (int textIndex = 0; textIndex < 1000; textIndex++) {
+			text.append("text\u00e4\u20ac\ud83d\ude00").append(textIndex);
+		}
+		for (Charset charset : new Charset[] { StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1,
+				StandardCharsets.UTF_16 }) {
+			try (ByteArrayOutputStream plainBuffer = new ByteArrayOutputStream();
+					ByteArrayOutputStream channelBuffer = new ByteArrayOutputStream()) {
+				try (PlainMCDOutput plainOut = new PlainMCDOutput(
+						new PrintWriter(new OutputStreamWriter(plainBuffer, charset)), true);
+						ChannelMCDOutput channelOut = new ChannelMCDOutput(Channels.newChannel(channelBuffer), charset,
+								64, true)) {
+					printEncodingOutput(plainOut, text.toString());
+					printEncodingOutput(channelOut, text.toString());
+				}
+
+				Assertions.assertArrayEquals(plainBuffer.toByteArray(), channelBuffer.toByteArray());
+			}
+		}
+	}
+
+	private void printEncodingOutput(MCDOutput out, String text) throws IOException {
+		out.increaseIndent().println(OUTPUT_NORMAL).increaseIndent().increaseIndent().println();
+		out.printKeyword(OUTPUT_TOKEN).print(", ").printlnKeyword(OUTPUT_TOKEN);
+		out.print(text).printValue(OUTPUT_VALUE).println(text);
+		out.decreaseIndent().decreaseIndent().decreaseIndent().println(OUTPUT_END);
+	}
+
+	@Test
+	void testAsyncOutput() throws IOException {
+		try (ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+			PlainMCDOutput plainOut = new PlainMCDOutput(new PrintStream(buffer), true);
+
+			try (AsyncMCDOutput out = new AsyncMCDOutput(plainOut, 5, true)) {
+				MCDOutputBuffer bufferedOut = new MCDOutputBuffer(out);
+
+				printOutput(bufferedOut, true);
+				out.flush();
+
+				Assertions.assertEquals(OUTPUT_TOTAL, new String(buffer.toByteArray()));
+
+				for (int pass = 1; pass < 100; pass++) {
+					printOutput(bufferedOut, true);
+				}
+			}
+
+			StringBuilder expected = new StringBuilder();
+
+			for (int pass = 0; pass < 100; pass++) {
+				expected.append(OUTPUT_TOTAL);
+			}
+
+			Assertions.assertEquals(expected.toString(), new String(buffer.toByteArray()));
+			Assertions.assertThrows(IOException.class, () -> plainOut.println());
+		}
+	}
+
+	@Test
+	void testAsyncOutputFailure() throws IOException {
+		AsyncMCDOutput out = new AsyncMCDOutput(new PlainMCDOutput(new StringWriter(), true) {
+
+			@Override
+			public MCDOutput printError(String error) throws IOException {
+				throw new IOException(error);
+			}
+
+		}, false);
+
+		out.printError(OUTPUT_NORMAL);
+
+		IOException failure = Assertions.assertThrows(IOException.class, out::close);
+
+		Assertions.assertEquals(OUTPUT_NORMAL, failure.getCause().getMessage());
+		Assertions.assertThrows(IOException.class, () -> out.println());
+	}
+
+	@Test
+	void testAsyncOutputError() throws IOException {
+		AsyncMCDOutput out = new AsyncMCDOutput(new PlainMCDOutput(new StringWriter(), true) {
+
+			@Override
+			public MCDOutput printError(String error) throws IOException {
+				throw new AssertionError(error);
+			}
+
+		}, 1, false);
+
+		IOException failure = Assertions.assertThrows(IOException.class, () -> {
+			for (int pass = 0; pass < 100; pass++) {
+				out.printError(OUTPUT_NORMAL);
+			}
+			out.flush();
+		});
+
+		Assertions.assertEquals(OUTPUT_NORMAL, failure.getCause().getMessage());
+		Assertions.assertThrows(IOException.class, out::close);
+	}
+
+	@Test
+	void testAsyncOutputInterruptedClose() throws IOException {
+		StringWriter buffer = new StringWriter();
+
+		try {
+			AsyncMCDOutput out = new AsyncMCDOutput(new PlainMCDOutput(buffer, true), 1, false);
+
+			out.println(OUTPUT_NORMAL);
+			out.println(OUTPUT_VALUE);
+			Thread.currentThread().interrupt();
+			out.close();
+
+			Assertions.assertTrue(Thread.currentThread().isInterrupted());
+			Assertions.assertEquals(OUTPUT_NORMAL + System.lineSeparator() + OUTPUT_VALUE + System.lineSeparator(),
+					buffer.toString());
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	@Test
+	void testJsonOutput() throws IOException {
+		try (ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+			try (JsonMCDOutput out = new JsonMCDOutput(buffer)) {
+				out.printLabel("0000:").print(" ").printKeyword("mov").print(" ").printKeyword("rax").print(", ");
+				out.printValue("0x").printValue("08").print(" ").printComment("; ").printComment("comment").println();
+				out.println();
+				out.increaseIndent().println(OUTPUT_NORMAL).decreaseIndent();
+				out.printlnError("\"\\\n\u00e4");
+				out.printKeyword("retn");
+			}
+
+			String expected = "{\"label\":\"0000:\",\"mnemonic\":\"mov\","
+					+ "\"operands\":[[{\"kind\":\"keyword\",\"text\":\"rax\"}],"
+					+ "[{\"kind\":\"value\",\"text\":\"0x08\"}]],"
+					+ "\"comment\":\"; comment\"}\n"
+					+ "{\"indent\":1,\"tokens\":[{\"kind\":\"text\",\"text\":\"normal\"}]}\n"
+					+ "{\"tokens\":[{\"kind\":\"error\",\"text\":\"\\\"\\\\\\n\u00e4\"}]}\n"
+					+ "{\"mnemonic\":\"retn\"}\n";
+
+			Assertions.assertEquals(expected, new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	void testTokenStreamOutput() throws IOException {
+		StringBuilder literal = new StringBuilder();
+
+		while (literal.length() < 16 * 1024) {
+			literal.append(OUTPUT_NORMAL);
+		}
+		try (ByteArrayOutputStream tokenBuffer = new ByteArrayOutputStream()) {
+			try (MCDTokenStreamOutput tokenOut = new MCDTokenStreamOutput(tokenBuffer, true)) {
+				for (int pass = 0; pass < 10; pass++) {
+					printOutput(new MCDOutputBuffer(tokenOut), true);
+				}
+				tokenOut.println(literal.toString());
+			}
+
+			byte[] tokenStream = tokenBuffer.toByteArray();
+
+			try (ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+					PlainMCDOutput out = new PlainMCDOutput(new PrintStream(buffer), true)) {
+				new MCDTokenStreamReader(new ByteArrayInputStream(tokenStream)).replay(out);
+				out.flush();
+
+				StringBuilder expected = new StringBuilder();
+
+				for (int pass = 0; pass < 10; pass++) {
+					expected.append(OUTPUT_TOTAL);
+				}
+				expected.append(literal).append(System.lineSeparator());
+
+				Assertions.assertEquals(expected.toString(), new String(buffer.toByteArray()));
+				Assertions.assertTrue(tokenStream.length - literal.length() < buffer.size() / 10);
+			}
+			Assertions.assertThrows(StreamCorruptedException.class,
+					() -> new MCDTokenStreamReader(new ByteArrayInputStream(new byte[] { 'X', 'M', 'L', '!', 1 }))
+							.replay(new MCDPrintBuffer()));
+			Assertions.assertThrows(EOFException.class,
+					() -> new MCDTokenStreamReader(new ByteArrayInputStream(tokenStream, 0, tokenStream.length - 1))
+							.replay(new MCDPrintBuffer()));
+		}
+	}
+
+	@Test
+	void testOutputBufferCommitOrder() throws IOException {
+		MCDPrintBuffer out = new MCDPrintBuffer();
+		MCDOutputBuffer bufferedOut = new MCDOutputBuffer(out);
+
+		bufferedOut.print(OUTPUT_NORMAL).println();
+
+		Assertions.assertEquals(OUTPUT_NORMAL, out.toString());
+
+		bufferedOut.setAutoCommit(false);
+		bufferedOut.printValue(OUTPUT_VALUE);
+
+		Assertions.assertEquals(OUTPUT_NORMAL, out.toString());
+
+		bufferedOut.setAutoCommit(true);
+		bufferedOut.increaseIndent().printlnKeyword(OUTPUT_KEYWORD).decreaseIndent().print(OUTPUT_NORMAL);
+
+		MCDPrintBuffer expectedOut = new MCDPrintBuffer();
+
+		expectedOut.print(OUTPUT_NORMAL).println().printValue(OUTPUT_VALUE).increaseIndent()
+				.printlnKeyword(OUTPUT_KEYWORD).decreaseIndent().print(OUTPUT_NORMAL);
+
+		Assertions.assertEquals(expectedOut.toString(), out.toString());
+		Assertions.assertTrue(MCDOutputBuffer.discarding().print(OUTPUT_NORMAL).toString().isEmpty());
+	}
+
+	@Test
+	void testPrintBuffer() throws IOException {
+		MCDPrintBuffer out = new MCDPrintBuffer();
+
+		for (int pass = 0; pass < 2; pass++) {
+			out.clear();
+
+			Assertions.assertTrue(out.isEmtpy());
+
+			out.println(OUTPUT_BEGIN);
+			printOutputLines(out);
+			out.increaseIndent();
+			printOutputLines(out);
+			out.decreaseIndent();
+			out.println(OUTPUT_END);
+
+			Assertions.assertFalse(out.isEmtpy());
+			Assertions.assertEquals(OUTPUT_TOTAL, out.toString());
+		}
+	}
+
+	private <T extends MCDOutput & Flushable> void testOutput(ByteArrayOutputStream buffer, T out)
+			throws IOException {
 		printOutput(new MCDOutputBuffer(out), false);
 		out.flush();
 		Assertions.assertEquals(OUTPUT_EMPTY, new String(buffer.toByteArray()));
@@ -92,7 +354,7 @@ class MCDOutputTest {
 		out.println(OUTPUT_END);
 	}
 
-	private void printOutputLines(MCDOutputBuffer out) throws IOException {
+	private void printOutputLines(MCDOutput out) throws IOException {
 		out.print(OUTPUT_NORMAL).println();
 		out.println(OUTPUT_NORMAL);
 		out.printValue(OUTPUT_VALUE).println();
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd.test.io;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.carne.mcd.io.MCDTokenCache;
+
+/**
+ * Test {@linkplain MCDTokenCache} class.
+ */
+class MCDTokenCacheTest {
+
+	@Test
+	void testPreregisteredTokens() {
+		Assertions.assertEquals(MCDTokenCache.LEFT_BRACKET, MCDTokenCache.id("["));
+		Assertions.assertEquals(MCDTokenCache.RIGHT_BRACKET, MCDTokenCache.id("]"));
+		Assertions.assertEquals(MCDTokenCache.COMMA, MCDTokenCache.id(","));
+		Assertions.assertEquals(MCDTokenCache.COMMA_SPACE, MCDTokenCache.id(", "));
+		Assertions.assertEquals(MCDTokenCache.SPACE, MCDTokenCache.id(" "));
+		Assertions.assertEquals(", ", MCDTokenCache.text(MCDTokenCache.COMMA_SPACE));
+	}
+
+	@Test
+	void testRegisterTokens() {
+		int globalSize = MCDTokenCache.size();
+		MCDTokenCache.Registry registry = new MCDTokenCache.Registry(4);
+		String token = "t\u00f6ken";
+
+		Assertions.assertEquals(MCDTokenCache.NO_TOKEN, registry.id(token));
+
+		int id = registry.register(token);
+
+		Assertions.assertEquals(id, registry.register(new String(token.toCharArray())));
+		Assertions.assertEquals(id, registry.id(token));
+		Assertions.assertTrue(id < registry.size());
+		Assertions.assertEquals(token, registry.text(id));
+		Assertions.assertArrayEquals(token.getBytes(StandardCharsets.UTF_8), registry.utf8Bytes(id));
+
+		registry.registerAll("token1", "token2", token);
+
+		Assertions.assertEquals(id, registry.id(token));
+		Assertions.assertEquals(registry.id("token1") + 1, registry.id("token2"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> registry.text(MCDTokenCache.NO_TOKEN));
+		Assertions.assertEquals(globalSize, MCDTokenCache.size());
+		Assertions.assertEquals(MCDTokenCache.NO_TOKEN, MCDTokenCache.id(token));
+	}
+
+	@Test
+	void testBoundedRegistry() {
+		MCDTokenCache.Registry registry = new MCDTokenCache.Registry(2);
+
+		registry.registerAll("token1", "token2");
+
+		Assertions.assertEquals(2, registry.size());
+		Assertions.assertEquals(MCDTokenCache.NO_TOKEN, registry.register("token3"));
+		Assertions.assertEquals(MCDTokenCache.NO_TOKEN, registry.id("token3"));
+		Assertions.assertEquals(1, registry.register("token2"));
+		Assertions.assertEquals(2, registry.size());
+	}
+
+	@Test
+	void testGrowingRegistry() {
+		int tokenCount = 1000;
+		MCDTokenCache.Registry registry = new MCDTokenCache.Registry(tokenCount);
+
+		for (int tokenIndex = 0; tokenIndex < tokenCount; tokenIndex++) {
+			Assertions.assertEquals(tokenIndex, registry.register("token" + tokenIndex));
+			Assertions.assertEquals(tokenIndex + 1, registry.size());
+			Assertions.assertThrows(IllegalArgumentException.class, () -> registry.utf8Bytes(registry.size()));
+		}
+		for (int tokenIndex = 0; tokenIndex < tokenCount; tokenIndex++) {
+			String token = "token" + tokenIndex;
+
+			Assertions.assertEquals(tokenIndex, registry.id(token));
+			Assertions.assertEquals(token, registry.text(tokenIndex));
+			Assertions.assertArrayEquals(token.getBytes(StandardCharsets.UTF_8), registry.utf8Bytes(tokenIndex));
+		}
+		Assertions.assertEquals(MCDTokenCache.NO_TOKEN, registry.register("token" + tokenCount));
+	}
+
+}
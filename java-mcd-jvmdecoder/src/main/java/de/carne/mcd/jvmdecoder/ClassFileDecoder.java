@@ -19,6 +19,7 @@ package de.carne.mcd.jvmdecoder;
 import java.io.IOException;
 import java.nio.ByteOrder;
 
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.MachineCodeDecoder;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
@@ -44,7 +45,8 @@ public class ClassFileDecoder extends MachineCodeDecoder {
 	}
 
 	@Override
-	protected long decode0(MCDInputBuffer in, MCDOutputBuffer out, long offset, long limit) throws IOException {
+	protected long decode0(DecodeContext context, MCDInputBuffer in, MCDOutputBuffer out, long offset, long limit)
+			throws IOException {
 		DecodedClassInfo decoded = DecodedClassInfo.decode(in);
 
 		ClassPrinter.getInstance(out, decoded).print();
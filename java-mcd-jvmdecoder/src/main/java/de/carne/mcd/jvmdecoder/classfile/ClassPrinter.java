@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import de.carne.mcd.io.MCDOutputBuffer;
+import de.carne.mcd.io.MCDTokenCache;
 import de.carne.mcd.jvmdecoder.classfile.attribute.Attribute;
 import de.carne.mcd.jvmdecoder.classfile.attribute.Attributes;
 import de.carne.mcd.jvmdecoder.classfile.attribute.CodeAttribute;
@@ -218,6 +219,14 @@ public abstract class ClassPrinter {
 	 */
 	public static final String S_DEPRECATED = "@Deprecated";
 
+	static {
+		MCDTokenCache.registerAll(S_MODULE, S_PACKAGE, S_CLASS, S_INTERFACE, S_ENUM, S_ANNOTATION, S_REQUIRES,
+				S_EXPORTS, S_OPENS, S_TO, S_USES, S_PROVIDES, S_WITH, S_SUPER, S_EXTENDS, S_IMPLEMENTS, S_THROWS,
+				S_PUBLIC, S_PRIVATE, S_PROTECTED, S_STATIC, S_FINAL, S_VOLATILE, S_TRANSIENT, S_BRIDGE, S_VARARGS,
+				S_SYNTHETIC, S_TRANSITIVE, S_OPEN, S_MANDATED, S_SYNCHRONIZED, S_NATIVE, S_ABSTRACT, S_BYTE, S_CHAR,
+				S_DOUBLE, S_FLOAT, S_INT, S_LONG, S_SHORT, S_BOOLEAN, S_VOID, S_DEPRECATED);
+	}
+
 	protected final MCDOutputBuffer out;
 	protected final ClassInfo classInfo;
 	protected final String classPackage;
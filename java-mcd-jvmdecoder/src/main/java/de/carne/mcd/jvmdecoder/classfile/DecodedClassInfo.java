@@ -17,7 +17,6 @@
 package de.carne.mcd.jvmdecoder.classfile;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -377,11 +376,11 @@ public class DecodedClassInfo implements ClassInfo {
 
 	private void decodeInterfaces(MCDInputBuffer buffer) throws IOException {
 		int interfacesCount = Short.toUnsignedInt(buffer.decodeI16());
-		ByteBuffer interfacesIndices = buffer.decodeI16Array(interfacesCount);
+		MCDInputBuffer.ArrayView interfacesIndices = buffer.decodeI16ArrayView(interfacesCount);
 		List<ClassName> interfaces = new ArrayList<>(interfacesCount);
 
-		while (interfacesIndices.hasRemaining()) {
-			int interfaceIndex = Short.toUnsignedInt(interfacesIndices.getShort());
+		for (int interfacesIndex = 0; interfacesIndex < interfacesCount; interfacesIndex++) {
+			int interfaceIndex = Short.toUnsignedInt(interfacesIndices.getI16(interfacesIndex));
 
 			interfaces.add(ClassName.fromConstant(resolveConstant(interfaceIndex, ClassConstant.class)));
 		}
@@ -642,7 +641,9 @@ public class DecodedClassInfo implements ClassInfo {
 
 	private TypeAnnotationTarget decodeLocalvarTarget(int targetType, MCDInputBuffer buffer) throws IOException {
 		int tableLength = Short.toUnsignedInt(buffer.decodeI16());
-		short[] table = MCDInputBuffer.toI16Array(buffer.decodeI16Array(tableLength));
+		short[] table = new short[tableLength];
+
+		buffer.decodeI16Array(table);
 
 		return new TypeAnnotationTarget.Localvar(targetType, table);
 	}
@@ -668,7 +669,9 @@ public class DecodedClassInfo implements ClassInfo {
 
 	private TypeAnnotationPath decodeTypeAnnotationPath(MCDInputBuffer buffer) throws IOException {
 		int pathLength = Byte.toUnsignedInt(buffer.decodeI8()) * 2;
-		byte[] path = MCDInputBuffer.toI8Array(buffer.decodeI8Array(pathLength));
+		byte[] path = new byte[pathLength];
+
+		buffer.decodeI8Array(path);
 
 		return new TypeAnnotationPath(path);
 	}
@@ -755,11 +758,11 @@ public class DecodedClassInfo implements ClassInfo {
 
 	private ExceptionsAttribute decodeExceptionsAttribute(MCDInputBuffer buffer) throws IOException {
 		int exceptionsCount = Short.toUnsignedInt(buffer.decodeI16());
-		ByteBuffer exceptionsBuffer = buffer.decodeI16Array(exceptionsCount);
+		MCDInputBuffer.ArrayView exceptionsView = buffer.decodeI16ArrayView(exceptionsCount);
 		int[] exceptions = new int[exceptionsCount];
 
 		for (int exceptionIndex = 0; exceptionIndex < exceptionsCount; exceptionIndex++) {
-			exceptions[exceptionIndex] = Short.toUnsignedInt(exceptionsBuffer.getShort());
+			exceptions[exceptionIndex] = Short.toUnsignedInt(exceptionsView.getI16(exceptionIndex));
 		}
 		return new ExceptionsAttribute(this, exceptions);
 	}
@@ -18,11 +18,12 @@ package de.carne.mcd.jvmdecoder.classfile.bytecode;
 
 import java.io.IOException;
 
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.io.MCDOutputBuffer;
 
 @FunctionalInterface
 interface ByteOperandDecoder {
 
-	void decode(int pc, byte operand, MCDOutputBuffer out) throws IOException;
+	void decode(DecodeContext context, long pc, byte operand, MCDOutputBuffer out) throws IOException;
 
 }
@@ -20,7 +20,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
-import de.carne.mcd.MachineCodeDecoder;
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
 
@@ -32,34 +32,34 @@ public enum ByteOperandType implements OperandType {
 	/**
 	 * Immediate byte value.
 	 */
-	IMMEDIATE_VALUE((pc, operand, out) -> out.printValue(Byte.toString(operand))),
+	IMMEDIATE_VALUE((context, pc, operand, out) -> out.printValue(Byte.toString(operand))),
 
 	/**
 	 * Array type value.
 	 */
-	ARRAY_TYPE((pc, operand, out) -> out.printValue(Byte.toString(operand)).print(" ").printComment("// ")
+	ARRAY_TYPE((context, pc, operand, out) -> out.printValue(Byte.toString(operand)).print(" ").printComment("// ")
 			.printComment(arrayTypeComment(operand))),
 
 	/**
 	 * Increment byte value (for iinc).
 	 */
-	INC_CONST((pc, operand, out) -> out.print(", ").printValue(Byte.toString(operand))),
+	INC_CONST((context, pc, operand, out) -> out.print(", ").printValue(Byte.toString(operand))),
 
 	/**
 	 * Dimension byte value (for multianewarray).
 	 */
-	DIMENSION((pc, operand, out) -> out.print(", ").printValue(Byte.toString(operand))),
+	DIMENSION((context, pc, operand, out) -> out.print(", ").printValue(Byte.toString(operand))),
 
 	/**
 	 * Index into the local variable table.
 	 */
-	LOCAL_VARIABLE_INDEX((pc, operand, out) -> out.printValue("local_" + Byte.toUnsignedInt(operand))),
+	LOCAL_VARIABLE_INDEX((context, pc, operand, out) -> out.printValue("local_" + Byte.toUnsignedInt(operand))),
 
 	/**
 	 * Index into the run-time constant pool.
 	 */
-	RUNTIME_CONSTANT_INDEX((pc, operand, out) -> out.printValue("#" + Byte.toUnsignedInt(operand)).print(" ")
-			.printComment("// ").printComment(runtimeConstantComment(operand)));
+	RUNTIME_CONSTANT_INDEX((context, pc, operand, out) -> out.printValue("#" + Byte.toUnsignedInt(operand)).print(" ")
+			.printComment("// ").printComment(runtimeConstantComment(context, operand)));
 
 	private static final Map<Byte, String> ARRAY_TYPE_COMMENTS = new HashMap<>();
 
@@ -75,8 +75,13 @@ public enum ByteOperandType implements OperandType {
 	}
 
 	@Override
-	public void decode(int pc, MCDInputBuffer buffer, MCDOutputBuffer out) throws IOException {
-		this.decoder.decode(pc, buffer.decodeI8(), out);
+	public void decode(DecodeContext context, long pc, MCDInputBuffer buffer, MCDOutputBuffer out)
+			throws IOException {
+		byte operand = buffer.decodeI8();
+
+		if (!out.isDiscarding()) {
+			this.decoder.decode(context, pc, operand, out);
+		}
 	}
 
 	static {
@@ -94,8 +99,8 @@ public enum ByteOperandType implements OperandType {
 		return ARRAY_TYPE_COMMENTS.getOrDefault(arrayType, "?");
 	}
 
-	private static String runtimeConstantComment(byte index) {
-		return MachineCodeDecoder.getDecoder(BytecodeDecoder.class).getClassInfo()
+	private static String runtimeConstantComment(DecodeContext context, byte index) {
+		return context.decoder(BytecodeDecoder.class).getClassInfo()
 				.resolveRuntimeSymbol(Byte.toUnsignedInt(index));
 	}
 
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.nio.ByteOrder;
 import java.util.Optional;
 
+import de.carne.mcd.DecodeContext;
+import de.carne.mcd.DecodedInstructionSink;
 import de.carne.mcd.MachineCodeDecoder;
 import de.carne.mcd.instruction.InstructionIndex;
 import de.carne.mcd.io.MCDInputBuffer;
@@ -66,7 +68,8 @@ public class BytecodeDecoder extends MachineCodeDecoder {
 	}
 
 	@Override
-	protected long decode0(MCDInputBuffer in, MCDOutputBuffer out, long offset, long limit) throws IOException {
+	protected long decode0(DecodeContext context, MCDInputBuffer in, MCDOutputBuffer out, long offset, long limit)
+			throws IOException {
 		out.printComment("// max_stack: ").printlnComment(Integer.toString(Short.toUnsignedInt(in.decodeI16())));
 		out.printComment("// max_locals: ").printlnComment(Integer.toString(Short.toUnsignedInt(in.decodeI16())));
 
@@ -75,27 +78,64 @@ public class BytecodeDecoder extends MachineCodeDecoder {
 		InstructionIndex instructionIndex = getBytecodeInstructionIndex();
 		InstructionIndex.LookupResult lookupResult;
 		long pc = offset;
+		DecodedInstructionSink sink = context.instructionSink();
+		BytecodeDecoderState decoderState = context.state(BytecodeDecoderState.class);
 
+		// The code slice ends with the code attribute, hence reading ahead never consumes any bytes beyond it
+		codeBuffer.setReadAhead(true);
 		codeBuffer.setAutoCommit(false);
+		decoderState.reset(0);
 		while ((lookupResult = instructionIndex.lookupNextInstruction(codeBuffer, false)) != null) {
-			String pcString = HexFormat.LOWER_CASE.format((short) pc) + ":";
+			long instructionPc = pc;
 
-			out.printLabel(pcString).print(" ");
+			if (sink == null) {
+				out.printLabel(formatPc(instructionPc) + ":").print(" ");
+			}
 			try {
-				lookupResult.decode(pc, codeBuffer, out);
+				lookupResult.decode(context, instructionPc, codeBuffer, out);
 				pc = offset + codeBuffer.getTotalRead();
 			} catch (IOException e) {
 				String opcodeString = lookupResult.opcode().toString();
 
-				LOG.warning(e, "Decode failure at {0} for opcode: {1}", pcString, opcodeString);
+				LOG.warning(e, "Decode failure at {0} for opcode: {1}", formatPc(instructionPc), opcodeString);
 
 				out.printlnError(opcodeString);
+				decoderState.clear();
+			}
+			if (sink != null) {
+				reportInstruction(sink, instructionPc, codeBuffer, decoderState.mnemonicId(),
+						decoderState.decodedOperands());
 			}
 			codeBuffer.commit();
+			decoderState.reset(codeBuffer.getTotalRead());
 		}
 		return in.getTotalRead();
 	}
 
+	@Override
+	public boolean supportsInstructionSink() {
+		return true;
+	}
+
+	@Override
+	protected Object newDecodeState() {
+		return new BytecodeDecoderState();
+	}
+
+	/**
+	 * Formats a program counter value.
+	 * <p>
+	 * Program counter values within the 64 KiB code array limit are formatted as 16 bit values. Any other value (e.g.
+	 * due to a non-zero decode offset or a malformed branch offset) is formatted with its full width.
+	 * </p>
+	 *
+	 * @param pc the program counter value to format.
+	 * @return the formatted program counter value.
+	 */
+	public static String formatPc(long pc) {
+		return (0 <= pc && pc <= 0xffff ? HexFormat.LOWER_CASE.format((short) pc) : HexFormat.LOWER_CASE.format(pc));
+	}
+
 	@SuppressWarnings("resource")
 	private static InstructionIndex getBytecodeInstructionIndex() throws IOException {
 		InstructionIndex instructionIndex;
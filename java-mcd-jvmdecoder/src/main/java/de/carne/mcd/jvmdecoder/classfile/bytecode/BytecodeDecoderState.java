@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd.jvmdecoder.classfile.bytecode;
+
+import de.carne.mcd.DecodedOperands;
+import de.carne.mcd.io.MCDTokenCache;
+
+/**
+ * Per decode call state of the {@linkplain BytecodeDecoder}.
+ */
+final class BytecodeDecoderState {
+
+	private final DecodedOperands decodedOperands = new DecodedOperands();
+	private int mnemonicId = MCDTokenCache.NO_TOKEN;
+	private long instructionStart = 0;
+
+	void reset(long start) {
+		this.instructionStart = start;
+		clear();
+	}
+
+	void clear() {
+		this.mnemonicId = MCDTokenCache.NO_TOKEN;
+		this.decodedOperands.clear();
+	}
+
+	void setMnemonicId(int mnemonicId) {
+		this.mnemonicId = mnemonicId;
+	}
+
+	int mnemonicId() {
+		return this.mnemonicId;
+	}
+
+	void addOperand(int typeId, long operandStart, long operandEnd) {
+		this.decodedOperands.add(typeId, (int) (operandStart - this.instructionStart),
+				(int) (operandEnd - operandStart));
+	}
+
+	DecodedOperands decodedOperands() {
+		return this.decodedOperands;
+	}
+
+}
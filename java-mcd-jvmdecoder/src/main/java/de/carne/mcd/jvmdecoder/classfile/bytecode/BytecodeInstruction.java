@@ -22,10 +22,12 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.instruction.Instruction;
 import de.carne.mcd.instruction.InstructionOpcode;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
+import de.carne.mcd.io.MCDTokenCache;
 
 /**
  * A single bytecode instruction with a variable number of operands.
@@ -33,7 +35,9 @@ import de.carne.mcd.io.MCDOutputBuffer;
 public class BytecodeInstruction implements Instruction {
 
 	private final String mnemonic;
+	private final int mnemonicId;
 	private final OperandType[] operands;
+	private final int[] operandIds;
 
 	/**
 	 * Constructs a new {@linkplain BytecodeInstruction} instance.
@@ -43,7 +47,12 @@ public class BytecodeInstruction implements Instruction {
 	 */
 	public BytecodeInstruction(String mnemonic, OperandType[] operands) {
 		this.mnemonic = mnemonic;
+		this.mnemonicId = MCDTokenCache.register(mnemonic);
 		this.operands = operands;
+		this.operandIds = new int[operands.length];
+		for (int operandIndex = 0; operandIndex < operands.length; operandIndex++) {
+			this.operandIds[operandIndex] = MCDTokenCache.register(operands[operandIndex].name());
+		}
 	}
 
 	static BytecodeInstruction load(DataInput in) throws IOException {
@@ -94,15 +103,32 @@ public class BytecodeInstruction implements Instruction {
 	}
 
 	@Override
-	public void decode(long ip, InstructionOpcode opcode, MCDInputBuffer in, MCDOutputBuffer out)
-			throws IOException {
+	public void decode(DecodeContext context, long ip, InstructionOpcode opcode, MCDInputBuffer in,
+			MCDOutputBuffer out) throws IOException {
+		BytecodeDecoderState decoderState = context.state(BytecodeDecoderState.class);
+		boolean structured = context.instructionSink() != null;
+
+		if (structured) {
+			decoderState.setMnemonicId(this.mnemonicId);
+		}
 		if (this.operands.length > 0) {
-			out.printKeyword(this.mnemonic).print(" ");
-			for (OperandType operand : this.operands) {
-				operand.decode((int) ip, in, out);
+			boolean formatted = !out.isDiscarding();
+
+			if (formatted) {
+				out.printKeyword(this.mnemonic).print(" ");
+			}
+			for (int operandIndex = 0; operandIndex < this.operands.length; operandIndex++) {
+				long operandStart = in.getTotalRead();
+
+				this.operands[operandIndex].decode(context, ip, in, out);
+				if (structured) {
+					decoderState.addOperand(this.operandIds[operandIndex], operandStart, in.getTotalRead());
+				}
+			}
+			if (formatted) {
+				out.println();
 			}
-			out.println();
-		} else {
+		} else if (!out.isDiscarding()) {
 			out.printlnKeyword(this.mnemonic);
 		}
 	}
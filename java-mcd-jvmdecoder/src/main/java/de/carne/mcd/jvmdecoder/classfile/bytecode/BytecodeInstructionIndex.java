@@ -17,10 +17,9 @@
 package de.carne.mcd.jvmdecoder.classfile.bytecode;
 
 import java.io.IOException;
-import java.net.URL;
-import java.util.Objects;
 
 import de.carne.mcd.instruction.InstructionIndex;
+import de.carne.mcd.instruction.InstructionIndex.CacheMode;
 
 /**
  * Helper class providing access to the bytecode instruction index.
@@ -33,15 +32,17 @@ public final class BytecodeInstructionIndex {
 
 	/**
 	 * Opens the bytecode instruction index.
+	 * <p>
+	 * The index data is compiled into {@linkplain BytecodeInstructionIndexData} and all instructions are loaded up
+	 * front.
+	 * </p>
 	 *
 	 * @return the bytecode instruction index.
 	 * @throws IOException if an I/O error occurs while opening the index.
 	 */
 	public static InstructionIndex open() throws IOException {
-		URL instructionIndexUrl = Objects.requireNonNull(
-				BytecodeInstructionIndex.class.getResource(BytecodeInstructionIndex.class.getSimpleName() + ".bin"));
-
-		return InstructionIndex.open(new BytecodeInstructionFactory(), instructionIndexUrl);
+		return InstructionIndex.open(new BytecodeInstructionFactory(), BytecodeInstructionIndexData.indexData(),
+				CacheMode.PRELOAD);
 	}
 
 }
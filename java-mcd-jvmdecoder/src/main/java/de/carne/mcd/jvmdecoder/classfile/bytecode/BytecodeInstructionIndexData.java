@@ -0,0 +1,260 @@
+package de.carne.mcd.jvmdecoder.classfile.bytecode;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Generated by InstructionIndexBuilder - do not edit.
+ */
+public final class BytecodeInstructionIndexData {
+
+	private static final int INDEX_DATA_SIZE = 5332;
+
+	private static final String[] INDEX_DATA = {
+			"\000\000\325\061\001\000\000\000\000\000\001\001\000\000\011\000\001\002\000\000\032\000\001\003"
+			+ "\000\000\051\000\001\004\000\000\067\000\001\005\000\000\105\000\001\006\000\000\123\000\001\007"
+			+ "\000\000\141\000\001\010\000\000\157\000\001\011\000\000\175\000\001\012\000\000\213\000\001\013"
+			+ "\000\000\231\000\001\014\000\000\247\000\001\015\000\000\265\000\001\016\000\000\303\000\001\017"
+			+ "\000\000\321\000\001\020\000\000\337\000\001\021\000\000\376\000\001\022\000\000\035\001\001\023"
+			+ "\000\000\100\001\001\024\000\000\145\001\001\025\000\000\213\001\001\026\000\000\256\001\001\027"
+			+ "\000\000\321\001\001\030\000\000\364\001\001\031\000\000\027\002\001\032\000\000\072\002\001\033"
+			+ "\000\000\107\002\001\034\000\000\124\002\001\035\000\000\141\002\001\036\000\000\156\002\001\037"
+			+ "\000\000\173\002\001\040\000\000\210\002\001\041\000\000\225\002\001\042\000\000\242\002\001\043"
+			+ "\000\000\257\002\001\044\000\000\274\002\001\045\000\000\311\002\001\046\000\000\326\002\001\047"
+			+ "\000\000\343\002\001\050\000\000\360\002\001\051\000\000\375\002\001\052\000\000\012\003\001\053"
+			+ "\000\000\027\003\001\054\000\000\044\003\001\055\000\000\061\003\001\056\000\000\076\003\001\057"
+			+ "\000\000\112\003\001\060\000\000\126\003\001\061\000\000\142\003\001\062\000\000\156\003\001\063"
+			+ "\000\000\172\003\001\064\000\000\206\003\001\065\000\000\222\003\001\066\000\000\236\003\001\067"
+			+ "\000\000\302\003\001\070\000\000\346\003\001\071\000\000\012\004\001\072\000\000\056\004\001\073"
+			+ "\000\000\122\004\001\074\000\000\140\004\001\075\000\000\156\004\001\076\000\000\174\004\001\077"
+			+ "\000\000\212\004\001\100\000\000\230\004\001\101\000\000\246\004\001\102\000\000\264\004\001\103"
+			+ "\000\000\302\004\001\104\000\000\320\004\001\105\000\000\336\004\001\106\000\000\354\004\001\107"
+			+ "\000\000\372\004\001\110\000\000\010\005\001\111\000\000\026\005\001\112\000\000\044\005\001\113"
+			+ "\000\000\062\005\001\114\000\000\100\005\001\115\000\000\116\005\001\116\000\000\134\005\001\117"
+			+ "\000\000\152\005\001\120\000\000\167\005\001\121\000\000\204\005\001\122\000\000\221\005\001\123"
+			+ "\000\000\236\005\001\124\000\000\253\005\001\125\000\000\270\005\001\126\000\000\305\005\001\127"
+			+ "\000\000\322\005\001\130\000\000\333\005\001\131\000\000\345\005\001\132\000\000\356\005\001\133"
+			+ "\000\000\372\005\001\134\000\000\006\006\001\135\000\000\020\006\001\136\000\000\035\006\001\137"
+			+ "\000\000\052\006\001\140\000\000\064\006\001\141\000\000\076\006\001\142\000\000\110\006\001\143"
+			+ "\000\000\122\006\001\144\000\000\134\006\001\145\000\000\146\006\001\146\000\000\160\006\001\147"
+			+ "\000\000\172\006\001\150\000\000\204\006\001\151\000\000\216\006\001\152\000\000\230\006\001\153"
+			+ "\000\000\242\006\001\154\000\000\254\006\001\155\000\000\266\006\001\156\000\000\300\006\001\157"
+			+ "\000\000\312\006\001\160\000\000\324\006\001\161\000\000\336\006\001\162\000\000\350\006\001\163"
+			+ "\000\000\362\006\001\164\000\000\374\006\001\165\000\000\006\007\001\166\000\000\020\007\001\167"
+			+ "\000\000\032\007\001\170\000\000\044\007\001\171\000\000\056\007\001\172\000\000\070\007\001\173"
+			+ "\000\000\102\007\001\174\000\000\114\007\001\175\000\000\127\007\001\176\000\000\142\007\001\177"
+			+ "\000\000\154\007\001\200\000\000\166\007\001\201\000\000\177\007\001\202\000\000\210\007\001\203"
+			+ "\000\000\222\007\001\204\000\000\234\007\001\205\000\000\313\007\001\206\000\000\324\007\001\207"
+			+ "\000\000\335\007\001\210\000\000\346\007\001\211\000\000\357\007\001\212\000\000\370\007\001\213"
+			+ "\000\000\001\010\001\214\000\000\012\010\001\215\000\000\023\010\001\216\000\000\034\010\001\217"
+			+ "\000\000\045\010\001\220\000\000\056\010\001\221\000\000\067\010\001\222\000\000\100\010\001\223"
+			+ "\000\000\111\010\001\224\000\000\122\010\001\225\000\000\134\010\001\226\000\000\147\010\001\227"
+			+ "\000\000\162\010\001\230\000\000\175\010\001\231\000\000\210\010\001\232\000\000\234\010\001\233"
+			+ "\000\000\260\010\001\234\000\000\304\010\001\235\000\000\330\010\001\236\000\000\354\010\001\237"
+			+ "\000\000\000\011\001\240\000\000\031\011\001\241\000\000\062\011\001\242\000\000\113\011\001\243"
+			+ "\000\000\144\011\001\244\000\000\175\011\001\245\000\000\226\011\001\246\000\000\257\011\001\247"
+			+ "\000\000\310\011\001\250\000\000\334\011\001\251\000\000\357\011\001\252\000\000\020\012\001\253"
+			+ "\000\000\076\012\001\254\000\000\156\012\001\255\000\000\173\012\001\256\000\000\210\012\001\257"
+			+ "\000\000\225\012\001\260\000\000\242\012\001\261\000\000\257\012\001\262\000\000\273\012\001\263"
+			+ "\000\000\344\012\001\264\000\000\015\013\001\265\000\000\065\013\001\266\000\000\135\013\001\267"
+			+ "\000\000\212\013\001\270\000\000\267\013\001\271\000\000\343\013\001\272\000\000\034\014\001\273"
+			+ "\000\000\123\014\001\274\000\000\166\014\001\275\000\000\222\014\001\276\000\000\273\014\001\277"
+			+ "\000\000\314\014\001\300\000\000\330\014\001\301\000\000\001\015\001\302\000\000\053\015\001\303"
+			+ "\000\000\075\015\001\305\000\000\116\015\001\306\000\000\211\015\001\307\000\000\237\015\001\310"
+			+ "\000\000\270\015\001\311\000\000\316\015\002\304\025\000\343\015\002\304\026\000\013\016\002\304"
+			+ "\027\000\063\016\002\304\030\000\133\016\002\304\031\000\203\016\002\304\066\000\253\016\002\304"
+			+ "\067\000\324\016\002\304\070\000\375\016\002\304\071\000\046\017\002\304\072\000\117\017\002\304"
+			+ "\204\000\170\017\002\304\251\000\254\017\000\003\156\157\160\000\000\000\000\000\013\141\143\157"
+			+ "\156\163\164\137\156\165\154\154\000\000\000\000\000\011\151\143\157\156\163\164\137\155\061\000"
+			+ "\000\000\000\000\010\151\143\157\156\163\164\137\060\000\000\000\000\000\010\151\143\157\156\163"
+			+ "\164\137\061\000\000\000\000\000\010\151\143\157\156\163\164\137\062\000\000\000\000\000\010\151"
+			+ "\143\157\156\163\164\137\063\000\000\000\000\000\010\151\143\157\156\163\164\137\064\000\000\000"
+			+ "\000\000\010\151\143\157\156\163\164\137\065\000\000\000\000\000\010\154\143\157\156\163\164\137"
+			+ "\060\000\000\000\000\000\010\154\143\157\156\163\164\137\061\000\000\000\000\000\010\146\143\157"
+			+ "\156\163\164\137\060\000\000\000\000\000\010\146\143\157\156\163\164\137\061\000\000\000\000\000"
+			+ "\010\146\143\157\156\163\164\137\062\000\000\000\000\000\010\144\143\157\156\163\164\137\060\000"
+			+ "\000\000\000\000\010\144\143\157\156\163\164\137\061\000\000\000\000\000\006\142\151\160\165\163"
+			+ "\150\000\102\000\017\111\115\115\105\104\111\101\124\105\137\126\101\114\125\105\000\000\000\000"
+			+ "\000\006\163\151\160\165\163\150\000\123\000\017\111\115\115\105\104\111\101\124\105\137\126\101"
+			+ "\114\125\105\000\000\000\000\000\003\154\144\143\000\102\000\026\122\125\116\124\111\115\105\137"
+			+ "\103\117\116\123\124\101\116\124\137\111\116\104\105\130\000\000\000\000\000\005\154\144\143\137"
+			+ "\167\000\123\000\026\122\125\116\124\111\115\105\137\103\117\116\123\124\101\116\124\137\111\116"
+			+ "\104\105\130\000\000\000\000\000\006\154\144\143\062\137\167\000\123\000\026\122\125\116\124\111"
+			+ "\115\105\137\103\117\116\123\124\101\116\124\137\111\116\104\105\130\000\000\000\000\000\005\151"
+			+ "\154\157\141\144\000\102\000\024\114\117\103\101\114\137\126\101\122\111\101\102\114\105\137\111"
+			+ "\116\104\105\130\000\000\000\000\000\005\154\154\157\141\144\000\102\000\024\114\117\103\101\114"
+			+ "\137\126\101\122\111\101\102\114\105\137\111\116\104\105\130\000\000\000\000\000\005\146\154\157"
+			+ "\141\144\000\102\000\024\114\117\103\101\114\137\126\101\122\111\101\102\114\105\137\111\116\104"
+			+ "\105\130\000\000\000\000\000\005\144\154\157\141\144\000\102\000\024\114\117\103\101\114\137\126"
+			+ "\101\122\111\101\102\114\105\137\111\116\104\105\130\000\000\000\000\000\005\141\154\157\141\144"
+			+ "\000\102\000\024\114\117\103\101\114\137\126\101\122\111\101\102\114\105\137\111\116\104\105\130"
+			+ "\000\000\000\000\000\007\151\154\157\141\144\137\060\000\000\000\000\000\007\151\154\157\141\144"
+			+ "\137\061\000\000\000\000\000\007\151\154\157\141\144\137\062\000\000\000\000\000\007\151\154\157"
+			+ "\141\144\137\063\000\000\000\000\000\007\154\154\157\141\144\137\060\000\000\000\000\000\007\154"
+			+ "\154\157\141\144\137\061\000\000\000\000\000\007\154\154\157\141\144\137\062\000\000\000\000\000"
+			+ "\007\154\154\157\141\144\137\063\000\000\000\000\000\007\146\154\157\141\144\137\060\000\000\000"
+			+ "\000\000\007\146\154\157\141\144\137\061\000\000\000\000\000\007\146\154\157\141\144\137\062\000"
+			+ "\000\000\000\000\007\146\154\157\141\144\137\063\000\000\000\000\000\007\144\154\157\141\144\137"
+			+ "\060\000\000\000\000\000\007\144\154\157\141\144\137\061\000\000\000\000\000\007\144\154\157\141"
+			+ "\144\137\062\000\000\000\000\000\007\144\154\157\141\144\137\063\000\000\000\000\000\007\141\154"
+			+ "\157\141\144\137\060\000\000\000\000\000\007\141\154\157\141\144\137\061\000\000\000\000\000\007"
+			+ "\141\154\157\141\144\137\062\000\000\000\000\000\007\141\154\157\141\144\137\063\000\000\000\000"
+			+ "\000\006\151\141\154\157\141\144\000\000\000\000\000\006\154\141\154\157\141\144\000\000\000\000"
+			+ "\000\006\146\141\154\157\141\144\000\000\000\000\000\006\144\141\154\157\141\144\000\000\000\000"
+			+ "\000\006\141\141\154\157\141\144\000\000\000\000\000\006\142\141\154\157\141\144\000\000\000\000"
+			+ "\000\006\143\141\154\157\141\144\000\000\000\000\000\006\163\141\154\157\141\144\000\000\000\000"
+			+ "\000\006\151\163\164\157\162\145\000\102\000\024\114\117\103\101\114\137\126\101\122\111\101\102"
+			+ "\114\105\137\111\116\104\105\130\000\000\000\000\000\006\154\163\164\157\162\145\000\102\000\024"
+			+ "\114\117\103\101\114\137\126\101\122\111\101\102\114\105\137\111\116\104\105\130\000\000\000\000"
+			+ "\000\006\146\163\164\157\162\145\000\102\000\024\114\117\103\101\114\137\126\101\122\111\101\102"
+			+ "\114\105\137\111\116\104\105\130\000\000\000\000\000\006\144\163\164\157\162\145\000\102\000\024"
+			+ "\114\117\103\101\114\137\126\101\122\111\101\102\114\105\137\111\116\104\105\130\000\000\000\000"
+			+ "\000\006\141\163\164\157\162\145\000\102\000\024\114\117\103\101\114\137\126\101\122\111\101\102"
+			+ "\114\105\137\111\116\104\105\130\000\000\000\000\000\010\151\163\164\157\162\145\137\060\000\000"
+			+ "\000\000\000\010\151\163\164\157\162\145\137\061\000\000\000\000\000\010\151\163\164\157\162\145"
+			+ "\137\062\000\000\000\000\000\010\151\163\164\157\162\145\137\063\000\000\000\000\000\010\154\163"
+			+ "\164\157\162\145\137\060\000\000\000\000\000\010\154\163\164\157\162\145\137\061\000\000\000\000"
+			+ "\000\010\154\163\164\157\162\145\137\062\000\000\000\000\000\010\154\163\164\157\162\145\137\063"
+			+ "\000\000\000\000\000\010\146\163\164\157\162\145\137\060\000\000\000\000\000\010\146\163\164\157"
+			+ "\162\145\137\061\000\000\000\000\000\010\146\163\164\157\162\145\137\062\000\000\000\000\000\010"
+			+ "\146\163\164\157\162\145\137\063\000\000\000\000\000\010\144\163\164\157\162\145\137\060\000\000"
+			+ "\000\000\000\010\144\163\164\157\162\145\137\061\000\000\000\000\000\010\144\163\164\157\162\145"
+			+ "\137\062\000\000\000\000\000\010\144\163\164\157\162\145\137\063\000\000\000\000\000\010\141\163"
+			+ "\164\157\162\145\137\060\000\000\000\000\000\010\141\163\164\157\162\145\137\061\000\000\000\000"
+			+ "\000\010\141\163\164\157\162\145\137\062\000\000\000\000\000\010\141\163\164\157\162\145\137\063"
+			+ "\000\000\000\000\000\007\151\141\163\164\157\162\145\000\000\000\000\000\007\154\141\163\164\157"
+			+ "\162\145\000\000\000\000\000\007\146\141\163\164\157\162\145\000\000\000\000\000\007\144\141\163"
+			+ "\164\157\162\145\000\000\000\000\000\007\141\141\163\164\157\162\145\000\000\000\000\000\007\142"
+			+ "\141\163\164\157\162\145\000\000\000\000\000\007\143\141\163\164\157\162\145\000\000\000\000\000"
+			+ "\007\163\141\163\164\157\162\145\000\000\000\000\000\003\160\157\160\000\000\000\000\000\004\160"
+			+ "\157\160\062\000\000\000\000\000\003\144\165\160\000\000\000\000\000\006\144\165\160\137\170\061"
+			+ "\000\000\000\000\000\006\144\165\160\137\170\062\000\000\000\000\000\004\144\165\160\062\000\000"
+			+ "\000\000\000\007\144\165\160\062\137\170\061\000\000\000\000\000\007\144\165\160\062\137\170\062"
+			+ "\000\000\000\000\000\004\163\167\141\160\000\000\000\000\000\004\151\141\144\144\000\000\000\000"
+			+ "\000\004\154\141\144\144\000\000\000\000\000\004\146\141\144\144\000\000\000\000\000\004\144\141"
+			+ "\144\144\000\000\000\000\000\004\151\163\165\142\000\000\000\000\000\004\154\163\165\142\000\000"
+			+ "\000\000\000\004\146\163\165\142\000\000\000\000\000\004\144\163\165\142\000\000\000\000\000\004"
+			+ "\151\155\165\154\000\000\000\000\000\004\154\155\165\154\000\000\000\000\000\004\146\155\165\154"
+			+ "\000\000\000\000\000\004\144\155\165\154\000\000\000\000\000\004\151\144\151\166\000\000\000\000"
+			+ "\000\004\154\144\151\166\000\000\000\000\000\004\146\144\151\166\000\000\000\000\000\004\144\144"
+			+ "\151\166\000\000\000\000\000\004\151\162\145\155\000\000\000\000\000\004\154\162\145\155\000\000"
+			+ "\000\000\000\004\146\162\145\155\000\000\000\000\000\004\144\162\145\155\000\000\000\000\000\004"
+			+ "\151\156\145\147\000\000\000\000\000\004\154\156\145\147\000\000\000\000\000\004\146\156\145\147"
+			+ "\000\000\000\000\000\004\144\156\145\147\000\000\000\000\000\004\151\163\150\154\000\000\000\000"
+			+ "\000\004\154\163\150\154\000\000\000\000\000\004\151\163\150\162\000\000\000\000\000\004\154\163"
+			+ "\150\162\000\000\000\000\000\005\151\165\163\150\162\000\000\000\000\000\005\154\165\163\150\162"
+			+ "\000\000\000\000\000\004\151\141\156\144\000\000\000\000\000\004\154\141\156\144\000\000\000\000"
+			+ "\000\003\151\157\162\000\000\000\000\000\003\154\157\162\000\000\000\000\000\004\151\170\157\162"
+			+ "\000\000\000\000\000\004\154\170\157\162\000\000\000\000\000\004\151\151\156\143\000\102\000\024"
+			+ "\114\117\103\101\114\137\126\101\122\111\101\102\114\105\137\111\116\104\105\130\000\102\000\011"
+			+ "\111\116\103\137\103\117\116\123\124\000\000\000\000\000\003\151\062\154\000\000\000\000\000\003"
+			+ "\151\062\146\000\000\000\000\000\003\151\062\144\000\000\000\000\000\003\154\062\151\000\000\000"
+			+ "\000\000\003\154\062\146\000\000\000\000\000\003\154\062\144\000\000\000\000\000\003\146\062\151"
+			+ "\000\000\000\000\000\003\146\062\154\000\000\000\000\000\003\146\062\144\000\000\000\000\000\003"
+			+ "\144\062\151\000\000\000\000\000\003\144\062\154\000\000\000\000\000\003\144\062\146\000\000\000"
+			+ "\000\000\003\151\062\142\000\000\000\000\000\003\151\062\143\000\000\000\000\000\003\151\062\163"
+			+ "\000\000\000\000\000\004\154\143\155\160\000\000\000\000\000\005\146\143\155\160\154\000\000\000"
+			+ "\000\000\005\146\143\155\160\147\000\000\000\000\000\005\144\143\155\160\154\000\000\000\000\000"
+			+ "\005\144\143\155\160\147\000\000\000\000\000\004\151\146\145\161\000\123\000\006\102\122\101\116"
+			+ "\103\110\000\000\000\000\000\004\151\146\156\145\000\123\000\006\102\122\101\116\103\110\000\000"
+			+ "\000\000\000\004\151\146\154\164\000\123\000\006\102\122\101\116\103\110\000\000\000\000\000\004"
+			+ "\151\146\147\145\000\123\000\006\102\122\101\116\103\110\000\000\000\000\000\004\151\146\147\164"
+			+ "\000\123\000\006\102\122\101\116\103\110\000\000\000\000\000\004\151\146\154\145\000\123\000\006"
+			+ "\102\122\101\116\103\110\000\000\000\000\000\011\151\146\137\151\143\155\160\145\161\000\123\000"
+			+ "\006\102\122\101\116\103\110\000\000\000\000\000\011\151\146\137\151\143\155\160\156\145\000\123"
+			+ "\000\006\102\122\101\116\103\110\000\000\000\000\000\011\151\146\137\151\143\155\160\154\164\000"
+			+ "\123\000\006\102\122\101\116\103\110\000\000\000\000\000\011\151\146\137\151\143\155\160\147\145"
+			+ "\000\123\000\006\102\122\101\116\103\110\000\000\000\000\000\011\151\146\137\151\143\155\160\147"
+			+ "\164\000\123\000\006\102\122\101\116\103\110\000\000\000\000\000\011\151\146\137\151\143\155\160"
+			+ "\154\145\000\123\000\006\102\122\101\116\103\110\000\000\000\000\000\011\151\146\137\141\143\155"
+			+ "\160\145\161\000\123\000\006\102\122\101\116\103\110\000\000\000\000\000\011\151\146\137\141\143"
+			+ "\155\160\156\145\000\123\000\006\102\122\101\116\103\110\000\000\000\000\000\004\147\157\164\157"
+			+ "\000\123\000\006\102\122\101\116\103\110\000\000\000\000\000\003\152\163\162\000\123\000\006\102"
+			+ "\122\101\116\103\110\000\000\000\000\000\003\162\145\164\000\102\000\024\114\117\103\101\114\137"
+			+ "\126\101\122\111\101\102\114\105\137\111\116\104\105\130\000\000\000\000\000\013\164\141\142\154"
+			+ "\145\163\167\151\164\143\150\000\164\000\031\124\141\142\154\145\163\167\151\164\143\150\117\160"
+			+ "\145\162\141\156\144\104\145\143\157\144\145\162\000\000\000\000\000\014\154\157\157\153\165\160"
+			+ "\163\167\151\164\143\150\000\154\000\032\114\157\157\153\165\160\163\167\151\164\143\150\117\160"
+			+ "\145\162\141\156\144\104\145\143\157\144\145\162\000\000\000\000\000\007\151\162\145\164\165\162"
+			+ "\156\000\000\000\000\000\007\154\162\145\164\165\162\156\000\000\000\000\000\007\146\162\145\164"
+			+ "\165\162\156\000\000\000\000\000\007\144\162\145\164\165\162\156\000\000\000\000\000\007\141\162"
+			+ "\145\164\165\162\156\000\000\000\000\000\006\162\145\164\165\162\156\000\000\000\000\000\011\147"
+			+ "\145\164\163\164\141\164\151\143\000\123\000\026\122\125\116\124\111\115\105\137\103\117\116\123"
+			+ "\124\101\116\124\137\111\116\104\105\130\000\000\000\000\000\011\160\165\164\163\164\141\164\151"
+			+ "\143\000\123\000\026\122\125\116\124\111\115\105\137\103\117\116\123\124\101\116\124\137\111\116"
+			+ "\104\105\130\000\000\000\000\000\010\147\145\164\146\151\145\154\144\000\123\000\026\122\125\116"
+			+ "\124\111\115\105\137\103\117\116\123\124\101\116\124\137\111\116\104\105\130\000\000\000\000\000"
+			+ "\010\160\165\164\146\151\145\154\144\000\123\000\026\122\125\116\124\111\115\105\137\103\117\116"
+			+ "\123\124\101\116\124\137\111\116\104\105\130\000\000\000\000\000\015\151\156\166\157\153\145\166"
+			+ "\151\162\164\165\141\154\000\123\000\026\122\125\116\124\111\115\105\137\103\117\116\123\124\101"
+			+ "\116\124\137\111\116\104\105\130\000\000\000\000\000\015\151\156\166\157\153\145\163\160\145\143"
+			+ "\151\141\154\000\123\000\026\122\125\116\124\111\115\105\137\103\117\116\123\124\101\116\124\137"
+			+ "\111\116\104\105\130\000\000\000\000\000\014\151\156\166\157\153\145\163\164\141\164\151\143\000"
+			+ "\123\000\026\122\125\116\124\111\115\105\137\103\117\116\123\124\101\116\124\137\111\116\104\105"
+			+ "\130\000\000\000\000\000\017\151\156\166\157\153\145\151\156\164\145\162\146\141\143\145\000\123"
+			+ "\000\026\122\125\116\124\111\115\105\137\103\117\116\123\124\101\116\124\137\111\116\104\105\130"
+			+ "\000\123\000\006\111\107\116\117\122\105\000\000\000\000\000\015\151\156\166\157\153\145\144\171"
+			+ "\156\141\155\151\143\000\123\000\026\122\125\116\124\111\115\105\137\103\117\116\123\124\101\116"
+			+ "\124\137\111\116\104\105\130\000\123\000\006\111\107\116\117\122\105\000\000\000\000\000\003\156"
+			+ "\145\167\000\123\000\026\122\125\116\124\111\115\105\137\103\117\116\123\124\101\116\124\137\111"
+			+ "\116\104\105\130\000\000\000\000\000\010\156\145\167\141\162\162\141\171\000\102\000\012\101\122"
+			+ "\122\101\131\137\124\131\120\105\000\000\000\000\000\011\141\156\145\167\141\162\162\141\171\000"
+			+ "\123\000\026\122\125\116\124\111\115\105\137\103\117\116\123\124\101\116\124\137\111\116\104\105"
+			+ "\130\000\000\000\000\000\013\141\162\162\141\171\154\145\156\147\164\150\000\000\000\000\000\006"
+			+ "\141\164\150\162\157\167\000\000\000\000\000\011\143\150\145\143\153\143\141\163\164\000\123\000"
+			+ "\026\122\125\116\124\111\115\105\137\103\117\116\123\124\101\116\124\137\111\116\104\105\130\000"
+			+ "\000\000\000\000\012\151\156\163\164\141\156\143\145\157\146\000\123\000\026\122\125\116\124\111"
+			+ "\115\105\137\103\117\116\123\124\101\116\124\137\111\116\104\105\130\000\000\000\000\000\014\155"
+			+ "\157\156\151\164\157\162\145\156\164\145\162\000\000\000\000\000\013\155\157\156\151\164\157\162"
+			+ "\145\170\151\164\000\000\000\000\000\016\155\165\154\164\151\141\156\145\167\141\162\162\141\171"
+			+ "\000\123\000\026\122\125\116\124\111\115\105\137\103\117\116\123\124\101\116\124\137\111\116\104"
+			+ "\105\130\000\102\000\011\104\111\115\105\116\123\111\117\116\000\000\000\000\000\006\151\146\156"
+			+ "\165\154\154\000\123\000\006\102\122\101\116\103\110\000\000\000\000\000\011\151\146\156\157\156"
+			+ "\156\165\154\154\000\123\000\006\102\122\101\116\103\110\000\000\000\000\000\006\147\157\164\157"
+			+ "\137\167\000\111\000\006\102\122\101\116\103\110\000\000\000\000\000\005\152\163\162\137\167\000"
+			+ "\111\000\006\102\122\101\116\103\110\000\000\000\000\000\012\167\151\144\145\040\151\154\157\141"
+			+ "\144\000\123\000\024\114\117\103\101\114\137\126\101\122\111\101\102\114\105\137\111\116\104\105"
+			+ "\130\000\000\000\000\000\012\167\151\144\145\040\154\154\157\141\144\000\123\000\024\114\117\103"
+			+ "\101\114\137\126\101\122\111\101\102\114\105\137\111\116\104\105\130\000\000\000\000\000\012\167"
+			+ "\151\144\145\040\146\154\157\141\144\000\123\000\024\114\117\103\101\114\137\126\101\122\111\101"
+			+ "\102\114\105\137\111\116\104\105\130\000\000\000\000\000\012\167\151\144\145\040\144\154\157\141"
+			+ "\144\000\123\000\024\114\117\103\101\114\137\126\101\122\111\101\102\114\105\137\111\116\104\105"
+			+ "\130\000\000\000\000\000\012\167\151\144\145\040\141\154\157\141\144\000\123\000\024\114\117\103"
+			+ "\101\114\137\126\101\122\111\101\102\114\105\137\111\116\104\105\130\000\000\000\000\000\013\167"
+			+ "\151\144\145\040\151\163\164\157\162\145\000\123\000\024\114\117\103\101\114\137\126\101\122\111"
+			+ "\101\102\114\105\137\111\116\104\105\130\000\000\000\000\000\013\167\151\144\145\040\154\163\164"
+			+ "\157\162\145\000\123\000\024\114\117\103\101\114\137\126\101\122\111\101\102\114\105\137\111\116"
+			+ "\104\105\130\000\000\000\000\000\013\167\151\144\145\040\146\163\164\157\162\145\000\123\000\024"
+			+ "\114\117\103\101\114\137\126\101\122\111\101\102\114\105\137\111\116\104\105\130\000\000\000\000"
+			+ "\000\013\167\151\144\145\040\144\163\164\157\162\145\000\123\000\024\114\117\103\101\114\137\126"
+			+ "\101\122\111\101\102\114\105\137\111\116\104\105\130\000\000\000\000\000\013\167\151\144\145\040"
+			+ "\141\163\164\157\162\145\000\123\000\024\114\117\103\101\114\137\126\101\122\111\101\102\114\105"
+			+ "\137\111\116\104\105\130\000\000\000\000\000\011\167\151\144\145\040\151\151\156\143\000\123\000"
+			+ "\024\114\117\103\101\114\137\126\101\122\111\101\102\114\105\137\111\116\104\105\130\000\123\000"
+			+ "\011\111\116\103\137\103\117\116\123\124\000\000\000\000\000\010\167\151\144\145\040\162\145\164"
+			+ "\000\123\000\024\114\117\103\101\114\137\126\101\122\111\101\102\114\105\137\111\116\104\105\130"
+			+ "\000\000\000\000" };
+
+	private BytecodeInstructionIndexData() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Gets the index data.
+	 *
+	 * @return the index data.
+	 */
+	public static ByteBuffer indexData() {
+		byte[] indexData = new byte[INDEX_DATA_SIZE];
+		int indexDataPosition = 0;
+
+		for (String chunk : INDEX_DATA) {
+			byte[] chunkBytes = chunk.getBytes(StandardCharsets.ISO_8859_1);
+
+			System.arraycopy(chunkBytes, 0, indexData, indexDataPosition, chunkBytes.length);
+			indexDataPosition += chunkBytes.length;
+		}
+		return ByteBuffer.wrap(indexData).asReadOnlyBuffer();
+	}
+
+}
@@ -23,6 +23,6 @@ import de.carne.mcd.io.MCDOutputBuffer;
 @FunctionalInterface
 interface IntOperandDecoder {
 
-	void decode(int pc, int operand, MCDOutputBuffer out) throws IOException;
+	void decode(long pc, int operand, MCDOutputBuffer out) throws IOException;
 
 }
@@ -18,9 +18,9 @@ package de.carne.mcd.jvmdecoder.classfile.bytecode;
 
 import java.io.IOException;
 
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
-import de.carne.text.HexFormat;
 
 /**
  * Possible int operand types.
@@ -36,7 +36,7 @@ public enum IntOperandType implements OperandType {
 	 * Branch target.
 	 */
 	BRANCH((pc, operand, out) -> out.printValue(operand >= 0 ? "+" : "").printValue(Integer.toString(operand))
-			.print(" ").printComment("// ").printComment(HexFormat.LOWER_CASE.format(pc + operand)));
+			.print(" ").printComment("// ").printComment(BytecodeDecoder.formatPc(pc + operand)));
 
 	private final IntOperandDecoder decoder;
 
@@ -50,8 +50,13 @@ public enum IntOperandType implements OperandType {
 	}
 
 	@Override
-	public void decode(int pc, MCDInputBuffer buffer, MCDOutputBuffer out) throws IOException {
-		this.decoder.decode(pc, buffer.decodeI32(), out);
+	public void decode(DecodeContext context, long pc, MCDInputBuffer buffer, MCDOutputBuffer out)
+			throws IOException {
+		int operand = buffer.decodeI32();
+
+		if (!out.isDiscarding()) {
+			this.decoder.decode(pc, operand, out);
+		}
 	}
 
 }
@@ -17,11 +17,10 @@
 package de.carne.mcd.jvmdecoder.classfile.bytecode;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
 
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
-import de.carne.text.HexFormat;
 
 /**
  *
@@ -39,24 +38,28 @@ public class LookupswitchOperandDecoder implements OperandType {
 	}
 
 	@Override
-	public void decode(int pc, MCDInputBuffer buffer, MCDOutputBuffer out) throws IOException {
-		int basePc = pc + 1;
+	public void decode(DecodeContext context, long pc, MCDInputBuffer buffer, MCDOutputBuffer out)
+			throws IOException {
+		long basePc = pc + 1;
 
-		buffer.decodeI8Array(((basePc + 0x3) & ~0x3) - basePc);
+		buffer.skip(((basePc + 0x3) & ~0x3) - basePc);
 
 		int lsDefault = buffer.decodeI32();
 		int lsNPairs = buffer.decodeI32();
-		ByteBuffer pairs = buffer.decodeI32Array(lsNPairs * 2);
+		MCDInputBuffer.ArrayView pairs = buffer.decodeI32ArrayView(lsNPairs * 2);
+		int pairsLength = pairs.length();
 
-		out.printComment("//");
-		while (pairs.hasRemaining()) {
-			int match = pairs.getInt();
-			int offset = pairs.getInt();
+		if (!out.isDiscarding()) {
+			out.printComment("//");
+			for (int pairIndex = 0; pairIndex < pairsLength; pairIndex += 2) {
+				int match = pairs.getI32(pairIndex);
+				int offset = pairs.getI32(pairIndex + 1);
 
-			out.printComment(" ").printComment(Integer.toString(match)).printComment(":")
-					.printComment(HexFormat.LOWER_CASE.format((short) (pc + offset)));
+				out.printComment(" ").printComment(Integer.toString(match)).printComment(":")
+						.printComment(BytecodeDecoder.formatPc(pc + offset));
+			}
+			out.printComment(" default:").printComment(BytecodeDecoder.formatPc(pc + lsDefault));
 		}
-		out.printComment(" default:").printComment(HexFormat.LOWER_CASE.format((short) (pc + lsDefault)));
 	}
 
 }
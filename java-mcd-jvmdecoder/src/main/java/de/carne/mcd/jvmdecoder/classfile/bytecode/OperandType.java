@@ -18,6 +18,7 @@ package de.carne.mcd.jvmdecoder.classfile.bytecode;
 
 import java.io.IOException;
 
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
 
@@ -43,11 +44,12 @@ public interface OperandType {
 	/**
 	 * Decodes the operand.
 	 *
+	 * @param context the {@linkplain DecodeContext} of the running decode call.
 	 * @param pc the program counter of the corresponding opcode.
 	 * @param buffer the {@linkplain MCDInputBuffer} to decode from.
 	 * @param out the {@linkplain MCDOutputBuffer} to decode to.
 	 * @throws IOException if an I/O error occurs.
 	 */
-	void decode(int pc, MCDInputBuffer buffer, MCDOutputBuffer out) throws IOException;
+	void decode(DecodeContext context, long pc, MCDInputBuffer buffer, MCDOutputBuffer out) throws IOException;
 
 }
@@ -18,11 +18,12 @@ package de.carne.mcd.jvmdecoder.classfile.bytecode;
 
 import java.io.IOException;
 
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.io.MCDOutputBuffer;
 
 @FunctionalInterface
 interface ShortOperandDecoder {
 
-	void decode(int pc, short operand, MCDOutputBuffer out) throws IOException;
+	void decode(DecodeContext context, long pc, short operand, MCDOutputBuffer out) throws IOException;
 
 }
@@ -18,10 +18,9 @@ package de.carne.mcd.jvmdecoder.classfile.bytecode;
 
 import java.io.IOException;
 
-import de.carne.mcd.MachineCodeDecoder;
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
-import de.carne.text.HexFormat;
 
 /**
  * Possible short operand types.
@@ -31,35 +30,35 @@ public enum ShortOperandType implements OperandType {
 	/**
 	 * Immediate short value.
 	 */
-	IMMEDIATE_VALUE((pc, operand, out) -> out.printValue(Short.toString(operand))),
+	IMMEDIATE_VALUE((context, pc, operand, out) -> out.printValue(Short.toString(operand))),
 
 	/**
 	 * Ignored value.
 	 */
-	IGNORE((pc, operand, out) -> { // ignore
+	IGNORE((context, pc, operand, out) -> { // ignore
 	}),
 
 	/**
 	 * Increment byte value (for wide iinc).
 	 */
-	INC_CONST((pc, operand, out) -> out.print(", ").printValue(Short.toString(operand))),
+	INC_CONST((context, pc, operand, out) -> out.print(", ").printValue(Short.toString(operand))),
 
 	/**
 	 * Index into the local variable table.
 	 */
-	LOCAL_VARIABLE_INDEX((pc, operand, out) -> out.printValue("local_" + Short.toUnsignedInt(operand))),
+	LOCAL_VARIABLE_INDEX((context, pc, operand, out) -> out.printValue("local_" + Short.toUnsignedInt(operand))),
 
 	/**
 	 * Index into the run-time constant pool.
 	 */
-	RUNTIME_CONSTANT_INDEX((pc, operand, out) -> out.printValue("#" + Short.toUnsignedInt(operand)).print(" ")
-			.printComment("// ").printComment(runtimeConstantComment(operand))),
+	RUNTIME_CONSTANT_INDEX((context, pc, operand, out) -> out.printValue("#" + Short.toUnsignedInt(operand)).print(" ")
+			.printComment("// ").printComment(runtimeConstantComment(context, operand))),
 
 	/**
 	 * Branch target.
 	 */
-	BRANCH((pc, operand, out) -> out.printValue(operand >= 0 ? "+" : "").printValue(Short.toString(operand)).print(" ")
-			.printComment("// ").printComment(HexFormat.LOWER_CASE.format((short) (pc + operand))));
+	BRANCH((context, pc, operand, out) -> out.printValue(operand >= 0 ? "+" : "").printValue(Short.toString(operand))
+			.print(" ").printComment("// ").printComment(BytecodeDecoder.formatPc(pc + operand)));
 
 	private final ShortOperandDecoder decoder;
 
@@ -73,12 +72,17 @@ public enum ShortOperandType implements OperandType {
 	}
 
 	@Override
-	public void decode(int pc, MCDInputBuffer buffer, MCDOutputBuffer out) throws IOException {
-		this.decoder.decode(pc, buffer.decodeI16(), out);
+	public void decode(DecodeContext context, long pc, MCDInputBuffer buffer, MCDOutputBuffer out)
+			throws IOException {
+		short operand = buffer.decodeI16();
+
+		if (!out.isDiscarding()) {
+			this.decoder.decode(context, pc, operand, out);
+		}
 	}
 
-	private static String runtimeConstantComment(short index) {
-		return MachineCodeDecoder.getDecoder(BytecodeDecoder.class).getClassInfo()
+	private static String runtimeConstantComment(DecodeContext context, short index) {
+		return context.decoder(BytecodeDecoder.class).getClassInfo()
 				.resolveRuntimeSymbol(Short.toUnsignedInt(index));
 	}
 
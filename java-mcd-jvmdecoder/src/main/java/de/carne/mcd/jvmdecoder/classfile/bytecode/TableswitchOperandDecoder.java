@@ -17,11 +17,10 @@
 package de.carne.mcd.jvmdecoder.classfile.bytecode;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
 
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
-import de.carne.text.HexFormat;
 
 /**
  *
@@ -39,28 +38,28 @@ public class TableswitchOperandDecoder implements OperandType {
 	}
 
 	@Override
-	public void decode(int pc, MCDInputBuffer buffer, MCDOutputBuffer out) throws IOException {
-		int basePc = pc + 1;
+	public void decode(DecodeContext context, long pc, MCDInputBuffer buffer, MCDOutputBuffer out)
+			throws IOException {
+		long basePc = pc + 1;
 
-		buffer.decodeI8Array(((basePc + 0x3) & ~0x3) - basePc);
+		buffer.skip(((basePc + 0x3) & ~0x3) - basePc);
 
 		int tsDefault = buffer.decodeI32();
 		int tsLow = buffer.decodeI32();
 		int tsHigh = buffer.decodeI32();
-		ByteBuffer offsets = buffer.decodeI32Array(tsHigh - tsLow + 1);
+		MCDInputBuffer.ArrayView offsets = buffer.decodeI32ArrayView(tsHigh - tsLow + 1);
+		int offsetsLength = offsets.length();
 
-		out.printComment("//");
+		if (!out.isDiscarding()) {
+			out.printComment("//");
+			for (int offsetIndex = 0; offsetIndex < offsetsLength; offsetIndex++) {
+				int offset = offsets.getI32(offsetIndex);
 
-		int index = tsLow;
-
-		while (offsets.hasRemaining()) {
-			int offset = offsets.getInt();
-
-			out.printComment(" ").printComment(Integer.toString(index)).printComment(":")
-					.printComment(HexFormat.LOWER_CASE.format((short) (pc + offset)));
-			index++;
+				out.printComment(" ").printComment(Integer.toString(tsLow + offsetIndex)).printComment(":")
+						.printComment(BytecodeDecoder.formatPc(pc + offset));
+			}
+			out.printComment(" default:").printComment(BytecodeDecoder.formatPc(pc + tsDefault));
 		}
-		out.printComment(" default:").printComment(HexFormat.LOWER_CASE.format((short) (pc + tsDefault)));
 	}
 
 }
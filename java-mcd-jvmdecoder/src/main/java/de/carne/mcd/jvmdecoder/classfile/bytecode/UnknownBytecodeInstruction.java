@@ -19,6 +19,7 @@ package de.carne.mcd.jvmdecoder.classfile.bytecode;
 import java.io.DataOutput;
 import java.io.IOException;
 
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.instruction.Instruction;
 import de.carne.mcd.instruction.InstructionOpcode;
 import de.carne.mcd.io.MCDInputBuffer;
@@ -34,8 +35,8 @@ class UnknownBytecodeInstruction implements Instruction {
 	}
 
 	@Override
-	public void decode(long ip, InstructionOpcode opcode, MCDInputBuffer buffer, MCDOutputBuffer out)
-			throws IOException {
+	public void decode(DecodeContext context, long ip, InstructionOpcode opcode, MCDInputBuffer buffer,
+			MCDOutputBuffer out) throws IOException {
 		out.printlnError(opcode.toString());
 	}
 
@@ -36,8 +36,10 @@ public class BootstrapBytecodeInstructionIndex {
 
 	private static final File INSTRUCTION_REFERENCE_FILE = new File(
 			"./src/main/resources/de/carne/mcd/jvm/classfile/bytecode/bootstrap/BytecodeInstructionReference.txt");
-	private static final File INSTRUCTION_INDEX_FILE = new File(
-			"./src/main/resources/de/carne/mcd/jvm/classfile/bytecode/BytecodeInstructionIndex.bin");
+	private static final String INSTRUCTION_INDEX_DATA_CLASS = "de.carne.mcd.jvmdecoder.classfile.bytecode."
+			+ "BytecodeInstructionIndexData";
+	private static final File INSTRUCTION_INDEX_DATA_FILE = new File(
+			"./src/main/java/de/carne/mcd/jvmdecoder/classfile/bytecode/BytecodeInstructionIndexData.java");
 
 	private BootstrapBytecodeInstructionIndex() {
 		// Prevent instantiation
@@ -91,7 +93,7 @@ public class BootstrapBytecodeInstructionIndex {
 
 		reference.build(builder);
 
-		long totalIndexSize = builder.save(INSTRUCTION_INDEX_FILE);
+		long totalIndexSize = builder.saveSource(INSTRUCTION_INDEX_DATA_FILE, INSTRUCTION_INDEX_DATA_CLASS);
 
 		LOG.notice("Index entry count   : {0}", builder.entryCount());
 		LOG.notice("Index opcode bytes  : {0}", builder.opcodeBytes());
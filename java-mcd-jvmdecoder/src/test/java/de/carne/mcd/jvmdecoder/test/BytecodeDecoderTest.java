@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2019-2022 Holger de Carne and contributors, All Rights Reserved.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.carne.mcd.jvmdecoder.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.carne.mcd.PlainMCDOutput;
+import de.carne.mcd.io.MCDInputBuffer;
+import de.carne.mcd.io.MCDTokenCache;
+import de.carne.mcd.jvmdecoder.classfile.ClassInfo;
+import de.carne.mcd.jvmdecoder.classfile.DecodedClassInfo;
+import de.carne.mcd.jvmdecoder.classfile.bytecode.BytecodeDecoder;
+
+/**
+ * Test {@linkplain BytecodeDecoder} class.
+ */
+class BytecodeDecoderTest {
+
+	@Test
+	void testBytecodeDecoderSink() throws IOException {
+		BytecodeDecoder decoder = new BytecodeDecoder(getClassInfo());
+		ByteBuffer code = getCode();
+		StringWriter decodeBuffer = new StringWriter();
+
+		try (PlainMCDOutput out = new PlainMCDOutput(decodeBuffer, false)) {
+			decoder.decode(code.duplicate(), out);
+		}
+
+		StringBuilder labelBuffer = new StringBuilder();
+
+		for (String decodeLine : decodeBuffer.toString().split("\\R")) {
+			int labelEnd = decodeLine.indexOf(": ");
+
+			if (labelEnd > 0 && !decodeLine.startsWith("//")) {
+				labelBuffer.append(decodeLine, 0, labelEnd).append('\n');
+			}
+		}
+
+		StringBuilder sinkBuffer = new StringBuilder();
+		long[] nextAddress = { 0 };
+
+		Assertions.assertTrue(decoder.supportsInstructionSink());
+
+		decoder.decode(code.duplicate(), (address, length, mnemonicId, operands, rawBytes) -> {
+			Assertions.assertEquals(nextAddress[0], address);
+			Assertions.assertEquals(length, rawBytes.length());
+			Assertions.assertNotEquals(MCDTokenCache.NO_TOKEN, mnemonicId);
+			for (int operandIndex = 0; operandIndex < operands.count(); operandIndex++) {
+				Assertions.assertTrue(operands.offset(operandIndex) + operands.length(operandIndex) <= length);
+			}
+			sinkBuffer.append(BytecodeDecoder.formatPc(address)).append('\n');
+			nextAddress[0] += length;
+		}, 0, code.remaining());
+
+		Assertions.assertEquals(code.remaining() - 8, nextAddress[0]);
+		Assertions.assertEquals(labelBuffer.toString(), sinkBuffer.toString());
+	}
+
+	private ClassInfo getClassInfo() throws IOException {
+		ClassInfo classInfo;
+
+		try (InputStream classStream = Objects
+				.requireNonNull(DecoderTestClass.class.getResourceAsStream("DecoderTestClass.class"));
+				ReadableByteChannel classChannel = Channels.newChannel(classStream)) {
+			classInfo = DecodedClassInfo.decode(new MCDInputBuffer(classChannel, ByteOrder.BIG_ENDIAN));
+		}
+		return classInfo;
+	}
+
+	private ByteBuffer getCode() {
+		ByteBuffer code = ByteBuffer.allocate(8 + 47).order(ByteOrder.BIG_ENDIAN);
+
+		// max_stack, max_locals, code_length
+		code.putShort((short) 1).putShort((short) 2).putInt(47);
+		// 0000: iload_1
+		code.put((byte) 0x1b);
+		// 0001: tableswitch (2 padding bytes) default: 0018 0: 0018 1: 001a
+		code.put((byte) 0xaa).put((byte) 0).put((byte) 0).putInt(23).putInt(0).putInt(1).putInt(23).putInt(25);
+		// 0018: iconst_0, 0019: ireturn
+		code.put((byte) 0x03).put((byte) 0xac);
+		// 001a: iload_1
+		code.put((byte) 0x1b);
+		// 001b: lookupswitch (no padding) default: 002c 5: 002c
+		code.put((byte) 0xab).putInt(17).putInt(1).putInt(5).putInt(17);
+		// 002c: bipush 5, 002e: ireturn
+		code.put((byte) 0x10).put((byte) 5).put((byte) 0xac);
+		code.flip();
+		return code;
+	}
+
+}
@@ -167,52 +167,66 @@ final class Decoders {
 	static void imm8(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		byte value = in.decodeI8();
 
-		out.printValue("0x" + HexFormat.LOWER_CASE.format(value));
+		if (!out.isDiscarding()) {
+			out.printValue("0x" + HexFormat.LOWER_CASE.format(value));
+		}
 	}
 
 	@SuppressWarnings("unused")
 	static void imm16(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		short value = in.decodeI16();
 
-		out.printValue("0x" + HexFormat.LOWER_CASE.format(value));
+		if (!out.isDiscarding()) {
+			out.printValue("0x" + HexFormat.LOWER_CASE.format(value));
+		}
 	}
 
 	@SuppressWarnings("unused")
 	static void imm32(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		int value = in.decodeI32();
 
-		out.printValue("0x" + HexFormat.LOWER_CASE.format(value));
+		if (!out.isDiscarding()) {
+			out.printValue("0x" + HexFormat.LOWER_CASE.format(value));
+		}
 	}
 
 	@SuppressWarnings("unused")
 	static void imm64(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		long value = in.decodeI64();
 
-		out.printValue("0x" + HexFormat.LOWER_CASE.format(value));
+		if (!out.isDiscarding()) {
+			out.printValue("0x" + HexFormat.LOWER_CASE.format(value));
+		}
 	}
 
 	@SuppressWarnings("unused")
 	static void disp8(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		byte value = in.decodeI8();
 
-		out.printOperator(value >= 0 ? "+" : "-");
-		out.printValue(Integer.toString(Math.abs(value)));
+		if (!out.isDiscarding()) {
+			out.printOperator(value >= 0 ? "+" : "-");
+			out.printValue(Integer.toString(Math.abs(value)));
+		}
 	}
 
 	@SuppressWarnings("unused")
 	static void disp16(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		short value = in.decodeI16();
 
-		out.printOperator(value >= 0 ? "+" : "-");
-		out.printValue(Integer.toString(Math.abs(value)));
+		if (!out.isDiscarding()) {
+			out.printOperator(value >= 0 ? "+" : "-");
+			out.printValue(Integer.toString(Math.abs(value)));
+		}
 	}
 
 	@SuppressWarnings("unused")
 	static void disp32(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		int value = in.decodeI32();
 
-		out.printOperator(value >= 0 ? "+" : "-");
-		out.printValue(Integer.toString(Math.abs(value)));
+		if (!out.isDiscarding()) {
+			out.printOperator(value >= 0 ? "+" : "-");
+			out.printValue(Integer.toString(Math.abs(value)));
+		}
 	}
 
 	static void m(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
@@ -222,49 +236,63 @@ final class Decoders {
 	static void moffs8(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		byte value = in.decodeI8();
 
-		out.print("[").printValue("0x").printValue(Long.toHexString(value)).print("]");
+		if (!out.isDiscarding()) {
+			out.print("[").printValue("0x").printValue(Long.toHexString(value)).print("]");
+		}
 	}
 
 	static void moffs16(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		short value = in.decodeI16();
 
-		out.print("[").printValue("0x").printValue(Long.toHexString(value)).print("]");
+		if (!out.isDiscarding()) {
+			out.print("[").printValue("0x").printValue(Long.toHexString(value)).print("]");
+		}
 	}
 
 	static void moffs32(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		int value = in.decodeI32();
 
-		out.print("[").printValue("0x").printValue(Long.toHexString(value)).print("]");
+		if (!out.isDiscarding()) {
+			out.print("[").printValue("0x").printValue(Long.toHexString(value)).print("]");
+		}
 	}
 
 	static void moffs64(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		long value = in.decodeI64();
 
-		out.print("[").printValue("0x").printValue(Long.toHexString(value)).print("]");
+		if (!out.isDiscarding()) {
+			out.print("[").printValue("0x").printValue(Long.toHexString(value)).print("]");
+		}
 	}
 
 	static void rel8(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		long rel = in.decodeI8();
 		long nextInstructionPointer = decoderState.nextInstructionPointer(in.getTotalRead()) + rel;
 
-		out.printValue(rel >= 0 ? "+" : "").printValue(Long.toString(rel)).print(" ").printComment("; ")
-				.printComment(decoderState.addressFormat().apply(nextInstructionPointer));
+		if (!out.isDiscarding()) {
+			out.printValue(rel >= 0 ? "+" : "").printValue(Long.toString(rel)).print(" ").printComment("; ")
+					.printComment(decoderState.addressFormat().apply(nextInstructionPointer));
+		}
 	}
 
 	static void rel16(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		long rel = in.decodeI16();
 		long nextInstructionPointer = decoderState.nextInstructionPointer(in.getTotalRead()) + rel;
 
-		out.printValue(rel >= 0 ? "+" : "").printValue(Long.toString(rel)).print(" ").printComment("; ")
-				.printComment(decoderState.addressFormat().apply(nextInstructionPointer));
+		if (!out.isDiscarding()) {
+			out.printValue(rel >= 0 ? "+" : "").printValue(Long.toString(rel)).print(" ").printComment("; ")
+					.printComment(decoderState.addressFormat().apply(nextInstructionPointer));
+		}
 	}
 
 	static void rel32(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
 		long rel = Integer.toUnsignedLong(in.decodeI32());
 		long nextInstructionPointer = decoderState.nextInstructionPointer(in.getTotalRead()) + rel;
 
-		out.printValue(rel >= 0 ? "+" : "").printValue(Long.toString(rel)).print(" ").printComment("; ")
-				.printComment(decoderState.addressFormat().apply(nextInstructionPointer));
+		if (!out.isDiscarding()) {
+			out.printValue(rel >= 0 ? "+" : "").printValue(Long.toString(rel)).print(" ").printComment("; ")
+					.printComment(decoderState.addressFormat().apply(nextInstructionPointer));
+		}
 	}
 
 	static void r8(X86DecoderState decoderState, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
@@ -96,7 +96,9 @@ public class ImplicitDecoder implements NamedDecoder {
 
 	@Override
 	public void decode(X86DecoderState decoderState, MCDInputBuffer buffer, MCDOutputBuffer out) throws IOException {
-		this.output.printTo(out);
+		if (!out.isDiscarding()) {
+			this.output.printTo(out);
+		}
 	}
 
 }
@@ -19,15 +19,21 @@ package de.carne.mcd.x86decoder;
 import java.io.DataOutput;
 import java.io.IOException;
 
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.instruction.Instruction;
 import de.carne.mcd.instruction.InstructionOpcode;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
+import de.carne.mcd.io.MCDTokenCache;
 import de.carne.text.HexFormat;
 import de.carne.util.Check;
 
 class UnknownX86Instruction implements Instruction {
 
+	private static final String MNEMONIC = "db";
+
+	static final int MNEMONIC_ID = MCDTokenCache.register(MNEMONIC);
+
 	@Override
 	public void save(DataOutput out) throws IOException {
 		// Should never be called
@@ -35,20 +41,24 @@ class UnknownX86Instruction implements Instruction {
 	}
 
 	@Override
-	public void decode(long ip, InstructionOpcode opcode, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
+	public void decode(DecodeContext context, long ip, InstructionOpcode opcode, MCDInputBuffer in,
+			MCDOutputBuffer out) throws IOException {
+		context.state(X86DecoderState.class).setMnemonicId(MNEMONIC_ID);
 		decode(opcode, out);
 	}
 
 	public static void decode(InstructionOpcode opcode, MCDOutputBuffer out) throws IOException {
-		out.printKeyword("db");
+		if (!out.isDiscarding()) {
+			out.printKeyword(MNEMONIC);
 
-		String separator = " ";
+			String separator = " ";
 
-		for (byte opcodeByte : opcode.bytes()) {
-			out.print(separator).printValue("0x").printValue(HexFormat.LOWER_CASE.format(opcodeByte));
-			separator = ", ";
+			for (byte opcodeByte : opcode.bytes()) {
+				out.print(separator).printValue("0x").printValue(HexFormat.LOWER_CASE.format(opcodeByte));
+				separator = ", ";
+			}
+			out.println();
 		}
-		out.println();
 	}
 
 }
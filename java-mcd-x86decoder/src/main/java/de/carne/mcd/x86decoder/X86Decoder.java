@@ -18,11 +18,13 @@ package de.carne.mcd.x86decoder;
 
 import java.io.IOException;
 import java.nio.ByteOrder;
+import java.util.function.Supplier;
 
+import de.carne.mcd.DecodeContext;
+import de.carne.mcd.DecodedInstructionSink;
 import de.carne.mcd.MachineCodeDecoder;
 import de.carne.mcd.instruction.InstructionIndex;
 import de.carne.mcd.instruction.InstructionIndex.LookupResult;
-import de.carne.mcd.instruction.InstructionOpcode;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
 import de.carne.util.Exceptions;
@@ -34,41 +36,45 @@ public abstract class X86Decoder extends MachineCodeDecoder {
 
 	private static final long DECODE_LIMIT = 0x1000;
 
-	private final X86DecoderState decoderState;
+	private final Supplier<X86DecoderState> decoderStateFactory;
 
-	protected X86Decoder(String name, X86DecoderState decoderState) {
+	protected X86Decoder(String name, Supplier<X86DecoderState> decoderStateFactory) {
 		super(name, ByteOrder.LITTLE_ENDIAN, DECODE_LIMIT);
-		this.decoderState = decoderState;
+		this.decoderStateFactory = decoderStateFactory;
 	}
 
-	/**
-	 * Gets this {@linkplain X86Decoder} instance's current state.
-	 *
-	 * @return this {@linkplain X86Decoder} instance's current state.
-	 */
-	public X86DecoderState state() {
-		return this.decoderState;
+	@Override
+	protected Object newDecodeState() {
+		return this.decoderStateFactory.get();
 	}
 
 	@Override
-	protected long decode0(MCDInputBuffer in, MCDOutputBuffer out, long offset, long limit) throws IOException {
+	protected long decode0(DecodeContext context, MCDInputBuffer in, MCDOutputBuffer out, long offset, long limit)
+			throws IOException {
 		InstructionIndex instructionIndex = getInstructionIndex();
 		InstructionIndex.LookupResult lookupResult;
 		long instructionPointerBase = offset - in.getTotalRead();
 		long instructionPointerLimit = offset + limit;
 		long instructionPointer;
+		DecodedInstructionSink sink = context.instructionSink();
+		X86DecoderState decoderState = context.state(X86DecoderState.class);
 
 		in.setAutoCommit(false);
 		out.setAutoCommit(false);
-		while ((instructionPointer = this.decoderState.reset(instructionPointerBase,
+		while ((instructionPointer = decoderState.reset(instructionPointerBase,
 				in.getTotalRead())) < instructionPointerLimit
 				&& (lookupResult = instructionIndex.lookupNextInstruction(in, true)) != null) {
-			String ipString = this.decoderState.addressFormat().apply(instructionPointer) + ":";
+			if (sink == null) {
+				String ipString = decoderState.addressFormat().apply(instructionPointer) + ":";
+
+				out.printLabel(ipString).print(" ");
+				out.commit();
+			}
+
+			int opcodeMark = in.mark();
 
-			out.printLabel(ipString).print(" ");
-			out.commit();
 			try {
-				lookupResult.decode(instructionPointer, in, out);
+				lookupResult.decode(context, instructionPointer, in, out);
 
 				LookupResult lastLookupResult = lookupResult;
 
@@ -77,16 +83,20 @@ public abstract class X86Decoder extends MachineCodeDecoder {
 					if (lastLookupResult == null) {
 						throw new IOException();
 					}
-					lastLookupResult.decode(instructionPointer, in, out);
+					lastLookupResult.decode(context, instructionPointer, in, out);
 				}
 			} catch (IOException e) {
 				Exceptions.ignore(e);
 
-				InstructionOpcode unknownOpcode = lookupResult.opcode();
-
-				in.discard(unknownOpcode.length());
+				in.rewind(opcodeMark);
 				out.discard();
-				UnknownX86Instruction.decode(unknownOpcode, out);
+				UnknownX86Instruction.decode(lookupResult.opcode(), out);
+				decoderState.setMnemonicId(UnknownX86Instruction.MNEMONIC_ID);
+				decoderState.decodedOperands().clear();
+			}
+			if (sink != null) {
+				reportInstruction(sink, instructionPointer, in, decoderState.mnemonicId(),
+						decoderState.decodedOperands());
 			}
 			in.commit();
 			out.commit();
@@ -94,6 +104,16 @@ public abstract class X86Decoder extends MachineCodeDecoder {
 		return in.getTotalRead();
 	}
 
+	@Override
+	public boolean supportsInstructionSink() {
+		return true;
+	}
+
+	@Override
+	protected boolean supportsIncrementalDecode() {
+		return true;
+	}
+
 	protected abstract InstructionIndex getInstructionIndex() throws IOException;
 
 }
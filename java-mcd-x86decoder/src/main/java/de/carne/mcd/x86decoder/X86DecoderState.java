@@ -21,8 +21,10 @@ import java.util.function.LongFunction;
 
 import org.eclipse.jdt.annotation.NonNull;
 
+import de.carne.mcd.DecodedOperands;
 import de.carne.mcd.io.MCDInputBuffer;
 import de.carne.mcd.io.MCDOutputBuffer;
+import de.carne.mcd.io.MCDTokenCache;
 import de.carne.text.HexFormat;
 
 /**
@@ -36,6 +38,14 @@ public abstract class X86DecoderState {
 	private static final @NonNull String[] R64_0_REGS = { "rax", "rcx", "rdx", "rbx", "rsp", "rbp", "rsi", "rdi" };
 	private static final @NonNull String[] R64_1_REGS = { "r8", "r9", "r10", "r11", "r12", "r13", "r14", "r15" };
 
+	static {
+		MCDTokenCache.registerAll(R8_REGS);
+		MCDTokenCache.registerAll(R16_REGS);
+		MCDTokenCache.registerAll(R32_REGS);
+		MCDTokenCache.registerAll(R64_0_REGS);
+		MCDTokenCache.registerAll(R64_1_REGS);
+	}
+
 	private final LongFunction<String> addressFormat;
 
 	private long currentInstructionPointerBase;
@@ -48,6 +58,9 @@ public abstract class X86DecoderState {
 	private boolean addressSizeOverride;
 	protected Rex rex = Rex.NOT_PRESENT;
 	private ModRM modRM = ModRM.NOT_PRESENT;
+	private long modRMStart = -1;
+	private int mnemonicId = MCDTokenCache.NO_TOKEN;
+	private final DecodedOperands decodedOperands = new DecodedOperands();
 
 	protected X86DecoderState(LongFunction<String> addressFormat) {
 		this.addressFormat = addressFormat;
@@ -583,15 +596,23 @@ public abstract class X86DecoderState {
 	}
 
 	private void rmXDisp16(MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
-		out.print("[");
-		out.print("0x" + this.addressFormat.apply(Short.toUnsignedLong(in.decodeI16())));
-		out.print("]");
+		short disp = in.decodeI16();
+
+		if (!out.isDiscarding()) {
+			out.print("[");
+			out.print("0x" + this.addressFormat.apply(Short.toUnsignedLong(disp)));
+			out.print("]");
+		}
 	}
 
 	private void rmXDisp32(MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
-		out.print("[");
-		out.print("0x" + this.addressFormat.apply(Integer.toUnsignedLong(in.decodeI32())));
-		out.print("]");
+		int disp = in.decodeI32();
+
+		if (!out.isDiscarding()) {
+			out.print("[");
+			out.print("0x" + this.addressFormat.apply(Integer.toUnsignedLong(disp)));
+			out.print("]");
+		}
 	}
 
 	private void rmXRegDisp16(String reg, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
@@ -650,6 +671,8 @@ public abstract class X86DecoderState {
 	long reset(long instructionPointerBase, long instructionPointerOffset) {
 		this.currentInstructionPointerBase = instructionPointerBase;
 		this.currentInstructionPointerOffset = instructionPointerOffset;
+		this.mnemonicId = MCDTokenCache.NO_TOKEN;
+		this.decodedOperands.clear();
 		this.lock = false;
 		this.repnX = false;
 		this.repX = false;
@@ -658,9 +681,34 @@ public abstract class X86DecoderState {
 		this.addressSizeOverride = false;
 		this.rex = Rex.NOT_PRESENT;
 		this.modRM = ModRM.NOT_PRESENT;
+		this.modRMStart = -1;
 		return currentInstructionPointer();
 	}
 
+	void setMnemonicId(int mnemonicId) {
+		this.mnemonicId = mnemonicId;
+	}
+
+	int mnemonicId() {
+		return this.mnemonicId;
+	}
+
+	void addOperand(int typeId, boolean modRMOperand, long operandStart, long operandEnd) {
+		long start = operandStart;
+		long end = operandEnd;
+
+		// ModR/M operands share the ModR/M byte (the r/m operand additionally covers any SIB and displacement bytes)
+		if (modRMOperand && this.modRMStart >= 0) {
+			start = this.modRMStart;
+			end = Math.max(operandEnd, this.modRMStart + 1);
+		}
+		this.decodedOperands.add(typeId, (int) (start - this.currentInstructionPointerOffset), (int) (end - start));
+	}
+
+	DecodedOperands decodedOperands() {
+		return this.decodedOperands;
+	}
+
 	long currentInstructionPointer() {
 		return this.currentInstructionPointerBase + this.currentInstructionPointerOffset;
 	}
@@ -731,8 +779,9 @@ public abstract class X86DecoderState {
 		return this.rex;
 	}
 
-	ModRM setModRM(byte modRM) {
-		this.modRM = new ModRM(Byte.toUnsignedInt(modRM));
+	ModRM setModRM(MCDInputBuffer in) throws IOException {
+		this.modRMStart = in.getTotalRead();
+		this.modRM = new ModRM(Byte.toUnsignedInt(in.decodeI8()));
 		return this.modRM;
 	}
 
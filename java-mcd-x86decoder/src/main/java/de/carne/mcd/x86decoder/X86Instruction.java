@@ -24,7 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import de.carne.mcd.MachineCodeDecoder;
+import de.carne.mcd.DecodeContext;
 import de.carne.mcd.instruction.Instruction;
 import de.carne.mcd.instruction.InstructionOpcode;
 import de.carne.mcd.io.MCDInputBuffer;
@@ -113,12 +113,14 @@ public class X86Instruction implements Instruction {
 	}
 
 	@Override
-	public void decode(long ip, InstructionOpcode opcode, MCDInputBuffer in, MCDOutputBuffer out) throws IOException {
-		X86DecoderState decoderState = MachineCodeDecoder.getDecoder(X86Decoder.class).state();
+	public void decode(DecodeContext context, long ip, InstructionOpcode opcode, MCDInputBuffer in,
+			MCDOutputBuffer out) throws IOException {
+		X86DecoderState decoderState = context.state(X86DecoderState.class);
+		boolean structured = context.instructionSink() != null;
 		X86InstructionVariant signature = this.variants.get(X86InstructionVariant.NO_OPCODE_EXTENSION);
 
 		if (signature == null) {
-			ModRM modRM = decoderState.setModRM(in.decodeI8());
+			ModRM modRM = decoderState.setModRM(in);
 			Byte opcodeExtension = Byte.valueOf((byte) modRM.regOrOpcodeIndex());
 
 			signature = this.variants.get(opcodeExtension);
@@ -126,19 +128,36 @@ public class X86Instruction implements Instruction {
 				throw new IOException("Failed to decode extended opcode: " + opcode + " /" + opcodeExtension);
 			}
 		} else if (signature.hasModRM()) {
-			decoderState.setModRM(in.decodeI8());
+			decoderState.setModRM(in);
 		}
 		if (!signature.isPrefix()) {
-			out.printKeyword(signature.mnemonic());
+			boolean formatted = !out.isDiscarding();
+
+			if (formatted) {
+				out.printKeyword(signature.mnemonic());
+			}
 
 			int operandIndex = 0;
 
+			if (structured) {
+				decoderState.setMnemonicId(signature.mnemonicId());
+			}
 			for (NamedDecoder operand : signature.decoders()) {
-				out.print(operandIndex == 0 ? " " : ", ");
+				long operandStart = in.getTotalRead();
+
+				if (formatted) {
+					out.print(operandIndex == 0 ? " " : ", ");
+				}
 				operand.decode(decoderState, in, out);
+				if (structured) {
+					decoderState.addOperand(signature.decoderId(operandIndex), operand instanceof ModRMDecoder,
+							operandStart, in.getTotalRead());
+				}
 				operandIndex++;
 			}
-			out.println();
+			if (formatted) {
+				out.println();
+			}
 		} else {
 			for (NamedDecoder operand : signature.decoders()) {
 				operand.decode(decoderState, in, out);
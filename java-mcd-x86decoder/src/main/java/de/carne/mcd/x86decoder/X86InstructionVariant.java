@@ -19,6 +19,8 @@ package de.carne.mcd.x86decoder;
 import java.util.Collections;
 import java.util.List;
 
+import de.carne.mcd.io.MCDTokenCache;
+
 /**
  * A single x86 instruction variant.
  */
@@ -30,7 +32,9 @@ public final class X86InstructionVariant {
 	public static final Byte NO_OPCODE_EXTENSION = Byte.valueOf((byte) 0xff);
 
 	private final String mnemonic;
+	private final int mnemonicId;
 	private final List<NamedDecoder> decoders;
+	private final int[] decoderIds;
 
 	/**
 	 * Constructs a new {@linkplain X86InstructionVariant} instance.
@@ -49,7 +53,12 @@ public final class X86InstructionVariant {
 	 */
 	public X86InstructionVariant(String mnemonic, List<NamedDecoder> decoders) {
 		this.mnemonic = mnemonic;
+		this.mnemonicId = MCDTokenCache.register(mnemonic);
 		this.decoders = Collections.unmodifiableList(decoders);
+		this.decoderIds = new int[decoders.size()];
+		for (int decoderIndex = 0; decoderIndex < this.decoderIds.length; decoderIndex++) {
+			this.decoderIds[decoderIndex] = MCDTokenCache.register(decoders.get(decoderIndex).name());
+		}
 	}
 
 	/**
@@ -61,6 +70,25 @@ public final class X86InstructionVariant {
 		return this.mnemonic;
 	}
 
+	/**
+	 * Gets the {@linkplain MCDTokenCache} id of this variant's mnemonic.
+	 *
+	 * @return the {@linkplain MCDTokenCache} id of this variant's mnemonic.
+	 */
+	public int mnemonicId() {
+		return this.mnemonicId;
+	}
+
+	/**
+	 * Gets the {@linkplain MCDTokenCache} id of one of this variant's decoder names.
+	 *
+	 * @param decoderIndex the index of the decoder.
+	 * @return the {@linkplain MCDTokenCache} id of the decoder's name.
+	 */
+	public int decoderId(int decoderIndex) {
+		return this.decoderIds[decoderIndex];
+	}
+
 	/**
 	 * Gets this variant's decoders.
 	 *
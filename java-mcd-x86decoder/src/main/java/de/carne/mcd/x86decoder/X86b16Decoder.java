@@ -39,7 +39,7 @@ public class X86b16Decoder extends X86Decoder {
 	 * Constructs a new {@linkplain X86b16Decoder} instance.
 	 */
 	public X86b16Decoder() {
-		super(NAME, X86DecoderState.x86b16());
+		super(NAME, X86DecoderState::x86b16);
 	}
 
 	@Override
@@ -39,7 +39,7 @@ public class X86b32Decoder extends X86Decoder {
 	 * Constructs a new {@linkplain X86b32Decoder} instance.
 	 */
 	public X86b32Decoder() {
-		super(NAME, X86DecoderState.x86b32());
+		super(NAME, X86DecoderState::x86b32);
 	}
 
 	@Override
@@ -0,0 +1,1319 @@
+package de.carne.mcd.x86decoder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Generated by InstructionIndexBuilder - do not edit.
+ */
+public final class X86b32InstructionIndexData {
+
+	private static final int INDEX_DATA_SIZE = 30740;
+
+	private static final String[] INDEX_DATA = {
+			"\000\002\365\121\001\000\000\000\000\000\000\000\001\001\000\000\000\000\033\000\001\002\000\000"
+			+ "\000\000\070\000\001\003\000\000\000\000\123\000\001\006\000\000\000\000\160\000\001\007\000\000"
+			+ "\000\000\205\000\001\010\000\000\000\000\231\000\001\011\000\000\000\000\263\000\001\012\000\000"
+			+ "\000\000\317\000\001\013\000\000\000\000\351\000\001\016\000\000\000\000\005\001\001\020\000\000"
+			+ "\000\000\032\001\001\021\000\000\000\000\065\001\001\022\000\000\000\000\122\001\001\023\000\000"
+			+ "\000\000\155\001\001\026\000\000\000\000\212\001\001\030\000\000\000\000\237\001\001\031\000\000"
+			+ "\000\000\272\001\001\032\000\000\000\000\327\001\001\033\000\000\000\000\362\001\001\036\000\000"
+			+ "\000\000\017\002\001\037\000\000\000\000\044\002\001\040\000\000\000\000\070\002\001\041\000\000"
+			+ "\000\000\123\002\001\042\000\000\000\000\160\002\001\043\000\000\000\000\213\002\001\046\000\000"
+			+ "\000\000\250\002\001\047\000\000\000\000\273\002\001\050\000\000\000\000\311\002\001\051\000\000"
+			+ "\000\000\344\002\001\052\000\000\000\000\001\003\001\053\000\000\000\000\034\003\001\056\000\000"
+			+ "\000\000\071\003\001\057\000\000\000\000\114\003\001\060\000\000\000\000\132\003\001\061\000\000"
+			+ "\000\000\165\003\001\062\000\000\000\000\222\003\001\063\000\000\000\000\255\003\001\066\000\000"
+			+ "\000\000\312\003\001\067\000\000\000\000\335\003\001\070\000\000\000\000\353\003\001\071\000\000"
+			+ "\000\000\006\004\001\072\000\000\000\000\043\004\001\073\000\000\000\000\076\004\001\076\000\000"
+			+ "\000\000\133\004\001\077\000\000\000\000\156\004\001\100\000\000\000\000\174\004\001\101\000\000"
+			+ "\000\000\221\004\001\102\000\000\000\000\250\004\001\103\000\000\000\000\277\004\001\104\000\000"
+			+ "\000\000\327\004\001\105\000\000\000\000\356\004\001\106\000\000\000\000\006\005\001\107\000\000"
+			+ "\000\000\036\005\001\110\000\000\000\000\067\005\001\111\000\000\000\000\116\005\001\112\000\000"
+			+ "\000\000\146\005\001\113\000\000\000\000\176\005\001\114\000\000\000\000\227\005\001\115\000\000"
+			+ "\000\000\257\005\001\116\000\000\000\000\310\005\001\117\000\000\000\000\341\005\001\120\000\000"
+			+ "\000\000\373\005\001\121\000\000\000\000\021\006\001\122\000\000\000\000\047\006\001\123\000\000"
+			+ "\000\000\075\006\001\124\000\000\000\000\123\006\001\125\000\000\000\000\151\006\001\126\000\000"
+			+ "\000\000\177\006\001\127\000\000\000\000\225\006\001\130\000\000\000\000\253\006\001\131\000\000"
+			+ "\000\000\300\006\001\132\000\000\000\000\325\006\001\133\000\000\000\000\352\006\001\134\000\000"
+			+ "\000\000\377\006\001\135\000\000\000\000\024\007\001\136\000\000\000\000\051\007\001\137\000\000"
+			+ "\000\000\076\007\001\140\000\000\000\000\123\007\001\141\000\000\000\000\143\007\001\142\000\000"
+			+ "\000\000\162\007\001\143\000\000\000\000\220\007\001\144\000\000\000\000\256\007\001\145\000\000"
+			+ "\000\000\301\007\001\146\000\000\000\000\324\007\001\147\000\000\000\000\347\007\001\150\000\000"
+			+ "\000\000\372\007\001\151\000\000\000\000\022\010\001\152\000\000\000\000\071\010\001\153\000\000"
+			+ "\000\000\120\010\001\154\000\000\000\000\166\010\001\155\000\000\000\000\226\010\001\156\000\000"
+			+ "\000\000\265\010\001\157\000\000\000\000\326\010\001\160\000\000\000\000\366\010\001\161\000\000"
+			+ "\000\000\013\011\001\162\000\000\000\000\041\011\001\163\000\000\000\000\066\011\001\164\000\000"
+			+ "\000\000\114\011\001\165\000\000\000\000\141\011\001\166\000\000\000\000\167\011\001\167\000\000"
+			+ "\000\000\215\011\001\170\000\000\000\000\244\011\001\171\000\000\000\000\271\011\001\172\000\000"
+			+ "\000\000\317\011\001\173\000\000\000\000\344\011\001\174\000\000\000\000\372\011\001\175\000\000"
+			+ "\000\000\017\012\001\176\000\000\000\000\045\012\001\177\000\000\000\000\073\012\001\200\000\000"
+			+ "\000\000\122\012\001\201\000\000\000\000\035\013\001\202\000\000\000\000\370\013\001\203\000\000"
+			+ "\000\000\303\014\001\204\000\000\000\000\226\015\001\205\000\000\000\000\262\015\001\206\000\000"
+			+ "\000\000\320\015\001\207\000\000\000\000\354\015\001\210\000\000\000\000\012\016\001\211\000\000"
+			+ "\000\000\045\016\001\212\000\000\000\000\102\016\001\213\000\000\000\000\135\016\001\214\000\000"
+			+ "\000\000\172\016\001\215\000\000\000\000\225\016\001\216\000\000\000\000\257\016\001\217\000\000"
+			+ "\000\000\312\016\001\220\000\000\000\000\340\016\001\230\000\000\000\000\356\016\001\231\000\000"
+			+ "\000\000\374\016\001\232\000\000\000\000\012\017\001\233\000\000\000\000\037\017\001\234\000\000"
+			+ "\000\000\057\017\001\235\000\000\000\000\077\017\001\236\000\000\000\000\116\017\001\237\000\000"
+			+ "\000\000\135\017\001\240\000\000\000\000\154\017\001\241\000\000\000\000\212\017\001\242\000\000"
+			+ "\000\000\252\017\001\243\000\000\000\000\310\017\001\244\000\000\000\000\350\017\001\245\000\000"
+			+ "\000\000\017\020\001\246\000\000\000\000\064\020\001\247\000\000\000\000\133\020\001\252\000\000"
+			+ "\000\000\200\020\001\253\000\000\000\000\233\020\001\254\000\000\000\000\265\020\001\255\000\000"
+			+ "\000\000\320\020\001\256\000\000\000\000\352\020\001\257\000\000\000\000\005\021\001\260\000\000"
+			+ "\000\000\037\021\001\261\000\000\000\000\073\021\001\262\000\000\000\000\127\021\001\263\000\000"
+			+ "\000\000\163\021\001\264\000\000\000\000\217\021\001\265\000\000\000\000\253\021\001\266\000\000"
+			+ "\000\000\307\021\001\267\000\000\000\000\343\021\001\270\000\000\000\000\377\021\001\271\000\000"
+			+ "\000\000\035\022\001\272\000\000\000\000\073\022\001\273\000\000\000\000\131\022\001\274\000\000"
+			+ "\000\000\167\022\001\275\000\000\000\000\225\022\001\276\000\000\000\000\263\022\001\277\000\000"
+			+ "\000\000\321\022\001\300\000\000\000\000\357\022\001\301\000\000\000\000\273\023\001\302\000\000"
+			+ "\000\000\217\024\001\303\000\000\000\000\247\024\001\304\000\000\000\000\266\024\001\305\000\000"
+			+ "\000\000\322\024\001\306\000\000\000\000\356\024\001\307\000\000\000\000\013\025\001\310\000\000"
+			+ "\000\000\052\025\001\311\000\000\000\000\113\025\001\312\000\000\000\000\133\025\001\313\000\000"
+			+ "\000\000\163\025\001\314\000\000\000\000\202\025\001\315\000\000\000\000\225\025\001\316\000\000"
+			+ "\000\000\253\025\001\317\000\000\000\000\272\025\001\320\000\000\000\000\311\025\001\321\000\000"
+			+ "\000\000\175\026\001\322\000\000\000\000\071\027\001\323\000\000\000\000\365\027\001\324\000\000"
+			+ "\000\000\271\030\001\325\000\000\000\000\317\030\001\326\000\000\000\000\345\030\001\327\000\000"
+			+ "\000\000\364\030\001\330\000\000\000\000\024\031\001\331\000\000\000\000\255\031\001\332\000\000"
+			+ "\000\000\111\032\001\333\000\000\000\000\004\033\001\334\000\000\000\000\272\033\001\335\000\000"
+			+ "\000\000\167\034\001\336\000\000\000\000\024\035\001\337\000\000\000\000\330\035\001\340\000\000"
+			+ "\000\000\204\036\001\341\000\000\000\000\235\036\001\342\000\000\000\000\265\036\001\343\000\000"
+			+ "\000\000\314\036\001\344\000\000\000\000\343\036\001\345\000\000\000\000\376\036\001\346\000\000"
+			+ "\000\000\032\037\001\347\000\000\000\000\066\037\001\350\000\000\000\000\123\037\001\351\000\000"
+			+ "\000\000\153\037\001\352\000\000\000\000\202\037\001\353\000\000\000\000\226\037\001\354\000\000"
+			+ "\000\000\254\037\001\355\000\000\000\000\305\037\001\356\000\000\000\000\337\037\001\357\000\000"
+			+ "\000\000\371\037\001\360\000\000\000\000\024\040\001\361\000\000\000\000\053\040\001\362\000\000"
+			+ "\000\000\072\040\001\363\000\000\000\000\123\040\001\364\000\000\000\000\152\040\001\365\000\000"
+			+ "\000\000\170\040\001\366\000\000\000\000\206\040\001\367\000\000\000\000\046\041\001\370\000\000"
+			+ "\000\000\320\041\001\371\000\000\000\000\336\041\001\372\000\000\000\000\354\041\001\374\000\000"
+			+ "\000\000\372\041\001\375\000\000\000\000\010\042\001\376\000\000\000\000\026\042\001\377\000\000"
+			+ "\000\000\074\042\002\017\000\000\000\000\303\042\002\017\001\000\000\000\035\043\002\017\002\000"
+			+ "\000\000\126\043\002\017\003\000\000\000\163\043\002\017\006\000\000\000\220\043\002\017\015\000"
+			+ "\000\000\237\043\002\017\020\000\000\000\265\043\002\017\021\000\000\000\324\043\002\017\022\000"
+			+ "\000\000\363\043\002\017\023\000\000\000\021\044\002\017\024\000\000\000\056\044\002\017\025\000"
+			+ "\000\000\116\044\002\017\026\000\000\000\156\044\002\017\027\000\000\000\214\044\002\017\030\000"
+			+ "\000\000\251\044\002\017\031\000\000\000\304\044\002\017\032\000\000\000\337\044\002\017\033\000"
+			+ "\000\000\372\044\002\017\034\000\000\000\025\045\002\017\035\000\000\000\060\045\002\017\036\000"
+			+ "\000\000\113\045\002\017\037\000\000\000\146\045\002\017\040\000\000\000\201\045\002\017\041\000"
+			+ "\000\000\233\045\002\017\044\000\000\000\265\045\002\017\046\000\000\000\317\045\002\017\050\000"
+			+ "\000\000\351\045\002\017\051\000\000\000\010\046\002\017\052\000\000\000\047\046\002\017\053\000"
+			+ "\000\000\110\046\002\017\054\000\000\000\150\046\002\017\055\000\000\000\213\046\002\017\056\000"
+			+ "\000\000\255\046\002\017\057\000\000\000\315\046\002\017\061\000\000\000\354\046\002\017\062\000"
+			+ "\000\000\374\046\002\017\063\000\000\000\014\047\002\017\064\000\000\000\034\047\002\017\065\000"
+			+ "\000\000\057\047\002\017\067\000\000\000\101\047\002\017\100\000\000\000\122\047\002\017\101\000"
+			+ "\000\000\161\047\002\017\102\000\000\000\221\047\002\017\103\000\000\000\260\047\002\017\104\000"
+			+ "\000\000\320\047\002\017\105\000\000\000\357\047\002\017\106\000\000\000\017\050\002\017\107\000"
+			+ "\000\000\057\050\002\017\110\000\000\000\120\050\002\017\111\000\000\000\157\050\002\017\112\000"
+			+ "\000\000\217\050\002\017\113\000\000\000\256\050\002\017\114\000\000\000\316\050\002\017\115\000"
+			+ "\000\000\355\050\002\017\116\000\000\000\015\051\002\017\117\000\000\000\055\051\002\017\120\000"
+			+ "\000\000\116\051\002\017\121\000\000\000\160\051\002\017\122\000\000\000\217\051\002\017\123\000"
+			+ "\000\000\257\051\002\017\124\000\000\000\315\051\002\017\125\000\000\000\353\051\002\017\126\000"
+			+ "\000\000\012\052\002\017\127\000\000\000\047\052\002\017\130\000\000\000\105\052\002\017\131\000"
+			+ "\000\000\143\052\002\017\132\000\000\000\201\052\002\017\133\000\000\000\242\052\002\017\134\000"
+			+ "\000\000\303\052\002\017\135\000\000\000\341\052\002\017\136\000\000\000\377\052\002\017\137\000"
+			+ "\000\000\035\053\002\017\140\000\000\000\073\053\002\017\141\000\000\000\133\053\002\017\142\000"
+			+ "\000\000\173\053\002\017\143\000\000\000\233\053\002\017\144\000\000\000\272\053\002\017\145\000"
+			+ "\000\000\330\053\002\017\146\000\000\000\366\053\002\017\147\000\000\000\024\054\002\017\150\000"
+			+ "\000\000\063\054\002\017\151\000\000\000\123\054\002\017\152\000\000\000\163\054\002\017\153\000"
+			+ "\000\000\223\054\002\017\156\000\000\000\262\054\002\017\157\000\000\000\315\054\002\017\160\000"
+			+ "\000\000\350\054\002\017\161\000\000\000\015\055\002\017\162\000\000\000\137\055\002\017\163\000"
+			+ "\000\000\261\055\002\017\164\000\000\000\351\055\002\017\165\000\000\000\007\056\002\017\166\000"
+			+ "\000\000\045\056\002\017\167\000\000\000\103\056\002\017\170\000\000\000\122\056\002\017\171\000"
+			+ "\000\000\157\056\002\017\176\000\000\000\215\056\002\017\177\000\000\000\250\056\002\017\200\000"
+			+ "\000\000\303\056\002\017\201\000\000\000\331\056\002\017\202\000\000\000\360\056\002\017\203\000"
+			+ "\000\000\006\057\002\017\204\000\000\000\035\057\002\017\205\000\000\000\063\057\002\017\206\000"
+			+ "\000\000\112\057\002\017\207\000\000\000\141\057\002\017\210\000\000\000\171\057\002\017\211\000"
+			+ "\000\000\217\057\002\017\212\000\000\000\246\057\002\017\213\000\000\000\274\057\002\017\214\000"
+			+ "\000\000\323\057\002\017\215\000\000\000\351\057\002\017\216\000\000\000\000\060\002\017\217\000"
+			+ "\000\000\027\060\002\017\220\000\000\000\057\060\002\017\221\000\000\000\105\060\002\017\222\000"
+			+ "\000\000\134\060\002\017\223\000\000\000\162\060\002\017\224\000\000\000\211\060\002\017\225\000"
+			+ "\000\000\237\060\002\017\226\000\000\000\266\060\002\017\227\000\000\000\315\060\002\017\230\000"
+			+ "\000\000\345\060\002\017\231\000\000\000\373\060\002\017\232\000\000\000\022\061\002\017\233\000"
+			+ "\000\000\050\061\002\017\234\000\000\000\077\061\002\017\235\000\000\000\125\061\002\017\236\000"
+			+ "\000\000\154\061\002\017\237\000\000\000\203\061\002\017\240\000\000\000\233\061\002\017\241\000"
+			+ "\000\000\260\061\002\017\243\000\000\000\304\061\002\017\244\000\000\000\340\061\002\017\245\000"
+			+ "\000\000\006\062\002\017\250\000\000\000\052\062\002\017\251\000\000\000\077\062\002\017\253\000"
+			+ "\000\000\123\062\002\017\254\000\000\000\160\062\002\017\255\000\000\000\226\062\002\017\256\000"
+			+ "\000\000\272\062\002\017\257\000\000\000\125\063\002\017\260\000\000\000\163\063\002\017\261\000"
+			+ "\000\000\222\063\002\017\262\000\000\000\263\063\002\017\263\000\000\000\320\063\002\017\264\000"
+			+ "\000\000\355\063\002\017\265\000\000\000\012\064\002\017\266\000\000\000\047\064\002\017\267\000"
+			+ "\000\000\105\064\002\017\270\000\000\000\144\064\002\017\272\000\000\000\163\064\002\017\273\000"
+			+ "\000\000\336\064\002\017\274\000\000\000\373\064\002\017\275\000\000\000\030\065\002\017\276\000"
+			+ "\000\000\065\065\002\017\277\000\000\000\123\065\002\017\300\000\000\000\162\065\002\017\301\000"
+			+ "\000\000\216\065\002\017\302\000\000\000\254\065\002\017\303\000\000\000\322\065\002\017\304\000"
+			+ "\000\000\363\065\002\017\305\000\000\000\032\066\002\017\306\000\000\000\101\066\002\017\307\000"
+			+ "\000\000\150\066\002\017\310\000\000\000\252\066\002\017\311\000\000\000\301\066\002\017\312\000"
+			+ "\000\000\330\066\002\017\313\000\000\000\357\066\002\017\314\000\000\000\006\067\002\017\315\000"
+			+ "\000\000\035\067\002\017\316\000\000\000\064\067\002\017\317\000\000\000\113\067\002\017\321\000"
+			+ "\000\000\142\067\002\017\322\000\000\000\176\067\002\017\323\000\000\000\232\067\002\017\324\000"
+			+ "\000\000\266\067\002\017\325\000\000\000\322\067\002\017\327\000\000\000\357\067\002\017\330\000"
+			+ "\000\000\020\070\002\017\331\000\000\000\056\070\002\017\332\000\000\000\114\070\002\017\333\000"
+			+ "\000\000\151\070\002\017\334\000\000\000\204\070\002\017\335\000\000\000\242\070\002\017\336\000"
+			+ "\000\000\300\070\002\017\337\000\000\000\335\070\002\017\340\000\000\000\371\070\002\017\341\000"
+			+ "\000\000\025\071\002\017\342\000\000\000\061\071\002\017\343\000\000\000\115\071\002\017\344\000"
+			+ "\000\000\151\071\002\017\345\000\000\000\207\071\002\017\347\000\000\000\244\071\002\017\350\000"
+			+ "\000\000\301\071\002\017\351\000\000\000\336\071\002\017\352\000\000\000\373\071\002\017\353\000"
+			+ "\000\000\030\072\002\017\354\000\000\000\062\072\002\017\355\000\000\000\117\072\002\017\356\000"
+			+ "\000\000\154\072\002\017\357\000\000\000\211\072\002\017\361\000\000\000\244\072\002\017\362\000"
+			+ "\000\000\300\072\002\017\363\000\000\000\334\072\002\017\364\000\000\000\370\072\002\017\365\000"
+			+ "\000\000\026\073\002\017\366\000\000\000\064\073\002\017\367\000\000\000\121\073\002\017\370\000"
+			+ "\000\000\160\073\002\017\371\000\000\000\214\073\002\017\372\000\000\000\250\073\002\017\373\000"
+			+ "\000\000\304\073\002\017\374\000\000\000\340\073\002\017\375\000\000\000\374\073\002\017\376\000"
+			+ "\000\000\030\074\002\233\331\000\000\000\064\074\002\233\335\000\000\000\137\074\002\324\012\000"
+			+ "\000\000\212\074\002\325\012\000\000\000\230\074\002\330\321\000\000\000\246\074\002\330\331\000"
+			+ "\000\000\265\074\002\331\311\000\000\000\305\074\002\331\320\000\000\000\324\074\002\331\340\000"
+			+ "\000\000\343\074\002\331\341\000\000\000\362\074\002\331\344\000\000\000\001\075\002\331\345\000"
+			+ "\000\000\020\075\002\331\350\000\000\000\037\075\002\331\351\000\000\000\056\075\002\331\352\000"
+			+ "\000\000\077\075\002\331\353\000\000\000\120\075\002\331\354\000\000\000\140\075\002\331\355\000"
+			+ "\000\000\161\075\002\331\356\000\000\000\202\075\002\331\360\000\000\000\221\075\002\331\361\000"
+			+ "\000\000\241\075\002\331\362\000\000\000\261\075\002\331\363\000\000\000\301\075\002\331\364\000"
+			+ "\000\000\322\075\002\331\365\000\000\000\344\075\002\331\366\000\000\000\365\075\002\331\367\000"
+			+ "\000\000\007\076\002\331\370\000\000\000\031\076\002\331\371\000\000\000\051\076\002\331\372\000"
+			+ "\000\000\073\076\002\331\373\000\000\000\113\076\002\331\374\000\000\000\135\076\002\331\375\000"
+			+ "\000\000\157\076\002\331\376\000\000\000\200\076\002\331\377\000\000\000\217\076\002\332\351\000"
+			+ "\000\000\236\076\002\333\340\000\000\000\260\076\002\333\341\000\000\000\300\076\002\333\342\000"
+			+ "\000\000\321\076\002\333\343\000\000\000\342\076\002\333\344\000\000\000\363\076\002\335\341\000"
+			+ "\000\000\005\077\002\335\351\000\000\000\025\077\002\336\301\000\000\000\046\077\002\336\311\000"
+			+ "\000\000\066\077\002\336\331\000\000\000\106\077\002\336\341\000\000\000\127\077\002\336\351\000"
+			+ "\000\000\150\077\002\336\361\000\000\000\170\077\002\336\371\000\000\000\211\077\002\337\340\000"
+			+ "\000\000\231\077\002\363\220\000\000\000\260\077\003\017\001\301\000\000\300\077\003\017\001\302"
+			+ "\000\000\321\077\003\017\001\303\000\000\344\077\003\017\001\304\000\000\367\077\003\017\001\310"
+			+ "\000\000\010\100\003\017\001\311\000\000\032\100\003\017\001\320\000\000\052\100\003\017\001\321"
+			+ "\000\000\073\100\003\017\070\000\000\000\114\100\003\017\070\001\000\000\151\100\003\017\070\002"
+			+ "\000\000\206\100\003\017\070\003\000\000\243\100\003\017\070\004\000\000\301\100\003\017\070\005"
+			+ "\000\000\341\100\003\017\070\006\000\000\376\100\003\017\070\007\000\000\033\101\003\017\070\010"
+			+ "\000\000\071\101\003\017\070\011\000\000\126\101\003\017\070\012\000\000\163\101\003\017\070\013"
+			+ "\000\000\220\101\003\017\070\034\000\000\257\101\003\017\070\035\000\000\313\101\003\017\070\036"
+			+ "\000\000\347\101\003\017\070\360\000\000\003\102\003\017\070\361\000\000\042\102\003\017\072\017"
+			+ "\000\000\101\102\003\146\017\020\000\000\137\102\003\146\017\021\000\000\176\102\003\146\017\022"
+			+ "\000\000\235\102\003\146\017\023\000\000\272\102\003\146\017\024\000\000\327\102\003\146\017\025"
+			+ "\000\000\370\102\003\146\017\026\000\000\031\103\003\146\017\027\000\000\066\103\003\146\017\050"
+			+ "\000\000\123\103\003\146\017\051\000\000\162\103\003\146\017\052\000\000\221\103\003\146\017\053"
+			+ "\000\000\262\103\003\146\017\054\000\000\322\103\003\146\017\055\000\000\364\103\003\146\017\056"
+			+ "\000\000\025\104\003\146\017\057\000\000\065\104\003\146\017\120\000\000\124\104\003\146\017\121"
+			+ "\000\000\166\104\003\146\017\124\000\000\225\104\003\146\017\125\000\000\263\104\003\146\017\126"
+			+ "\000\000\322\104\003\146\017\127\000\000\357\104\003\146\017\130\000\000\015\105\003\146\017\131"
+			+ "\000\000\053\105\003\146\017\132\000\000\111\105\003\146\017\133\000\000\152\105\003\146\017\134"
+			+ "\000\000\213\105\003\146\017\135\000\000\251\105\003\146\017\136\000\000\307\105\003\146\017\137"
+			+ "\000\000\345\105\003\146\017\140\000\000\003\106\003\146\017\141\000\000\045\106\003\146\017\142"
+			+ "\000\000\107\106\003\146\017\143\000\000\151\106\003\146\017\144\000\000\212\106\003\146\017\145"
+			+ "\000\000\252\106\003\146\017\146\000\000\312\106\003\146\017\147\000\000\352\106\003\146\017\150"
+			+ "\000\000\013\107\003\146\017\151\000\000\055\107\003\146\017\152\000\000\117\107\003\146\017\153"
+			+ "\000\000\161\107\003\146\017\154\000\000\222\107\003\146\017\155\000\000\265\107\003\146\017\156"
+			+ "\000\000\330\107\003\146\017\157\000\000\364\107\003\146\017\160\000\000\023\110\003\146\017\161"
+			+ "\000\000\072\110\003\146\017\162\000\000\217\110\003\146\017\163\000\000\344\110\003\146\017\164"
+			+ "\000\000\126\111\003\146\017\165\000\000\166\111\003\146\017\166\000\000\226\111\003\146\017\174"
+			+ "\000\000\266\111\003\146\017\175\000\000\325\111\003\146\017\176\000\000\364\111\003\146\017\177"
+			+ "\000\000\020\112\003\146\017\302\000\000\057\112\003\146\017\304\000\000\125\112\003\146\017\305"
+			+ "\000\000\175\112\003\146\017\306\000\000\245\112\003\146\017\307\000\000\314\112\003\146\017\320"
+			+ "\000\000\344\112\003\146\017\321\000\000\005\113\003\146\017\322\000\000\043\113\003\146\017\323"
+			+ "\000\000\101\113\003\146\017\324\000\000\137\113\003\146\017\325\000\000\175\113\003\146\017\326"
+			+ "\000\000\234\113\003\146\017\327\000\000\267\113\003\146\017\330\000\000\331\113\003\146\017\331"
+			+ "\000\000\371\113\003\146\017\332\000\000\031\114\003\146\017\333\000\000\070\114\003\146\017\334"
+			+ "\000\000\125\114\003\146\017\335\000\000\165\114\003\146\017\336\000\000\225\114\003\146\017\337"
+			+ "\000\000\264\114\003\146\017\340\000\000\322\114\003\146\017\341\000\000\360\114\003\146\017\342"
+			+ "\000\000\016\115\003\146\017\343\000\000\054\115\003\146\017\344\000\000\112\115\003\146\017\345"
+			+ "\000\000\152\115\003\146\017\346\000\000\211\115\003\146\017\347\000\000\253\115\003\146\017\350"
+			+ "\000\000\313\115\003\146\017\351\000\000\352\115\003\146\017\352\000\000\011\116\003\146\017\353"
+			+ "\000\000\050\116\003\146\017\354\000\000\104\116\003\146\017\355\000\000\143\116\003\146\017\356"
+			+ "\000\000\202\116\003\146\017\357\000\000\241\116\003\146\017\361\000\000\276\116\003\146\017\362"
+			+ "\000\000\334\116\003\146\017\363\000\000\372\116\003\146\017\364\000\000\030\117\003\146\017\365"
+			+ "\000\000\070\117\003\146\017\366\000\000\130\117\003\146\017\367\000\000\167\117\003\146\017\370"
+			+ "\000\000\232\117\003\146\017\371\000\000\270\117\003\146\017\372\000\000\326\117\003\146\017\373"
+			+ "\000\000\364\117\003\146\017\374\000\000\022\120\003\146\017\375\000\000\060\120\003\146\017\376"
+			+ "\000\000\116\120\003\233\333\340\000\000\154\120\003\233\333\341\000\000\173\120\003\233\333\342"
+			+ "\000\000\213\120\003\233\333\343\000\000\233\120\003\233\333\344\000\000\253\120\003\233\337\340"
+			+ "\000\000\274\120\003\362\017\020\000\000\322\120\003\362\017\021\000\000\360\120\003\362\017\022"
+			+ "\000\000\016\121\003\362\017\052\000\000\054\121\003\362\017\054\000\000\116\121\003\362\017\055"
+			+ "\000\000\161\121\003\362\017\121\000\000\223\121\003\362\017\130\000\000\262\121\003\362\017\131"
+			+ "\000\000\320\121\003\362\017\132\000\000\356\121\003\362\017\134\000\000\017\122\003\362\017\135"
+			+ "\000\000\055\122\003\362\017\136\000\000\113\122\003\362\017\137\000\000\151\122\003\362\017\160"
+			+ "\000\000\207\122\003\362\017\174\000\000\257\122\003\362\017\175\000\000\316\122\003\362\017\302"
+			+ "\000\000\355\122\003\362\017\320\000\000\023\123\003\362\017\326\000\000\064\123\003\362\017\346"
+			+ "\000\000\122\123\003\362\017\360\000\000\163\123\003\363\017\020\000\000\221\123\003\363\017\021"
+			+ "\000\000\257\123\003\363\017\022\000\000\315\123\003\363\017\026\000\000\354\123\003\363\017\052"
+			+ "\000\000\013\124\003\363\017\054\000\000\055\124\003\363\017\055\000\000\120\124\003\363\017\121"
+			+ "\000\000\162\124\003\363\017\122\000\000\221\124\003\363\017\123\000\000\261\124\003\363\017\130"
+			+ "\000\000\317\124\003\363\017\131\000\000\355\124\003\363\017\132\000\000\013\125\003\363\017\133"
+			+ "\000\000\054\125\003\363\017\134\000\000\116\125\003\363\017\135\000\000\154\125\003\363\017\136"
+			+ "\000\000\212\125\003\363\017\137\000\000\250\125\003\363\017\157\000\000\306\125\003\363\017\160"
+			+ "\000\000\345\125\003\363\017\176\000\000\015\126\003\363\017\177\000\000\050\126\003\363\017\270"
+			+ "\000\000\107\126\003\363\017\302\000\000\147\126\003\363\017\307\000\000\215\126\003\363\017\326"
+			+ "\000\000\243\126\003\363\017\346\000\000\302\126\004\146\017\070\000\000\343\126\004\146\017\070"
+			+ "\001\000\002\127\004\146\017\070\002\000\041\127\004\146\017\070\003\000\100\127\004\146\017\070"
+			+ "\004\000\140\127\004\146\017\070\005\000\202\127\004\146\017\070\006\000\241\127\004\146\017\070"
+			+ "\007\000\300\127\004\146\017\070\010\000\340\127\004\146\017\070\011\000\377\127\004\146\017\070"
+			+ "\012\000\036\130\004\146\017\070\013\000\075\130\004\146\017\070\020\000\136\130\004\146\017\070"
+			+ "\024\000\177\130\004\146\017\070\025\000\240\130\004\146\017\070\027\000\301\130\004\146\017\070"
+			+ "\034\000\337\130\004\146\017\070\035\000\375\130\004\146\017\070\036\000\033\131\004\146\017\070"
+			+ "\040\000\071\131\004\146\017\070\041\000\131\131\004\146\017\070\042\000\171\131\004\146\017\070"
+			+ "\043\000\233\131\004\146\017\070\044\000\273\131\004\146\017\070\045\000\333\131\004\146\017\070"
+			+ "\050\000\373\131\004\146\017\070\051\000\032\132\004\146\017\070\052\000\072\132\004\146\017\070"
+			+ "\053\000\133\132\004\146\017\070\060\000\174\132\004\146\017\070\061\000\234\132\004\146\017\070"
+			+ "\062\000\274\132\004\146\017\070\063\000\336\132\004\146\017\070\064\000\376\132\004\146\017\070"
+			+ "\065\000\036\133\004\146\017\070\067\000\076\133\004\146\017\070\070\000\136\133\004\146\017\070"
+			+ "\071\000\175\133\004\146\017\070\072\000\234\133\004\146\017\070\073\000\273\133\004\146\017\070"
+			+ "\074\000\332\133\004\146\017\070\075\000\371\133\004\146\017\070\076\000\030\134\004\146\017\070"
+			+ "\077\000\067\134\004\146\017\070\100\000\126\134\004\146\017\070\101\000\165\134\004\146\017\070"
+			+ "\200\000\230\134\004\146\017\070\201\000\266\134\004\146\017\072\010\000\325\134\004\146\017\072"
+			+ "\011\000\375\134\004\146\017\072\012\000\045\135\004\146\017\072\013\000\115\135\004\146\017\072"
+			+ "\014\000\165\135\004\146\017\072\015\000\235\135\004\146\017\072\016\000\305\135\004\146\017\072"
+			+ "\017\000\355\135\004\146\017\072\024\000\015\136\004\146\017\072\025\000\063\136\004\146\017\072"
+			+ "\026\000\133\136\004\146\017\072\027\000\201\136\004\146\017\072\040\000\252\136\004\146\017\072"
+			+ "\041\000\320\136\004\146\017\072\042\000\371\136\004\146\017\072\100\000\037\137\004\146\017\072"
+			+ "\101\000\074\137\004\146\017\072\102\000\131\137\004\146\017\072\140\000\201\137\004\146\017\072"
+			+ "\141\000\253\137\004\146\017\072\142\000\325\137\004\146\017\072\143\000\377\137\004\362\017\070"
+			+ "\360\000\051\140\004\362\017\070\361\000\110\140\000\000\000\001\377\000\003\141\144\144\000\155"
+			+ "\000\003\122\115\070\000\155\000\002\122\070\000\000\000\000\000\000\000\001\377\000\003\141\144"
+			+ "\144\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001"
+			+ "\377\000\003\141\144\144\000\155\000\002\122\070\000\155\000\003\122\115\070\000\000\000\000\000"
+			+ "\000\000\001\377\000\003\141\144\144\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062"
+			+ "\000\000\000\000\000\000\000\001\377\000\004\160\165\163\150\000\052\000\002\145\163\000\000\000"
+			+ "\000\000\000\000\001\377\000\003\160\157\160\000\052\000\002\145\163\000\000\000\000\000\000\000"
+			+ "\001\377\000\002\157\162\000\155\000\003\122\115\070\000\155\000\002\122\070\000\000\000\000\000"
+			+ "\000\000\001\377\000\002\157\162\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000"
+			+ "\000\000\000\000\000\000\001\377\000\002\157\162\000\155\000\002\122\070\000\155\000\003\122\115"
+			+ "\070\000\000\000\000\000\000\000\001\377\000\002\157\162\000\155\000\003\122\063\062\000\155\000"
+			+ "\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\004\160\165\163\150\000\052\000\002"
+			+ "\143\163\000\000\000\000\000\000\000\001\377\000\003\141\144\143\000\155\000\003\122\115\070\000"
+			+ "\155\000\002\122\070\000\000\000\000\000\000\000\001\377\000\003\141\144\143\000\155\000\004\122"
+			+ "\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\003\141\144\143"
+			+ "\000\155\000\002\122\070\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\003"
+			+ "\141\144\143\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000"
+			+ "\000\001\377\000\004\160\165\163\150\000\052\000\002\163\163\000\000\000\000\000\000\000\001\377"
+			+ "\000\003\163\142\142\000\155\000\003\122\115\070\000\155\000\002\122\070\000\000\000\000\000\000"
+			+ "\000\001\377\000\003\163\142\142\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\163\142\142\000\155\000\002\122\070\000\155\000\003\122"
+			+ "\115\070\000\000\000\000\000\000\000\001\377\000\003\163\142\142\000\155\000\003\122\063\062\000"
+			+ "\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\004\160\165\163\150\000\052"
+			+ "\000\002\144\163\000\000\000\000\000\000\000\001\377\000\003\160\157\160\000\052\000\002\144\163"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\141\156\144\000\155\000\003\122\115\070\000\155\000"
+			+ "\002\122\070\000\000\000\000\000\000\000\001\377\000\003\141\156\144\000\155\000\004\122\115\063"
+			+ "\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\003\141\156\144\000\155"
+			+ "\000\002\122\070\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\003\141\156"
+			+ "\144\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001"
+			+ "\377\000\002\145\163\000\160\000\002\105\123\000\000\000\000\000\000\000\001\377\000\003\144\141"
+			+ "\141\000\000\000\000\000\000\000\001\377\000\003\163\165\142\000\155\000\003\122\115\070\000\155"
+			+ "\000\002\122\070\000\000\000\000\000\000\000\001\377\000\003\163\165\142\000\155\000\004\122\115"
+			+ "\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\003\163\165\142\000"
+			+ "\155\000\002\122\070\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\003\163"
+			+ "\165\142\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000"
+			+ "\001\377\000\002\143\163\000\160\000\002\103\123\000\000\000\000\000\000\000\001\377\000\003\144"
+			+ "\141\163\000\000\000\000\000\000\000\001\377\000\003\170\157\162\000\155\000\003\122\115\070\000"
+			+ "\155\000\002\122\070\000\000\000\000\000\000\000\001\377\000\003\170\157\162\000\155\000\004\122"
+			+ "\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\003\170\157\162"
+			+ "\000\155\000\002\122\070\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\003"
+			+ "\170\157\162\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000"
+			+ "\000\001\377\000\002\163\163\000\160\000\002\123\123\000\000\000\000\000\000\000\001\377\000\003"
+			+ "\141\141\141\000\000\000\000\000\000\000\001\377\000\003\143\155\160\000\155\000\003\122\115\070"
+			+ "\000\155\000\002\122\070\000\000\000\000\000\000\000\001\377\000\003\143\155\160\000\155\000\004"
+			+ "\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\003\143\155"
+			+ "\160\000\155\000\002\122\070\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000"
+			+ "\003\143\155\160\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000"
+			+ "\000\000\001\377\000\002\144\163\000\160\000\002\104\123\000\000\000\000\000\000\000\001\377\000"
+			+ "\003\141\141\163\000\000\000\000\000\000\000\001\377\000\003\151\156\143\000\160\000\003\122\105"
+			+ "\130\000\000\000\000\000\000\000\001\377\000\003\151\156\143\000\160\000\005\122\105\130\137\102"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\151\156\143\000\160\000\005\122\105\130\137\130\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\151\156\143\000\160\000\006\122\105\130\137\130\102\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\151\156\143\000\160\000\005\122\105\130\137\122\000\000"
+			+ "\000\000\000\000\000\001\377\000\003\151\156\143\000\160\000\006\122\105\130\137\122\102\000\000"
+			+ "\000\000\000\000\000\001\377\000\003\151\156\143\000\160\000\006\122\105\130\137\122\130\000\000"
+			+ "\000\000\000\000\000\001\377\000\003\151\156\143\000\160\000\007\122\105\130\137\122\130\102\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\144\145\143\000\160\000\005\122\105\130\137\127\000\000"
+			+ "\000\000\000\000\000\001\377\000\003\144\145\143\000\160\000\006\122\105\130\137\127\102\000\000"
+			+ "\000\000\000\000\000\001\377\000\003\144\145\143\000\160\000\006\122\105\130\137\127\130\000\000"
+			+ "\000\000\000\000\000\001\377\000\003\144\145\143\000\160\000\007\122\105\130\137\127\130\102\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\144\145\143\000\160\000\006\122\105\130\137\127\122\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\144\145\143\000\160\000\007\122\105\130\137\127\122\102"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\144\145\143\000\160\000\007\122\105\130\137\127\122"
+			+ "\130\000\000\000\000\000\000\000\001\377\000\003\144\145\143\000\160\000\010\122\105\130\137\127"
+			+ "\122\130\102\000\000\000\000\000\000\000\001\377\000\004\160\165\163\150\000\052\000\003\145\141"
+			+ "\170\000\000\000\000\000\000\000\001\377\000\004\160\165\163\150\000\052\000\003\145\143\170\000"
+			+ "\000\000\000\000\000\000\001\377\000\004\160\165\163\150\000\052\000\003\145\144\170\000\000\000"
+			+ "\000\000\000\000\001\377\000\004\160\165\163\150\000\052\000\003\145\142\170\000\000\000\000\000"
+			+ "\000\000\001\377\000\004\160\165\163\150\000\052\000\003\145\163\160\000\000\000\000\000\000\000"
+			+ "\001\377\000\004\160\165\163\150\000\052\000\003\145\142\160\000\000\000\000\000\000\000\001\377"
+			+ "\000\004\160\165\163\150\000\052\000\003\145\163\151\000\000\000\000\000\000\000\001\377\000\004"
+			+ "\160\165\163\150\000\052\000\003\145\144\151\000\000\000\000\000\000\000\001\377\000\003\160\157"
+			+ "\160\000\052\000\003\145\141\170\000\000\000\000\000\000\000\001\377\000\003\160\157\160\000\052"
+			+ "\000\003\145\143\170\000\000\000\000\000\000\000\001\377\000\003\160\157\160\000\052\000\003\145"
+			+ "\144\170\000\000\000\000\000\000\000\001\377\000\003\160\157\160\000\052\000\003\145\142\170\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\160\157\160\000\052\000\003\145\163\160\000\000\000\000"
+			+ "\000\000\000\001\377\000\003\160\157\160\000\052\000\003\145\142\160\000\000\000\000\000\000\000"
+			+ "\001\377\000\003\160\157\160\000\052\000\003\145\163\151\000\000\000\000\000\000\000\001\377\000"
+			+ "\003\160\157\160\000\052\000\003\145\144\151\000\000\000\000\000\000\000\001\377\000\005\160\165"
+			+ "\163\150\141\000\000\000\000\000\000\000\001\377\000\004\160\157\160\141\000\000\000\000\000\000"
+			+ "\000\001\377\000\005\142\157\165\156\144\000\155\000\003\122\063\062\000\052\000\003\155\063\062"
+			+ "\000\000\000\000\000\000\000\001\377\000\004\141\162\160\154\000\155\000\004\122\115\061\066\000"
+			+ "\155\000\003\122\061\066\000\000\000\000\000\000\000\001\377\000\002\146\163\000\160\000\002\106"
+			+ "\123\000\000\000\000\000\000\000\001\377\000\002\147\163\000\160\000\002\107\123\000\000\000\000"
+			+ "\000\000\000\001\377\000\001\055\000\160\000\003\117\123\117\000\000\000\000\000\000\000\001\377"
+			+ "\000\001\055\000\160\000\003\101\123\117\000\000\000\000\000\000\000\001\377\000\004\160\165\163"
+			+ "\150\000\151\000\005\111\115\115\063\062\000\000\000\000\000\000\000\001\377\000\004\151\155\165"
+			+ "\154\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\151\000\005\111\115\115\063"
+			+ "\062\000\000\000\000\000\000\000\001\377\000\004\160\165\163\150\000\151\000\004\111\115\115\070"
+			+ "\000\000\000\000\000\000\000\001\377\000\004\151\155\165\154\000\155\000\003\122\063\062\000\155"
+			+ "\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000"
+			+ "\003\151\156\163\000\052\000\010\145\163\072\133\145\144\151\135\000\052\000\002\144\170\000\000"
+			+ "\000\000\000\000\000\001\377\000\003\151\156\163\000\052\000\007\145\163\072\133\144\151\135\000"
+			+ "\052\000\002\144\170\000\000\000\000\000\000\000\001\377\000\004\157\165\164\163\000\052\000\002"
+			+ "\144\170\000\052\000\010\144\163\072\133\145\163\151\135\000\000\000\000\000\000\000\001\377\000"
+			+ "\004\157\165\164\163\000\052\000\002\144\170\000\052\000\007\144\163\072\133\163\151\135\000\000"
+			+ "\000\000\000\000\000\001\377\000\002\152\157\000\151\000\004\122\105\114\070\000\000\000\000\000"
+			+ "\000\000\001\377\000\003\152\156\157\000\151\000\004\122\105\114\070\000\000\000\000\000\000\000"
+			+ "\001\377\000\002\152\142\000\151\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000"
+			+ "\003\152\156\142\000\151\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000\002\152"
+			+ "\172\000\151\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000\003\152\156\172\000"
+			+ "\151\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000\003\152\142\145\000\151\000"
+			+ "\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000\004\152\156\142\145\000\151\000\004"
+			+ "\122\105\114\070\000\000\000\000\000\000\000\001\377\000\002\152\163\000\151\000\004\122\105\114"
+			+ "\070\000\000\000\000\000\000\000\001\377\000\003\152\156\163\000\151\000\004\122\105\114\070\000"
+			+ "\000\000\000\000\000\000\001\377\000\002\152\160\000\151\000\004\122\105\114\070\000\000\000\000"
+			+ "\000\000\000\001\377\000\003\152\156\160\000\151\000\004\122\105\114\070\000\000\000\000\000\000"
+			+ "\000\001\377\000\002\152\154\000\151\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377"
+			+ "\000\003\152\156\154\000\151\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000\003"
+			+ "\152\154\145\000\151\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000\004\152\156"
+			+ "\154\145\000\151\000\004\122\105\114\070\000\000\000\000\000\000\000\010\000\000\003\141\144\144"
+			+ "\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\001\000\002\157\162"
+			+ "\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\002\000\003\141\144"
+			+ "\143\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\003\000\003\163"
+			+ "\142\142\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\004\000\003"
+			+ "\141\156\144\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\005\000"
+			+ "\003\163\165\142\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\006"
+			+ "\000\003\170\157\162\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000"
+			+ "\007\000\003\143\155\160\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000"
+			+ "\000\000\000\000\010\000\000\003\141\144\144\000\155\000\004\122\115\063\062\000\151\000\005\111"
+			+ "\115\115\063\062\000\000\000\000\001\000\002\157\162\000\155\000\004\122\115\063\062\000\151\000"
+			+ "\005\111\115\115\063\062\000\000\000\000\002\000\003\141\144\143\000\155\000\004\122\115\063\062"
+			+ "\000\151\000\005\111\115\115\063\062\000\000\000\000\003\000\003\163\142\142\000\155\000\004\122"
+			+ "\115\063\062\000\151\000\005\111\115\115\063\062\000\000\000\000\004\000\003\141\156\144\000\155"
+			+ "\000\004\122\115\063\062\000\151\000\005\111\115\115\063\062\000\000\000\000\005\000\003\163\165"
+			+ "\142\000\155\000\004\122\115\063\062\000\151\000\005\111\115\115\063\062\000\000\000\000\006\000"
+			+ "\003\170\157\162\000\155\000\004\122\115\063\062\000\151\000\005\111\115\115\063\062\000\000\000"
+			+ "\000\007\000\003\143\155\160\000\155\000\004\122\115\063\062\000\151\000\005\111\115\115\063\062"
+			+ "\000\000\000\000\000\000\000\010\000\000\003\141\144\144\000\155\000\003\122\115\070\000\151\000"
+			+ "\004\111\115\115\070\000\000\000\000\001\000\002\157\162\000\155\000\003\122\115\070\000\151\000"
+			+ "\004\111\115\115\070\000\000\000\000\002\000\003\141\144\143\000\155\000\003\122\115\070\000\151"
+			+ "\000\004\111\115\115\070\000\000\000\000\003\000\003\163\142\142\000\155\000\003\122\115\070\000"
+			+ "\151\000\004\111\115\115\070\000\000\000\000\004\000\003\141\156\144\000\155\000\003\122\115\070"
+			+ "\000\151\000\004\111\115\115\070\000\000\000\000\005\000\003\163\165\142\000\155\000\003\122\115"
+			+ "\070\000\151\000\004\111\115\115\070\000\000\000\000\006\000\003\170\157\162\000\155\000\003\122"
+			+ "\115\070\000\151\000\004\111\115\115\070\000\000\000\000\007\000\003\143\155\160\000\155\000\003"
+			+ "\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\010\000\000\003\141\144"
+			+ "\144\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000\001\000\002"
+			+ "\157\162\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000\002\000"
+			+ "\003\141\144\143\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000"
+			+ "\003\000\003\163\142\142\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000"
+			+ "\000\000\004\000\003\141\156\144\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070"
+			+ "\000\000\000\000\005\000\003\163\165\142\000\155\000\004\122\115\063\062\000\151\000\004\111\115"
+			+ "\115\070\000\000\000\000\006\000\003\170\157\162\000\155\000\004\122\115\063\062\000\151\000\004"
+			+ "\111\115\115\070\000\000\000\000\007\000\003\143\155\160\000\155\000\004\122\115\063\062\000\151"
+			+ "\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\004\164\145\163\164\000\155\000"
+			+ "\003\122\115\070\000\155\000\002\122\070\000\000\000\000\000\000\000\001\377\000\004\164\145\163"
+			+ "\164\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001"
+			+ "\377\000\004\170\143\150\147\000\155\000\002\122\070\000\155\000\003\122\115\070\000\000\000\000"
+			+ "\000\000\000\001\377\000\004\170\143\150\147\000\155\000\003\122\063\062\000\155\000\004\122\115"
+			+ "\063\062\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\155\000\003\122\115\070\000"
+			+ "\155\000\002\122\070\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\155\000\004\122"
+			+ "\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\003\155\157\166"
+			+ "\000\155\000\002\122\070\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\003"
+			+ "\155\157\166\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000"
+			+ "\000\001\377\000\003\155\157\166\000\155\000\004\122\115\061\066\000\052\000\001\077\000\000\000"
+			+ "\000\000\000\000\001\377\000\003\154\145\141\000\155\000\003\122\063\062\000\151\000\001\115\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\001\077\000\155\000\004\122\115"
+			+ "\061\066\000\000\000\000\000\000\000\001\000\000\003\160\157\160\000\155\000\004\122\115\063\062"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\156\157\160\000\000\000\000\000\000\000\001\377\000"
+			+ "\003\143\142\167\000\000\000\000\000\000\000\001\377\000\003\143\167\144\000\000\000\000\000\000"
+			+ "\000\001\377\000\005\143\141\154\154\146\000\052\000\001\077\000\000\000\000\000\000\000\001\377"
+			+ "\000\005\146\167\141\151\164\000\000\000\000\000\000\000\001\377\000\005\160\165\163\150\146\000"
+			+ "\000\000\000\000\000\000\001\377\000\004\160\157\160\146\000\000\000\000\000\000\000\001\377\000"
+			+ "\004\163\141\150\146\000\000\000\000\000\000\000\001\377\000\004\154\141\150\146\000\000\000\000"
+			+ "\000\000\000\001\377\000\003\155\157\166\000\052\000\002\141\154\000\151\000\006\115\117\106\106"
+			+ "\123\070\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\003\145\141\170\000"
+			+ "\151\000\007\115\117\106\106\123\063\062\000\000\000\000\000\000\000\001\377\000\003\155\157\166"
+			+ "\000\151\000\006\115\117\106\106\123\070\000\052\000\002\141\154\000\000\000\000\000\000\000\001"
+			+ "\377\000\003\155\157\166\000\151\000\007\115\117\106\106\123\063\062\000\052\000\003\145\141\170"
+			+ "\000\000\000\000\000\000\000\001\377\000\004\155\157\166\163\000\052\000\010\145\163\072\133\145"
+			+ "\144\151\135\000\052\000\010\144\163\072\133\145\163\151\135\000\000\000\000\000\000\000\001\377"
+			+ "\000\004\155\157\166\163\000\052\000\007\145\163\072\133\144\151\135\000\052\000\007\144\163\072"
+			+ "\133\163\151\135\000\000\000\000\000\000\000\001\377\000\004\143\155\160\163\000\052\000\010\145"
+			+ "\163\072\133\145\144\151\135\000\052\000\010\144\163\072\133\145\163\151\135\000\000\000\000\000"
+			+ "\000\000\001\377\000\004\143\155\160\163\000\052\000\007\145\163\072\133\144\151\135\000\052\000"
+			+ "\007\144\163\072\133\163\151\135\000\000\000\000\000\000\000\001\377\000\004\163\164\157\163\000"
+			+ "\052\000\010\145\163\072\133\145\144\151\135\000\000\000\000\000\000\000\001\377\000\004\163\164"
+			+ "\157\163\000\052\000\007\145\163\072\133\144\151\135\000\000\000\000\000\000\000\001\377\000\004"
+			+ "\154\157\144\163\000\052\000\010\144\163\072\133\145\163\151\135\000\000\000\000\000\000\000\001"
+			+ "\377\000\004\154\157\144\163\000\052\000\007\144\163\072\133\163\151\135\000\000\000\000\000\000"
+			+ "\000\001\377\000\004\163\143\141\163\000\052\000\010\145\163\072\133\145\144\151\135\000\000\000"
+			+ "\000\000\000\000\001\377\000\004\163\143\141\163\000\052\000\007\145\163\072\133\144\151\135\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\002\141\154\000\151\000\004\111"
+			+ "\115\115\070\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\002\143\154\000"
+			+ "\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000"
+			+ "\002\144\154\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\003\155\157"
+			+ "\166\000\052\000\002\142\154\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377"
+			+ "\000\003\155\157\166\000\052\000\002\141\150\000\151\000\004\111\115\115\070\000\000\000\000\000"
+			+ "\000\000\001\377\000\003\155\157\166\000\052\000\002\143\150\000\151\000\004\111\115\115\070\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\002\144\150\000\151\000\004\111"
+			+ "\115\115\070\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\002\142\150\000"
+			+ "\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000"
+			+ "\003\145\141\170\000\151\000\005\111\115\115\063\062\000\000\000\000\000\000\000\001\377\000\003"
+			+ "\155\157\166\000\052\000\003\145\143\170\000\151\000\005\111\115\115\063\062\000\000\000\000\000"
+			+ "\000\000\001\377\000\003\155\157\166\000\052\000\003\145\144\170\000\151\000\005\111\115\115\063"
+			+ "\062\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\003\145\142\170\000\151"
+			+ "\000\005\111\115\115\063\062\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000"
+			+ "\003\145\163\160\000\151\000\005\111\115\115\063\062\000\000\000\000\000\000\000\001\377\000\003"
+			+ "\155\157\166\000\052\000\003\145\142\160\000\151\000\005\111\115\115\063\062\000\000\000\000\000"
+			+ "\000\000\001\377\000\003\155\157\166\000\052\000\003\145\163\151\000\151\000\005\111\115\115\063"
+			+ "\062\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\003\145\144\151\000\151"
+			+ "\000\005\111\115\115\063\062\000\000\000\000\000\000\000\010\000\000\003\162\157\154\000\155\000"
+			+ "\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\001\000\003\162\157\162\000\155"
+			+ "\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\002\000\003\162\143\154\000"
+			+ "\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\003\000\003\162\143\162"
+			+ "\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\004\000\003\163\150"
+			+ "\154\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\005\000\003\163"
+			+ "\150\162\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\006\000\003"
+			+ "\163\141\154\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\007\000"
+			+ "\003\163\141\162\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\000"
+			+ "\000\000\010\000\000\003\162\157\154\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115"
+			+ "\070\000\000\000\000\001\000\003\162\157\162\000\155\000\004\122\115\063\062\000\151\000\004\111"
+			+ "\115\115\070\000\000\000\000\002\000\003\162\143\154\000\155\000\004\122\115\063\062\000\151\000"
+			+ "\004\111\115\115\070\000\000\000\000\003\000\003\162\143\162\000\155\000\004\122\115\063\062\000"
+			+ "\151\000\004\111\115\115\070\000\000\000\000\004\000\003\163\150\154\000\155\000\004\122\115\063"
+			+ "\062\000\151\000\004\111\115\115\070\000\000\000\000\005\000\003\163\150\162\000\155\000\004\122"
+			+ "\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000\006\000\003\163\141\154\000\155\000"
+			+ "\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000\007\000\003\163\141\162\000"
+			+ "\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377"
+			+ "\000\004\162\145\164\156\000\151\000\005\111\115\115\061\066\000\000\000\000\000\000\000\001\377"
+			+ "\000\004\162\145\164\156\000\000\000\000\000\000\000\001\377\000\003\154\145\163\000\155\000\003"
+			+ "\122\063\062\000\052\000\003\155\063\062\000\000\000\000\000\000\000\001\377\000\003\154\144\163"
+			+ "\000\155\000\003\122\063\062\000\052\000\003\155\063\062\000\000\000\000\000\000\000\001\000\000"
+			+ "\003\155\157\166\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\000"
+			+ "\000\000\001\000\000\003\155\157\166\000\155\000\004\122\115\063\062\000\151\000\005\111\115\115"
+			+ "\063\062\000\000\000\000\000\000\000\001\377\000\005\145\156\164\145\162\000\151\000\005\111\115"
+			+ "\115\061\066\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\005\154\145"
+			+ "\141\166\145\000\000\000\000\000\000\000\001\377\000\004\162\145\164\146\000\151\000\005\111\115"
+			+ "\115\061\066\000\000\000\000\000\000\000\001\377\000\004\162\145\164\146\000\000\000\000\000\000"
+			+ "\000\001\377\000\003\151\156\164\000\052\000\001\063\000\000\000\000\000\000\000\001\377\000\003"
+			+ "\151\156\164\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\004\151\156"
+			+ "\164\157\000\000\000\000\000\000\000\001\377\000\004\151\162\145\164\000\000\000\000\000\000\000"
+			+ "\010\000\000\003\162\157\154\000\155\000\003\122\115\070\000\052\000\001\061\000\000\000\000\001"
+			+ "\000\003\162\157\162\000\155\000\003\122\115\070\000\052\000\001\061\000\000\000\000\002\000\003"
+			+ "\162\143\154\000\155\000\003\122\115\070\000\052\000\001\061\000\000\000\000\003\000\003\162\143"
+			+ "\162\000\155\000\003\122\115\070\000\052\000\001\061\000\000\000\000\004\000\003\163\150\154\000"
+			+ "\155\000\003\122\115\070\000\052\000\001\061\000\000\000\000\005\000\003\163\150\162\000\155\000"
+			+ "\003\122\115\070\000\052\000\001\061\000\000\000\000\006\000\003\163\141\154\000\155\000\003\122"
+			+ "\115\070\000\052\000\001\061\000\000\000\000\007\000\003\163\141\162\000\155\000\003\122\115\070"
+			+ "\000\052\000\001\061\000\000\000\000\000\000\000\010\000\000\003\162\157\154\000\155\000\004\122"
+			+ "\115\063\062\000\052\000\001\061\000\000\000\000\001\000\003\162\157\162\000\155\000\004\122\115"
+			+ "\063\062\000\052\000\001\061\000\000\000\000\002\000\003\162\143\154\000\155\000\004\122\115\063"
+			+ "\062\000\052\000\001\061\000\000\000\000\003\000\003\162\143\162\000\155\000\004\122\115\063\062"
+			+ "\000\052\000\001\061\000\000\000\000\004\000\003\163\150\154\000\155\000\004\122\115\063\062\000"
+			+ "\052\000\001\061\000\000\000\000\005\000\003\163\150\162\000\155\000\004\122\115\063\062\000\052"
+			+ "\000\001\061\000\000\000\000\006\000\003\163\141\154\000\155\000\004\122\115\063\062\000\052\000"
+			+ "\001\061\000\000\000\000\007\000\003\163\141\162\000\155\000\004\122\115\063\062\000\052\000\001"
+			+ "\061\000\000\000\000\000\000\000\010\000\000\003\162\157\154\000\155\000\003\122\115\070\000\052"
+			+ "\000\002\143\154\000\000\000\000\001\000\003\162\157\162\000\155\000\003\122\115\070\000\052\000"
+			+ "\002\143\154\000\000\000\000\002\000\003\162\143\154\000\155\000\003\122\115\070\000\052\000\002"
+			+ "\143\154\000\000\000\000\003\000\003\162\143\162\000\155\000\003\122\115\070\000\052\000\002\143"
+			+ "\154\000\000\000\000\004\000\003\163\150\154\000\155\000\003\122\115\070\000\052\000\002\143\154"
+			+ "\000\000\000\000\005\000\003\163\150\162\000\155\000\003\122\115\070\000\052\000\002\143\154\000"
+			+ "\000\000\000\006\000\003\163\141\154\000\155\000\003\122\115\070\000\052\000\002\143\154\000\000"
+			+ "\000\000\007\000\003\163\141\162\000\155\000\003\122\115\070\000\052\000\002\143\154\000\000\000"
+			+ "\000\000\000\000\010\000\000\003\162\157\154\000\155\000\004\122\115\063\062\000\052\000\002\143"
+			+ "\154\000\000\000\000\001\000\003\162\157\162\000\155\000\004\122\115\063\062\000\052\000\002\143"
+			+ "\154\000\000\000\000\002\000\003\162\143\154\000\155\000\004\122\115\063\062\000\052\000\002\143"
+			+ "\154\000\000\000\000\003\000\003\162\143\162\000\155\000\004\122\115\063\062\000\052\000\002\143"
+			+ "\154\000\000\000\000\004\000\003\163\150\154\000\155\000\004\122\115\063\062\000\052\000\002\143"
+			+ "\154\000\000\000\000\005\000\003\163\150\162\000\155\000\004\122\115\063\062\000\052\000\002\143"
+			+ "\154\000\000\000\000\006\000\003\163\141\154\000\155\000\004\122\115\063\062\000\052\000\002\143"
+			+ "\154\000\000\000\000\007\000\003\163\141\162\000\155\000\004\122\115\063\062\000\052\000\002\143"
+			+ "\154\000\000\000\000\000\000\000\001\377\000\003\141\155\170\000\151\000\004\111\115\115\070\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\141\144\170\000\151\000\004\111\115\115\070\000\000\000"
+			+ "\000\000\000\000\001\377\000\004\163\141\154\143\000\000\000\000\000\000\000\001\377\000\004\170"
+			+ "\154\141\164\000\052\000\015\050\144\163\072\051\133\162\142\170\053\141\154\135\000\000\000\000"
+			+ "\000\000\000\010\000\000\004\146\141\144\144\000\052\000\003\155\163\162\000\000\000\000\001\000"
+			+ "\004\146\155\165\154\000\052\000\003\155\163\162\000\000\000\000\002\000\004\146\143\157\155\000"
+			+ "\052\000\004\145\163\163\162\000\000\000\000\003\000\005\146\143\157\155\160\000\052\000\004\145"
+			+ "\163\163\162\000\000\000\000\004\000\004\146\163\165\142\000\052\000\003\155\163\162\000\000\000"
+			+ "\000\005\000\005\146\163\165\142\162\000\052\000\003\155\163\162\000\000\000\000\006\000\004\146"
+			+ "\144\151\166\000\052\000\003\155\163\162\000\000\000\000\007\000\005\146\144\151\166\162\000\052"
+			+ "\000\003\155\163\162\000\000\000\000\000\000\000\010\000\000\003\146\154\144\000\052\000\004\145"
+			+ "\163\163\162\000\000\000\000\001\000\004\146\170\143\150\000\052\000\003\145\163\164\000\000\000"
+			+ "\000\002\000\003\146\163\164\000\052\000\003\155\163\162\000\000\000\000\003\000\005\146\163\164"
+			+ "\160\061\000\052\000\003\145\163\164\000\000\000\000\004\000\006\146\154\144\145\156\166\000\052"
+			+ "\000\002\155\145\000\000\000\000\005\000\005\146\154\144\143\167\000\155\000\004\122\115\061\066"
+			+ "\000\000\000\000\006\000\007\146\156\163\164\145\156\166\000\052\000\002\155\145\000\000\000\000"
+			+ "\007\000\006\146\156\163\164\143\167\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000"
+			+ "\010\000\000\006\146\143\155\157\166\142\000\052\000\002\163\164\000\052\000\003\145\163\164\000"
+			+ "\000\000\000\001\000\006\146\143\155\157\166\145\000\052\000\002\163\164\000\052\000\003\145\163"
+			+ "\164\000\000\000\000\002\000\007\146\143\155\157\166\142\145\000\052\000\002\163\164\000\052\000"
+			+ "\003\145\163\164\000\000\000\000\003\000\006\146\143\155\157\166\165\000\052\000\002\163\164\000"
+			+ "\052\000\003\145\163\164\000\000\000\000\004\000\005\146\151\163\165\142\000\052\000\003\155\144"
+			+ "\151\000\000\000\000\005\000\006\146\151\163\165\142\162\000\052\000\003\155\144\151\000\000\000"
+			+ "\000\006\000\005\146\151\144\151\166\000\052\000\003\155\144\151\000\000\000\000\007\000\006\146"
+			+ "\151\144\151\166\162\000\052\000\003\155\144\151\000\000\000\000\000\000\000\007\000\000\007\146"
+			+ "\143\155\157\166\156\142\000\052\000\002\163\164\000\052\000\003\145\163\164\000\000\000\000\001"
+			+ "\000\007\146\143\155\157\166\156\145\000\052\000\002\163\164\000\052\000\003\145\163\164\000\000"
+			+ "\000\000\002\000\010\146\143\155\157\166\156\142\145\000\052\000\002\163\164\000\052\000\003\145"
+			+ "\163\164\000\000\000\000\003\000\007\146\143\155\157\166\156\165\000\052\000\002\163\164\000\052"
+			+ "\000\003\145\163\164\000\000\000\000\005\000\006\146\165\143\157\155\151\000\052\000\002\163\164"
+			+ "\000\052\000\003\145\163\164\000\000\000\000\006\000\005\146\143\157\155\151\000\052\000\002\163"
+			+ "\164\000\052\000\003\145\163\164\000\000\000\000\007\000\004\146\163\164\160\000\052\000\003\155"
+			+ "\145\162\000\000\000\000\000\000\000\010\000\000\004\146\141\144\144\000\052\000\003\145\163\164"
+			+ "\000\052\000\002\163\164\000\000\000\000\001\000\004\146\155\165\154\000\052\000\003\145\163\164"
+			+ "\000\052\000\002\163\164\000\000\000\000\002\000\005\146\143\157\155\062\000\052\000\003\145\163"
+			+ "\164\000\000\000\000\003\000\006\146\143\157\155\160\063\000\052\000\003\145\163\164\000\000\000"
+			+ "\000\004\000\005\146\163\165\142\162\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000"
+			+ "\000\000\005\000\004\146\163\165\142\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000"
+			+ "\000\000\006\000\005\146\144\151\166\162\000\052\000\003\145\163\164\000\052\000\002\163\164\000"
+			+ "\000\000\000\007\000\004\146\144\151\166\000\052\000\003\145\163\164\000\052\000\002\163\164\000"
+			+ "\000\000\000\000\000\000\010\000\000\005\146\146\162\145\145\000\052\000\003\145\163\164\000\000"
+			+ "\000\000\001\000\005\146\170\143\150\064\000\052\000\003\145\163\164\000\000\000\000\002\000\003"
+			+ "\146\163\164\000\052\000\003\145\163\164\000\000\000\000\003\000\004\146\163\164\160\000\052\000"
+			+ "\003\145\163\164\000\000\000\000\004\000\005\146\165\143\157\155\000\052\000\003\145\163\164\000"
+			+ "\000\000\000\005\000\006\146\165\143\157\155\160\000\052\000\003\145\163\164\000\000\000\000\006"
+			+ "\000\006\146\156\163\141\166\145\000\052\000\003\155\163\164\000\000\000\000\007\000\006\146\156"
+			+ "\163\164\163\167\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\010\000\000\005\146"
+			+ "\141\144\144\160\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000\000\001\000\005"
+			+ "\146\155\165\154\160\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000\000\002\000"
+			+ "\006\146\143\157\155\160\065\000\052\000\003\145\163\164\000\000\000\000\003\000\006\146\151\143"
+			+ "\157\155\160\000\052\000\003\155\167\151\000\000\000\000\004\000\006\146\163\165\142\162\160\000"
+			+ "\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000\000\005\000\005\146\163\165\142\160"
+			+ "\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000\000\006\000\006\146\144\151\166"
+			+ "\162\160\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000\000\007\000\005\146\144"
+			+ "\151\166\160\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000\000\000\000\000\010"
+			+ "\000\000\006\146\146\162\145\145\160\000\052\000\003\145\163\164\000\000\000\000\001\000\005\146"
+			+ "\170\143\150\067\000\052\000\003\145\163\164\000\000\000\000\002\000\005\146\163\164\160\070\000"
+			+ "\052\000\003\145\163\164\000\000\000\000\003\000\005\146\163\164\160\071\000\052\000\003\145\163"
+			+ "\164\000\000\000\000\004\000\004\146\142\154\144\000\052\000\004\155\142\143\144\000\000\000\000"
+			+ "\005\000\007\146\165\143\157\155\151\160\000\052\000\002\163\164\000\052\000\003\145\163\164\000"
+			+ "\000\000\000\006\000\006\146\143\157\155\151\160\000\052\000\002\163\164\000\052\000\003\145\163"
+			+ "\164\000\000\000\000\007\000\005\146\151\163\164\160\000\052\000\003\155\161\151\000\000\000\000"
+			+ "\000\000\000\001\377\000\006\154\157\157\160\156\172\000\151\000\004\122\105\114\070\000\000\000"
+			+ "\000\000\000\000\001\377\000\005\154\157\157\160\172\000\151\000\004\122\105\114\070\000\000\000"
+			+ "\000\000\000\000\001\377\000\004\154\157\157\160\000\151\000\004\122\105\114\070\000\000\000\000"
+			+ "\000\000\000\001\377\000\004\152\143\170\172\000\151\000\004\122\105\114\070\000\000\000\000\000"
+			+ "\000\000\001\377\000\002\151\156\000\052\000\002\141\154\000\151\000\004\111\115\115\070\000\000"
+			+ "\000\000\000\000\000\001\377\000\002\151\156\000\052\000\003\145\141\170\000\151\000\004\111\115"
+			+ "\115\070\000\000\000\000\000\000\000\001\377\000\003\157\165\164\000\151\000\004\111\115\115\070"
+			+ "\000\052\000\002\141\154\000\000\000\000\000\000\000\001\377\000\003\157\165\164\000\151\000\004"
+			+ "\111\115\115\070\000\052\000\003\145\141\170\000\000\000\000\000\000\000\001\377\000\004\143\141"
+			+ "\154\154\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000\003\152\155"
+			+ "\160\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000\004\152\155\160"
+			+ "\146\000\052\000\001\077\000\000\000\000\000\000\000\001\377\000\003\152\155\160\000\151\000\004"
+			+ "\122\105\114\070\000\000\000\000\000\000\000\001\377\000\002\151\156\000\052\000\002\141\154\000"
+			+ "\052\000\002\144\170\000\000\000\000\000\000\000\001\377\000\002\151\156\000\052\000\003\145\141"
+			+ "\170\000\052\000\002\144\170\000\000\000\000\000\000\000\001\377\000\003\157\165\164\000\052\000"
+			+ "\002\144\170\000\052\000\002\141\154\000\000\000\000\000\000\000\001\377\000\003\157\165\164\000"
+			+ "\052\000\002\144\170\000\052\000\003\145\141\170\000\000\000\000\000\000\000\001\377\000\004\154"
+			+ "\157\143\153\000\160\000\004\114\117\103\113\000\000\000\000\000\000\000\001\377\000\004\151\156"
+			+ "\164\061\000\000\000\000\000\000\000\001\377\000\005\162\145\160\156\172\000\160\000\005\122\105"
+			+ "\120\116\130\000\000\000\000\000\000\000\001\377\000\004\162\145\160\172\000\160\000\004\122\105"
+			+ "\120\130\000\000\000\000\000\000\000\001\377\000\003\150\154\164\000\000\000\000\000\000\000\001"
+			+ "\377\000\003\143\155\143\000\000\000\000\000\000\000\010\000\000\004\164\145\163\164\000\155\000"
+			+ "\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\001\000\004\164\145\163\164\000"
+			+ "\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\002\000\003\156\157\164"
+			+ "\000\155\000\003\122\115\070\000\000\000\000\003\000\003\156\145\147\000\155\000\003\122\115\070"
+			+ "\000\000\000\000\004\000\003\155\165\154\000\155\000\003\122\115\070\000\000\000\000\005\000\004"
+			+ "\151\155\165\154\000\155\000\003\122\115\070\000\000\000\000\006\000\003\144\151\166\000\155\000"
+			+ "\003\122\115\070\000\000\000\000\007\000\004\151\144\151\166\000\155\000\003\122\115\070\000\000"
+			+ "\000\000\000\000\000\010\000\000\004\164\145\163\164\000\155\000\004\122\115\063\062\000\151\000"
+			+ "\005\111\115\115\063\062\000\000\000\000\001\000\004\164\145\163\164\000\155\000\004\122\115\063"
+			+ "\062\000\151\000\005\111\115\115\063\062\000\000\000\000\002\000\003\156\157\164\000\155\000\004"
+			+ "\122\115\063\062\000\000\000\000\003\000\003\156\145\147\000\155\000\004\122\115\063\062\000\000"
+			+ "\000\000\004\000\003\155\165\154\000\155\000\004\122\115\063\062\000\000\000\000\005\000\004\151"
+			+ "\155\165\154\000\155\000\004\122\115\063\062\000\000\000\000\006\000\003\144\151\166\000\155\000"
+			+ "\004\122\115\063\062\000\000\000\000\007\000\004\151\144\151\166\000\155\000\004\122\115\063\062"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\143\154\143\000\000\000\000\000\000\000\001\377\000"
+			+ "\003\163\164\143\000\000\000\000\000\000\000\001\377\000\003\143\154\151\000\000\000\000\000\000"
+			+ "\000\001\377\000\003\143\154\144\000\000\000\000\000\000\000\001\377\000\003\163\164\144\000\000"
+			+ "\000\000\000\000\000\002\000\000\003\151\156\143\000\155\000\003\122\115\070\000\000\000\000\001"
+			+ "\000\003\144\145\143\000\155\000\003\122\115\070\000\000\000\000\000\000\000\007\000\000\003\151"
+			+ "\156\143\000\155\000\004\122\115\063\062\000\000\000\000\001\000\003\144\145\143\000\155\000\004"
+			+ "\122\115\063\062\000\000\000\000\002\000\004\143\141\154\154\000\155\000\004\122\115\063\062\000"
+			+ "\000\000\000\003\000\005\143\141\154\154\146\000\052\000\004\155\160\164\160\000\000\000\000\004"
+			+ "\000\003\152\155\160\000\155\000\004\122\115\063\062\000\000\000\000\005\000\004\152\155\160\146"
+			+ "\000\052\000\004\155\160\164\160\000\000\000\000\006\000\004\160\165\163\150\000\155\000\004\122"
+			+ "\115\063\062\000\000\000\000\000\000\000\005\000\000\004\163\154\144\164\000\155\000\004\122\115"
+			+ "\061\066\000\000\000\000\001\000\003\163\164\162\000\155\000\004\122\115\061\066\000\000\000\000"
+			+ "\004\000\004\166\145\162\162\000\155\000\004\122\115\061\066\000\000\000\000\005\000\004\166\145"
+			+ "\162\167\000\155\000\004\122\115\061\066\000\000\000\000\006\000\004\152\155\160\145\000\000\000"
+			+ "\000\000\000\000\003\000\000\004\163\147\144\164\000\052\000\002\155\163\000\000\000\000\001\000"
+			+ "\004\163\151\144\164\000\052\000\002\155\163\000\000\000\000\004\000\004\163\155\163\167\000\155"
+			+ "\000\004\122\115\061\066\000\000\000\000\000\000\000\001\377\000\003\154\141\162\000\155\000\003"
+			+ "\122\063\062\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\001\377\000\003\154\163"
+			+ "\154\000\155\000\003\122\063\062\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\001"
+			+ "\377\000\004\143\154\164\163\000\000\000\000\000\000\000\001\377\000\003\156\157\160\000\155\000"
+			+ "\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\006\155\157\166\165\160\163\000\052"
+			+ "\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\006\155"
+			+ "\157\166\165\160\163\000\052\000\003\167\160\163\000\052\000\003\166\160\163\000\000\000\000\000"
+			+ "\000\000\001\377\000\007\155\157\166\150\154\160\163\000\052\000\002\166\161\000\052\000\002\165"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\006\155\157\166\154\160\163\000\052\000\002\155\161"
+			+ "\000\052\000\002\166\161\000\000\000\000\000\000\000\001\377\000\010\165\156\160\143\153\154\160"
+			+ "\163\000\052\000\003\166\160\163\000\052\000\002\167\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\010\165\156\160\143\153\150\160\163\000\052\000\003\166\160\163\000\052\000\002\167\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\007\155\157\166\154\150\160\163\000\052\000\002\166\161\000\052"
+			+ "\000\002\165\161\000\000\000\000\000\000\000\001\377\000\006\155\157\166\150\160\163\000\052\000"
+			+ "\002\155\161\000\052\000\002\166\161\000\000\000\000\000\000\000\001\377\000\010\150\151\156\164"
+			+ "\137\156\157\160\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\010\150"
+			+ "\151\156\164\137\156\157\160\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377"
+			+ "\000\010\150\151\156\164\137\156\157\160\000\155\000\004\122\115\063\062\000\000\000\000\000\000"
+			+ "\000\001\377\000\010\150\151\156\164\137\156\157\160\000\155\000\004\122\115\063\062\000\000\000"
+			+ "\000\000\000\000\001\377\000\010\150\151\156\164\137\156\157\160\000\155\000\004\122\115\063\062"
+			+ "\000\000\000\000\000\000\000\001\377\000\010\150\151\156\164\137\156\157\160\000\155\000\004\122"
+			+ "\115\063\062\000\000\000\000\000\000\000\001\377\000\010\150\151\156\164\137\156\157\160\000\155"
+			+ "\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\010\150\151\156\164\137\156\157"
+			+ "\160\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000"
+			+ "\052\000\002\162\144\000\052\000\002\143\144\000\000\000\000\000\000\000\001\377\000\003\155\157"
+			+ "\166\000\052\000\002\162\144\000\052\000\002\144\144\000\000\000\000\000\000\000\001\377\000\003"
+			+ "\155\157\166\000\052\000\002\162\144\000\052\000\002\164\144\000\000\000\000\000\000\000\001\377"
+			+ "\000\003\155\157\166\000\052\000\002\164\144\000\052\000\002\162\144\000\000\000\000\000\000\000"
+			+ "\001\377\000\006\155\157\166\141\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163"
+			+ "\000\000\000\000\000\000\000\001\377\000\006\155\157\166\141\160\163\000\052\000\003\167\160\163"
+			+ "\000\052\000\003\166\160\163\000\000\000\000\000\000\000\001\377\000\010\143\166\164\160\151\062"
+			+ "\160\163\000\052\000\003\166\160\163\000\052\000\003\161\160\151\000\000\000\000\000\000\000\001"
+			+ "\377\000\007\155\157\166\156\164\160\163\000\052\000\003\155\160\163\000\052\000\003\166\160\163"
+			+ "\000\000\000\000\000\000\000\001\377\000\011\143\166\164\164\160\163\062\160\151\000\052\000\003"
+			+ "\160\160\151\000\052\000\004\167\160\163\161\000\000\000\000\000\000\000\001\377\000\010\143\166"
+			+ "\164\160\163\062\160\151\000\052\000\003\160\160\151\000\052\000\004\167\160\163\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\007\165\143\157\155\151\163\163\000\052\000\003\166\163\163\000\052"
+			+ "\000\003\167\163\163\000\000\000\000\000\000\000\001\377\000\006\143\157\155\151\163\163\000\052"
+			+ "\000\003\166\163\163\000\052\000\003\167\163\163\000\000\000\000\000\000\000\001\377\000\005\162"
+			+ "\144\164\163\143\000\000\000\000\000\000\000\001\377\000\005\162\144\155\163\162\000\000\000\000"
+			+ "\000\000\000\001\377\000\005\162\144\160\155\143\000\000\000\000\000\000\000\001\377\000\010\163"
+			+ "\171\163\145\156\164\145\162\000\000\000\000\000\000\000\001\377\000\007\163\171\163\145\170\151"
+			+ "\164\000\000\000\000\000\000\000\001\377\000\006\147\145\164\163\145\143\000\000\000\000\000\000"
+			+ "\000\001\377\000\005\143\155\157\166\157\000\155\000\003\122\063\062\000\155\000\004\122\115\063"
+			+ "\062\000\000\000\000\000\000\000\001\377\000\006\143\155\157\166\156\157\000\155\000\003\122\063"
+			+ "\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\005\143\155\157\166"
+			+ "\142\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001"
+			+ "\377\000\006\143\155\157\166\156\142\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062"
+			+ "\000\000\000\000\000\000\000\001\377\000\005\143\155\157\166\172\000\155\000\003\122\063\062\000"
+			+ "\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\006\143\155\157\166\156\172"
+			+ "\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377"
+			+ "\000\006\143\155\157\166\142\145\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000"
+			+ "\000\000\000\000\000\000\001\377\000\007\143\155\157\166\156\142\145\000\155\000\003\122\063\062"
+			+ "\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001",
+			"\377\000\005\143\155\157\166\163\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000"
+			+ "\000\000\000\000\000\000\001\377\000\006\143\155\157\166\156\163\000\155\000\003\122\063\062\000"
+			+ "\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\005\143\155\157\166\160\000"
+			+ "\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000"
+			+ "\006\143\155\157\166\156\160\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000"
+			+ "\000\000\000\000\000\001\377\000\005\143\155\157\166\154\000\155\000\003\122\063\062\000\155\000"
+			+ "\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\006\143\155\157\166\156\154\000\155"
+			+ "\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\006"
+			+ "\143\155\157\166\154\145\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000"
+			+ "\000\000\000\000\001\377\000\007\143\155\157\166\156\154\145\000\155\000\003\122\063\062\000\155"
+			+ "\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\010\155\157\166\155\163\153\160"
+			+ "\163\000\052\000\004\147\144\161\160\000\052\000\003\165\160\163\000\000\000\000\000\000\000\001"
+			+ "\377\000\006\163\161\162\164\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000"
+			+ "\000\000\000\000\000\000\001\377\000\007\162\163\161\162\164\160\163\000\052\000\003\166\160\163"
+			+ "\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005\162\143\160\160\163\000"
+			+ "\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005"
+			+ "\141\156\144\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000"
+			+ "\000\000\001\377\000\006\141\156\144\156\160\163\000\052\000\003\166\160\163\000\052\000\003\167"
+			+ "\160\163\000\000\000\000\000\000\000\001\377\000\004\157\162\160\163\000\052\000\003\166\160\163"
+			+ "\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005\170\157\162\160\163\000"
+			+ "\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005"
+			+ "\141\144\144\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000"
+			+ "\000\000\001\377\000\005\155\165\154\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160"
+			+ "\163\000\000\000\000\000\000\000\001\377\000\010\143\166\164\160\163\062\160\144\000\052\000\003"
+			+ "\166\160\144\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\010\143\166\164"
+			+ "\144\161\062\160\163\000\052\000\003\166\160\163\000\052\000\003\167\144\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\005\163\165\142\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160"
+			+ "\163\000\000\000\000\000\000\000\001\377\000\005\155\151\156\160\163\000\052\000\003\166\160\163"
+			+ "\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005\144\151\166\160\163\000"
+			+ "\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005"
+			+ "\155\141\170\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000"
+			+ "\000\000\001\377\000\011\160\165\156\160\143\153\154\142\167\000\052\000\002\160\161\000\052\000"
+			+ "\002\161\144\000\000\000\000\000\000\000\001\377\000\011\160\165\156\160\143\153\154\167\144\000"
+			+ "\052\000\002\160\161\000\052\000\002\161\144\000\000\000\000\000\000\000\001\377\000\011\160\165"
+			+ "\156\160\143\153\154\144\161\000\052\000\002\160\161\000\052\000\002\161\144\000\000\000\000\000"
+			+ "\000\000\001\377\000\010\160\141\143\153\163\163\167\142\000\052\000\002\160\161\000\052\000\002"
+			+ "\161\144\000\000\000\000\000\000\000\001\377\000\007\160\143\155\160\147\164\142\000\052\000\002"
+			+ "\160\161\000\052\000\002\161\144\000\000\000\000\000\000\000\001\377\000\007\160\143\155\160\147"
+			+ "\164\167\000\052\000\002\160\161\000\052\000\002\161\144\000\000\000\000\000\000\000\001\377\000"
+			+ "\007\160\143\155\160\147\164\144\000\052\000\002\160\161\000\052\000\002\161\144\000\000\000\000"
+			+ "\000\000\000\001\377\000\010\160\141\143\153\165\163\167\142\000\052\000\002\160\161\000\052\000"
+			+ "\002\161\161\000\000\000\000\000\000\000\001\377\000\011\160\165\156\160\143\153\150\142\167\000"
+			+ "\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\011\160\165"
+			+ "\156\160\143\153\150\167\144\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\011\160\165\156\160\143\153\150\144\161\000\052\000\002\160\161\000\052\000"
+			+ "\002\161\161\000\000\000\000\000\000\000\001\377\000\010\160\141\143\153\163\163\144\167\000\052"
+			+ "\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\004\155\157\166"
+			+ "\144\000\052\000\002\160\161\000\052\000\002\145\144\000\000\000\000\000\000\000\001\377\000\004"
+			+ "\155\157\166\161\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\006\160\163\150\165\146\167\000\052\000\002\160\161\000\052\000\002\161\161\000\151\000"
+			+ "\004\111\115\115\070\000\000\000\000\000\000\000\003\002\000\005\160\163\162\154\167\000\052\000"
+			+ "\002\156\161\000\151\000\004\111\115\115\070\000\000\000\000\004\000\005\160\163\162\141\167\000"
+			+ "\052\000\002\156\161\000\151\000\004\111\115\115\070\000\000\000\000\006\000\005\160\163\154\154"
+			+ "\167\000\052\000\002\156\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\003\002"
+			+ "\000\005\160\163\162\154\144\000\052\000\002\156\161\000\151\000\004\111\115\115\070\000\000\000"
+			+ "\000\004\000\005\160\163\162\141\144\000\052\000\002\156\161\000\151\000\004\111\115\115\070\000"
+			+ "\000\000\000\006\000\005\160\163\154\154\144\000\052\000\002\156\161\000\151\000\004\111\115\115"
+			+ "\070\000\000\000\000\000\000\000\002\002\000\005\160\163\162\154\161\000\052\000\002\156\161\000"
+			+ "\151\000\004\111\115\115\070\000\000\000\000\006\000\005\160\163\154\154\161\000\052\000\002\156"
+			+ "\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\007\160\143\155\160"
+			+ "\145\161\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\007\160\143\155\160\145\161\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\007\160\143\155\160\145\161\144\000\052\000\002\160\161\000\052\000"
+			+ "\002\161\161\000\000\000\000\000\000\000\001\377\000\004\145\155\155\163\000\000\000\000\000\000"
+			+ "\000\001\377\000\006\166\155\162\145\141\144\000\052\000\002\145\144\000\052\000\002\147\144\000"
+			+ "\000\000\000\000\000\000\001\377\000\007\166\155\167\162\151\164\145\000\052\000\002\147\144\000"
+			+ "\052\000\002\145\144\000\000\000\000\000\000\000\001\377\000\004\155\157\166\144\000\052\000\002"
+			+ "\145\144\000\052\000\002\160\161\000\000\000\000\000\000\000\001\377\000\004\155\157\166\161\000"
+			+ "\052\000\002\161\161\000\052\000\002\160\161\000\000\000\000\000\000\000\001\377\000\002\152\157"
+			+ "\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000\003\152\156\157\000"
+			+ "\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000\002\152\142\000\151\000"
+			+ "\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000\003\152\156\142\000\151\000\005"
+			+ "\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000\002\152\172\000\151\000\005\122\105"
+			+ "\114\063\062\000\000\000\000\000\000\000\001\377\000\003\152\156\172\000\151\000\005\122\105\114"
+			+ "\063\062\000\000\000\000\000\000\000\001\377\000\003\152\142\145\000\151\000\005\122\105\114\063"
+			+ "\062\000\000\000\000\000\000\000\001\377\000\004\152\156\142\145\000\151\000\005\122\105\114\063"
+			+ "\062\000\000\000\000\000\000\000\001\377\000\002\152\163\000\151\000\005\122\105\114\063\062\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\152\156\163\000\151\000\005\122\105\114\063\062\000\000"
+			+ "\000\000\000\000\000\001\377\000\002\152\160\000\151\000\005\122\105\114\063\062\000\000\000\000"
+			+ "\000\000\000\001\377\000\003\152\156\160\000\151\000\005\122\105\114\063\062\000\000\000\000\000"
+			+ "\000\000\001\377\000\002\152\154\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000"
+			+ "\001\377\000\003\152\156\154\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001"
+			+ "\377\000\003\152\154\145\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377"
+			+ "\000\004\152\156\154\145\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\000"
+			+ "\000\004\163\145\164\157\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\000\000\005"
+			+ "\163\145\164\156\157\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\000\000\004\163"
+			+ "\145\164\142\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\000\000\005\163\145\164"
+			+ "\156\142\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\000\000\004\163\145\164\172"
+			+ "\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\000\000\005\163\145\164\156\172\000"
+			+ "\155\000\003\122\115\070\000\000\000\000\000\000\000\001\000\000\005\163\145\164\142\145\000\155"
+			+ "\000\003\122\115\070\000\000\000\000\000\000\000\001\000\000\006\163\145\164\156\142\145\000\155"
+			+ "\000\003\122\115\070\000\000\000\000\000\000\000\001\000\000\004\163\145\164\163\000\155\000\003"
+			+ "\122\115\070\000\000\000\000\000\000\000\001\000\000\005\163\145\164\156\163\000\155\000\003\122"
+			+ "\115\070\000\000\000\000\000\000\000\001\000\000\004\163\145\164\160\000\155\000\003\122\115\070"
+			+ "\000\000\000\000\000\000\000\001\000\000\005\163\145\164\156\160\000\155\000\003\122\115\070\000"
+			+ "\000\000\000\000\000\000\001\000\000\004\163\145\164\154\000\155\000\003\122\115\070\000\000\000"
+			+ "\000\000\000\000\001\000\000\005\163\145\164\156\154\000\155\000\003\122\115\070\000\000\000\000"
+			+ "\000\000\000\001\000\000\005\163\145\164\154\145\000\155\000\003\122\115\070\000\000\000\000\000"
+			+ "\000\000\001\000\000\006\163\145\164\156\154\145\000\155\000\003\122\115\070\000\000\000\000\000"
+			+ "\000\000\001\377\000\004\160\165\163\150\000\052\000\002\146\163\000\000\000\000\000\000\000\001"
+			+ "\377\000\003\160\157\160\000\052\000\002\146\163\000\000\000\000\000\000\000\001\377\000\002\142"
+			+ "\164\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001"
+			+ "\377\000\004\163\150\154\144\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\151"
+			+ "\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\004\163\150\154\144\000\155\000"
+			+ "\004\122\115\063\062\000\155\000\003\122\063\062\000\052\000\002\143\154\000\000\000\000\000\000"
+			+ "\000\001\377\000\004\160\165\163\150\000\052\000\002\147\163\000\000\000\000\000\000\000\001\377"
+			+ "\000\003\160\157\160\000\052\000\002\147\163\000\000\000\000\000\000\000\001\377\000\003\142\164"
+			+ "\163\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001"
+			+ "\377\000\004\163\150\162\144\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\151"
+			+ "\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\004\163\150\162\144\000\155\000"
+			+ "\004\122\115\063\062\000\155\000\003\122\063\062\000\052\000\002\143\154\000\000\000\000\000\000"
+			+ "\000\010\000\000\006\146\170\163\141\166\145\000\052\000\004\155\163\164\170\000\000\000\000\001"
+			+ "\000\007\146\170\162\163\164\157\162\000\052\000\004\155\163\164\170\000\000\000\000\002\000\007"
+			+ "\154\144\155\170\143\163\162\000\052\000\002\155\144\000\000\000\000\003\000\007\163\164\155\170"
+			+ "\143\163\162\000\052\000\002\155\144\000\000\000\000\004\000\005\170\163\141\166\145\000\151\000"
+			+ "\001\115\000\000\000\000\005\000\006\170\162\163\164\157\162\000\151\000\001\115\000\000\000\000"
+			+ "\006\000\006\155\146\145\156\143\145\000\000\000\000\007\000\007\143\154\146\154\165\163\150\000"
+			+ "\052\000\002\155\142\000\000\000\000\000\000\000\001\377\000\004\151\155\165\154\000\155\000\003"
+			+ "\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\007\143\155"
+			+ "\160\170\143\150\147\000\155\000\003\122\115\070\000\155\000\002\122\070\000\000\000\000\000\000"
+			+ "\000\001\377\000\007\143\155\160\170\143\150\147\000\155\000\004\122\115\063\062\000\155\000\003"
+			+ "\122\063\062\000\000\000\000\000\000\000\001\377\000\003\154\163\163\000\155\000\003\122\063\062"
+			+ "\000\052\000\004\155\160\164\160\000\000\000\000\000\000\000\001\377\000\003\142\164\162\000\155"
+			+ "\000\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\003"
+			+ "\154\146\163\000\155\000\003\122\063\062\000\052\000\004\155\160\164\160\000\000\000\000\000\000"
+			+ "\000\001\377\000\003\154\147\163\000\155\000\003\122\063\062\000\052\000\004\155\160\164\160\000"
+			+ "\000\000\000\000\000\000\001\377\000\005\155\157\166\172\170\000\155\000\003\122\063\062\000\155"
+			+ "\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\005\155\157\166\172\170\000\155\000"
+			+ "\003\122\063\062\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\001\377\000\004\152"
+			+ "\155\160\145\000\000\000\000\000\000\000\004\004\000\002\142\164\000\155\000\004\122\115\063\062"
+			+ "\000\151\000\004\111\115\115\070\000\000\000\000\005\000\003\142\164\163\000\155\000\004\122\115"
+			+ "\063\062\000\151\000\004\111\115\115\070\000\000\000\000\006\000\003\142\164\162\000\155\000\004"
+			+ "\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000\007\000\003\142\164\143\000\155"
+			+ "\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000"
+			+ "\003\142\164\143\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000"
+			+ "\000\000\001\377\000\003\142\163\146\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\142\163\162\000\155\000\003\122\063\062\000\155\000"
+			+ "\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\005\155\157\166\163\170\000\155\000"
+			+ "\003\122\063\062\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\005\155\157"
+			+ "\166\163\170\000\155\000\003\122\063\062\000\155\000\004\122\115\061\066\000\000\000\000\000\000"
+			+ "\000\001\377\000\004\170\141\144\144\000\155\000\003\122\115\070\000\155\000\002\122\070\000\000"
+			+ "\000\000\000\000\000\001\377\000\004\170\141\144\144\000\155\000\004\122\115\063\062\000\155\000"
+			+ "\003\122\063\062\000\000\000\000\000\000\000\001\377\000\005\143\155\160\160\163\000\052\000\003"
+			+ "\166\160\163\000\052\000\003\167\160\163\000\151\000\004\111\115\115\070\000\000\000\000\000\000"
+			+ "\000\001\377\000\006\155\157\166\156\164\151\000\052\000\004\155\144\161\160\000\052\000\004\147"
+			+ "\144\161\160\000\000\000\000\000\000\000\001\377\000\006\160\151\156\163\162\167\000\052\000\002"
+			+ "\160\161\000\052\000\004\162\144\161\160\000\151\000\004\111\115\115\070\000\000\000\000\000\000"
+			+ "\000\001\377\000\006\160\145\170\164\162\167\000\052\000\004\147\144\161\160\000\052\000\002\156"
+			+ "\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\006\163\150\165\146"
+			+ "\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\151\000\004\111\115\115\070"
+			+ "\000\000\000\000\000\000\000\003\001\000\011\143\155\160\170\143\150\147\070\142\000\052\000\002"
+			+ "\155\161\000\000\000\000\006\000\007\166\155\160\164\162\154\144\000\052\000\002\155\161\000\000"
+			+ "\000\000\007\000\007\166\155\160\164\162\163\164\000\052\000\002\155\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\005\142\163\167\141\160\000\052\000\003\145\141\170\000\000\000\000\000\000\000"
+			+ "\001\377\000\005\142\163\167\141\160\000\052\000\003\145\143\170\000\000\000\000\000\000\000\001"
+			+ "\377\000\005\142\163\167\141\160\000\052\000\003\145\144\170\000\000\000\000\000\000\000\001\377"
+			+ "\000\005\142\163\167\141\160\000\052\000\003\145\142\170\000\000\000\000\000\000\000\001\377\000"
+			+ "\005\142\163\167\141\160\000\052\000\003\145\163\160\000\000\000\000\000\000\000\001\377\000\005"
+			+ "\142\163\167\141\160\000\052\000\003\145\142\160\000\000\000\000\000\000\000\001\377\000\005\142"
+			+ "\163\167\141\160\000\052\000\003\145\163\151\000\000\000\000\000\000\000\001\377\000\005\142\163"
+			+ "\167\141\160\000\052\000\003\145\144\151\000\000\000\000\000\000\000\001\377\000\005\160\163\162"
+			+ "\154\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\005\160\163\162\154\144\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\005\160\163\162\154\161\000\052\000\002\160\161\000\052\000\002\161\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\005\160\141\144\144\161\000\052\000\002\160\161\000\052\000\002"
+			+ "\161\161\000\000\000\000\000\000\000\001\377\000\006\160\155\165\154\154\167\000\052\000\002\160"
+			+ "\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\010\160\155\157\166\155\163"
+			+ "\153\142\000\052\000\004\147\144\161\160\000\052\000\002\156\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\007\160\163\165\142\165\163\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\007\160\163\165\142\165\163\167\000\052\000\002\160\161\000\052"
+			+ "\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160\155\151\156\165\142\000\052\000"
+			+ "\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\004\160\141\156\144"
+			+ "\000\052\000\002\160\161\000\052\000\002\161\144\000\000\000\000\000\000\000\001\377\000\007\160"
+			+ "\141\144\144\165\163\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\007\160\141\144\144\165\163\167\000\052\000\002\160\161\000\052\000\002\161\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\006\160\155\141\170\165\142\000\052\000\002\160\161\000"
+			+ "\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\141\156\144\156\000\052\000"
+			+ "\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\141\166\147"
+			+ "\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005"
+			+ "\160\163\162\141\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\005\160\163\162\141\144\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\005\160\141\166\147\167\000\052\000\002\160\161\000\052\000\002\161"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\007\160\155\165\154\150\165\167\000\052\000\002\160"
+			+ "\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160\155\165\154\150\167"
+			+ "\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\155"
+			+ "\157\166\156\164\161\000\052\000\002\155\161\000\052\000\002\160\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\006\160\163\165\142\163\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\006\160\163\165\142\163\167\000\052\000\002\160\161\000\052\000"
+			+ "\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160\155\151\156\163\167\000\052\000\002"
+			+ "\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\003\160\157\162\000\052"
+			+ "\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160\141\144"
+			+ "\144\163\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\006\160\141\144\144\163\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\006\160\155\141\170\163\167\000\052\000\002\160\161\000\052\000\002\161"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\004\160\170\157\162\000\052\000\002\160\161\000\052"
+			+ "\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\163\154\154\167\000\052\000\002"
+			+ "\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\163\154\154\144"
+			+ "\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160"
+			+ "\163\154\154\161\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\007\160\155\165\154\165\144\161\000\052\000\002\160\161\000\052\000\002\161\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\007\160\155\141\144\144\167\144\000\052\000\002\160\161\000\052"
+			+ "\000\002\161\144\000\000\000\000\000\000\000\001\377\000\006\160\163\141\144\142\167\000\052\000"
+			+ "\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\010\155\141\163\153"
+			+ "\155\157\166\161\000\052\000\002\160\161\000\052\000\002\156\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\005\160\163\165\142\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\005\160\163\165\142\167\000\052\000\002\160\161\000\052\000\002\161\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\005\160\163\165\142\144\000\052\000\002\160\161\000\052"
+			+ "\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\163\165\142\161\000\052\000\002"
+			+ "\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\141\144\144\142"
+			+ "\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160"
+			+ "\141\144\144\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\005\160\141\144\144\144\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000"
+			+ "\000\000\000\002\006\000\006\146\163\164\145\156\166\000\052\000\002\155\145\000\000\000\000\007"
+			+ "\000\005\146\163\164\143\167\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\002\006"
+			+ "\000\005\146\163\141\166\145\000\052\000\003\155\163\164\000\000\000\000\007\000\005\146\163\164"
+			+ "\163\167\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\001\377\000\003\141\141\155"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\141\141\144\000\000\000\000\000\000\000\001\002\000"
+			+ "\004\146\143\157\155\000\000\000\000\000\000\000\001\003\000\005\146\143\157\155\160\000\000\000"
+			+ "\000\000\000\000\001\001\000\004\146\170\143\150\000\000\000\000\000\000\000\001\002\000\004\146"
+			+ "\156\157\160\000\000\000\000\000\000\000\001\004\000\004\146\143\150\163\000\000\000\000\000\000"
+			+ "\000\001\004\000\004\146\141\142\163\000\000\000\000\000\000\000\001\004\000\004\146\164\163\164"
+			+ "\000\000\000\000\000\000\000\001\004\000\004\146\170\141\155\000\000\000\000\000\000\000\001\005"
+			+ "\000\004\146\154\144\061\000\000\000\000\000\000\000\001\005\000\006\146\154\144\154\062\164\000"
+			+ "\000\000\000\000\000\000\001\005\000\006\146\154\144\154\062\145\000\000\000\000\000\000\000\001"
+			+ "\005\000\005\146\154\144\160\151\000\000\000\000\000\000\000\001\005\000\006\146\154\144\154\147"
+			+ "\062\000\000\000\000\000\000\000\001\005\000\006\146\154\144\154\156\062\000\000\000\000\000\000"
+			+ "\000\001\005\000\004\146\154\144\172\000\000\000\000\000\000\000\001\006\000\005\146\062\170\155"
+			+ "\061\000\000\000\000\000\000\000\001\006\000\005\146\171\154\062\170\000\000\000\000\000\000\000"
+			+ "\001\006\000\005\146\160\164\141\156\000\000\000\000\000\000\000\001\006\000\006\146\160\141\164"
+			+ "\141\156\000\000\000\000\000\000\000\001\006\000\007\146\170\164\162\141\143\164\000\000\000\000"
+			+ "\000\000\000\001\006\000\006\146\160\162\145\155\061\000\000\000\000\000\000\000\001\006\000\007"
+			+ "\146\144\145\143\163\164\160\000\000\000\000\000\000\000\001\006\000\007\146\151\156\143\163\164"
+			+ "\160\000\000\000\000\000\000\000\001\007\000\005\146\160\162\145\155\000\000\000\000\000\000\000"
+			+ "\001\007\000\007\146\171\154\062\170\160\061\000\000\000\000\000\000\000\001\007\000\005\146\163"
+			+ "\161\162\164\000\000\000\000\000\000\000\001\007\000\007\146\163\151\156\143\157\163\000\000\000"
+			+ "\000\000\000\000\001\007\000\007\146\162\156\144\151\156\164\000\000\000\000\000\000\000\001\007"
+			+ "\000\006\146\163\143\141\154\145\000\000\000\000\000\000\000\001\007\000\004\146\163\151\156\000"
+			+ "\000\000\000\000\000\000\001\007\000\004\146\143\157\163\000\000\000\000\000\000\000\001\005\000"
+			+ "\007\146\165\143\157\155\160\160\000\000\000\000\000\000\000\001\004\000\005\146\156\145\156\151"
+			+ "\000\000\000\000\000\000\000\001\004\000\006\146\156\144\151\163\151\000\000\000\000\000\000\000"
+			+ "\001\004\000\006\146\156\143\154\145\170\000\000\000\000\000\000\000\001\004\000\006\146\156\151"
+			+ "\156\151\164\000\000\000\000\000\000\000\001\004\000\007\146\156\163\145\164\160\155\000\000\000"
+			+ "\000\000\000\000\001\004\000\005\146\165\143\157\155\000\000\000\000\000\000\000\001\005\000\006"
+			+ "\146\165\143\157\155\160\000\000\000\000\000\000\000\001\000\000\005\146\141\144\144\160\000\000"
+			+ "\000\000\000\000\000\001\001\000\005\146\155\165\154\160\000\000\000\000\000\000\000\001\003\000"
+			+ "\006\146\143\157\155\160\160\000\000\000\000\000\000\000\001\004\000\006\146\163\165\142\162\160"
+			+ "\000\000\000\000\000\000\000\001\005\000\005\146\163\165\142\160\000\000\000\000\000\000\000\001"
+			+ "\006\000\006\146\144\151\166\162\160\000\000\000\000\000\000\000\001\007\000\005\146\144\151\166"
+			+ "\160\000\000\000\000\000\000\000\001\004\000\006\146\156\163\164\163\167\000\052\000\002\141\170"
+			+ "\000\000\000\000\000\000\000\001\377\000\005\160\141\165\163\145\000\000\000\000\000\000\000\001"
+			+ "\000\000\006\166\155\143\141\154\154\000\000\000\000\000\000\000\001\000\000\010\166\155\154\141"
+			+ "\165\156\143\150\000\000\000\000\000\000\000\001\000\000\010\166\155\162\145\163\165\155\145\000"
+			+ "\000\000\000\000\000\000\001\000\000\006\166\155\170\157\146\146\000\000\000\000\000\000\000\001"
+			+ "\001\000\007\155\157\156\151\164\157\162\000\000\000\000\000\000\000\001\001\000\005\155\167\141"
+			+ "\151\164\000\000\000\000\000\000\000\001\002\000\006\170\147\145\164\142\166\000\000\000\000\000"
+			+ "\000\000\001\002\000\006\170\163\145\164\142\166\000\000\000\000\000\000\000\001\377\000\006\160"
+			+ "\163\150\165\146\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\006\160\150\141\144\144\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\006\160\150\141\144\144\144\000\052\000\002\160\161\000\052\000"
+			+ "\002\161\161\000\000\000\000\000\000\000\001\377\000\007\160\150\141\144\144\163\167\000\052\000"
+			+ "\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\011\160\155\141\144"
+			+ "\144\165\142\163\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\006\160\150\163\165\142\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\006\160\150\163\165\142\144\000\052\000\002\160\161\000\052\000"
+			+ "\002\161\161\000\000\000\000\000\000\000\001\377\000\007\160\150\163\165\142\163\167\000\052\000"
+			+ "\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160\163\151\147"
+			+ "\156\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\006\160\163\151\147\156\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\006\160\163\151\147\156\144\000\052\000\002\160\161\000\052\000\002\161\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\010\160\155\165\154\150\162\163\167\000\052\000\002\160"
+			+ "\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\141\142\163\142\000"
+			+ "\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\141"
+			+ "\142\163\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\005\160\141\142\163\144\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\005\155\157\166\142\145\000\155\000\003\122\063\062\000\052\000\004\155\166"
+			+ "\161\160\000\000\000\000\000\000\000\001\377\000\005\155\157\166\142\145\000\052\000\004\155\166"
+			+ "\161\160\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\007\160\141\154\151"
+			+ "\147\156\162\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\006\155\157\166\165\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000"
+			+ "\000\000\000\000\000\001\377\000\006\155\157\166\165\160\144\000\052\000\003\167\160\144\000\052"
+			+ "\000\003\166\160\144\000\000\000\000\000\000\000\001\377\000\006\155\157\166\154\160\144\000\052"
+			+ "\000\002\166\161\000\052\000\002\155\161\000\000\000\000\000\000\000\001\377\000\006\155\157\166"
+			+ "\154\160\144\000\052\000\002\155\161\000\052\000\002\166\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\010\165\156\160\143\153\154\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144"
+			+ "\000\000\000\000\000\000\000\001\377\000\010\165\156\160\143\153\150\160\144\000\052\000\003\166"
+			+ "\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\006\155\157\166\150"
+			+ "\160\144\000\052\000\002\166\161\000\052\000\002\155\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\006\155\157\166\150\160\144\000\052\000\002\155\161\000\052\000\002\166\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\006\155\157\166\141\160\144\000\052\000\003\166\160\144\000\052\000\003\167"
+			+ "\160\144\000\000\000\000\000\000\000\001\377\000\006\155\157\166\141\160\144\000\052\000\003\167"
+			+ "\160\144\000\052\000\003\166\160\144\000\000\000\000\000\000\000\001\377\000\010\143\166\164\160"
+			+ "\151\062\160\144\000\052\000\003\166\160\144\000\052\000\003\161\160\151\000\000\000\000\000\000"
+			+ "\000\001\377\000\007\155\157\166\156\164\160\144\000\052\000\003\155\160\144\000\052\000\003\166"
+			+ "\160\144\000\000\000\000\000\000\000\001\377\000\011\143\166\164\164\160\144\062\160\151\000\052"
+			+ "\000\003\160\160\151\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\010\143"
+			+ "\166\164\160\144\062\160\151\000\052\000\003\160\160\151\000\052\000\003\167\160\144\000\000\000"
+			+ "\000\000\000\000\001\377\000\007\165\143\157\155\151\163\144\000\052\000\003\166\163\144\000\052"
+			+ "\000\003\167\163\144\000\000\000\000\000\000\000\001\377\000\006\143\157\155\151\163\144\000\052"
+			+ "\000\003\166\163\144\000\052\000\003\167\163\144\000\000\000\000\000\000\000\001\377\000\010\155"
+			+ "\157\166\155\163\153\160\144\000\052\000\004\147\144\161\160\000\052\000\003\165\160\144\000\000"
+			+ "\000\000\000\000\000\001\377\000\006\163\161\162\164\160\144\000\052\000\003\166\160\144\000\052"
+			+ "\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\005\141\156\144\160\144\000\052\000"
+			+ "\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\006\141\156"
+			+ "\144\156\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000"
+			+ "\000\001\377\000\004\157\162\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000"
+			+ "\000\000\000\000\000\000\001\377\000\005\170\157\162\160\144\000\052\000\003\166\160\144\000\052"
+			+ "\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\005\141\144\144\160\144\000\052\000"
+			+ "\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\005\155\165"
+			+ "\154\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000"
+			+ "\001\377\000\010\143\166\164\160\144\062\160\163\000\052\000\003\166\160\163\000\052\000\003\167"
+			+ "\160\144\000\000\000\000\000\000\000\001\377\000\010\143\166\164\160\163\062\144\161\000\052\000"
+			+ "\003\166\144\161\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005\163\165"
+			+ "\142\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000"
+			+ "\001\377\000\005\155\151\156\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000"
+			+ "\000\000\000\000\000\000\001\377\000\005\144\151\166\160\144\000\052\000\003\166\160\144\000\052"
+			+ "\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\005\155\141\170\160\144\000\052\000"
+			+ "\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\011\160\165"
+			+ "\156\160\143\153\154\142\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\011\160\165\156\160\143\153\154\167\144\000\052\000\003\166\144\161"
+			+ "\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\011\160\165\156\160\143\153"
+			+ "\154\144\161\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\010\160\141\143\153\163\163\167\142\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\007\160\143\155\160\147\164\142\000\052\000\003"
+			+ "\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\007\160\143\155"
+			+ "\160\147\164\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\007\160\143\155\160\147\164\144\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\010\160\141\143\153\165\163\167\142\000\052\000"
+			+ "\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\011\160\165"
+			+ "\156\160\143\153\150\142\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\011\160\165\156\160\143\153\150\167\144\000\052\000\003\166\144\161"
+			+ "\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\011\160\165\156\160\143\153"
+			+ "\150\144\161\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\010\160\141\143\153\163\163\144\167\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\012\160\165\156\160\143\153\154\161\144\161\000"
+			+ "\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\012"
+			+ "\160\165\156\160\143\153\150\161\144\161\000\052\000\003\166\144\161\000\052\000\003\167\144\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\004\155\157\166\144\000\052\000\003\166\144\161\000\052"
+			+ "\000\002\145\144\000\000\000\000\000\000\000\001\377\000\006\155\157\166\144\161\141\000\052\000"
+			+ "\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\163"
+			+ "\150\165\146\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\151\000\004\111\115"
+			+ "\115\070\000\000\000\000\000\000\000\003\002\000\005\160\163\162\154\167\000\052\000\003\165\144"
+			+ "\161\000\151\000\004\111\115\115\070\000\000\000\000\004\000\005\160\163\162\141\167\000\052\000"
+			+ "\003\165\144\161\000\151\000\004\111\115\115\070\000\000\000\000\006\000\005\160\163\154\154\167"
+			+ "\000\052\000\003\165\144\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\003\002"
+			+ "\000\005\160\163\162\154\144\000\052\000\003\165\144\161\000\151\000\004\111\115\115\070\000\000"
+			+ "\000\000\004\000\005\160\163\162\141\144\000\052\000\003\165\144\161\000\151\000\004\111\115\115"
+			+ "\070\000\000\000\000\006\000\005\160\163\154\154\144\000\052\000\003\165\144\161\000\151\000\004"
+			+ "\111\115\115\070\000\000\000\000\000\000\000\004\002\000\005\160\163\162\154\161\000\052\000\003"
+			+ "\165\144\161\000\151\000\004\111\115\115\070\000\000\000\000\003\000\006\160\163\162\154\144\161"
+			+ "\000\052\000\003\165\144\161\000\151\000\004\111\115\115\070\000\000\000\000\006\000\005\160\163"
+			+ "\154\154\161\000\052\000\003\165\144\161\000\151\000\004\111\115\115\070\000\000\000\000\007\000"
+			+ "\006\160\163\154\154\144\161\000\052\000\003\165\144\161\000\151\000\004\111\115\115\070\000\000"
+			+ "\000\000\000\000\000\001\377\000\007\160\143\155\160\145\161\142\000\052\000\003\166\144\161\000"
+			+ "\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\007\160\143\155\160\145\161\167"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\007\160\143\155\160\145\161\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\006\150\141\144\144\160\144\000\052\000\003\166\160\144\000\052"
+			+ "\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\006\150\163\165\142\160\144\000\052"
+			+ "\000\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\004\155"
+			+ "\157\166\144\000\052\000\002\145\144\000\052\000\003\166\144\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\006\155\157\166\144\161\141\000\052\000\003\167\144\161\000\052\000\003\166\144\161\000"
+			+ "\000\000\000\000\000\000\001\377\000\005\143\155\160\160\144\000\052\000\003\166\160\144\000\052"
+			+ "\000\003\167\160\144\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\006"
+			+ "\160\151\156\163\162\167\000\052\000\003\166\144\161\000\052\000\004\162\144\161\160\000\151\000"
+			+ "\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\006\160\145\170\164\162\167\000\052"
+			+ "\000\004\147\144\161\160\000\052\000\003\165\144\161\000\151\000\004\111\115\115\070\000\000\000"
+			+ "\000\000\000\000\001\377\000\006\163\150\165\146\160\144\000\052\000\003\166\160\144\000\052\000"
+			+ "\003\167\160\144\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\006\000\007\166"
+			+ "\155\143\154\145\141\162\000\052\000\002\155\161\000\000\000\000\000\000\000\001\377\000\010\141"
+			+ "\144\144\163\165\142\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000\000"
+			+ "\000\000\000\000\001\377\000\005\160\163\162\154\167\000\052\000\003\166\144\161\000\052\000\003"
+			+ "\167\144\161\000\000\000\000\000\000\000\001\377\000\005\160\163\162\154\144\000\052\000\003\166"
+			+ "\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005\160\163\162\154"
+			+ "\161\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\005\160\141\144\144\161\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\006\160\155\165\154\154\167\000\052\000\003\166\144\161\000\052\000"
+			+ "\003\167\144\161\000\000\000\000\000\000\000\001\377\000\004\155\157\166\161\000\052\000\002\167"
+			+ "\161\000\052\000\002\166\161\000\000\000\000\000\000\000\001\377\000\010\160\155\157\166\155\163"
+			+ "\153\142\000\052\000\004\147\144\161\160\000\052\000\003\165\144\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\007\160\163\165\142\165\163\142\000\052\000\003\166\144\161\000\052\000\003\167\144"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\007\160\163\165\142\165\163\167\000\052\000\003\166"
+			+ "\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\151\156"
+			+ "\165\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\004\160\141\156\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\007\160\141\144\144\165\163\142\000\052\000\003\166\144\161\000\052"
+			+ "\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\007\160\141\144\144\165\163\167\000"
+			+ "\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006"
+			+ "\160\155\141\170\165\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\005\160\141\156\144\156\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\005\160\141\166\147\142\000\052\000\003\166\144"
+			+ "\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005\160\163\162\141\167"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\005\160\163\162\141\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\005\160\141\166\147\167\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\007\160\155\165\154\150\165\167\000\052\000\003"
+			+ "\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\165"
+			+ "\154\150\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\011\143\166\164\164\160\144\062\144\161\000\052\000\003\166\144\161\000\052\000\003"
+			+ "\167\160\144\000\000\000\000\000\000\000\001\377\000\007\155\157\166\156\164\144\161\000\052\000"
+			+ "\003\155\144\161\000\052\000\003\166\144\161\000\000\000\000\000\000\000\001\377\000\006\160\163"
+			+ "\165\142\163\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\006\160\163\165\142\163\167\000\052\000\003\166\144\161\000\052\000\003\167\144"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\006\160\155\151\156\163\167\000\052\000\003\166\144"
+			+ "\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\003\160\157\162\000\052"
+			+ "\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160"
+			+ "\141\144\144\163\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\006\160\141\144\144\163\167\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\141\170\163\167\000\052\000\003\166"
+			+ "\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\004\160\170\157\162"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\005\160\163\154\154\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\005\160\163\154\154\144\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\005\160\163\154\154\161\000\052\000\003\166\144"
+			+ "\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\007\160\155\165\154\165"
+			+ "\144\161\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\007\160\155\141\144\144\167\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\006\160\163\141\144\142\167\000\052\000\003\166\144\161"
+			+ "\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\012\155\141\163\153\155\157"
+			+ "\166\144\161\165\000\052\000\003\166\144\161\000\052\000\003\165\144\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\005\160\163\165\142\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\005\160\163\165\142\167\000\052\000\003\166\144\161\000"
+			+ "\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005\160\163\165\142\144\000\052"
+			+ "\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005\160"
+			+ "\163\165\142\161\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\005\160\141\144\144\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\005\160\141\144\144\167\000\052\000\003\166\144\161\000"
+			+ "\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005\160\141\144\144\144\000\052"
+			+ "\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\004\000\004\146"
+			+ "\145\156\151\000\000\000\000\000\000\000\001\004\000\005\146\144\151\163\151\000\000\000\000\000"
+			+ "\000\000\001\004\000\005\146\143\154\145\170\000\000\000\000\000\000\000\001\004\000\005\146\151"
+			+ "\156\151\164\000\000\000\000\000\000\000\001\004\000\006\146\163\145\164\160\155\000\000\000\000"
+			+ "\000\000\000\001\004\000\005\146\163\164\163\167\000\052\000\002\141\170\000\000\000\000\000\000"
+			+ "\000\001\377\000\005\155\157\166\163\144\000\052\000\003\166\163\144\000\052\000\003\167\163\144"
+			+ "\000\000\000\000\000\000\000\001\377\000\005\155\157\166\163\144\000\052\000\003\167\163\144\000"
+			+ "\052\000\003\166\163\144\000\000\000\000\000\000\000\001\377\000\007\155\157\166\144\144\165\160"
+			+ "\000\052\000\002\166\161\000\052\000\002\167\161\000\000\000\000\000\000\000\001\377\000\010\143"
+			+ "\166\164\163\151\062\163\144\000\052\000\003\166\163\144\000\052\000\004\145\144\161\160\000\000"
+			+ "\000\000\000\000\000\001\377\000\011\143\166\164\164\163\144\062\163\151\000\052\000\004\147\144"
+			+ "\161\160\000\052\000\003\167\163\144\000\000\000\000\000\000\000\001\377\000\010\143\166\164\163"
+			+ "\144\062\163\151\000\052\000\004\147\144\161\160\000\052\000\003\167\163\144\000\000\000\000\000"
+			+ "\000\000\001\377\000\006\163\161\162\164\163\144\000\052\000\003\166\163\144\000\052\000\003\167"
+			+ "\163\144\000\000\000\000\000\000\000\001\377\000\005\141\144\144\163\144\000\052\000\003\166\163"
+			+ "\144\000\052\000\003\167\163\144\000\000\000\000\000\000\000\001\377\000\005\155\165\154\163\144"
+			+ "\000\052\000\003\166\163\144\000\052\000\003\167\163\144\000\000\000\000\000\000\000\001\377\000"
+			+ "\010\143\166\164\163\144\062\163\163\000\052\000\003\166\163\163\000\052\000\003\167\163\144\000"
+			+ "\000\000\000\000\000\000\001\377\000\005\163\165\142\163\144\000\052\000\003\166\163\144\000\052"
+			+ "\000\003\167\163\144\000\000\000\000\000\000\000\001\377\000\005\155\151\156\163\144\000\052\000"
+			+ "\003\166\163\144\000\052\000\003\167\163\144\000\000\000\000\000\000\000\001\377\000\005\144\151"
+			+ "\166\163\144\000\052\000\003\166\163\144\000\052\000\003\167\163\144\000\000\000\000\000\000\000"
+			+ "\001\377\000\005\155\141\170\163\144\000\052\000\003\166\163\144\000\052\000\003\167\163\144\000"
+			+ "\000\000\000\000\000\000\001\377\000\007\160\163\150\165\146\154\167\000\052\000\003\166\144\161"
+			+ "\000\052\000\003\167\144\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377"
+			+ "\000\006\150\141\144\144\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000"
+			+ "\000\000\000\000\000\001\377\000\006\150\163\165\142\160\163\000\052\000\003\166\160\163\000\052"
+			+ "\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005\143\155\160\163\144\000\052\000"
+			+ "\003\166\163\144\000\052\000\003\167\163\144\000\151\000\004\111\115\115\070\000\000\000\000\000"
+			+ "\000\000\001\377\000\010\141\144\144\163\165\142\160\163\000\052\000\003\166\160\163\000\052\000"
+			+ "\003\167\160\163\000\000\000\000\000\000\000\001\377\000\007\155\157\166\144\161\062\161\000\052"
+			+ "\000\002\160\161\000\052\000\002\165\161\000\000\000\000\000\000\000\001\377\000\010\143\166\164"
+			+ "\160\144\062\144\161\000\052\000\003\166\144\161\000\052\000\003\167\160\144\000\000\000\000\000"
+			+ "\000\000\001\377\000\005\154\144\144\161\165\000\052\000\003\166\144\161\000\052\000\003\155\144"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\005\155\157\166\163\163\000\052\000\003\166\163\163"
+			+ "\000\052\000\003\167\163\163\000\000\000\000\000\000\000\001\377\000\005\155\157\166\163\163\000"
+			+ "\052\000\003\167\163\163\000\052\000\003\166\163\163\000\000\000\000\000\000\000\001\377\000\010"
+			+ "\155\157\166\163\154\144\165\160\000\052\000\002\166\161\000\052\000\002\167\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\010\155\157\166\163\150\144\165\160\000\052\000\002\166\161\000\052\000"
+			+ "\002\167\161\000\000\000\000\000\000\000\001\377\000\010\143\166\164\163\151\062\163\163\000\052"
+			+ "\000\003\166\163\163\000\052\000\004\145\144\161\160\000\000\000\000\000\000\000\001\377\000\011"
+			+ "\143\166\164\164\163\163\062\163\151\000\052\000\004\147\144\161\160\000\052\000\003\167\163\163"
+			+ "\000\000\000\000\000\000\000\001\377\000\010\143\166\164\163\163\062\163\151\000\052\000\004\147"
+			+ "\144\161\160\000\052\000\003\167\163\163\000\000\000\000\000\000\000\001\377\000\006\163\161\162"
+			+ "\164\163\163\000\052\000\003\166\163\163\000\052\000\003\167\163\163\000\000\000\000\000\000\000"
+			+ "\001\377\000\007\162\163\161\162\164\163\163\000\052\000\003\166\163\163\000\052\000\003\167\163"
+			+ "\163\000\000\000\000\000\000\000\001\377\000\005\162\143\160\163\163\000\052\000\003\166\163\163"
+			+ "\000\052\000\003\167\163\163\000\000\000\000\000\000\000\001\377\000\005\141\144\144\163\163\000"
+			+ "\052\000\003\166\163\163\000\052\000\003\167\163\163\000\000\000\000\000\000\000\001\377\000\005"
+			+ "\155\165\154\163\163\000\052\000\003\166\163\163\000\052\000\003\167\163\163\000\000\000\000\000"
+			+ "\000\000\001\377\000\010\143\166\164\163\163\062\163\144\000\052\000\003\166\163\144\000\052\000"
+			+ "\003\167\163\163\000\000\000\000\000\000\000\001\377\000\011\143\166\164\164\160\163\062\144\161"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000"
+			+ "\005\163\165\142\163\163\000\052\000\003\166\163\163\000\052\000\003\167\163\163\000\000\000\000"
+			+ "\000\000\000\001\377\000\005\155\151\156\163\163\000\052\000\003\166\163\163\000\052\000\003\167"
+			+ "\163\163\000\000\000\000\000\000\000\001\377\000\005\144\151\166\163\163\000\052\000\003\166\163"
+			+ "\163\000\052\000\003\167\163\163\000\000\000\000\000\000\000\001\377\000\005\155\141\170\163\163"
+			+ "\000\052\000\003\166\163\163\000\052\000\003\167\163\163\000\000\000\000\000\000\000\001\377\000"
+			+ "\006\155\157\166\144\161\165\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\007\160\163\150\165\146\150\167\000\052\000\003\166\144\161\000\052"
+			+ "\000\003\167\144\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\004"
+			+ "\155\157\166\161\000\052\000\002\166\161\000\052\000\002\167\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\006\155\157\166\144\161\165\000\052\000\003\167\144\161\000\052\000\003\166\144\161\000"
+			+ "\000\000\000\000\000\000\001\377\000\006\160\157\160\143\156\164\000\155\000\003\122\063\062\000"
+			+ "\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\005\143\155\160\163\163\000"
+			+ "\052\000\003\166\163\163\000\052\000\003\167\163\163\000\151\000\004\111\115\115\070\000\000\000"
+			+ "\000\000\000\000\001\006\000\005\166\155\170\157\156\000\052\000\002\155\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\007\155\157\166\161\062\144\161\000\052\000\003\166\144\161\000\052\000\002"
+			+ "\156\161\000\000\000\000\000\000\000\001\377\000\010\143\166\164\144\161\062\160\144\000\052\000"
+			+ "\003\166\160\144\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\163"
+			+ "\150\165\146\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\006\160\150\141\144\144\167\000\052\000\003\166\144\161\000\052\000\003\167\144"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\006\160\150\141\144\144\144\000\052\000\003\166\144"
+			+ "\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\007\160\150\141\144\144"
+			+ "\163\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\011\160\155\141\144\144\165\142\163\167\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\006\160\150\163\165\142\167\000\052\000\003\166"
+			+ "\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\150\163\165"
+			+ "\142\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\007\160\150\163\165\142\163\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\006\160\163\151\147\156\142\000\052\000\003\166\144\161"
+			+ "\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\163\151\147\156\167"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\006\160\163\151\147\156\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\010\160\155\165\154\150\162\163\167\000\052\000\003\166\144\161\000"
+			+ "\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\010\160\142\154\145\156\144\166"
+			+ "\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\010\142\154\145\156\144\166\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163"
+			+ "\000\000\000\000\000\000\000\001\377\000\010\142\154\145\156\144\166\160\144\000\052\000\003\166"
+			+ "\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\005\160\164\145\163"
+			+ "\164\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\005\160\141\142\163\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\005\160\141\142\163\167\000\052\000\003\166\144\161\000\052\000\003"
+			+ "\167\144\161\000\000\000\000\000\000\000\001\377\000\005\160\141\142\163\144\000\052\000\003\166"
+			+ "\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\010\160\155\157\166"
+			+ "\163\170\142\167\000\052\000\003\166\144\161\000\052\000\002\155\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\010\160\155\157\166\163\170\142\144\000\052\000\003\166\144\161\000\052\000\002\155"
+			+ "\144\000\000\000\000\000\000\000\001\377\000\010\160\155\157\166\163\170\142\161\000\052\000\003"
+			+ "\166\144\161\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\001\377\000\010\160\155"
+			+ "\157\166\163\170\167\144\000\052\000\003\166\144\161\000\052\000\002\155\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\010\160\155\157\166\163\170\167\161\000\052\000\003\166\144\161\000\052\000"
+			+ "\002\155\144\000\000\000\000\000\000\000\001\377\000\010\160\155\157\166\163\170\144\161\000\052"
+			+ "\000\003\166\144\161\000\052\000\002\155\161\000\000\000\000\000\000\000\001\377\000\006\160\155"
+			+ "\165\154\144\161\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\007\160\143\155\160\145\161\161\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\010\155\157\166\156\164\144\161\141\000\052\000"
+			+ "\003\166\144\161\000\052\000\003\155\144\161\000\000\000\000\000\000\000\001\377\000\010\160\141"
+			+ "\143\153\165\163\144\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\010\160\155\157\166\172\170\142\167\000\052\000\003\166\144\161\000\052"
+			+ "\000\002\155\161\000\000\000\000\000\000\000\001\377\000\010\160\155\157\166\172\170\142\144\000"
+			+ "\052\000\003\166\144\161\000\052\000\002\155\144\000\000\000\000\000\000\000\001\377\000\010\160"
+			+ "\155\157\166\172\170\142\161\000\052\000\003\166\144\161\000\155\000\004\122\115\061\066\000\000"
+			+ "\000\000\000\000\000\001\377\000\010\160\155\157\166\172\170\167\144\000\052\000\003\166\144\161"
+			+ "\000\052\000\002\155\161\000\000\000\000\000\000\000\001\377\000\010\160\155\157\166\172\170\167"
+			+ "\161\000\052\000\003\166\144\161\000\052\000\002\155\144\000\000\000\000\000\000\000\001\377\000"
+			+ "\010\160\155\157\166\172\170\144\161\000\052\000\003\166\144\161\000\052\000\002\155\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\007\160\143\155\160\147\164\161\000\052\000\003\166\144\161\000"
+			+ "\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\151\156\163\142\000"
+			+ "\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006"
+			+ "\160\155\151\156\163\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\006\160\155\151\156\165\167\000\052\000\003\166\144\161\000\052\000\003"
+			+ "\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\151\156\165\144\000\052\000\003"
+			+ "\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\141"
+			+ "\170\163\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\006\160\155\141\170\163\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\006\160\155\141\170\165\167\000\052\000\003\166\144\161"
+			+ "\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\141\170\165\144"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\006\160\155\165\154\154\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\012\160\150\155\151\156\160\157\163\165\167\000\052\000\003\166\144"
+			+ "\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\151\156\166\145\160"
+			+ "\164\000\052\000\002\147\144\000\052\000\003\155\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\007\151\156\166\166\160\151\144\000\052\000\002\147\144\000\052\000\003\155\144\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\007\162\157\165\156\144\160\163\000\052\000\003\166\160\163\000\052"
+			+ "\000\003\167\160\163\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\007"
+			+ "\162\157\165\156\144\160\144\000\052\000\003\166\160\163\000\052\000\003\167\160\144\000\151\000"
+			+ "\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\007\162\157\165\156\144\163\163\000"
+			+ "\052\000\003\166\163\163\000\052\000\003\167\163\163\000\151\000\004\111\115\115\070\000\000\000"
+			+ "\000\000\000\000\001\377\000\007\162\157\165\156\144\163\144\000\052\000\003\166\163\144\000\052"
+			+ "\000\003\167\163\144\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\007"
+			+ "\142\154\145\156\144\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\151\000"
+			+ "\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\007\142\154\145\156\144\160\144\000"
+			+ "\052\000\003\166\160\144\000\052\000\003\167\160\144\000\151\000\004\111\115\115\070\000\000\000"
+			+ "\000\000\000\000\001\377\000\007\160\142\154\145\156\144\167\000\052\000\003\166\144\161\000\052"
+			+ "\000\003\167\144\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\007"
+			+ "\160\141\154\151\147\156\162\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\006\160\145\170\164\162\142\000\052\000\002\155\142\000\052\000\003"
+			+ "\166\144\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\006\160\145"
+			+ "\170\164\162\167\000\155\000\004\122\115\061\066\000\052\000\003\166\144\161\000\151\000\004\111"
+			+ "\115\115\070\000\000\000\000\000\000\000\001\377\000\006\160\145\170\164\162\144\000\052\000\002"
+			+ "\145\144\000\052\000\003\166\144\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000"
+			+ "\001\377\000\011\145\170\164\162\141\143\164\160\163\000\052\000\002\145\144\000\052\000\003\166"
+			+ "\144\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\006\160\151\156"
+			+ "\163\162\142\000\052\000\003\166\144\161\000\052\000\002\155\142\000\151\000\004\111\115\115\070"
+			+ "\000\000\000\000\000\000\000\001\377\000\010\151\156\163\145\162\164\160\163\000\052\000\003\166"
+			+ "\160\163\000\052\000\003\165\160\163\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000"
+			+ "\001\377\000\006\160\151\156\163\162\144\000\052\000\003\166\144\161\000\052\000\002\145\144\000"
+			+ "\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\004\144\160\160\163\000\052"
+			+ "\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\004\144"
+			+ "\160\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000"
+			+ "\001\377\000\007\155\160\163\141\144\142\167\000\052\000\003\166\144\161\000\052\000\003\167\144"
+			+ "\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\011\160\143\155\160"
+			+ "\145\163\164\162\155\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\151\000\004\111"
+			+ "\115\115\070\000\000\000\000\000\000\000\001\377\000\011\160\143\155\160\145\163\164\162\151\000"
+			+ "\052\000\003\166\144\161\000\052\000\003\167\144\161\000\151\000\004\111\115\115\070\000\000\000"
+			+ "\000\000\000\000\001\377\000\011\160\143\155\160\151\163\164\162\155\000\052\000\003\166\144\161"
+			+ "\000\052\000\003\167\144\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377"
+			+ "\000\011\160\143\155\160\151\163\164\162\151\000\052\000\003\166\144\161\000\052\000\003\167\144"
+			+ "\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\005\143\162\143\063"
+			+ "\062\000\052\000\004\147\144\161\160\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001"
+			+ "\377\000\005\143\162\143\063\062\000\052\000\004\147\144\161\160\000\155\000\004\122\115\063\062"
+			+ "\000\000\000\000" };
+
+	private X86b32InstructionIndexData() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Gets the index data.
+	 *
+	 * @return the index data.
+	 */
+	public static ByteBuffer indexData() {
+		byte[] indexData = new byte[INDEX_DATA_SIZE];
+		int indexDataPosition = 0;
+
+		for (String chunk : INDEX_DATA) {
+			byte[] chunkBytes = chunk.getBytes(StandardCharsets.ISO_8859_1);
+
+			System.arraycopy(chunkBytes, 0, indexData, indexDataPosition, chunkBytes.length);
+			indexDataPosition += chunkBytes.length;
+		}
+		return ByteBuffer.wrap(indexData).asReadOnlyBuffer();
+	}
+
+}
@@ -39,7 +39,7 @@ public class X86b64Decoder extends X86Decoder {
 	 * Constructs a new {@linkplain X86b64Decoder} instance.
 	 */
 	public X86b64Decoder() {
-		super(NAME, X86DecoderState.x86b64());
+		super(NAME, X86DecoderState::x86b64);
 	}
 
 	@Override
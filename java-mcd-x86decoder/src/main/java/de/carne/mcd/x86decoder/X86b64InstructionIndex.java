@@ -17,10 +17,9 @@
 package de.carne.mcd.x86decoder;
 
 import java.io.IOException;
-import java.net.URL;
-import java.util.Objects;
 
 import de.carne.mcd.instruction.InstructionIndex;
+import de.carne.mcd.instruction.InstructionIndex.CacheMode;
 
 /**
  * Helper class providing access to the x86-64 instruction index.
@@ -33,15 +32,16 @@ public final class X86b64InstructionIndex {
 
 	/**
 	 * Opens the x86-64 instruction index.
+	 * <p>
+	 * The index data is compiled into {@linkplain X86b64InstructionIndexData} and all instructions are loaded up front.
+	 * </p>
 	 *
 	 * @return the x86-64 instruction index.
 	 * @throws IOException if an I/O error occurs while opening the index.
 	 */
 	public static InstructionIndex open() throws IOException {
-		URL instructionIndexUrl = Objects.requireNonNull(
-				X86b64InstructionIndex.class.getResource(X86b64InstructionIndex.class.getSimpleName() + ".bin"));
-
-		return InstructionIndex.open(new X86InstructionFactory(), instructionIndexUrl);
+		return InstructionIndex.open(new X86InstructionFactory(), X86b64InstructionIndexData.indexData(),
+				CacheMode.PRELOAD);
 	}
 
 }
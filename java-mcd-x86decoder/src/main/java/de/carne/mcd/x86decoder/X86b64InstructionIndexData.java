@@ -0,0 +1,1282 @@
+package de.carne.mcd.x86decoder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Generated by InstructionIndexBuilder - do not edit.
+ */
+public final class X86b64InstructionIndexData {
+
+	private static final int INDEX_DATA_SIZE = 29869;
+
+	private static final String[] INDEX_DATA = {
+			"\000\002\340\121\001\000\000\000\000\000\000\000\001\001\000\000\000\000\033\000\001\002\000\000"
+			+ "\000\000\070\000\001\003\000\000\000\000\123\000\001\010\000\000\000\000\160\000\001\011\000\000"
+			+ "\000\000\212\000\001\012\000\000\000\000\246\000\001\013\000\000\000\000\300\000\001\020\000\000"
+			+ "\000\000\334\000\001\021\000\000\000\000\367\000\001\022\000\000\000\000\024\001\001\023\000\000"
+			+ "\000\000\057\001\001\030\000\000\000\000\114\001\001\031\000\000\000\000\147\001\001\032\000\000"
+			+ "\000\000\204\001\001\033\000\000\000\000\237\001\001\040\000\000\000\000\274\001\001\041\000\000"
+			+ "\000\000\327\001\001\042\000\000\000\000\364\001\001\043\000\000\000\000\017\002\001\050\000\000"
+			+ "\000\000\054\002\001\051\000\000\000\000\107\002\001\052\000\000\000\000\144\002\001\053\000\000"
+			+ "\000\000\177\002\001\060\000\000\000\000\234\002\001\061\000\000\000\000\267\002\001\062\000\000"
+			+ "\000\000\324\002\001\063\000\000\000\000\357\002\001\070\000\000\000\000\014\003\001\071\000\000"
+			+ "\000\000\047\003\001\072\000\000\000\000\104\003\001\073\000\000\000\000\137\003\001\100\000\000"
+			+ "\000\000\174\003\001\101\000\000\000\000\221\003\001\102\000\000\000\000\252\003\001\103\000\000"
+			+ "\000\000\303\003\001\104\000\000\000\000\336\003\001\105\000\000\000\000\367\003\001\106\000\000"
+			+ "\000\000\022\004\001\107\000\000\000\000\055\004\001\110\000\000\000\000\112\004\001\111\000\000"
+			+ "\000\000\143\004\001\112\000\000\000\000\176\004\001\113\000\000\000\000\231\004\001\114\000\000"
+			+ "\000\000\266\004\001\115\000\000\000\000\321\004\001\116\000\000\000\000\356\004\001\117\000\000"
+			+ "\000\000\013\005\001\120\000\000\000\000\052\005\001\121\000\000\000\000\100\005\001\122\000\000"
+			+ "\000\000\126\005\001\123\000\000\000\000\154\005\001\124\000\000\000\000\202\005\001\125\000\000"
+			+ "\000\000\230\005\001\126\000\000\000\000\256\005\001\127\000\000\000\000\304\005\001\130\000\000"
+			+ "\000\000\332\005\001\131\000\000\000\000\357\005\001\132\000\000\000\000\004\006\001\133\000\000"
+			+ "\000\000\031\006\001\134\000\000\000\000\056\006\001\135\000\000\000\000\103\006\001\136\000\000"
+			+ "\000\000\130\006\001\137\000\000\000\000\155\006\001\143\000\000\000\000\202\006\001\144\000\000"
+			+ "\000\000\241\006\001\145\000\000\000\000\264\006\001\146\000\000\000\000\307\006\001\147\000\000"
+			+ "\000\000\332\006\001\150\000\000\000\000\355\006\001\151\000\000\000\000\005\007\001\152\000\000"
+			+ "\000\000\054\007\001\153\000\000\000\000\103\007\001\154\000\000\000\000\151\007\001\155\000\000"
+			+ "\000\000\206\007\001\156\000\000\000\000\245\007\001\157\000\000\000\000\303\007\001\160\000\000"
+			+ "\000\000\343\007\001\161\000\000\000\000\370\007\001\162\000\000\000\000\016\010\001\163\000\000"
+			+ "\000\000\043\010\001\164\000\000\000\000\071\010\001\165\000\000\000\000\116\010\001\166\000\000"
+			+ "\000\000\144\010\001\167\000\000\000\000\172\010\001\170\000\000\000\000\221\010\001\171\000\000"
+			+ "\000\000\246\010\001\172\000\000\000\000\274\010\001\173\000\000\000\000\321\010\001\174\000\000"
+			+ "\000\000\347\010\001\175\000\000\000\000\374\010\001\176\000\000\000\000\022\011\001\177\000\000"
+			+ "\000\000\050\011\001\200\000\000\000\000\077\011\001\201\000\000\000\000\012\012\001\203\000\000"
+			+ "\000\000\345\012\001\204\000\000\000\000\270\013\001\205\000\000\000\000\324\013\001\206\000\000"
+			+ "\000\000\362\013\001\207\000\000\000\000\016\014\001\210\000\000\000\000\054\014\001\211\000\000"
+			+ "\000\000\107\014\001\212\000\000\000\000\144\014\001\213\000\000\000\000\177\014\001\214\000\000"
+			+ "\000\000\234\014\001\215\000\000\000\000\267\014\001\216\000\000\000\000\321\014\001\217\000\000"
+			+ "\000\000\354\014\001\220\000\000\000\000\001\015\001\230\000\000\000\000\017\015\001\231\000\000"
+			+ "\000\000\035\015\001\233\000\000\000\000\053\015\001\234\000\000\000\000\073\015\001\235\000\000"
+			+ "\000\000\113\015\001\236\000\000\000\000\132\015\001\237\000\000\000\000\151\015\001\240\000\000"
+			+ "\000\000\170\015\001\241\000\000\000\000\226\015\001\242\000\000\000\000\266\015\001\243\000\000"
+			+ "\000\000\324\015\001\244\000\000\000\000\364\015\001\245\000\000\000\000\025\016\001\246\000\000"
+			+ "\000\000\066\016\001\247\000\000\000\000\127\016\001\252\000\000\000\000\170\016\001\253\000\000"
+			+ "\000\000\220\016\001\254\000\000\000\000\250\016\001\255\000\000\000\000\300\016\001\256\000\000"
+			+ "\000\000\330\016\001\257\000\000\000\000\360\016\001\260\000\000\000\000\010\017\001\261\000\000"
+			+ "\000\000\044\017\001\262\000\000\000\000\100\017\001\263\000\000\000\000\134\017\001\264\000\000"
+			+ "\000\000\170\017\001\265\000\000\000\000\224\017\001\266\000\000\000\000\260\017\001\267\000\000"
+			+ "\000\000\314\017\001\270\000\000\000\000\350\017\001\271\000\000\000\000\006\020\001\272\000\000"
+			+ "\000\000\044\020\001\273\000\000\000\000\102\020\001\274\000\000\000\000\140\020\001\275\000\000"
+			+ "\000\000\176\020\001\276\000\000\000\000\234\020\001\277\000\000\000\000\272\020\001\300\000\000"
+			+ "\000\000\330\020\001\301\000\000\000\000\244\021\001\302\000\000\000\000\170\022\001\303\000\000"
+			+ "\000\000\220\022\001\306\000\000\000\000\237\022\001\307\000\000\000\000\274\022\001\310\000\000"
+			+ "\000\000\333\022\001\311\000\000\000\000\374\022\001\312\000\000\000\000\014\023\001\313\000\000"
+			+ "\000\000\044\023\001\314\000\000\000\000\063\023\001\315\000\000\000\000\106\023\001\316\000\000"
+			+ "\000\000\134\023\001\317\000\000\000\000\153\023\001\320\000\000\000\000\172\023\001\321\000\000"
+			+ "\000\000\056\024\001\322\000\000\000\000\352\024\001\323\000\000\000\000\246\025\001\327\000\000"
+			+ "\000\000\152\026\001\330\000\000\000\000\212\026\001\331\000\000\000\000\043\027\001\332\000\000"
+			+ "\000\000\277\027\001\333\000\000\000\000\172\030\001\334\000\000\000\000\060\031\001\335\000\000"
+			+ "\000\000\355\031\001\336\000\000\000\000\212\032\001\337\000\000\000\000\116\033\001\340\000\000"
+			+ "\000\000\372\033\001\341\000\000\000\000\023\034\001\342\000\000\000\000\053\034\001\343\000\000"
+			+ "\000\000\102\034\001\344\000\000\000\000\132\034\001\345\000\000\000\000\165\034\001\346\000\000"
+			+ "\000\000\221\034\001\347\000\000\000\000\255\034\001\350\000\000\000\000\312\034\001\351\000\000"
+			+ "\000\000\342\034\001\353\000\000\000\000\371\034\001\354\000\000\000\000\017\035\001\355\000\000"
+			+ "\000\000\050\035\001\356\000\000\000\000\102\035\001\357\000\000\000\000\134\035\001\360\000\000"
+			+ "\000\000\167\035\001\361\000\000\000\000\216\035\001\362\000\000\000\000\235\035\001\363\000\000"
+			+ "\000\000\266\035\001\364\000\000\000\000\315\035\001\365\000\000\000\000\333\035\001\366\000\000"
+			+ "\000\000\351\035\001\367\000\000\000\000\211\036\001\370\000\000\000\000\063\037\001\371\000\000"
+			+ "\000\000\101\037\001\372\000\000\000\000\117\037\001\374\000\000\000\000\135\037\001\375\000\000"
+			+ "\000\000\153\037\001\376\000\000\000\000\171\037\001\377\000\000\000\000\237\037\002\017\000\000"
+			+ "\000\000\332\037\002\017\001\000\000\000\064\040\002\017\002\000\000\000\155\040\002\017\003\000"
+			+ "\000\000\212\040\002\017\005\000\000\000\247\040\002\017\006\000\000\000\271\040\002\017\007\000"
+			+ "\000\000\310\040\002\017\015\000\000\000\331\040\002\017\020\000\000\000\357\040\002\017\021\000"
+			+ "\000\000\016\041\002\017\022\000\000\000\055\041\002\017\023\000\000\000\113\041\002\017\024\000"
+			+ "\000\000\150\041\002\017\025\000\000\000\210\041\002\017\026\000\000\000\250\041\002\017\027\000"
+			+ "\000\000\306\041\002\017\030\000\000\000\343\041\002\017\031\000\000\000\376\041\002\017\032\000"
+			+ "\000\000\031\042\002\017\033\000\000\000\064\042\002\017\034\000\000\000\117\042\002\017\035\000"
+			+ "\000\000\152\042\002\017\036\000\000\000\205\042\002\017\037\000\000\000\240\042\002\017\040\000"
+			+ "\000\000\273\042\002\017\041\000\000\000\325\042\002\017\042\000\000\000\357\042\002\017\044\000"
+			+ "\000\000\011\043\002\017\046\000\000\000\043\043\002\017\050\000\000\000\075\043\002\017\051\000"
+			+ "\000\000\134\043\002\017\052\000\000\000\173\043\002\017\053\000\000\000\234\043\002\017\054\000"
+			+ "\000\000\274\043\002\017\055\000\000\000\337\043\002\017\056\000\000\000\001\044\002\017\057\000"
+			+ "\000\000\041\044\002\017\061\000\000\000\100\044\002\017\062\000\000\000\120\044\002\017\063\000"
+			+ "\000\000\140\044\002\017\064\000\000\000\160\044\002\017\065\000\000\000\203\044\002\017\067\000"
+			+ "\000\000\225\044\002\017\100\000\000\000\246\044\002\017\101\000\000\000\305\044\002\017\102\000"
+			+ "\000\000\345\044\002\017\103\000\000\000\004\045\002\017\104\000\000\000\044\045\002\017\105\000"
+			+ "\000\000\103\045\002\017\106\000\000\000\143\045\002\017\107\000\000\000\203\045\002\017\110\000"
+			+ "\000\000\244\045\002\017\111\000\000\000\303\045\002\017\112\000\000\000\343\045\002\017\113\000"
+			+ "\000\000\002\046\002\017\114\000\000\000\042\046\002\017\115\000\000\000\101\046\002\017\116\000"
+			+ "\000\000\141\046\002\017\117\000\000\000\201\046\002\017\120\000\000\000\242\046\002\017\121\000"
+			+ "\000\000\304\046\002\017\122\000\000\000\343\046\002\017\123\000\000\000\003\047\002\017\124\000"
+			+ "\000\000\041\047\002\017\125\000\000\000\077\047\002\017\126\000\000\000\136\047\002\017\127\000"
+			+ "\000\000\173\047\002\017\130\000\000\000\231\047\002\017\131\000\000\000\267\047\002\017\132\000"
+			+ "\000\000\325\047\002\017\133\000\000\000\366\047\002\017\134\000\000\000\027\050\002\017\135\000"
+			+ "\000\000\065\050\002\017\136\000\000\000\123\050\002\017\137\000\000\000\161\050\002\017\140\000"
+			+ "\000\000\217\050\002\017\141\000\000\000\257\050\002\017\142\000\000\000\317\050\002\017\143\000"
+			+ "\000\000\357\050\002\017\144\000\000\000\016\051\002\017\145\000\000\000\054\051\002\017\146\000"
+			+ "\000\000\112\051\002\017\147\000\000\000\150\051\002\017\150\000\000\000\207\051\002\017\151\000"
+			+ "\000\000\247\051\002\017\152\000\000\000\307\051\002\017\153\000\000\000\347\051\002\017\156\000"
+			+ "\000\000\006\052\002\017\157\000\000\000\041\052\002\017\160\000\000\000\074\052\002\017\161\000"
+			+ "\000\000\141\052\002\017\162\000\000\000\263\052\002\017\163\000\000\000\005\053\002\017\164\000"
+			+ "\000\000\075\053\002\017\165\000\000\000\133\053\002\017\166\000\000\000\171\053\002\017\167\000"
+			+ "\000\000\227\053\002\017\170\000\000\000\246\053\002\017\171\000\000\000\305\053\002\017\176\000"
+			+ "\000\000\345\053\002\017\177\000\000\000\000\054\002\017\200\000\000\000\033\054\002\017\201\000"
+			+ "\000\000\061\054\002\017\202\000\000\000\110\054\002\017\203\000\000\000\136\054\002\017\204\000"
+			+ "\000\000\165\054\002\017\205\000\000\000\213\054\002\017\206\000\000\000\242\054\002\017\207\000"
+			+ "\000\000\271\054\002\017\210\000\000\000\321\054\002\017\211\000\000\000\347\054\002\017\212\000"
+			+ "\000\000\376\054\002\017\213\000\000\000\024\055\002\017\214\000\000\000\053\055\002\017\215\000"
+			+ "\000\000\101\055\002\017\216\000\000\000\130\055\002\017\217\000\000\000\157\055\002\017\220\000"
+			+ "\000\000\207\055\002\017\221\000\000\000\235\055\002\017\222\000\000\000\264\055\002\017\223\000"
+			+ "\000\000\312\055\002\017\224\000\000\000\341\055\002\017\225\000\000\000\367\055\002\017\226\000"
+			+ "\000\000\016\056\002\017\227\000\000\000\045\056\002\017\230\000\000\000\075\056\002\017\231\000"
+			+ "\000\000\123\056\002\017\232\000\000\000\152\056\002\017\233\000\000\000\200\056\002\017\234\000"
+			+ "\000\000\227\056\002\017\235\000\000\000\255\056\002\017\236\000\000\000\304\056\002\017\237\000"
+			+ "\000\000\333\056\002\017\240\000\000\000\363\056\002\017\241\000\000\000\010\057\002\017\243\000"
+			+ "\000\000\034\057\002\017\244\000\000\000\070\057\002\017\245\000\000\000\136\057\002\017\250\000"
+			+ "\000\000\202\057\002\017\251\000\000\000\227\057\002\017\253\000\000\000\253\057\002\017\254\000"
+			+ "\000\000\310\057\002\017\255\000\000\000\356\057\002\017\256\000\000\000\022\060\002\017\257\000"
+			+ "\000\000\205\060\002\017\260\000\000\000\243\060\002\017\261\000\000\000\302\060\002\017\262\000"
+			+ "\000\000\343\060\002\017\263\000\000\000\000\061\002\017\264\000\000\000\035\061\002\017\265\000"
+			+ "\000\000\072\061\002\017\266\000\000\000\127\061\002\017\267\000\000\000\165\061\002\017\270\000"
+			+ "\000\000\224\061\002\017\272\000\000\000\243\061\002\017\273\000\000\000\016\062\002\017\274\000"
+			+ "\000\000\053\062\002\017\275\000\000\000\110\062\002\017\276\000\000\000\145\062\002\017\277\000"
+			+ "\000\000\203\062\002\017\300\000\000\000\242\062\002\017\301\000\000\000\276\062\002\017\302\000"
+			+ "\000\000\334\062\002\017\303\000\000\000\002\063\002\017\304\000\000\000\043\063\002\017\305\000"
+			+ "\000\000\112\063\002\017\306\000\000\000\161\063\002\017\307\000\000\000\230\063\002\017\310\000"
+			+ "\000\000\332\063\002\017\311\000\000\000\361\063\002\017\312\000\000\000\010\064\002\017\313\000"
+			+ "\000\000\037\064\002\017\314\000\000\000\066\064\002\017\315\000\000\000\115\064\002\017\316\000"
+			+ "\000\000\144\064\002\017\317\000\000\000\173\064\002\017\321\000\000\000\222\064\002\017\322\000"
+			+ "\000\000\256\064\002\017\323\000\000\000\312\064\002\017\324\000\000\000\346\064\002\017\325\000"
+			+ "\000\000\002\065\002\017\327\000\000\000\037\065\002\017\330\000\000\000\100\065\002\017\331\000"
+			+ "\000\000\136\065\002\017\332\000\000\000\174\065\002\017\333\000\000\000\231\065\002\017\334\000"
+			+ "\000\000\264\065\002\017\335\000\000\000\322\065\002\017\336\000\000\000\360\065\002\017\337\000"
+			+ "\000\000\015\066\002\017\340\000\000\000\051\066\002\017\341\000\000\000\105\066\002\017\342\000"
+			+ "\000\000\141\066\002\017\343\000\000\000\175\066\002\017\344\000\000\000\231\066\002\017\345\000"
+			+ "\000\000\267\066\002\017\347\000\000\000\324\066\002\017\350\000\000\000\361\066\002\017\351\000"
+			+ "\000\000\016\067\002\017\352\000\000\000\053\067\002\017\353\000\000\000\110\067\002\017\354\000"
+			+ "\000\000\142\067\002\017\355\000\000\000\177\067\002\017\356\000\000\000\234\067\002\017\357\000"
+			+ "\000\000\271\067\002\017\361\000\000\000\324\067\002\017\362\000\000\000\360\067\002\017\363\000"
+			+ "\000\000\014\070\002\017\364\000\000\000\050\070\002\017\365\000\000\000\106\070\002\017\366\000"
+			+ "\000\000\144\070\002\017\367\000\000\000\201\070\002\017\370\000\000\000\240\070\002\017\371\000"
+			+ "\000\000\274\070\002\017\372\000\000\000\330\070\002\017\373\000\000\000\364\070\002\017\374\000"
+			+ "\000\000\020\071\002\017\375\000\000\000\054\071\002\017\376\000\000\000\110\071\002\233\331\000"
+			+ "\000\000\144\071\002\233\335\000\000\000\217\071\002\324\012\000\000\000\272\071\002\325\012\000"
+			+ "\000\000\310\071\002\330\321\000\000\000\326\071\002\330\331\000\000\000\345\071\002\331\311\000"
+			+ "\000\000\365\071\002\331\320\000\000\000\004\072\002\331\340\000\000\000\023\072\002\331\341\000"
+			+ "\000\000\042\072\002\331\344\000\000\000\061\072\002\331\345\000\000\000\100\072\002\331\350\000"
+			+ "\000\000\117\072\002\331\351\000\000\000\136\072\002\331\352\000\000\000\157\072\002\331\353\000"
+			+ "\000\000\200\072\002\331\354\000\000\000\220\072\002\331\355\000\000\000\241\072\002\331\356\000"
+			+ "\000\000\262\072\002\331\360\000\000\000\301\072\002\331\361\000\000\000\321\072\002\331\362\000"
+			+ "\000\000\341\072\002\331\363\000\000\000\361\072\002\331\364\000\000\000\002\073\002\331\365\000"
+			+ "\000\000\024\073\002\331\366\000\000\000\045\073\002\331\367\000\000\000\067\073\002\331\370\000"
+			+ "\000\000\111\073\002\331\371\000\000\000\131\073\002\331\372\000\000\000\153\073\002\331\373\000"
+			+ "\000\000\173\073\002\331\374\000\000\000\215\073\002\331\375\000\000\000\237\073\002\331\376\000"
+			+ "\000\000\260\073\002\331\377\000\000\000\277\073\002\332\351\000\000\000\316\073\002\333\340\000"
+			+ "\000\000\340\073\002\333\341\000\000\000\360\073\002\333\342\000\000\000\001\074\002\333\343\000"
+			+ "\000\000\022\074\002\333\344\000\000\000\043\074\002\335\341\000\000\000\065\074\002\335\351\000"
+			+ "\000\000\105\074\002\336\301\000\000\000\126\074\002\336\311\000\000\000\146\074\002\336\331\000"
+			+ "\000\000\166\074\002\336\341\000\000\000\207\074\002\336\351\000\000\000\230\074\002\336\361\000"
+			+ "\000\000\250\074\002\336\371\000\000\000\271\074\002\337\340\000\000\000\311\074\002\363\220\000"
+			+ "\000\000\340\074\003\017\001\301\000\000\360\074\003\017\001\302\000\000\001\075\003\017\001\303"
+			+ "\000\000\024\075\003\017\001\304\000\000\047\075\003\017\001\310\000\000\070\075\003\017\001\311"
+			+ "\000\000\112\075\003\017\001\320\000\000\132\075\003\017\001\321\000\000\153\075\003\017\001\370"
+			+ "\000\000\174\075\003\017\070\000\000\000\215\075\003\017\070\001\000\000\252\075\003\017\070\002"
+			+ "\000\000\307\075\003\017\070\003\000\000\344\075\003\017\070\004\000\000\002\076\003\017\070\005"
+			+ "\000\000\042\076\003\017\070\006\000\000\077\076\003\017\070\007\000\000\134\076\003\017\070\010"
+			+ "\000\000\172\076\003\017\070\011\000\000\227\076\003\017\070\012\000\000\264\076\003\017\070\013"
+			+ "\000\000\321\076\003\017\070\034\000\000\360\076\003\017\070\035\000\000\014\077\003\017\070\036"
+			+ "\000\000\050\077\003\017\070\360\000\000\104\077\003\017\070\361\000\000\143\077\003\017\072\017"
+			+ "\000\000\202\077\003\146\017\020\000\000\240\077\003\146\017\021\000\000\277\077\003\146\017\022"
+			+ "\000\000\336\077\003\146\017\023\000\000\373\077\003\146\017\024\000\000\030\100\003\146\017\025"
+			+ "\000\000\071\100\003\146\017\026\000\000\132\100\003\146\017\027\000\000\167\100\003\146\017\050"
+			+ "\000\000\224\100\003\146\017\051\000\000\263\100\003\146\017\052\000\000\322\100\003\146\017\053"
+			+ "\000\000\363\100\003\146\017\054\000\000\023\101\003\146\017\055\000\000\065\101\003\146\017\056"
+			+ "\000\000\126\101\003\146\017\057\000\000\166\101\003\146\017\120\000\000\225\101\003\146\017\121"
+			+ "\000\000\267\101\003\146\017\124\000\000\326\101\003\146\017\125\000\000\364\101\003\146\017\126"
+			+ "\000\000\023\102\003\146\017\127\000\000\060\102\003\146\017\130\000\000\116\102\003\146\017\131"
+			+ "\000\000\154\102\003\146\017\132\000\000\212\102\003\146\017\133\000\000\253\102\003\146\017\134"
+			+ "\000\000\314\102\003\146\017\135\000\000\352\102\003\146\017\136\000\000\010\103\003\146\017\137"
+			+ "\000\000\046\103\003\146\017\140\000\000\104\103\003\146\017\141\000\000\146\103\003\146\017\142"
+			+ "\000\000\210\103\003\146\017\143\000\000\252\103\003\146\017\144\000\000\313\103\003\146\017\145"
+			+ "\000\000\353\103\003\146\017\146\000\000\013\104\003\146\017\147\000\000\053\104\003\146\017\150"
+			+ "\000\000\114\104\003\146\017\151\000\000\156\104\003\146\017\152\000\000\220\104\003\146\017\153"
+			+ "\000\000\262\104\003\146\017\154\000\000\323\104\003\146\017\155\000\000\366\104\003\146\017\156"
+			+ "\000\000\031\105\003\146\017\157\000\000\065\105\003\146\017\160\000\000\124\105\003\146\017\161"
+			+ "\000\000\173\105\003\146\017\162\000\000\320\105\003\146\017\163\000\000\045\106\003\146\017\164"
+			+ "\000\000\227\106\003\146\017\165\000\000\267\106\003\146\017\166\000\000\327\106\003\146\017\174"
+			+ "\000\000\367\106\003\146\017\175\000\000\026\107\003\146\017\176\000\000\065\107\003\146\017\177"
+			+ "\000\000\121\107\003\146\017\302\000\000\160\107\003\146\017\304\000\000\226\107\003\146\017\305"
+			+ "\000\000\276\107\003\146\017\306\000\000\346\107\003\146\017\307\000\000\015\110\003\146\017\320"
+			+ "\000\000\045\110\003\146\017\321\000\000\106\110\003\146\017\322\000\000\144\110\003\146\017\323"
+			+ "\000\000\202\110\003\146\017\324\000\000\240\110\003\146\017\325\000\000\276\110\003\146\017\326"
+			+ "\000\000\335\110\003\146\017\327\000\000\370\110\003\146\017\330\000\000\032\111\003\146\017\331"
+			+ "\000\000\072\111\003\146\017\332\000\000\132\111\003\146\017\333\000\000\171\111\003\146\017\334"
+			+ "\000\000\226\111\003\146\017\335\000\000\266\111\003\146\017\336\000\000\326\111\003\146\017\337"
+			+ "\000\000\365\111\003\146\017\340\000\000\023\112\003\146\017\341\000\000\061\112\003\146\017\342"
+			+ "\000\000\117\112\003\146\017\343\000\000\155\112\003\146\017\344\000\000\213\112\003\146\017\345"
+			+ "\000\000\253\112\003\146\017\346\000\000\312\112\003\146\017\347\000\000\354\112\003\146\017\350"
+			+ "\000\000\014\113\003\146\017\351\000\000\053\113\003\146\017\352\000\000\112\113\003\146\017\353"
+			+ "\000\000\151\113\003\146\017\354\000\000\205\113\003\146\017\355\000\000\244\113\003\146\017\356"
+			+ "\000\000\303\113\003\146\017\357\000\000\342\113\003\146\017\361\000\000\377\113\003\146\017\362"
+			+ "\000\000\035\114\003\146\017\363\000\000\073\114\003\146\017\364\000\000\131\114\003\146\017\365"
+			+ "\000\000\171\114\003\146\017\366\000\000\231\114\003\146\017\367\000\000\270\114\003\146\017\370"
+			+ "\000\000\333\114\003\146\017\371\000\000\371\114\003\146\017\372\000\000\027\115\003\146\017\373"
+			+ "\000\000\065\115\003\146\017\374\000\000\123\115\003\146\017\375\000\000\161\115\003\146\017\376"
+			+ "\000\000\217\115\003\233\333\340\000\000\255\115\003\233\333\341\000\000\274\115\003\233\333\342"
+			+ "\000\000\314\115\003\233\333\343\000\000\334\115\003\233\333\344\000\000\354\115\003\233\337\340"
+			+ "\000\000\375\115\003\362\017\020\000\000\023\116\003\362\017\021\000\000\061\116\003\362\017\022"
+			+ "\000\000\117\116\003\362\017\052\000\000\155\116\003\362\017\054\000\000\217\116\003\362\017\055"
+			+ "\000\000\262\116\003\362\017\121\000\000\324\116\003\362\017\130\000\000\363\116\003\362\017\131"
+			+ "\000\000\021\117\003\362\017\132\000\000\057\117\003\362\017\134\000\000\120\117\003\362\017\135"
+			+ "\000\000\156\117\003\362\017\136\000\000\214\117\003\362\017\137\000\000\252\117\003\362\017\160"
+			+ "\000\000\310\117\003\362\017\174\000\000\360\117\003\362\017\175\000\000\017\120\003\362\017\302"
+			+ "\000\000\056\120\003\362\017\320\000\000\124\120\003\362\017\326\000\000\165\120\003\362\017\346"
+			+ "\000\000\223\120\003\362\017\360\000\000\264\120\003\363\017\020\000\000\322\120\003\363\017\021"
+			+ "\000\000\360\120\003\363\017\022\000\000\016\121\003\363\017\026\000\000\055\121\003\363\017\052"
+			+ "\000\000\114\121\003\363\017\054\000\000\156\121\003\363\017\055\000\000\221\121\003\363\017\121"
+			+ "\000\000\263\121\003\363\017\122\000\000\322\121\003\363\017\123\000\000\362\121\003\363\017\130"
+			+ "\000\000\020\122\003\363\017\131\000\000\056\122\003\363\017\132\000\000\114\122\003\363\017\133"
+			+ "\000\000\155\122\003\363\017\134\000\000\217\122\003\363\017\135\000\000\255\122\003\363\017\136"
+			+ "\000\000\313\122\003\363\017\137\000\000\351\122\003\363\017\157\000\000\007\123\003\363\017\160"
+			+ "\000\000\046\123\003\363\017\176\000\000\116\123\003\363\017\177\000\000\151\123\003\363\017\270"
+			+ "\000\000\210\123\003\363\017\302\000\000\250\123\003\363\017\307\000\000\316\123\003\363\017\326"
+			+ "\000\000\344\123\003\363\017\346\000\000\003\124\004\146\017\070\000\000\044\124\004\146\017\070"
+			+ "\001\000\103\124\004\146\017\070\002\000\142\124\004\146\017\070\003\000\201\124\004\146\017\070"
+			+ "\004\000\241\124\004\146\017\070\005\000\303\124\004\146\017\070\006\000\342\124\004\146\017\070"
+			+ "\007\000\001\125\004\146\017\070\010\000\041\125\004\146\017\070\011\000\100\125\004\146\017\070"
+			+ "\012\000\137\125\004\146\017\070\013\000\176\125\004\146\017\070\020\000\237\125\004\146\017\070"
+			+ "\024\000\300\125\004\146\017\070\025\000\341\125\004\146\017\070\027\000\002\126\004\146\017\070"
+			+ "\034\000\040\126\004\146\017\070\035\000\076\126\004\146\017\070\036\000\134\126\004\146\017\070"
+			+ "\040\000\172\126\004\146\017\070\041\000\232\126\004\146\017\070\042\000\272\126\004\146\017\070"
+			+ "\043\000\334\126\004\146\017\070\044\000\374\126\004\146\017\070\045\000\034\127\004\146\017\070"
+			+ "\050\000\074\127\004\146\017\070\051\000\133\127\004\146\017\070\052\000\173\127\004\146\017\070"
+			+ "\053\000\234\127\004\146\017\070\060\000\275\127\004\146\017\070\061\000\335\127\004\146\017\070"
+			+ "\062\000\375\127\004\146\017\070\063\000\037\130\004\146\017\070\064\000\077\130\004\146\017\070"
+			+ "\065\000\137\130\004\146\017\070\067\000\177\130\004\146\017\070\070\000\237\130\004\146\017\070"
+			+ "\071\000\276\130\004\146\017\070\072\000\335\130\004\146\017\070\073\000\374\130\004\146\017\070"
+			+ "\074\000\033\131\004\146\017\070\075\000\072\131\004\146\017\070\076\000\131\131\004\146\017\070"
+			+ "\077\000\170\131\004\146\017\070\100\000\227\131\004\146\017\070\101\000\266\131\004\146\017\070"
+			+ "\200\000\331\131\004\146\017\070\201\000\367\131\004\146\017\072\010\000\026\132\004\146\017\072"
+			+ "\011\000\076\132\004\146\017\072\012\000\146\132\004\146\017\072\013\000\216\132\004\146\017\072"
+			+ "\014\000\266\132\004\146\017\072\015\000\336\132\004\146\017\072\016\000\006\133\004\146\017\072"
+			+ "\017\000\056\133\004\146\017\072\024\000\116\133\004\146\017\072\025\000\164\133\004\146\017\072"
+			+ "\026\000\234\133\004\146\017\072\027\000\302\133\004\146\017\072\040\000\353\133\004\146\017\072"
+			+ "\041\000\021\134\004\146\017\072\042\000\072\134\004\146\017\072\100\000\140\134\004\146\017\072"
+			+ "\101\000\175\134\004\146\017\072\102\000\232\134\004\146\017\072\140\000\302\134\004\146\017\072"
+			+ "\141\000\354\134\004\146\017\072\142\000\026\135\004\146\017\072\143\000\100\135\004\362\017\070"
+			+ "\360\000\152\135\004\362\017\070\361\000\211\135\000\000\000\001\377\000\003\141\144\144\000\155"
+			+ "\000\003\122\115\070\000\155\000\002\122\070\000\000\000\000\000\000\000\001\377\000\003\141\144"
+			+ "\144\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001"
+			+ "\377\000\003\141\144\144\000\155\000\002\122\070\000\155\000\003\122\115\070\000\000\000\000\000"
+			+ "\000\000\001\377\000\003\141\144\144\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062"
+			+ "\000\000\000\000\000\000\000\001\377\000\002\157\162\000\155\000\003\122\115\070\000\155\000\002"
+			+ "\122\070\000\000\000\000\000\000\000\001\377\000\002\157\162\000\155\000\004\122\115\063\062\000"
+			+ "\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\002\157\162\000\155\000\002\122"
+			+ "\070\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\002\157\162\000\155\000"
+			+ "\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\003\141"
+			+ "\144\143\000\155\000\003\122\115\070\000\155\000\002\122\070\000\000\000\000\000\000\000\001\377"
+			+ "\000\003\141\144\143\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000"
+			+ "\000\000\000\001\377\000\003\141\144\143\000\155\000\002\122\070\000\155\000\003\122\115\070\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\141\144\143\000\155\000\003\122\063\062\000\155\000\004"
+			+ "\122\115\063\062\000\000\000\000\000\000\000\001\377\000\003\163\142\142\000\155\000\003\122\115"
+			+ "\070\000\155\000\002\122\070\000\000\000\000\000\000\000\001\377\000\003\163\142\142\000\155\000"
+			+ "\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\003\163"
+			+ "\142\142\000\155\000\002\122\070\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377"
+			+ "\000\003\163\142\142\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000"
+			+ "\000\000\000\001\377\000\003\141\156\144\000\155\000\003\122\115\070\000\155\000\002\122\070\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\141\156\144\000\155\000\004\122\115\063\062\000\155\000"
+			+ "\003\122\063\062\000\000\000\000\000\000\000\001\377\000\003\141\156\144\000\155\000\002\122\070"
+			+ "\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\003\141\156\144\000\155\000"
+			+ "\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\003\163"
+			+ "\165\142\000\155\000\003\122\115\070\000\155\000\002\122\070\000\000\000\000\000\000\000\001\377"
+			+ "\000\003\163\165\142\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000"
+			+ "\000\000\000\001\377\000\003\163\165\142\000\155\000\002\122\070\000\155\000\003\122\115\070\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\163\165\142\000\155\000\003\122\063\062\000\155\000\004"
+			+ "\122\115\063\062\000\000\000\000\000\000\000\001\377\000\003\170\157\162\000\155\000\003\122\115"
+			+ "\070\000\155\000\002\122\070\000\000\000\000\000\000\000\001\377\000\003\170\157\162\000\155\000"
+			+ "\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\003\170"
+			+ "\157\162\000\155\000\002\122\070\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377"
+			+ "\000\003\170\157\162\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000"
+			+ "\000\000\000\001\377\000\003\143\155\160\000\155\000\003\122\115\070\000\155\000\002\122\070\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\143\155\160\000\155\000\004\122\115\063\062\000\155\000"
+			+ "\003\122\063\062\000\000\000\000\000\000\000\001\377\000\003\143\155\160\000\155\000\002\122\070"
+			+ "\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\003\143\155\160\000\155\000"
+			+ "\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\003\162"
+			+ "\145\170\000\160\000\003\122\105\130\000\000\000\000\000\000\000\001\377\000\005\162\145\170\056"
+			+ "\142\000\160\000\005\122\105\130\137\102\000\000\000\000\000\000\000\001\377\000\005\162\145\170"
+			+ "\056\170\000\160\000\005\122\105\130\137\130\000\000\000\000\000\000\000\001\377\000\006\162\145"
+			+ "\170\056\170\142\000\160\000\006\122\105\130\137\130\102\000\000\000\000\000\000\000\001\377\000"
+			+ "\005\162\145\170\056\162\000\160\000\005\122\105\130\137\122\000\000\000\000\000\000\000\001\377"
+			+ "\000\006\162\145\170\056\162\142\000\160\000\006\122\105\130\137\122\102\000\000\000\000\000\000"
+			+ "\000\001\377\000\006\162\145\170\056\162\170\000\160\000\006\122\105\130\137\122\130\000\000\000"
+			+ "\000\000\000\000\001\377\000\007\162\145\170\056\162\170\142\000\160\000\007\122\105\130\137\122"
+			+ "\130\102\000\000\000\000\000\000\000\001\377\000\005\162\145\170\056\167\000\160\000\005\122\105"
+			+ "\130\137\127\000\000\000\000\000\000\000\001\377\000\006\162\145\170\056\167\142\000\160\000\006"
+			+ "\122\105\130\137\127\102\000\000\000\000\000\000\000\001\377\000\006\162\145\170\056\167\170\000"
+			+ "\160\000\006\122\105\130\137\127\130\000\000\000\000\000\000\000\001\377\000\007\162\145\170\056"
+			+ "\167\170\142\000\160\000\007\122\105\130\137\127\130\102\000\000\000\000\000\000\000\001\377\000"
+			+ "\006\162\145\170\056\167\162\000\160\000\006\122\105\130\137\127\122\000\000\000\000\000\000\000"
+			+ "\001\377\000\007\162\145\170\056\167\162\142\000\160\000\007\122\105\130\137\127\122\102\000\000"
+			+ "\000\000\000\000\000\001\377\000\007\162\145\170\056\167\162\170\000\160\000\007\122\105\130\137"
+			+ "\127\122\130\000\000\000\000\000\000\000\001\377\000\010\162\145\170\056\167\162\170\142\000\160"
+			+ "\000\010\122\105\130\137\127\122\130\102\000\000\000\000\000\000\000\001\377\000\004\160\165\163"
+			+ "\150\000\052\000\003\172\166\161\000\000\000\000\000\000\000\001\377\000\004\160\165\163\150\000"
+			+ "\052\000\003\145\143\170\000\000\000\000\000\000\000\001\377\000\004\160\165\163\150\000\052\000"
+			+ "\003\145\144\170\000\000\000\000\000\000\000\001\377\000\004\160\165\163\150\000\052\000\003\145"
+			+ "\142\170\000\000\000\000\000\000\000\001\377\000\004\160\165\163\150\000\052\000\003\145\163\160"
+			+ "\000\000\000\000\000\000\000\001\377\000\004\160\165\163\150\000\052\000\003\145\142\160\000\000"
+			+ "\000\000\000\000\000\001\377\000\004\160\165\163\150\000\052\000\003\145\163\151\000\000\000\000"
+			+ "\000\000\000\001\377\000\004\160\165\163\150\000\052\000\003\145\144\151\000\000\000\000\000\000"
+			+ "\000\001\377\000\003\160\157\160\000\052\000\003\172\166\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\003\160\157\160\000\052\000\003\145\143\170\000\000\000\000\000\000\000\001\377\000\003\160"
+			+ "\157\160\000\052\000\003\145\144\170\000\000\000\000\000\000\000\001\377\000\003\160\157\160\000"
+			+ "\052\000\003\145\142\170\000\000\000\000\000\000\000\001\377\000\003\160\157\160\000\052\000\003"
+			+ "\145\163\160\000\000\000\000\000\000\000\001\377\000\003\160\157\160\000\052\000\003\145\142\160"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\160\157\160\000\052\000\003\145\163\151\000\000\000"
+			+ "\000\000\000\000\001\377\000\003\160\157\160\000\052\000\003\145\144\151\000\000\000\000\000\000"
+			+ "\000\001\377\000\006\155\157\166\163\170\144\000\052\000\004\147\144\161\160\000\052\000\002\145"
+			+ "\144\000\000\000\000\000\000\000\001\377\000\002\146\163\000\160\000\002\106\123\000\000\000\000"
+			+ "\000\000\000\001\377\000\002\147\163\000\160\000\002\107\123\000\000\000\000\000\000\000\001\377"
+			+ "\000\001\055\000\160\000\003\117\123\117\000\000\000\000\000\000\000\001\377\000\001\055\000\160"
+			+ "\000\003\101\123\117\000\000\000\000\000\000\000\001\377\000\004\160\165\163\150\000\151\000\005"
+			+ "\111\115\115\063\062\000\000\000\000\000\000\000\001\377\000\004\151\155\165\154\000\155\000\003"
+			+ "\122\063\062\000\155\000\004\122\115\063\062\000\151\000\005\111\115\115\063\062\000\000\000\000"
+			+ "\000\000\000\001\377\000\004\160\165\163\150\000\151\000\004\111\115\115\070\000\000\000\000\000"
+			+ "\000\000\001\377\000\004\151\155\165\154\000\155\000\003\122\063\062\000\155\000\004\122\115\063"
+			+ "\062\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\003\151\156\163\000"
+			+ "\052\000\005\133\162\144\151\135\000\052\000\002\144\170\000\000\000\000\000\000\000\001\377\000"
+			+ "\003\151\156\163\000\052\000\007\145\163\072\133\144\151\135\000\052\000\002\144\170\000\000\000"
+			+ "\000\000\000\000\001\377\000\004\157\165\164\163\000\052\000\002\144\170\000\052\000\005\133\162"
+			+ "\163\151\135\000\000\000\000\000\000\000\001\377\000\004\157\165\164\163\000\052\000\002\144\170"
+			+ "\000\052\000\007\144\163\072\133\163\151\135\000\000\000\000\000\000\000\001\377\000\002\152\157"
+			+ "\000\151\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000\003\152\156\157\000\151"
+			+ "\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000\002\152\142\000\151\000\004\122"
+			+ "\105\114\070\000\000\000\000\000\000\000\001\377\000\003\152\156\142\000\151\000\004\122\105\114"
+			+ "\070\000\000\000\000\000\000\000\001\377\000\002\152\172\000\151\000\004\122\105\114\070\000\000"
+			+ "\000\000\000\000\000\001\377\000\003\152\156\172\000\151\000\004\122\105\114\070\000\000\000\000"
+			+ "\000\000\000\001\377\000\003\152\142\145\000\151\000\004\122\105\114\070\000\000\000\000\000\000"
+			+ "\000\001\377\000\004\152\156\142\145\000\151\000\004\122\105\114\070\000\000\000\000\000\000\000"
+			+ "\001\377\000\002\152\163\000\151\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000"
+			+ "\003\152\156\163\000\151\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000\002\152"
+			+ "\160\000\151\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000\003\152\156\160\000"
+			+ "\151\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000\002\152\154\000\151\000\004"
+			+ "\122\105\114\070\000\000\000\000\000\000\000\001\377\000\003\152\156\154\000\151\000\004\122\105"
+			+ "\114\070\000\000\000\000\000\000\000\001\377\000\003\152\154\145\000\151\000\004\122\105\114\070"
+			+ "\000\000\000\000\000\000\000\001\377\000\004\152\156\154\145\000\151\000\004\122\105\114\070\000"
+			+ "\000\000\000\000\000\000\010\000\000\003\141\144\144\000\155\000\003\122\115\070\000\151\000\004"
+			+ "\111\115\115\070\000\000\000\000\001\000\002\157\162\000\155\000\003\122\115\070\000\151\000\004"
+			+ "\111\115\115\070\000\000\000\000\002\000\003\141\144\143\000\155\000\003\122\115\070\000\151\000"
+			+ "\004\111\115\115\070\000\000\000\000\003\000\003\163\142\142\000\155\000\003\122\115\070\000\151"
+			+ "\000\004\111\115\115\070\000\000\000\000\004\000\003\141\156\144\000\155\000\003\122\115\070\000"
+			+ "\151\000\004\111\115\115\070\000\000\000\000\005\000\003\163\165\142\000\155\000\003\122\115\070"
+			+ "\000\151\000\004\111\115\115\070\000\000\000\000\006\000\003\170\157\162\000\155\000\003\122\115"
+			+ "\070\000\151\000\004\111\115\115\070\000\000\000\000\007\000\003\143\155\160\000\155\000\003\122"
+			+ "\115\070\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\010\000\000\003\141\144\144"
+			+ "\000\155\000\004\122\115\063\062\000\151\000\005\111\115\115\063\062\000\000\000\000\001\000\002"
+			+ "\157\162\000\155\000\004\122\115\063\062\000\151\000\005\111\115\115\063\062\000\000\000\000\002"
+			+ "\000\003\141\144\143\000\155\000\004\122\115\063\062\000\151\000\005\111\115\115\063\062\000\000"
+			+ "\000\000\003\000\003\163\142\142\000\155\000\004\122\115\063\062\000\151\000\005\111\115\115\063"
+			+ "\062\000\000\000\000\004\000\003\141\156\144\000\155\000\004\122\115\063\062\000\151\000\005\111"
+			+ "\115\115\063\062\000\000\000\000\005\000\003\163\165\142\000\155\000\004\122\115\063\062\000\151"
+			+ "\000\005\111\115\115\063\062\000\000\000\000\006\000\003\170\157\162\000\155\000\004\122\115\063"
+			+ "\062\000\151\000\005\111\115\115\063\062\000\000\000\000\007\000\003\143\155\160\000\155\000\004"
+			+ "\122\115\063\062\000\151\000\005\111\115\115\063\062\000\000\000\000\000\000\000\010\000\000\003"
+			+ "\141\144\144\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000\001"
+			+ "\000\002\157\162\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000"
+			+ "\002\000\003\141\144\143\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000"
+			+ "\000\000\003\000\003\163\142\142\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070"
+			+ "\000\000\000\000\004\000\003\141\156\144\000\155\000\004\122\115\063\062\000\151\000\004\111\115"
+			+ "\115\070\000\000\000\000\005\000\003\163\165\142\000\155\000\004\122\115\063\062\000\151\000\004"
+			+ "\111\115\115\070\000\000\000\000\006\000\003\170\157\162\000\155\000\004\122\115\063\062\000\151"
+			+ "\000\004\111\115\115\070\000\000\000\000\007\000\003\143\155\160\000\155\000\004\122\115\063\062"
+			+ "\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\004\164\145\163\164\000"
+			+ "\155\000\003\122\115\070\000\155\000\002\122\070\000\000\000\000\000\000\000\001\377\000\004\164"
+			+ "\145\163\164\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000"
+			+ "\000\001\377\000\004\170\143\150\147\000\155\000\002\122\070\000\155\000\003\122\115\070\000\000"
+			+ "\000\000\000\000\000\001\377\000\004\170\143\150\147\000\155\000\003\122\063\062\000\155\000\004"
+			+ "\122\115\063\062\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\155\000\003\122\115"
+			+ "\070\000\155\000\002\122\070\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\155\000"
+			+ "\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\003\155"
+			+ "\157\166\000\155\000\002\122\070\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377"
+			+ "\000\003\155\157\166\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000"
+			+ "\000\000\000\001\377\000\003\155\157\166\000\155\000\004\122\115\061\066\000\052\000\001\077\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\154\145\141\000\155\000\003\122\063\062\000\151\000\001"
+			+ "\115\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\001\077\000\155\000\004"
+			+ "\122\115\061\066\000\000\000\000\000\000\000\001\000\000\003\160\157\160\000\052\000\003\145\166"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\003\156\157\160\000\000\000\000\000\000\000\001\377"
+			+ "\000\003\143\142\167\000\000\000\000\000\000\000\001\377\000\003\143\167\144\000\000\000\000\000"
+			+ "\000\000\001\377\000\005\146\167\141\151\164\000\000\000\000\000\000\000\001\377\000\005\160\165"
+			+ "\163\150\146\000\000\000\000\000\000\000\001\377\000\004\160\157\160\146\000\000\000\000\000\000"
+			+ "\000\001\377\000\004\163\141\150\146\000\000\000\000\000\000\000\001\377\000\004\154\141\150\146"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\002\141\154\000\151\000\006"
+			+ "\115\117\106\106\123\070\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\003"
+			+ "\162\141\170\000\151\000\007\115\117\106\106\123\063\062\000\000\000\000\000\000\000\001\377\000"
+			+ "\003\155\157\166\000\151\000\006\115\117\106\106\123\070\000\052\000\002\141\154\000\000\000\000"
+			+ "\000\000\000\001\377\000\003\155\157\166\000\151\000\007\115\117\106\106\123\063\062\000\052\000"
+			+ "\003\162\141\170\000\000\000\000\000\000\000\001\377\000\004\155\157\166\163\000\052\000\005\133"
+			+ "\162\144\151\135\000\052\000\005\133\162\163\151\135\000\000\000\000\000\000\000\001\377\000\004"
+			+ "\155\157\166\163\000\052\000\005\133\162\144\151\135\000\052\000\005\133\162\163\151\135\000\000"
+			+ "\000\000\000\000\000\001\377\000\004\143\155\160\163\000\052\000\005\133\162\144\151\135\000\052"
+			+ "\000\005\133\162\163\151\135\000\000\000\000\000\000\000\001\377\000\004\143\155\160\163\000\052"
+			+ "\000\005\133\162\144\151\135\000\052\000\005\133\162\163\151\135\000\000\000\000\000\000\000\001"
+			+ "\377\000\004\163\164\157\163\000\052\000\005\133\162\144\151\135\000\000\000\000\000\000\000\001"
+			+ "\377\000\004\163\164\157\163\000\052\000\005\133\162\144\151\135\000\000\000\000\000\000\000\001"
+			+ "\377\000\004\154\157\144\163\000\052\000\005\133\162\163\151\135\000\000\000\000\000\000\000\001"
+			+ "\377\000\004\154\157\144\163\000\052\000\005\133\162\163\151\135\000\000\000\000\000\000\000\001"
+			+ "\377\000\004\163\143\141\163\000\052\000\005\133\162\144\151\135\000\000\000\000\000\000\000\001"
+			+ "\377\000\004\163\143\141\163\000\052\000\005\133\162\144\151\135\000\000\000\000\000\000\000\001"
+			+ "\377\000\003\155\157\166\000\052\000\002\141\154\000\151\000\004\111\115\115\070\000\000\000\000"
+			+ "\000\000\000\001\377\000\003\155\157\166\000\052\000\002\143\154\000\151\000\004\111\115\115\070"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\002\144\154\000\151\000\004"
+			+ "\111\115\115\070\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\002\142\154"
+			+ "\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052"
+			+ "\000\002\141\150\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\003\155"
+			+ "\157\166\000\052\000\002\143\150\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001"
+			+ "\377\000\003\155\157\166\000\052\000\002\144\150\000\151\000\004\111\115\115\070\000\000\000\000"
+			+ "\000\000\000\001\377\000\003\155\157\166\000\052\000\002\142\150\000\151\000\004\111\115\115\070"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\003\145\141\170\000\151\000"
+			+ "\005\111\115\115\063\062\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\003"
+			+ "\145\143\170\000\151\000\005\111\115\115\063\062\000\000\000\000\000\000\000\001\377\000\003\155"
+			+ "\157\166\000\052\000\003\145\144\170\000\151\000\005\111\115\115\063\062\000\000\000\000\000\000"
+			+ "\000\001\377\000\003\155\157\166\000\052\000\003\145\142\170\000\151\000\005\111\115\115\063\062"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\003\145\163\160\000\151\000"
+			+ "\005\111\115\115\063\062\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\003"
+			+ "\145\142\160\000\151\000\005\111\115\115\063\062\000\000\000\000\000\000\000\001\377\000\003\155"
+			+ "\157\166\000\052\000\003\145\163\151\000\151\000\005\111\115\115\063\062\000\000\000\000\000\000"
+			+ "\000\001\377\000\003\155\157\166\000\052\000\003\145\144\151\000\151\000\005\111\115\115\063\062"
+			+ "\000\000\000\000\000\000\000\010\000\000\003\162\157\154\000\155\000\003\122\115\070\000\151\000"
+			+ "\004\111\115\115\070\000\000\000\000\001\000\003\162\157\162\000\155\000\003\122\115\070\000\151"
+			+ "\000\004\111\115\115\070\000\000\000\000\002\000\003\162\143\154\000\155\000\003\122\115\070\000"
+			+ "\151\000\004\111\115\115\070\000\000\000\000\003\000\003\162\143\162\000\155\000\003\122\115\070"
+			+ "\000\151\000\004\111\115\115\070\000\000\000\000\004\000\003\163\150\154\000\155\000\003\122\115"
+			+ "\070\000\151\000\004\111\115\115\070\000\000\000\000\005\000\003\163\150\162\000\155\000\003\122"
+			+ "\115\070\000\151\000\004\111\115\115\070\000\000\000\000\006\000\003\163\141\154\000\155\000\003"
+			+ "\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\007\000\003\163\141\162\000\155\000"
+			+ "\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\010\000\000\003\162"
+			+ "\157\154\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000\001\000"
+			+ "\003\162\157\162\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000"
+			+ "\002\000\003\162\143\154\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000"
+			+ "\000\000\003\000\003\162\143\162\000\155\000\004\122\115\063\062\000\151\000\004\111\115\115\070"
+			+ "\000\000\000\000\004\000\003\163\150\154\000\155\000\004\122\115\063\062\000\151\000\004\111\115"
+			+ "\115\070\000\000\000\000\005\000\003\163\150\162\000\155\000\004\122\115\063\062\000\151\000\004"
+			+ "\111\115\115\070\000\000\000\000\006\000\003\163\141\154\000\155\000\004\122\115\063\062\000\151"
+			+ "\000\004\111\115\115\070\000\000\000\000\007\000\003\163\141\162\000\155\000\004\122\115\063\062"
+			+ "\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\004\162\145\164\156\000"
+			+ "\151\000\005\111\115\115\061\066\000\000\000\000\000\000\000\001\377\000\004\162\145\164\156\000"
+			+ "\000\000\000\000\000\000\001\000\000\003\155\157\166\000\155\000\003\122\115\070\000\151\000\004"
+			+ "\111\115\115\070\000\000\000\000\000\000\000\001\000\000\003\155\157\166\000\155\000\004\122\115"
+			+ "\063\062\000\151\000\005\111\115\115\063\062\000\000\000\000\000\000\000\001\377\000\005\145\156"
+			+ "\164\145\162\000\151\000\005\111\115\115\061\066\000\151\000\004\111\115\115\070\000\000\000\000"
+			+ "\000\000\000\001\377\000\005\154\145\141\166\145\000\000\000\000\000\000\000\001\377\000\004\162"
+			+ "\145\164\146\000\151\000\005\111\115\115\061\066\000\000\000\000\000\000\000\001\377\000\004\162"
+			+ "\145\164\146\000\000\000\000\000\000\000\001\377\000\003\151\156\164\000\052\000\001\063\000\000"
+			+ "\000\000\000\000\000\001\377\000\003\151\156\164\000\151\000\004\111\115\115\070\000\000\000\000"
+			+ "\000\000\000\001\377\000\004\151\156\164\157\000\000\000\000\000\000\000\001\377\000\004\151\162"
+			+ "\145\164\000\000\000\000\000\000\000\010\000\000\003\162\157\154\000\155\000\003\122\115\070\000"
+			+ "\052\000\001\061\000\000\000\000\001\000\003\162\157\162\000\155\000\003\122\115\070\000\052\000"
+			+ "\001\061\000\000\000\000\002\000\003\162\143\154\000\155\000\003\122\115\070\000\052\000\001\061"
+			+ "\000\000\000\000\003\000\003\162\143\162\000\155\000\003\122\115\070\000\052\000\001\061\000\000"
+			+ "\000\000\004\000\003\163\150\154\000\155\000\003\122\115\070\000\052\000\001\061\000\000\000\000"
+			+ "\005\000\003\163\150\162\000\155\000\003\122\115\070\000\052\000\001\061\000\000\000\000\006\000"
+			+ "\003\163\141\154\000\155\000\003\122\115\070\000\052\000\001\061\000\000\000\000\007\000\003\163"
+			+ "\141\162\000\155\000\003\122\115\070\000\052\000\001\061\000\000\000\000\000\000\000\010\000\000"
+			+ "\003\162\157\154\000\155\000\004\122\115\063\062\000\052\000\001\061\000\000\000\000\001\000\003"
+			+ "\162\157\162\000\155\000\004\122\115\063\062\000\052\000\001\061\000\000\000\000\002\000\003\162"
+			+ "\143\154\000\155\000\004\122\115\063\062\000\052\000\001\061\000\000\000\000\003\000\003\162\143"
+			+ "\162\000\155\000\004\122\115\063\062\000\052\000\001\061\000\000\000\000\004\000\003\163\150\154"
+			+ "\000\155\000\004\122\115\063\062\000\052\000\001\061\000\000\000\000\005\000\003\163\150\162\000"
+			+ "\155\000\004\122\115\063\062\000\052\000\001\061\000\000\000\000\006\000\003\163\141\154\000\155"
+			+ "\000\004\122\115\063\062\000\052\000\001\061\000\000\000\000\007\000\003\163\141\162\000\155\000"
+			+ "\004\122\115\063\062\000\052\000\001\061\000\000\000\000\000\000\000\010\000\000\003\162\157\154"
+			+ "\000\155\000\003\122\115\070\000\052\000\002\143\154\000\000\000\000\001\000\003\162\157\162\000"
+			+ "\155\000\003\122\115\070\000\052\000\002\143\154\000\000\000\000\002\000\003\162\143\154\000\155"
+			+ "\000\003\122\115\070\000\052\000\002\143\154\000\000\000\000\003\000\003\162\143\162\000\155\000"
+			+ "\003\122\115\070\000\052\000\002\143\154\000\000\000\000\004\000\003\163\150\154\000\155\000\003"
+			+ "\122\115\070\000\052\000\002\143\154\000\000\000\000\005\000\003\163\150\162\000\155\000\003\122"
+			+ "\115\070\000\052\000\002\143\154\000\000\000\000\006\000\003\163\141\154\000\155\000\003\122\115"
+			+ "\070\000\052\000\002\143\154\000\000\000\000\007\000\003\163\141\162\000\155\000\003\122\115\070"
+			+ "\000\052\000\002\143\154\000\000\000\000\000\000\000\010\000\000\003\162\157\154\000\155\000\004"
+			+ "\122\115\063\062\000\052\000\002\143\154\000\000\000\000\001\000\003\162\157\162\000\155\000\004"
+			+ "\122\115\063\062\000\052\000\002\143\154\000\000\000\000\002\000\003\162\143\154\000\155\000\004"
+			+ "\122\115\063\062\000\052\000\002\143\154\000\000\000\000\003\000\003\162\143\162\000\155\000\004"
+			+ "\122\115\063\062\000\052\000\002\143\154\000\000\000\000\004\000\003\163\150\154\000\155\000\004"
+			+ "\122\115\063\062\000\052\000\002\143\154\000\000\000\000\005\000\003\163\150\162\000\155\000\004"
+			+ "\122\115\063\062\000\052\000\002\143\154\000\000\000\000\006\000\003\163\141\154\000\155\000\004"
+			+ "\122\115\063\062\000\052\000\002\143\154\000\000\000\000\007\000\003\163\141\162\000\155\000\004"
+			+ "\122\115\063\062\000\052\000\002\143\154\000\000\000\000\000\000\000\001\377\000\004\170\154\141"
+			+ "\164\000\052\000\015\050\144\163\072\051\133\162\142\170\053\141\154\135\000\000\000\000\000\000"
+			+ "\000\010\000\000\004\146\141\144\144\000\052\000\003\155\163\162\000\000\000\000\001\000\004\146"
+			+ "\155\165\154\000\052\000\003\155\163\162\000\000\000\000\002\000\004\146\143\157\155\000\052\000"
+			+ "\004\145\163\163\162\000\000\000\000\003\000\005\146\143\157\155\160\000\052\000\004\145\163\163"
+			+ "\162\000\000\000\000\004\000\004\146\163\165\142\000\052\000\003\155\163\162\000\000\000\000\005"
+			+ "\000\005\146\163\165\142\162\000\052\000\003\155\163\162\000\000\000\000\006\000\004\146\144\151"
+			+ "\166\000\052\000\003\155\163\162\000\000\000\000\007\000\005\146\144\151\166\162\000\052\000\003"
+			+ "\155\163\162\000\000\000\000\000\000\000\010\000\000\003\146\154\144\000\052\000\004\145\163\163"
+			+ "\162\000\000\000\000\001\000\004\146\170\143\150\000\052\000\003\145\163\164\000\000\000\000\002"
+			+ "\000\003\146\163\164\000\052\000\003\155\163\162\000\000\000\000\003\000\005\146\163\164\160\061"
+			+ "\000\052\000\003\145\163\164\000\000\000\000\004\000\006\146\154\144\145\156\166\000\052\000\002"
+			+ "\155\145\000\000\000\000\005\000\005\146\154\144\143\167\000\155\000\004\122\115\061\066\000\000"
+			+ "\000\000\006\000\007\146\156\163\164\145\156\166\000\052\000\002\155\145\000\000\000\000\007\000"
+			+ "\006\146\156\163\164\143\167\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\010\000"
+			+ "\000\006\146\143\155\157\166\142\000\052\000\002\163\164\000\052\000\003\145\163\164\000\000\000"
+			+ "\000\001\000\006\146\143\155\157\166\145\000\052\000\002\163\164\000\052\000\003\145\163\164\000"
+			+ "\000\000\000\002\000\007\146\143\155\157\166\142\145\000\052\000\002\163\164\000\052\000\003\145"
+			+ "\163\164\000\000\000\000\003\000\006\146\143\155\157\166\165\000\052\000\002\163\164\000\052\000"
+			+ "\003\145\163\164\000\000\000\000\004\000\005\146\151\163\165\142\000\052\000\003\155\144\151\000"
+			+ "\000\000\000\005\000\006\146\151\163\165\142\162\000\052\000\003\155\144\151\000\000\000\000\006"
+			+ "\000\005\146\151\144\151\166\000\052\000\003\155\144\151\000\000\000\000\007\000\006\146\151\144"
+			+ "\151\166\162\000\052\000\003\155\144\151\000\000\000\000\000\000\000\007\000\000\007\146\143\155"
+			+ "\157\166\156\142\000\052\000\002\163\164\000\052\000\003\145\163\164\000\000\000\000\001\000\007"
+			+ "\146\143\155\157\166\156\145\000\052\000\002\163\164\000\052\000\003\145\163\164\000\000\000\000"
+			+ "\002\000\010\146\143\155\157\166\156\142\145\000\052\000\002\163\164\000\052\000\003\145\163\164"
+			+ "\000\000\000\000\003\000\007\146\143\155\157\166\156\165\000\052\000\002\163\164\000\052\000\003"
+			+ "\145\163\164\000\000\000\000\005\000\006\146\165\143\157\155\151\000\052\000\002\163\164\000\052"
+			+ "\000\003\145\163\164\000\000\000\000\006\000\005\146\143\157\155\151\000\052\000\002\163\164\000"
+			+ "\052\000\003\145\163\164\000\000\000\000\007\000\004\146\163\164\160\000\052\000\003\155\145\162"
+			+ "\000\000\000\000\000\000\000\010\000\000\004\146\141\144\144\000\052\000\003\145\163\164\000\052"
+			+ "\000\002\163\164\000\000\000\000\001\000\004\146\155\165\154\000\052\000\003\145\163\164\000\052"
+			+ "\000\002\163\164\000\000\000\000\002\000\005\146\143\157\155\062\000\052\000\003\145\163\164\000"
+			+ "\000\000\000\003\000\006\146\143\157\155\160\063\000\052\000\003\145\163\164\000\000\000\000\004"
+			+ "\000\005\146\163\165\142\162\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000\000"
+			+ "\005\000\004\146\163\165\142\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000\000"
+			+ "\006\000\005\146\144\151\166\162\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000"
+			+ "\000\007\000\004\146\144\151\166\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000"
+			+ "\000\000\000\000\010\000\000\005\146\146\162\145\145\000\052\000\003\145\163\164\000\000\000\000"
+			+ "\001\000\005\146\170\143\150\064\000\052\000\003\145\163\164\000\000\000\000\002\000\003\146\163"
+			+ "\164\000\052\000\003\145\163\164\000\000\000\000\003\000\004\146\163\164\160\000\052\000\003\145"
+			+ "\163\164\000\000\000\000\004\000\005\146\165\143\157\155\000\052\000\003\145\163\164\000\000\000"
+			+ "\000\005\000\006\146\165\143\157\155\160\000\052\000\003\145\163\164\000\000\000\000\006\000\006"
+			+ "\146\156\163\141\166\145\000\052\000\003\155\163\164\000\000\000\000\007\000\006\146\156\163\164"
+			+ "\163\167\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\010\000\000\005\146\141\144"
+			+ "\144\160\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000\000\001\000\005\146\155"
+			+ "\165\154\160\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000\000\002\000\006\146"
+			+ "\143\157\155\160\065\000\052\000\003\145\163\164\000\000\000\000\003\000\006\146\151\143\157\155"
+			+ "\160\000\052\000\003\155\167\151\000\000\000\000\004\000\006\146\163\165\142\162\160\000\052\000"
+			+ "\003\145\163\164\000\052\000\002\163\164\000\000\000\000\005\000\005\146\163\165\142\160\000\052"
+			+ "\000\003\145\163\164\000\052\000\002\163\164\000\000\000\000\006\000\006\146\144\151\166\162\160"
+			+ "\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000\000\007\000\005\146\144\151\166"
+			+ "\160\000\052\000\003\145\163\164\000\052\000\002\163\164\000\000\000\000\000\000\000\010\000\000"
+			+ "\006\146\146\162\145\145\160\000\052\000\003\145\163\164\000\000\000\000\001\000\005\146\170\143"
+			+ "\150\067\000\052\000\003\145\163\164\000\000\000\000\002\000\005\146\163\164\160\070\000\052\000"
+			+ "\003\145\163\164\000\000\000\000\003\000\005\146\163\164\160\071\000\052\000\003\145\163\164\000"
+			+ "\000\000\000\004\000\004\146\142\154\144\000\052\000\004\155\142\143\144\000\000\000\000\005\000"
+			+ "\007\146\165\143\157\155\151\160\000\052\000\002\163\164\000\052\000\003\145\163\164\000\000\000"
+			+ "\000\006\000\006\146\143\157\155\151\160\000\052\000\002\163\164\000\052\000\003\145\163\164\000"
+			+ "\000\000\000\007\000\005\146\151\163\164\160\000\052\000\003\155\161\151\000\000\000\000\000\000"
+			+ "\000\001\377\000\006\154\157\157\160\156\172\000\151\000\004\122\105\114\070\000\000\000\000\000"
+			+ "\000\000\001\377\000\005\154\157\157\160\172\000\151\000\004\122\105\114\070\000\000\000\000\000"
+			+ "\000\000\001\377\000\004\154\157\157\160\000\151\000\004\122\105\114\070\000\000\000\000\000\000"
+			+ "\000\001\377\000\005\152\145\143\170\172\000\151\000\004\122\105\114\070\000\000\000\000\000\000"
+			+ "\000\001\377\000\002\151\156\000\052\000\002\141\154\000\151\000\004\111\115\115\070\000\000\000"
+			+ "\000\000\000\000\001\377\000\002\151\156\000\052\000\003\145\141\170\000\151\000\004\111\115\115"
+			+ "\070\000\000\000\000\000\000\000\001\377\000\003\157\165\164\000\151\000\004\111\115\115\070\000"
+			+ "\052\000\002\141\154\000\000\000\000\000\000\000\001\377\000\003\157\165\164\000\151\000\004\111"
+			+ "\115\115\070\000\052\000\003\145\141\170\000\000\000\000\000\000\000\001\377\000\004\143\141\154"
+			+ "\154\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000\003\152\155\160"
+			+ "\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000\003\152\155\160\000"
+			+ "\151\000\004\122\105\114\070\000\000\000\000\000\000\000\001\377\000\002\151\156\000\052\000\002"
+			+ "\141\154\000\052\000\002\144\170\000\000\000\000\000\000\000\001\377\000\002\151\156\000\052\000"
+			+ "\003\145\141\170\000\052\000\002\144\170\000\000\000\000\000\000\000\001\377\000\003\157\165\164"
+			+ "\000\052\000\002\144\170\000\052\000\002\141\154\000\000\000\000\000\000\000\001\377\000\003\157"
+			+ "\165\164\000\052\000\002\144\170\000\052\000\003\145\141\170\000\000\000\000\000\000\000\001\377"
+			+ "\000\004\154\157\143\153\000\160\000\004\114\117\103\113\000\000\000\000\000\000\000\001\377\000"
+			+ "\004\151\156\164\061\000\000\000\000\000\000\000\001\377\000\005\162\145\160\156\172\000\160\000"
+			+ "\005\122\105\120\116\130\000\000\000\000\000\000\000\001\377\000\004\162\145\160\172\000\160\000"
+			+ "\004\122\105\120\130\000\000\000\000\000\000\000\001\377\000\003\150\154\164\000\000\000\000\000"
+			+ "\000\000\001\377\000\003\143\155\143\000\000\000\000\000\000\000\010\000\000\004\164\145\163\164"
+			+ "\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\001\000\004\164\145"
+			+ "\163\164\000\155\000\003\122\115\070\000\151\000\004\111\115\115\070\000\000\000\000\002\000\003"
+			+ "\156\157\164\000\155\000\003\122\115\070\000\000\000\000\003\000\003\156\145\147\000\155\000\003"
+			+ "\122\115\070\000\000\000\000\004\000\003\155\165\154\000\155\000\003\122\115\070\000\000\000\000"
+			+ "\005\000\004\151\155\165\154\000\155\000\003\122\115\070\000\000\000\000\006\000\003\144\151\166"
+			+ "\000\155\000\003\122\115\070\000\000\000\000\007\000\004\151\144\151\166\000\155\000\003\122\115"
+			+ "\070\000\000\000\000\000\000\000\010\000\000\004\164\145\163\164\000\155\000\004\122\115\063\062"
+			+ "\000\151\000\005\111\115\115\063\062\000\000\000\000\001\000\004\164\145\163\164\000\155\000\004"
+			+ "\122\115\063\062\000\151\000\005\111\115\115\063\062\000\000\000\000\002\000\003\156\157\164\000"
+			+ "\155\000\004\122\115\063\062\000\000\000\000\003\000\003\156\145\147\000\155\000\004\122\115\063"
+			+ "\062\000\000\000\000\004\000\003\155\165\154\000\155\000\004\122\115\063\062\000\000\000\000\005"
+			+ "\000\004\151\155\165\154\000\155\000\004\122\115\063\062\000\000\000\000\006\000\003\144\151\166"
+			+ "\000\155\000\004\122\115\063\062\000\000\000\000\007\000\004\151\144\151\166\000\155\000\004\122"
+			+ "\115\063\062\000\000\000\000\000\000\000\001\377\000\003\143\154\143\000\000\000\000\000\000\000"
+			+ "\001\377\000\003\163\164\143\000\000\000\000\000\000\000\001\377\000\003\143\154\151\000\000\000"
+			+ "\000\000\000\000\001\377\000\003\143\154\144\000\000\000\000\000\000\000\001\377\000\003\163\164"
+			+ "\144\000\000\000\000\000\000\000\002\000\000\003\151\156\143\000\155\000\003\122\115\070\000\000"
+			+ "\000\000\001\000\003\144\145\143\000\155\000\003\122\115\070\000\000\000\000\000\000\000\003\002"
+			+ "\000\004\143\141\154\154\000\155\000\004\122\115\066\064\000\000\000\000\004\000\003\152\155\160"
+			+ "\000\155\000\004\122\115\066\064\000\000\000\000\006\000\004\160\165\163\150\000\052\000\003\145"
+			+ "\166\161\000\000\000\000\000\000\000\005\000\000\004\163\154\144\164\000\155\000\004\122\115\061"
+			+ "\066\000\000\000\000\001\000\003\163\164\162\000\155\000\004\122\115\061\066\000\000\000\000\004"
+			+ "\000\004\166\145\162\162\000\155\000\004\122\115\061\066\000\000\000\000\005\000\004\166\145\162"
+			+ "\167\000\155\000\004\122\115\061\066\000\000\000\000\006\000\004\152\155\160\145\000\000\000\000"
+			+ "\000\000\000\003\000\000\004\163\147\144\164\000\052\000\002\155\163\000\000\000\000\001\000\004"
+			+ "\163\151\144\164\000\052\000\002\155\163\000\000\000\000\004\000\004\163\155\163\167\000\155\000"
+			+ "\004\122\115\061\066\000\000\000\000\000\000\000\001\377\000\003\154\141\162\000\155\000\003\122"
+			+ "\063\062\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\001\377\000\003\154\163\154"
+			+ "\000\155\000\003\122\063\062\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\001\377"
+			+ "\000\007\163\171\163\143\141\154\154\000\000\000\000\000\000\000\001\377\000\004\143\154\164\163"
+			+ "\000\000\000\000\000\000\000\001\377\000\006\163\171\163\162\145\164\000\000\000\000\000\000\000"
+			+ "\001\377\000\003\156\157\160\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377"
+			+ "\000\006\155\157\166\165\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000"
+			+ "\000\000\000\000\000\001\377\000\006\155\157\166\165\160\163\000\052\000\003\167\160\163\000\052"
+			+ "\000\003\166\160\163\000\000\000\000\000\000\000\001\377\000\007\155\157\166\150\154\160\163\000"
+			+ "\052\000\002\166\161\000\052\000\002\165\161\000\000\000\000\000\000\000\001\377\000\006\155\157"
+			+ "\166\154\160\163\000\052\000\002\155\161\000\052\000\002\166\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\010\165\156\160\143\153\154\160\163\000\052\000\003\166\160\163\000\052\000\002\167\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\010\165\156\160\143\153\150\160\163\000\052\000\003\166"
+			+ "\160\163\000\052\000\002\167\161\000\000\000\000\000\000\000\001\377\000\007\155\157\166\154\150"
+			+ "\160\163\000\052\000\002\166\161\000\052\000\002\165\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\006\155\157\166\150\160\163\000\052\000\002\155\161\000\052\000\002\166\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\010\150\151\156\164\137\156\157\160\000\155\000\004\122\115\063\062\000\000"
+			+ "\000\000\000\000\000\001\377\000\010\150\151\156\164\137\156\157\160\000\155\000\004\122\115\063"
+			+ "\062\000\000\000\000\000\000\000\001\377\000\010\150\151\156\164\137\156\157\160\000\155\000\004"
+			+ "\122\115\063\062\000\000\000\000\000\000\000\001\377\000\010\150\151\156\164\137\156\157\160\000"
+			+ "\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\010\150\151\156\164\137\156"
+			+ "\157\160\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\010\150\151\156"
+			+ "\164\137\156\157\160\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\010"
+			+ "\150\151\156\164\137\156\157\160\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001"
+			+ "\377\000\010\150\151\156\164\137\156\157\160\000\155\000\004\122\115\063\062\000\000\000\000\000"
+			+ "\000\000\001\377\000\003\155\157\166\000\052\000\002\162\161\000\052\000\002\143\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\003\155\157\166\000\052\000\002\162\161\000\052\000\002\144\161\000"
+			+ "\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\002\143\161\000\052\000\002\162"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\002\162\144\000\052\000"
+			+ "\002\164\144\000\000\000\000\000\000\000\001\377\000\003\155\157\166\000\052\000\002\164\144\000"
+			+ "\052\000\002\162\144\000\000\000\000\000\000\000\001\377\000\006\155\157\166\141\160\163\000\052"
+			+ "\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\006\155"
+			+ "\157\166\141\160\163\000\052\000\003\167\160\163\000\052\000\003\166\160\163\000\000\000\000\000"
+			+ "\000\000\001\377\000\010\143\166\164\160\151\062\160\163\000\052\000\003\166\160\163\000\052\000"
+			+ "\003\161\160\151\000\000\000\000\000\000\000\001\377\000\007\155\157\166\156\164\160\163\000\052"
+			+ "\000\003\155\160\163\000\052\000\003\166\160\163\000\000\000\000\000\000\000\001\377\000\011\143"
+			+ "\166\164\164\160\163\062\160\151\000\052\000\003\160\160\151\000\052\000\004\167\160\163\161\000"
+			+ "\000\000\000\000\000\000\001\377\000\010\143\166\164\160\163\062\160\151\000\052\000\003\160\160"
+			+ "\151\000\052\000\004\167\160\163\161\000\000\000\000\000\000\000\001\377\000\007\165\143\157\155"
+			+ "\151\163\163\000\052\000\003\166\163\163\000\052\000\003\167\163\163\000\000\000\000\000\000\000"
+			+ "\001\377\000\006\143\157\155\151\163\163\000\052\000\003\166\163\163\000\052\000\003\167\163\163"
+			+ "\000\000\000\000\000\000\000\001\377\000\005\162\144\164\163\143\000\000\000\000\000\000\000\001"
+			+ "\377\000\005\162\144\155\163\162\000\000\000\000\000\000\000\001\377\000\005\162\144\160\155\143"
+			+ "\000\000\000\000\000\000\000\001\377\000\010\163\171\163\145\156\164\145\162\000\000\000\000\000"
+			+ "\000\000\001\377\000\007\163\171\163\145\170\151\164\000\000\000\000\000\000\000\001\377\000\006"
+			+ "\147\145\164\163\145\143\000\000\000\000\000\000\000\001\377\000\005\143\155\157\166\157\000\155"
+			+ "\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\006"
+			+ "\143\155\157\166\156\157\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000"
+			+ "\000\000\000\000\001\377\000\005\143\155\157\166\142\000\155\000\003\122\063\062\000\155\000\004"
+			+ "\122\115\063\062\000\000\000\000\000\000\000\001\377\000\006\143\155\157\166\156\142\000\155\000"
+			+ "\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\005\143"
+			+ "\155\157\166\172\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000"
+			+ "\000\000\001\377\000\006\143\155\157\166\156\172\000\155\000\003\122\063\062\000\155\000\004\122"
+			+ "\115\063\062\000\000\000\000\000\000\000\001\377\000\006\143\155\157\166\142\145\000\155\000\003"
+			+ "\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\007\143\155"
+			+ "\157\166\156\142\145\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000"
+			+ "\000\000\000\001\377\000\005\143\155\157\166\163\000\155\000\003\122\063\062\000\155\000\004\122"
+			+ "\115\063\062\000\000\000\000\000\000\000\001\377\000\006\143\155\157\166\156\163\000\155\000\003"
+			+ "\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\005\143\155"
+			+ "\157\166\160\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000"
+			+ "\000\001\377\000\006\143\155\157\166\156\160\000\155\000\003\122\063\062\000\155\000\004\122\115"
+			+ "\063\062\000\000\000\000\000\000\000\001\377\000\005\143\155\157\166\154\000\155\000\003\122\063"
+			+ "\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\006\143\155\157\166"
+			+ "\156\154\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000"
+			+ "\001\377\000\006\143\155\157\166\154\145\000\155\000\003\122\063\062\000\155\000\004\122\115\063"
+			+ "\062\000\000\000\000\000\000\000\001\377\000\007\143\155\157\166\156\154\145\000\155\000\003\122"
+			+ "\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\010\155\157\166"
+			+ "\155\163\153\160\163\000\052\000\004\147\144\161\160\000\052\000\003\165\160\163\000\000\000\000"
+			+ "\000\000\000\001\377\000\006\163\161\162\164\160\163\000\052\000\003\166\160\163\000\052\000\003"
+			+ "\167\160\163\000\000\000\000\000\000\000\001\377\000\007\162\163\161\162\164\160\163\000\052\000"
+			+ "\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005\162\143"
+			+ "\160\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000"
+			+ "\001\377\000\005\141\156\144\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000"
+			+ "\000\000\000\000\000\000\001\377\000\006\141\156\144\156\160\163\000\052\000\003\166\160\163\000"
+			+ "\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\004\157\162\160\163\000\052\000"
+			+ "\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005\170\157"
+			+ "\162\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000"
+			+ "\001\377\000\005\141\144\144\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000"
+			+ "\000\000\000\000\000\000\001\377\000\005\155\165\154\160\163\000\052\000\003\166\160\163\000\052"
+			+ "\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\010\143\166\164\160\163\062\160\144"
+			+ "\000\052\000\003\166\160\144\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000"
+			+ "\010\143\166\164\144\161\062\160\163\000\052\000\003\166\160\163\000\052\000\003\167\144\161\000"
+			+ "\000\000\000\000\000\000\001\377\000\005\163\165\142\160\163\000\052\000\003\166\160\163\000\052"
+			+ "\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005\155\151\156\160\163\000\052\000"
+			+ "\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005\144\151"
+			+ "\166\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000"
+			+ "\001\377\000\005\155\141\170\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000"
+			+ "\000\000\000\000\000\000\001\377\000\011\160\165\156\160\143\153\154\142\167\000\052\000\002\160"
+			+ "\161\000\052\000\002\161\144\000\000\000\000\000\000\000\001\377\000\011\160\165\156\160\143\153"
+			+ "\154\167\144\000\052\000\002\160\161\000\052\000\002\161\144\000\000\000\000\000\000\000\001\377"
+			+ "\000\011\160\165\156\160\143\153\154\144\161\000\052\000\002\160\161\000\052\000\002\161\144\000"
+			+ "\000\000\000\000\000\000\001\377\000\010\160\141\143\153\163\163",
+			"\167\142\000\052\000\002\160\161\000\052\000\002\161\144\000\000\000\000\000\000\000\001\377\000"
+			+ "\007\160\143\155\160\147\164\142\000\052\000\002\160\161\000\052\000\002\161\144\000\000\000\000"
+			+ "\000\000\000\001\377\000\007\160\143\155\160\147\164\167\000\052\000\002\160\161\000\052\000\002"
+			+ "\161\144\000\000\000\000\000\000\000\001\377\000\007\160\143\155\160\147\164\144\000\052\000\002"
+			+ "\160\161\000\052\000\002\161\144\000\000\000\000\000\000\000\001\377\000\010\160\141\143\153\165"
+			+ "\163\167\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\011\160\165\156\160\143\153\150\142\167\000\052\000\002\160\161\000\052\000\002\161\161\000"
+			+ "\000\000\000\000\000\000\001\377\000\011\160\165\156\160\143\153\150\167\144\000\052\000\002\160"
+			+ "\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\011\160\165\156\160\143\153"
+			+ "\150\144\161\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\010\160\141\143\153\163\163\144\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\004\155\157\166\144\000\052\000\002\160\161\000\052\000\002\145"
+			+ "\144\000\000\000\000\000\000\000\001\377\000\004\155\157\166\161\000\052\000\002\160\161\000\052"
+			+ "\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160\163\150\165\146\167\000\052\000"
+			+ "\002\160\161\000\052\000\002\161\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000"
+			+ "\003\002\000\005\160\163\162\154\167\000\052\000\002\156\161\000\151\000\004\111\115\115\070\000"
+			+ "\000\000\000\004\000\005\160\163\162\141\167\000\052\000\002\156\161\000\151\000\004\111\115\115"
+			+ "\070\000\000\000\000\006\000\005\160\163\154\154\167\000\052\000\002\156\161\000\151\000\004\111"
+			+ "\115\115\070\000\000\000\000\000\000\000\003\002\000\005\160\163\162\154\144\000\052\000\002\156"
+			+ "\161\000\151\000\004\111\115\115\070\000\000\000\000\004\000\005\160\163\162\141\144\000\052\000"
+			+ "\002\156\161\000\151\000\004\111\115\115\070\000\000\000\000\006\000\005\160\163\154\154\144\000"
+			+ "\052\000\002\156\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\002\002\000\005"
+			+ "\160\163\162\154\161\000\052\000\002\156\161\000\151\000\004\111\115\115\070\000\000\000\000\006"
+			+ "\000\005\160\163\154\154\161\000\052\000\002\156\161\000\151\000\004\111\115\115\070\000\000\000"
+			+ "\000\000\000\000\001\377\000\007\160\143\155\160\145\161\142\000\052\000\002\160\161\000\052\000"
+			+ "\002\161\161\000\000\000\000\000\000\000\001\377\000\007\160\143\155\160\145\161\167\000\052\000"
+			+ "\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\007\160\143\155\160"
+			+ "\145\161\144\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\004\145\155\155\163\000\000\000\000\000\000\000\001\377\000\006\166\155\162\145\141\144\000"
+			+ "\155\000\004\122\115\066\064\000\052\000\002\147\161\000\000\000\000\000\000\000\001\377\000\007"
+			+ "\166\155\167\162\151\164\145\000\052\000\002\147\161\000\155\000\004\122\115\066\064\000\000\000"
+			+ "\000\000\000\000\001\377\000\004\155\157\166\144\000\052\000\002\145\144\000\052\000\002\160\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\004\155\157\166\161\000\052\000\002\161\161\000\052\000"
+			+ "\002\160\161\000\000\000\000\000\000\000\001\377\000\002\152\157\000\151\000\005\122\105\114\063"
+			+ "\062\000\000\000\000\000\000\000\001\377\000\003\152\156\157\000\151\000\005\122\105\114\063\062"
+			+ "\000\000\000\000\000\000\000\001\377\000\002\152\142\000\151\000\005\122\105\114\063\062\000\000"
+			+ "\000\000\000\000\000\001\377\000\003\152\156\142\000\151\000\005\122\105\114\063\062\000\000\000"
+			+ "\000\000\000\000\001\377\000\002\152\172\000\151\000\005\122\105\114\063\062\000\000\000\000\000"
+			+ "\000\000\001\377\000\003\152\156\172\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000"
+			+ "\000\001\377\000\003\152\142\145\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000"
+			+ "\001\377\000\004\152\156\142\145\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000"
+			+ "\001\377\000\002\152\163\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377"
+			+ "\000\003\152\156\163\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000"
+			+ "\002\152\160\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000\003\152"
+			+ "\156\160\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000\002\152\154"
+			+ "\000\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000\003\152\156\154\000"
+			+ "\151\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000\003\152\154\145\000\151"
+			+ "\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\377\000\004\152\156\154\145\000\151"
+			+ "\000\005\122\105\114\063\062\000\000\000\000\000\000\000\001\000\000\004\163\145\164\157\000\155"
+			+ "\000\003\122\115\070\000\000\000\000\000\000\000\001\000\000\005\163\145\164\156\157\000\155\000"
+			+ "\003\122\115\070\000\000\000\000\000\000\000\001\000\000\004\163\145\164\142\000\155\000\003\122"
+			+ "\115\070\000\000\000\000\000\000\000\001\000\000\005\163\145\164\156\142\000\155\000\003\122\115"
+			+ "\070\000\000\000\000\000\000\000\001\000\000\004\163\145\164\172\000\155\000\003\122\115\070\000"
+			+ "\000\000\000\000\000\000\001\000\000\005\163\145\164\156\172\000\155\000\003\122\115\070\000\000"
+			+ "\000\000\000\000\000\001\000\000\005\163\145\164\142\145\000\155\000\003\122\115\070\000\000\000"
+			+ "\000\000\000\000\001\000\000\006\163\145\164\156\142\145\000\155\000\003\122\115\070\000\000\000"
+			+ "\000\000\000\000\001\000\000\004\163\145\164\163\000\155\000\003\122\115\070\000\000\000\000\000"
+			+ "\000\000\001\000\000\005\163\145\164\156\163\000\155\000\003\122\115\070\000\000\000\000\000\000"
+			+ "\000\001\000\000\004\163\145\164\160\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001"
+			+ "\000\000\005\163\145\164\156\160\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\000"
+			+ "\000\004\163\145\164\154\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\000\000\005"
+			+ "\163\145\164\156\154\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\000\000\005\163"
+			+ "\145\164\154\145\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\000\000\006\163\145"
+			+ "\164\156\154\145\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\004\160\165"
+			+ "\163\150\000\052\000\002\146\163\000\000\000\000\000\000\000\001\377\000\003\160\157\160\000\052"
+			+ "\000\002\146\163\000\000\000\000\000\000\000\001\377\000\002\142\164\000\155\000\004\122\115\063"
+			+ "\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\004\163\150\154\144\000"
+			+ "\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\151\000\004\111\115\115\070\000\000"
+			+ "\000\000\000\000\000\001\377\000\004\163\150\154\144\000\155\000\004\122\115\063\062\000\155\000"
+			+ "\003\122\063\062\000\052\000\002\143\154\000\000\000\000\000\000\000\001\377\000\004\160\165\163"
+			+ "\150\000\052\000\002\147\163\000\000\000\000\000\000\000\001\377\000\003\160\157\160\000\052\000"
+			+ "\002\147\163\000\000\000\000\000\000\000\001\377\000\003\142\164\163\000\155\000\004\122\115\063"
+			+ "\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\004\163\150\162\144\000"
+			+ "\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\151\000\004\111\115\115\070\000\000"
+			+ "\000\000\000\000\000\001\377\000\004\163\150\162\144\000\155\000\004\122\115\063\062\000\155\000"
+			+ "\003\122\063\062\000\052\000\002\143\154\000\000\000\000\000\000\000\006\000\000\006\146\170\163"
+			+ "\141\166\145\000\052\000\004\155\163\164\170\000\000\000\000\001\000\007\146\170\162\163\164\157"
+			+ "\162\000\052\000\004\155\163\164\170\000\000\000\000\004\000\005\170\163\141\166\145\000\151\000"
+			+ "\001\115\000\000\000\000\005\000\006\170\162\163\164\157\162\000\151\000\001\115\000\000\000\000"
+			+ "\006\000\006\155\146\145\156\143\145\000\000\000\000\007\000\007\143\154\146\154\165\163\150\000"
+			+ "\052\000\002\155\142\000\000\000\000\000\000\000\001\377\000\004\151\155\165\154\000\155\000\003"
+			+ "\122\063\062\000\155\000\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\007\143\155"
+			+ "\160\170\143\150\147\000\155\000\003\122\115\070\000\155\000\002\122\070\000\000\000\000\000\000"
+			+ "\000\001\377\000\007\143\155\160\170\143\150\147\000\155\000\004\122\115\063\062\000\155\000\003"
+			+ "\122\063\062\000\000\000\000\000\000\000\001\377\000\003\154\163\163\000\155\000\003\122\063\062"
+			+ "\000\052\000\004\155\160\164\160\000\000\000\000\000\000\000\001\377\000\003\142\164\162\000\155"
+			+ "\000\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000\000\000\001\377\000\003"
+			+ "\154\146\163\000\155\000\003\122\063\062\000\052\000\004\155\160\164\160\000\000\000\000\000\000"
+			+ "\000\001\377\000\003\154\147\163\000\155\000\003\122\063\062\000\052\000\004\155\160\164\160\000"
+			+ "\000\000\000\000\000\000\001\377\000\005\155\157\166\172\170\000\155\000\003\122\063\062\000\155"
+			+ "\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\005\155\157\166\172\170\000\155\000"
+			+ "\003\122\063\062\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\001\377\000\004\152"
+			+ "\155\160\145\000\000\000\000\000\000\000\004\004\000\002\142\164\000\155\000\004\122\115\063\062"
+			+ "\000\151\000\004\111\115\115\070\000\000\000\000\005\000\003\142\164\163\000\155\000\004\122\115"
+			+ "\063\062\000\151\000\004\111\115\115\070\000\000\000\000\006\000\003\142\164\162\000\155\000\004"
+			+ "\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000\007\000\003\142\164\143\000\155"
+			+ "\000\004\122\115\063\062\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000"
+			+ "\003\142\164\143\000\155\000\004\122\115\063\062\000\155\000\003\122\063\062\000\000\000\000\000"
+			+ "\000\000\001\377\000\003\142\163\146\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\142\163\162\000\155\000\003\122\063\062\000\155\000"
+			+ "\004\122\115\063\062\000\000\000\000\000\000\000\001\377\000\005\155\157\166\163\170\000\155\000"
+			+ "\003\122\063\062\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\005\155\157"
+			+ "\166\163\170\000\155\000\003\122\063\062\000\155\000\004\122\115\061\066\000\000\000\000\000\000"
+			+ "\000\001\377\000\004\170\141\144\144\000\155\000\003\122\115\070\000\155\000\002\122\070\000\000"
+			+ "\000\000\000\000\000\001\377\000\004\170\141\144\144\000\155\000\004\122\115\063\062\000\155\000"
+			+ "\003\122\063\062\000\000\000\000\000\000\000\001\377\000\005\143\155\160\160\163\000\052\000\003"
+			+ "\166\160\163\000\052\000\003\167\160\163\000\151\000\004\111\115\115\070\000\000\000\000\000\000"
+			+ "\000\001\377\000\006\155\157\166\156\164\151\000\052\000\004\155\144\161\160\000\052\000\004\147"
+			+ "\144\161\160\000\000\000\000\000\000\000\001\377\000\006\160\151\156\163\162\167\000\052\000\002"
+			+ "\160\161\000\052\000\004\162\144\161\160\000\151\000\004\111\115\115\070\000\000\000\000\000\000"
+			+ "\000\001\377\000\006\160\145\170\164\162\167\000\052\000\004\147\144\161\160\000\052\000\002\156"
+			+ "\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\006\163\150\165\146"
+			+ "\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\151\000\004\111\115\115\070"
+			+ "\000\000\000\000\000\000\000\003\001\000\011\143\155\160\170\143\150\147\070\142\000\052\000\002"
+			+ "\155\161\000\000\000\000\006\000\007\166\155\160\164\162\154\144\000\052\000\002\155\161\000\000"
+			+ "\000\000\007\000\007\166\155\160\164\162\163\164\000\052\000\002\155\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\005\142\163\167\141\160\000\052\000\003\145\141\170\000\000\000\000\000\000\000"
+			+ "\001\377\000\005\142\163\167\141\160\000\052\000\003\145\143\170\000\000\000\000\000\000\000\001"
+			+ "\377\000\005\142\163\167\141\160\000\052\000\003\145\144\170\000\000\000\000\000\000\000\001\377"
+			+ "\000\005\142\163\167\141\160\000\052\000\003\145\142\170\000\000\000\000\000\000\000\001\377\000"
+			+ "\005\142\163\167\141\160\000\052\000\003\145\163\160\000\000\000\000\000\000\000\001\377\000\005"
+			+ "\142\163\167\141\160\000\052\000\003\145\142\160\000\000\000\000\000\000\000\001\377\000\005\142"
+			+ "\163\167\141\160\000\052\000\003\145\163\151\000\000\000\000\000\000\000\001\377\000\005\142\163"
+			+ "\167\141\160\000\052\000\003\145\144\151\000\000\000\000\000\000\000\001\377\000\005\160\163\162"
+			+ "\154\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\005\160\163\162\154\144\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\005\160\163\162\154\161\000\052\000\002\160\161\000\052\000\002\161\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\005\160\141\144\144\161\000\052\000\002\160\161\000\052\000\002"
+			+ "\161\161\000\000\000\000\000\000\000\001\377\000\006\160\155\165\154\154\167\000\052\000\002\160"
+			+ "\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\010\160\155\157\166\155\163"
+			+ "\153\142\000\052\000\004\147\144\161\160\000\052\000\002\156\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\007\160\163\165\142\165\163\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\007\160\163\165\142\165\163\167\000\052\000\002\160\161\000\052"
+			+ "\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160\155\151\156\165\142\000\052\000"
+			+ "\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\004\160\141\156\144"
+			+ "\000\052\000\002\160\161\000\052\000\002\161\144\000\000\000\000\000\000\000\001\377\000\007\160"
+			+ "\141\144\144\165\163\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\007\160\141\144\144\165\163\167\000\052\000\002\160\161\000\052\000\002\161\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\006\160\155\141\170\165\142\000\052\000\002\160\161\000"
+			+ "\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\141\156\144\156\000\052\000"
+			+ "\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\141\166\147"
+			+ "\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005"
+			+ "\160\163\162\141\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\005\160\163\162\141\144\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\005\160\141\166\147\167\000\052\000\002\160\161\000\052\000\002\161"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\007\160\155\165\154\150\165\167\000\052\000\002\160"
+			+ "\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160\155\165\154\150\167"
+			+ "\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\155"
+			+ "\157\166\156\164\161\000\052\000\002\155\161\000\052\000\002\160\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\006\160\163\165\142\163\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\006\160\163\165\142\163\167\000\052\000\002\160\161\000\052\000"
+			+ "\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160\155\151\156\163\167\000\052\000\002"
+			+ "\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\003\160\157\162\000\052"
+			+ "\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160\141\144"
+			+ "\144\163\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\006\160\141\144\144\163\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\006\160\155\141\170\163\167\000\052\000\002\160\161\000\052\000\002\161"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\004\160\170\157\162\000\052\000\002\160\161\000\052"
+			+ "\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\163\154\154\167\000\052\000\002"
+			+ "\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\163\154\154\144"
+			+ "\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160"
+			+ "\163\154\154\161\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\007\160\155\165\154\165\144\161\000\052\000\002\160\161\000\052\000\002\161\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\007\160\155\141\144\144\167\144\000\052\000\002\160\161\000\052"
+			+ "\000\002\161\144\000\000\000\000\000\000\000\001\377\000\006\160\163\141\144\142\167\000\052\000"
+			+ "\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\010\155\141\163\153"
+			+ "\155\157\166\161\000\052\000\002\160\161\000\052\000\002\156\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\005\160\163\165\142\142\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\005\160\163\165\142\167\000\052\000\002\160\161\000\052\000\002\161\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\005\160\163\165\142\144\000\052\000\002\160\161\000\052"
+			+ "\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\163\165\142\161\000\052\000\002"
+			+ "\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\141\144\144\142"
+			+ "\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160"
+			+ "\141\144\144\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\005\160\141\144\144\144\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000"
+			+ "\000\000\000\002\006\000\006\146\163\164\145\156\166\000\052\000\002\155\145\000\000\000\000\007"
+			+ "\000\005\146\163\164\143\167\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\002\006"
+			+ "\000\005\146\163\141\166\145\000\052\000\003\155\163\164\000\000\000\000\007\000\005\146\163\164"
+			+ "\163\167\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\001\377\000\003\141\141\155"
+			+ "\000\000\000\000\000\000\000\001\377\000\003\141\141\144\000\000\000\000\000\000\000\001\002\000"
+			+ "\004\146\143\157\155\000\000\000\000\000\000\000\001\003\000\005\146\143\157\155\160\000\000\000"
+			+ "\000\000\000\000\001\001\000\004\146\170\143\150\000\000\000\000\000\000\000\001\002\000\004\146"
+			+ "\156\157\160\000\000\000\000\000\000\000\001\004\000\004\146\143\150\163\000\000\000\000\000\000"
+			+ "\000\001\004\000\004\146\141\142\163\000\000\000\000\000\000\000\001\004\000\004\146\164\163\164"
+			+ "\000\000\000\000\000\000\000\001\004\000\004\146\170\141\155\000\000\000\000\000\000\000\001\005"
+			+ "\000\004\146\154\144\061\000\000\000\000\000\000\000\001\005\000\006\146\154\144\154\062\164\000"
+			+ "\000\000\000\000\000\000\001\005\000\006\146\154\144\154\062\145\000\000\000\000\000\000\000\001"
+			+ "\005\000\005\146\154\144\160\151\000\000\000\000\000\000\000\001\005\000\006\146\154\144\154\147"
+			+ "\062\000\000\000\000\000\000\000\001\005\000\006\146\154\144\154\156\062\000\000\000\000\000\000"
+			+ "\000\001\005\000\004\146\154\144\172\000\000\000\000\000\000\000\001\006\000\005\146\062\170\155"
+			+ "\061\000\000\000\000\000\000\000\001\006\000\005\146\171\154\062\170\000\000\000\000\000\000\000"
+			+ "\001\006\000\005\146\160\164\141\156\000\000\000\000\000\000\000\001\006\000\006\146\160\141\164"
+			+ "\141\156\000\000\000\000\000\000\000\001\006\000\007\146\170\164\162\141\143\164\000\000\000\000"
+			+ "\000\000\000\001\006\000\006\146\160\162\145\155\061\000\000\000\000\000\000\000\001\006\000\007"
+			+ "\146\144\145\143\163\164\160\000\000\000\000\000\000\000\001\006\000\007\146\151\156\143\163\164"
+			+ "\160\000\000\000\000\000\000\000\001\007\000\005\146\160\162\145\155\000\000\000\000\000\000\000"
+			+ "\001\007\000\007\146\171\154\062\170\160\061\000\000\000\000\000\000\000\001\007\000\005\146\163"
+			+ "\161\162\164\000\000\000\000\000\000\000\001\007\000\007\146\163\151\156\143\157\163\000\000\000"
+			+ "\000\000\000\000\001\007\000\007\146\162\156\144\151\156\164\000\000\000\000\000\000\000\001\007"
+			+ "\000\006\146\163\143\141\154\145\000\000\000\000\000\000\000\001\007\000\004\146\163\151\156\000"
+			+ "\000\000\000\000\000\000\001\007\000\004\146\143\157\163\000\000\000\000\000\000\000\001\005\000"
+			+ "\007\146\165\143\157\155\160\160\000\000\000\000\000\000\000\001\004\000\005\146\156\145\156\151"
+			+ "\000\000\000\000\000\000\000\001\004\000\006\146\156\144\151\163\151\000\000\000\000\000\000\000"
+			+ "\001\004\000\006\146\156\143\154\145\170\000\000\000\000\000\000\000\001\004\000\006\146\156\151"
+			+ "\156\151\164\000\000\000\000\000\000\000\001\004\000\007\146\156\163\145\164\160\155\000\000\000"
+			+ "\000\000\000\000\001\004\000\005\146\165\143\157\155\000\000\000\000\000\000\000\001\005\000\006"
+			+ "\146\165\143\157\155\160\000\000\000\000\000\000\000\001\000\000\005\146\141\144\144\160\000\000"
+			+ "\000\000\000\000\000\001\001\000\005\146\155\165\154\160\000\000\000\000\000\000\000\001\003\000"
+			+ "\006\146\143\157\155\160\160\000\000\000\000\000\000\000\001\004\000\006\146\163\165\142\162\160"
+			+ "\000\000\000\000\000\000\000\001\005\000\005\146\163\165\142\160\000\000\000\000\000\000\000\001"
+			+ "\006\000\006\146\144\151\166\162\160\000\000\000\000\000\000\000\001\007\000\005\146\144\151\166"
+			+ "\160\000\000\000\000\000\000\000\001\004\000\006\146\156\163\164\163\167\000\052\000\002\141\170"
+			+ "\000\000\000\000\000\000\000\001\377\000\005\160\141\165\163\145\000\000\000\000\000\000\000\001"
+			+ "\000\000\006\166\155\143\141\154\154\000\000\000\000\000\000\000\001\000\000\010\166\155\154\141"
+			+ "\165\156\143\150\000\000\000\000\000\000\000\001\000\000\010\166\155\162\145\163\165\155\145\000"
+			+ "\000\000\000\000\000\000\001\000\000\006\166\155\170\157\146\146\000\000\000\000\000\000\000\001"
+			+ "\001\000\007\155\157\156\151\164\157\162\000\000\000\000\000\000\000\001\001\000\005\155\167\141"
+			+ "\151\164\000\000\000\000\000\000\000\001\002\000\006\170\147\145\164\142\166\000\000\000\000\000"
+			+ "\000\000\001\002\000\006\170\163\145\164\142\166\000\000\000\000\000\000\000\001\007\000\006\163"
+			+ "\167\141\160\147\163\000\000\000\000\000\000\000\001\377\000\006\160\163\150\165\146\142\000\052"
+			+ "\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160\150\141"
+			+ "\144\144\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\006\160\150\141\144\144\144\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\007\160\150\141\144\144\163\167\000\052\000\002\160\161\000\052\000\002"
+			+ "\161\161\000\000\000\000\000\000\000\001\377\000\011\160\155\141\144\144\165\142\163\167\000\052"
+			+ "\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160\150\163"
+			+ "\165\142\167\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\006\160\150\163\165\142\144\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\007\160\150\163\165\142\163\167\000\052\000\002\160\161\000\052\000\002"
+			+ "\161\161\000\000\000\000\000\000\000\001\377\000\006\160\163\151\147\156\142\000\052\000\002\160"
+			+ "\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160\163\151\147\156\167"
+			+ "\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\160"
+			+ "\163\151\147\156\144\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\010\160\155\165\154\150\162\163\167\000\052\000\002\160\161\000\052\000\002\161\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\005\160\141\142\163\142\000\052\000\002\160\161\000\052"
+			+ "\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\141\142\163\167\000\052\000\002"
+			+ "\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\160\141\142\163\144"
+			+ "\000\052\000\002\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\005\155"
+			+ "\157\166\142\145\000\155\000\003\122\063\062\000\052\000\004\155\166\161\160\000\000\000\000\000"
+			+ "\000\000\001\377\000\005\155\157\166\142\145\000\052\000\004\155\166\161\160\000\155\000\003\122"
+			+ "\063\062\000\000\000\000\000\000\000\001\377\000\007\160\141\154\151\147\156\162\000\052\000\002"
+			+ "\160\161\000\052\000\002\161\161\000\000\000\000\000\000\000\001\377\000\006\155\157\166\165\160"
+			+ "\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377"
+			+ "\000\006\155\157\166\165\160\144\000\052\000\003\167\160\144\000\052\000\003\166\160\144\000\000"
+			+ "\000\000\000\000\000\001\377\000\006\155\157\166\154\160\144\000\052\000\002\166\161\000\052\000"
+			+ "\002\155\161\000\000\000\000\000\000\000\001\377\000\006\155\157\166\154\160\144\000\052\000\002"
+			+ "\155\161\000\052\000\002\166\161\000\000\000\000\000\000\000\001\377\000\010\165\156\160\143\153"
+			+ "\154\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000"
+			+ "\001\377\000\010\165\156\160\143\153\150\160\144\000\052\000\003\166\160\144\000\052\000\003\167"
+			+ "\160\144\000\000\000\000\000\000\000\001\377\000\006\155\157\166\150\160\144\000\052\000\002\166"
+			+ "\161\000\052\000\002\155\161\000\000\000\000\000\000\000\001\377\000\006\155\157\166\150\160\144"
+			+ "\000\052\000\002\155\161\000\052\000\002\166\161\000\000\000\000\000\000\000\001\377\000\006\155"
+			+ "\157\166\141\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000"
+			+ "\000\000\001\377\000\006\155\157\166\141\160\144\000\052\000\003\167\160\144\000\052\000\003\166"
+			+ "\160\144\000\000\000\000\000\000\000\001\377\000\010\143\166\164\160\151\062\160\144\000\052\000"
+			+ "\003\166\160\144\000\052\000\003\161\160\151\000\000\000\000\000\000\000\001\377\000\007\155\157"
+			+ "\166\156\164\160\144\000\052\000\003\155\160\144\000\052\000\003\166\160\144\000\000\000\000\000"
+			+ "\000\000\001\377\000\011\143\166\164\164\160\144\062\160\151\000\052\000\003\160\160\151\000\052"
+			+ "\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\010\143\166\164\160\144\062\160\151"
+			+ "\000\052\000\003\160\160\151\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000"
+			+ "\007\165\143\157\155\151\163\144\000\052\000\003\166\163\144\000\052\000\003\167\163\144\000\000"
+			+ "\000\000\000\000\000\001\377\000\006\143\157\155\151\163\144\000\052\000\003\166\163\144\000\052"
+			+ "\000\003\167\163\144\000\000\000\000\000\000\000\001\377\000\010\155\157\166\155\163\153\160\144"
+			+ "\000\052\000\004\147\144\161\160\000\052\000\003\165\160\144\000\000\000\000\000\000\000\001\377"
+			+ "\000\006\163\161\162\164\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000"
+			+ "\000\000\000\000\000\001\377\000\005\141\156\144\160\144\000\052\000\003\166\160\144\000\052\000"
+			+ "\003\167\160\144\000\000\000\000\000\000\000\001\377\000\006\141\156\144\156\160\144\000\052\000"
+			+ "\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\004\157\162"
+			+ "\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001"
+			+ "\377\000\005\170\157\162\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000"
+			+ "\000\000\000\000\000\001\377\000\005\141\144\144\160\144\000\052\000\003\166\160\144\000\052\000"
+			+ "\003\167\160\144\000\000\000\000\000\000\000\001\377\000\005\155\165\154\160\144\000\052\000\003"
+			+ "\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\010\143\166\164"
+			+ "\160\144\062\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\144\000\000\000\000\000"
+			+ "\000\000\001\377\000\010\143\166\164\160\163\062\144\161\000\052\000\003\166\144\161\000\052\000"
+			+ "\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005\163\165\142\160\144\000\052\000\003"
+			+ "\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\005\155\151\156"
+			+ "\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001"
+			+ "\377\000\005\144\151\166\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000"
+			+ "\000\000\000\000\000\001\377\000\005\155\141\170\160\144\000\052\000\003\166\160\144\000\052\000"
+			+ "\003\167\160\144\000\000\000\000\000\000\000\001\377\000\011\160\165\156\160\143\153\154\142\167"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\011\160\165\156\160\143\153\154\167\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\011\160\165\156\160\143\153\154\144\161\000\052\000\003"
+			+ "\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\010\160\141\143"
+			+ "\153\163\163\167\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\007\160\143\155\160\147\164\142\000\052\000\003\166\144\161\000\052\000\003"
+			+ "\167\144\161\000\000\000\000\000\000\000\001\377\000\007\160\143\155\160\147\164\167\000\052\000"
+			+ "\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\007\160\143"
+			+ "\155\160\147\164\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\010\160\141\143\153\165\163\167\142\000\052\000\003\166\144\161\000\052\000"
+			+ "\003\167\144\161\000\000\000\000\000\000\000\001\377\000\011\160\165\156\160\143\153\150\142\167"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\011\160\165\156\160\143\153\150\167\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\011\160\165\156\160\143\153\150\144\161\000\052\000\003"
+			+ "\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\010\160\141\143"
+			+ "\153\163\163\144\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\012\160\165\156\160\143\153\154\161\144\161\000\052\000\003\166\144\161\000"
+			+ "\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\012\160\165\156\160\143\153\150"
+			+ "\161\144\161\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\004\155\157\166\144\000\052\000\003\166\144\161\000\052\000\002\145\144\000\000\000"
+			+ "\000\000\000\000\001\377\000\006\155\157\166\144\161\141\000\052\000\003\166\144\161\000\052\000"
+			+ "\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\163\150\165\146\144\000\052\000"
+			+ "\003\166\144\161\000\052\000\003\167\144\161\000\151\000\004\111\115\115\070\000\000\000\000\000"
+			+ "\000\000\003\002\000\005\160\163\162\154\167\000\052\000\003\165\144\161\000\151\000\004\111\115"
+			+ "\115\070\000\000\000\000\004\000\005\160\163\162\141\167\000\052\000\003\165\144\161\000\151\000"
+			+ "\004\111\115\115\070\000\000\000\000\006\000\005\160\163\154\154\167\000\052\000\003\165\144\161"
+			+ "\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\003\002\000\005\160\163\162\154\144"
+			+ "\000\052\000\003\165\144\161\000\151\000\004\111\115\115\070\000\000\000\000\004\000\005\160\163"
+			+ "\162\141\144\000\052\000\003\165\144\161\000\151\000\004\111\115\115\070\000\000\000\000\006\000"
+			+ "\005\160\163\154\154\144\000\052\000\003\165\144\161\000\151\000\004\111\115\115\070\000\000\000"
+			+ "\000\000\000\000\004\002\000\005\160\163\162\154\161\000\052\000\003\165\144\161\000\151\000\004"
+			+ "\111\115\115\070\000\000\000\000\003\000\006\160\163\162\154\144\161\000\052\000\003\165\144\161"
+			+ "\000\151\000\004\111\115\115\070\000\000\000\000\006\000\005\160\163\154\154\161\000\052\000\003"
+			+ "\165\144\161\000\151\000\004\111\115\115\070\000\000\000\000\007\000\006\160\163\154\154\144\161"
+			+ "\000\052\000\003\165\144\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377"
+			+ "\000\007\160\143\155\160\145\161\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000"
+			+ "\000\000\000\000\000\000\001\377\000\007\160\143\155\160\145\161\167\000\052\000\003\166\144\161"
+			+ "\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\007\160\143\155\160\145\161"
+			+ "\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\006\150\141\144\144\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000"
+			+ "\000\000\000\000\000\001\377\000\006\150\163\165\142\160\144\000\052\000\003\166\160\144\000\052"
+			+ "\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\004\155\157\166\144\000\052\000\002"
+			+ "\145\144\000\052\000\003\166\144\161\000\000\000\000\000\000\000\001\377\000\006\155\157\166\144"
+			+ "\161\141\000\052\000\003\167\144\161\000\052\000\003\166\144\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\005\143\155\160\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\151"
+			+ "\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\006\160\151\156\163\162\167\000"
+			+ "\052\000\003\166\144\161\000\052\000\004\162\144\161\160\000\151\000\004\111\115\115\070\000\000"
+			+ "\000\000\000\000\000\001\377\000\006\160\145\170\164\162\167\000\052\000\004\147\144\161\160\000"
+			+ "\052\000\003\165\144\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000"
+			+ "\006\163\150\165\146\160\144\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\151\000"
+			+ "\004\111\115\115\070\000\000\000\000\000\000\000\001\006\000\007\166\155\143\154\145\141\162\000"
+			+ "\052\000\002\155\161\000\000\000\000\000\000\000\001\377\000\010\141\144\144\163\165\142\160\144"
+			+ "\000\052\000\003\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000"
+			+ "\005\160\163\162\154\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\005\160\163\162\154\144\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\005\160\163\162\154\161\000\052\000\003\166\144"
+			+ "\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005\160\141\144\144\161"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\006\160\155\165\154\154\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\004\155\157\166\161\000\052\000\002\167\161\000\052\000\002\166\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\010\160\155\157\166\155\163\153\142\000\052\000\004\147"
+			+ "\144\161\160\000\052\000\003\165\144\161\000\000\000\000\000\000\000\001\377\000\007\160\163\165"
+			+ "\142\165\163\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\007\160\163\165\142\165\163\167\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\151\156\165\142\000\052\000\003\166"
+			+ "\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\004\160\141\156\144"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\007\160\141\144\144\165\163\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000"
+			+ "\000\000\000\000\000\001\377\000\007\160\141\144\144\165\163\167\000\052\000\003\166\144\161\000"
+			+ "\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\141\170\165\142\000"
+			+ "\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005"
+			+ "\160\141\156\144\156\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\005\160\141\166\147\142\000\052\000\003\166\144\161\000\052\000\003\167\144"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\005\160\163\162\141\167\000\052\000\003\166\144\161"
+			+ "\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005\160\163\162\141\144\000"
+			+ "\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005"
+			+ "\160\141\166\147\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\007\160\155\165\154\150\165\167\000\052\000\003\166\144\161\000\052\000\003"
+			+ "\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\165\154\150\167\000\052\000\003"
+			+ "\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\011\143\166\164"
+			+ "\164\160\144\062\144\161\000\052\000\003\166\144\161\000\052\000\003\167\160\144\000\000\000\000"
+			+ "\000\000\000\001\377\000\007\155\157\166\156\164\144\161\000\052\000\003\155\144\161\000\052\000"
+			+ "\003\166\144\161\000\000\000\000\000\000\000\001\377\000\006\160\163\165\142\163\142\000\052\000"
+			+ "\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\163"
+			+ "\165\142\163\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\006\160\155\151\156\163\167\000\052\000\003\166\144\161\000\052\000\003\167\144"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\003\160\157\162\000\052\000\003\166\144\161\000\052"
+			+ "\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\141\144\144\163\142\000\052"
+			+ "\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160"
+			+ "\141\144\144\163\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\006\160\155\141\170\163\167\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\004\160\170\157\162\000\052\000\003\166\144\161"
+			+ "\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005\160\163\154\154\167\000"
+			+ "\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005"
+			+ "\160\163\154\154\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\005\160\163\154\154\161\000\052\000\003\166\144\161\000\052\000\003\167\144"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\007\160\155\165\154\165\144\161\000\052\000\003\166"
+			+ "\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\007\160\155\141\144"
+			+ "\144\167\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\006\160\163\141\144\142\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\012\155\141\163\153\155\157\166\144\161\165\000\052\000"
+			+ "\003\166\144\161\000\052\000\003\165\144\161\000\000\000\000\000\000\000\001\377\000\005\160\163"
+			+ "\165\142\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\005\160\163\165\142\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000"
+			+ "\000\000\000\000\000\000\001\377\000\005\160\163\165\142\144\000\052\000\003\166\144\161\000\052"
+			+ "\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005\160\163\165\142\161\000\052\000"
+			+ "\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005\160\141"
+			+ "\144\144\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\005\160\141\144\144\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000"
+			+ "\000\000\000\000\000\000\001\377\000\005\160\141\144\144\144\000\052\000\003\166\144\161\000\052"
+			+ "\000\003\167\144\161\000\000\000\000\000\000\000\001\004\000\004\146\145\156\151\000\000\000\000"
+			+ "\000\000\000\001\004\000\005\146\144\151\163\151\000\000\000\000\000\000\000\001\004\000\005\146"
+			+ "\143\154\145\170\000\000\000\000\000\000\000\001\004\000\005\146\151\156\151\164\000\000\000\000"
+			+ "\000\000\000\001\004\000\006\146\163\145\164\160\155\000\000\000\000\000\000\000\001\004\000\005"
+			+ "\146\163\164\163\167\000\052\000\002\141\170\000\000\000\000\000\000\000\001\377\000\005\155\157"
+			+ "\166\163\144\000\052\000\003\166\163\144\000\052\000\003\167\163\144\000\000\000\000\000\000\000"
+			+ "\001\377\000\005\155\157\166\163\144\000\052\000\003\167\163\144\000\052\000\003\166\163\144\000"
+			+ "\000\000\000\000\000\000\001\377\000\007\155\157\166\144\144\165\160\000\052\000\002\166\161\000"
+			+ "\052\000\002\167\161\000\000\000\000\000\000\000\001\377\000\010\143\166\164\163\151\062\163\144"
+			+ "\000\052\000\003\166\163\144\000\052\000\004\145\144\161\160\000\000\000\000\000\000\000\001\377"
+			+ "\000\011\143\166\164\164\163\144\062\163\151\000\052\000\004\147\144\161\160\000\052\000\003\167"
+			+ "\163\144\000\000\000\000\000\000\000\001\377\000\010\143\166\164\163\144\062\163\151\000\052\000"
+			+ "\004\147\144\161\160\000\052\000\003\167\163\144\000\000\000\000\000\000\000\001\377\000\006\163"
+			+ "\161\162\164\163\144\000\052\000\003\166\163\144\000\052\000\003\167\163\144\000\000\000\000\000"
+			+ "\000\000\001\377\000\005\141\144\144\163\144\000\052\000\003\166\163\144\000\052\000\003\167\163"
+			+ "\144\000\000\000\000\000\000\000\001\377\000\005\155\165\154\163\144\000\052\000\003\166\163\144"
+			+ "\000\052\000\003\167\163\144\000\000\000\000\000\000\000\001\377\000\010\143\166\164\163\144\062"
+			+ "\163\163\000\052\000\003\166\163\163\000\052\000\003\167\163\144\000\000\000\000\000\000\000\001"
+			+ "\377\000\005\163\165\142\163\144\000\052\000\003\166\163\144\000\052\000\003\167\163\144\000\000"
+			+ "\000\000\000\000\000\001\377\000\005\155\151\156\163\144\000\052\000\003\166\163\144\000\052\000"
+			+ "\003\167\163\144\000\000\000\000\000\000\000\001\377\000\005\144\151\166\163\144\000\052\000\003"
+			+ "\166\163\144\000\052\000\003\167\163\144\000\000\000\000\000\000\000\001\377\000\005\155\141\170"
+			+ "\163\144\000\052\000\003\166\163\144\000\052\000\003\167\163\144\000\000\000\000\000\000\000\001"
+			+ "\377\000\007\160\163\150\165\146\154\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161"
+			+ "\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\006\150\141\144\144\160"
+			+ "\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377"
+			+ "\000\006\150\163\165\142\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000"
+			+ "\000\000\000\000\000\001\377\000\005\143\155\160\163\144\000\052\000\003\166\163\144\000\052\000"
+			+ "\003\167\163\144\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\010\141"
+			+ "\144\144\163\165\142\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000"
+			+ "\000\000\000\000\001\377\000\007\155\157\166\144\161\062\161\000\052\000\002\160\161\000\052\000"
+			+ "\002\165\161\000\000\000\000\000\000\000\001\377\000\010\143\166\164\160\144\062\144\161\000\052"
+			+ "\000\003\166\144\161\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\005\154"
+			+ "\144\144\161\165\000\052\000\003\166\144\161\000\052\000\003\155\144\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\005\155\157\166\163\163\000\052\000\003\166\163\163\000\052\000\003\167\163\163"
+			+ "\000\000\000\000\000\000\000\001\377\000\005\155\157\166\163\163\000\052\000\003\167\163\163\000"
+			+ "\052\000\003\166\163\163\000\000\000\000\000\000\000\001\377\000\010\155\157\166\163\154\144\165"
+			+ "\160\000\052\000\002\166\161\000\052\000\002\167\161\000\000\000\000\000\000\000\001\377\000\010"
+			+ "\155\157\166\163\150\144\165\160\000\052\000\002\166\161\000\052\000\002\167\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\010\143\166\164\163\151\062\163\163\000\052\000\003\166\163\163\000\052"
+			+ "\000\004\145\144\161\160\000\000\000\000\000\000\000\001\377\000\011\143\166\164\164\163\163\062"
+			+ "\163\151\000\052\000\004\147\144\161\160\000\052\000\003\167\163\163\000\000\000\000\000\000\000"
+			+ "\001\377\000\010\143\166\164\163\163\062\163\151\000\052\000\004\147\144\161\160\000\052\000\003"
+			+ "\167\163\163\000\000\000\000\000\000\000\001\377\000\006\163\161\162\164\163\163\000\052\000\003"
+			+ "\166\163\163\000\052\000\003\167\163\163\000\000\000\000\000\000\000\001\377\000\007\162\163\161"
+			+ "\162\164\163\163\000\052\000\003\166\163\163\000\052\000\003\167\163\163\000\000\000\000\000\000"
+			+ "\000\001\377\000\005\162\143\160\163\163\000\052\000\003\166\163\163\000\052\000\003\167\163\163"
+			+ "\000\000\000\000\000\000\000\001\377\000\005\141\144\144\163\163\000\052\000\003\166\163\163\000"
+			+ "\052\000\003\167\163\163\000\000\000\000\000\000\000\001\377\000\005\155\165\154\163\163\000\052"
+			+ "\000\003\166\163\163\000\052\000\003\167\163\163\000\000\000\000\000\000\000\001\377\000\010\143"
+			+ "\166\164\163\163\062\163\144\000\052\000\003\166\163\144\000\052\000\003\167\163\163\000\000\000"
+			+ "\000\000\000\000\001\377\000\011\143\166\164\164\160\163\062\144\161\000\052\000\003\166\144\161"
+			+ "\000\052\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\005\163\165\142\163\163\000"
+			+ "\052\000\003\166\163\163\000\052\000\003\167\163\163\000\000\000\000\000\000\000\001\377\000\005"
+			+ "\155\151\156\163\163\000\052\000\003\166\163\163\000\052\000\003\167\163\163\000\000\000\000\000"
+			+ "\000\000\001\377\000\005\144\151\166\163\163\000\052\000\003\166\163\163\000\052\000\003\167\163"
+			+ "\163\000\000\000\000\000\000\000\001\377\000\005\155\141\170\163\163\000\052\000\003\166\163\163"
+			+ "\000\052\000\003\167\163\163\000\000\000\000\000\000\000\001\377\000\006\155\157\166\144\161\165"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\007\160\163\150\165\146\150\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\151"
+			+ "\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\004\155\157\166\161\000\052\000"
+			+ "\002\166\161\000\052\000\002\167\161\000\000\000\000\000\000\000\001\377\000\006\155\157\166\144"
+			+ "\161\165\000\052\000\003\167\144\161\000\052\000\003\166\144\161\000\000\000\000\000\000\000\001"
+			+ "\377\000\006\160\157\160\143\156\164\000\155\000\003\122\063\062\000\155\000\004\122\115\063\062"
+			+ "\000\000\000\000\000\000\000\001\377\000\005\143\155\160\163\163\000\052\000\003\166\163\163\000"
+			+ "\052\000\003\167\163\163\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\006\000"
+			+ "\005\166\155\170\157\156\000\052\000\002\155\161\000\000\000\000\000\000\000\001\377\000\007\155"
+			+ "\157\166\161\062\144\161\000\052\000\003\166\144\161\000\052\000\002\156\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\010\143\166\164\144\161\062\160\144\000\052\000\003\166\160\144\000\052\000"
+			+ "\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\163\150\165\146\142\000\052\000"
+			+ "\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\150"
+			+ "\141\144\144\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000"
+			+ "\000\001\377\000\006\160\150\141\144\144\144\000\052\000\003\166\144\161\000\052\000\003\167\144"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\007\160\150\141\144\144\163\167\000\052\000\003\166"
+			+ "\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\011\160\155\141\144"
+			+ "\144\165\142\163\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\006\160\150\163\165\142\167\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\006\160\150\163\165\142\144\000\052\000\003\166"
+			+ "\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\007\160\150\163\165"
+			+ "\142\163\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\006\160\163\151\147\156\142\000\052\000\003\166\144\161\000\052\000\003\167\144\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\006\160\163\151\147\156\167\000\052\000\003\166\144\161"
+			+ "\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\163\151\147\156\144"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\010\160\155\165\154\150\162\163\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000"
+			+ "\000\000\000\000\000\000\001\377\000\010\160\142\154\145\156\144\166\142\000\052\000\003\166\144"
+			+ "\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\010\142\154\145\156\144"
+			+ "\166\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\000\000\000\000\000\000"
+			+ "\001\377\000\010\142\154\145\156\144\166\160\144\000\052\000\003\166\160\144\000\052\000\003\167"
+			+ "\160\144\000\000\000\000\000\000\000\001\377\000\005\160\164\145\163\164\000\052\000\003\166\144"
+			+ "\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\005\160\141\142\163\142"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\005\160\141\142\163\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\005\160\141\142\163\144\000\052\000\003\166\144\161\000\052\000\003\167"
+			+ "\144\161\000\000\000\000\000\000\000\001\377\000\010\160\155\157\166\163\170\142\167\000\052\000"
+			+ "\003\166\144\161\000\052\000\002\155\161\000\000\000\000\000\000\000\001\377\000\010\160\155\157"
+			+ "\166\163\170\142\144\000\052\000\003\166\144\161\000\052\000\002\155\144\000\000\000\000\000\000"
+			+ "\000\001\377\000\010\160\155\157\166\163\170\142\161\000\052\000\003\166\144\161\000\155\000\004"
+			+ "\122\115\061\066\000\000\000\000\000\000\000\001\377\000\010\160\155\157\166\163\170\167\144\000"
+			+ "\052\000\003\166\144\161\000\052\000\002\155\161\000\000\000\000\000\000\000\001\377\000\010\160"
+			+ "\155\157\166\163\170\167\161\000\052\000\003\166\144\161\000\052\000\002\155\144\000\000\000\000"
+			+ "\000\000\000\001\377\000\010\160\155\157\166\163\170\144\161\000\052\000\003\166\144\161\000\052"
+			+ "\000\002\155\161\000\000\000\000\000\000\000\001\377\000\006\160\155\165\154\144\161\000\052\000"
+			+ "\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\007\160\143"
+			+ "\155\160\145\161\161\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000"
+			+ "\000\000\001\377\000\010\155\157\166\156\164\144\161\141\000\052\000\003\166\144\161\000\052\000"
+			+ "\003\155\144\161\000\000\000\000\000\000\000\001\377\000\010\160\141\143\153\165\163\144\167\000"
+			+ "\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\010"
+			+ "\160\155\157\166\172\170\142\167\000\052\000\003\166\144\161\000\052\000\002\155\161\000\000\000"
+			+ "\000\000\000\000\001\377\000\010\160\155\157\166\172\170\142\144\000\052\000\003\166\144\161\000"
+			+ "\052\000\002\155\144\000\000\000\000\000\000\000\001\377\000\010\160\155\157\166\172\170\142\161"
+			+ "\000\052\000\003\166\144\161\000\155\000\004\122\115\061\066\000\000\000\000\000\000\000\001\377"
+			+ "\000\010\160\155\157\166\172\170\167\144\000\052\000\003\166\144\161\000\052\000\002\155\161\000"
+			+ "\000\000\000\000\000\000\001\377\000\010\160\155\157\166\172\170\167\161\000\052\000\003\166\144"
+			+ "\161\000\052\000\002\155\144\000\000\000\000\000\000\000\001\377\000\010\160\155\157\166\172\170"
+			+ "\144\161\000\052\000\003\166\144\161\000\052\000\002\155\161\000\000\000\000\000\000\000\001\377"
+			+ "\000\007\160\143\155\160\147\164\161\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000"
+			+ "\000\000\000\000\000\000\001\377\000\006\160\155\151\156\163\142\000\052\000\003\166\144\161\000"
+			+ "\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\151\156\163\144\000"
+			+ "\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006"
+			+ "\160\155\151\156\165\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000"
+			+ "\000\000\000\001\377\000\006\160\155\151\156\165\144\000\052\000\003\166\144\161\000\052\000\003"
+			+ "\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\141\170\163\142\000\052\000\003"
+			+ "\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\141"
+			+ "\170\163\144\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000"
+			+ "\001\377\000\006\160\155\141\170\165\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161"
+			+ "\000\000\000\000\000\000\000\001\377\000\006\160\155\141\170\165\144\000\052\000\003\166\144\161"
+			+ "\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000\006\160\155\165\154\154\144"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\012\160\150\155\151\156\160\157\163\165\167\000\052\000\003\166\144\161\000\052\000\003\167\144"
+			+ "\161\000\000\000\000\000\000\000\001\377\000\006\151\156\166\145\160\164\000\052\000\002\147\161"
+			+ "\000\052\000\003\155\144\161\000\000\000\000\000\000\000\001\377\000\007\151\156\166\166\160\151"
+			+ "\144\000\052\000\002\147\161\000\052\000\003\155\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\007\162\157\165\156\144\160\163\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\151"
+			+ "\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\007\162\157\165\156\144\160\144"
+			+ "\000\052\000\003\166\160\163\000\052\000\003\167\160\144\000\151\000\004\111\115\115\070\000\000"
+			+ "\000\000\000\000\000\001\377\000\007\162\157\165\156\144\163\163\000\052\000\003\166\163\163\000"
+			+ "\052\000\003\167\163\163\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000"
+			+ "\007\162\157\165\156\144\163\144\000\052\000\003\166\163\144\000\052\000\003\167\163\144\000\151"
+			+ "\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\007\142\154\145\156\144\160\163"
+			+ "\000\052\000\003\166\160\163\000\052\000\003\167\160\163\000\151\000\004\111\115\115\070\000\000"
+			+ "\000\000\000\000\000\001\377\000\007\142\154\145\156\144\160\144\000\052\000\003\166\160\144\000"
+			+ "\052\000\003\167\160\144\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000"
+			+ "\007\160\142\154\145\156\144\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\151"
+			+ "\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\007\160\141\154\151\147\156\162"
+			+ "\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\000\000\000\000\000\000\001\377\000"
+			+ "\006\160\145\170\164\162\142\000\052\000\002\155\142\000\052\000\003\166\144\161\000\151\000\004"
+			+ "\111\115\115\070\000\000\000\000\000\000\000\001\377\000\006\160\145\170\164\162\167\000\155\000"
+			+ "\004\122\115\061\066\000\052\000\003\166\144\161\000\151\000\004\111\115\115\070\000\000\000\000"
+			+ "\000\000\000\001\377\000\006\160\145\170\164\162\144\000\052\000\002\145\144\000\052\000\003\166"
+			+ "\144\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\011\145\170\164"
+			+ "\162\141\143\164\160\163\000\052\000\002\145\144\000\052\000\003\166\144\161\000\151\000\004\111"
+			+ "\115\115\070\000\000\000\000\000\000\000\001\377\000\006\160\151\156\163\162\142\000\052\000\003"
+			+ "\166\144\161\000\052\000\002\155\142\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000"
+			+ "\001\377\000\010\151\156\163\145\162\164\160\163\000\052\000\003\166\160\163\000\052\000\003\165"
+			+ "\160\163\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\006\160\151\156"
+			+ "\163\162\144\000\052\000\003\166\144\161\000\052\000\002\145\144\000\151\000\004\111\115\115\070"
+			+ "\000\000\000\000\000\000\000\001\377\000\004\144\160\160\163\000\052\000\003\166\160\163\000\052"
+			+ "\000\003\167\160\163\000\000\000\000\000\000\000\001\377\000\004\144\160\160\144\000\052\000\003"
+			+ "\166\160\144\000\052\000\003\167\160\144\000\000\000\000\000\000\000\001\377\000\007\155\160\163"
+			+ "\141\144\142\167\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\151\000\004\111\115"
+			+ "\115\070\000\000\000\000\000\000\000\001\377\000\011\160\143\155\160\145\163\164\162\155\000\052"
+			+ "\000\003\166\144\161\000\052\000\003\167\144\161\000\151\000\004\111\115\115\070\000\000\000\000"
+			+ "\000\000\000\001\377\000\011\160\143\155\160\145\163\164\162\151\000\052\000\003\166\144\161\000"
+			+ "\052\000\003\167\144\161\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000"
+			+ "\011\160\143\155\160\151\163\164\162\155\000\052\000\003\166\144\161\000\052\000\003\167\144\161"
+			+ "\000\151\000\004\111\115\115\070\000\000\000\000\000\000\000\001\377\000\011\160\143\155\160\151"
+			+ "\163\164\162\151\000\052\000\003\166\144\161\000\052\000\003\167\144\161\000\151\000\004\111\115"
+			+ "\115\070\000\000\000\000\000\000\000\001\377\000\005\143\162\143\063\062\000\052\000\004\147\144"
+			+ "\161\160\000\155\000\003\122\115\070\000\000\000\000\000\000\000\001\377\000\005\143\162\143\063"
+			+ "\062\000\052\000\004\147\144\161\160\000\155\000\004\122\115\063\062\000\000\000\000" };
+
+	private X86b64InstructionIndexData() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Gets the index data.
+	 *
+	 * @return the index data.
+	 */
+	public static ByteBuffer indexData() {
+		byte[] indexData = new byte[INDEX_DATA_SIZE];
+		int indexDataPosition = 0;
+
+		for (String chunk : INDEX_DATA) {
+			byte[] chunkBytes = chunk.getBytes(StandardCharsets.ISO_8859_1);
+
+			System.arraycopy(chunkBytes, 0, indexData, indexDataPosition, chunkBytes.length);
+			indexDataPosition += chunkBytes.length;
+		}
+		return ByteBuffer.wrap(indexData).asReadOnlyBuffer();
+	}
+
+}
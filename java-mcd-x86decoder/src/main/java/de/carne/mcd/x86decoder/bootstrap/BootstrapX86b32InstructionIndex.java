@@ -34,8 +34,9 @@ public class BootstrapX86b32InstructionIndex {
 
 	private static final File INSTRUCTION_REFERENCE_FILE = new File(
 			"./src/main/resources/de/carne/mcd/x86/bootstrap/X86b32InstructionReference.txt");
-	private static final File INSTRUCTION_INDEX_FILE = new File(
-			"./src/main/resources/de/carne/mcd/x86/X86b32InstructionIndex.bin");
+	private static final String INSTRUCTION_INDEX_DATA_CLASS = "de.carne.mcd.x86decoder.X86b32InstructionIndexData";
+	private static final File INSTRUCTION_INDEX_DATA_FILE = new File(
+			"./src/main/java/de/carne/mcd/x86decoder/X86b32InstructionIndexData.java");
 
 	private BootstrapX86b32InstructionIndex() {
 		// Prevent instantiation
@@ -84,7 +85,7 @@ public class BootstrapX86b32InstructionIndex {
 
 		reference.build(builder);
 
-		long totalIndexSize = builder.save(INSTRUCTION_INDEX_FILE);
+		long totalIndexSize = builder.saveSource(INSTRUCTION_INDEX_DATA_FILE, INSTRUCTION_INDEX_DATA_CLASS);
 
 		LOG.notice("Index entry count   : {0}", builder.entryCount());
 		LOG.notice("Index opcode bytes  : {0}", builder.opcodeBytes());
@@ -32,12 +32,14 @@ import org.junit.jupiter.api.Test;
 
 import de.carne.io.IOUtil;
 import de.carne.mcd.PlainMCDOutput;
+import de.carne.mcd.io.MCDTokenCache;
 import de.carne.mcd.x86decoder.X86Decoder;
 import de.carne.mcd.x86decoder.X86b16Decoder;
 import de.carne.mcd.x86decoder.X86b32Decoder;
 import de.carne.mcd.x86decoder.X86b64Decoder;
 import de.carne.test.helper.diff.Diff;
 import de.carne.test.helper.diff.DiffResult;
+import de.carne.text.HexFormat;
 import de.carne.util.logging.Log;
 
 /**
@@ -77,6 +79,69 @@ class X86DecoderTest {
 		Assertions.assertEquals(DiffResult.lineMatch(), diffResult);
 	}
 
+	@Test
+	void testX86b64DecoderSink() throws IOException {
+		X86Decoder decoder = new X86b64Decoder();
+		StringWriter decodeBuffer = new StringWriter();
+
+		try (ReadableByteChannel code = getCode(TestFiles.WINDOWS64_EXE.getPath(), 0x400, 4096);
+				PlainMCDOutput out = new PlainMCDOutput(decodeBuffer, false)) {
+			decoder.decode(code, out, 0, 4096);
+		}
+
+		StringBuilder labelBuffer = new StringBuilder();
+
+		for (String decodeLine : decodeBuffer.toString().split("\\R")) {
+			int labelEnd = decodeLine.indexOf(": ");
+
+			if (labelEnd > 0) {
+				labelBuffer.append(decodeLine, 0, labelEnd).append('\n');
+			}
+		}
+
+		StringBuilder sinkBuffer = new StringBuilder();
+		long[] nextAddress = { 0 };
+		long decoded;
+
+		try (ReadableByteChannel code = getCode(TestFiles.WINDOWS64_EXE.getPath(), 0x400, 4096)) {
+			Assertions.assertTrue(decoder.supportsInstructionSink());
+
+			decoded = decoder.decode(code, (address, length, mnemonicId, operands, rawBytes) -> {
+				Assertions.assertEquals(nextAddress[0], address);
+				Assertions.assertEquals(length, rawBytes.length());
+				Assertions.assertNotEquals(MCDTokenCache.NO_TOKEN, mnemonicId);
+				for (int operandIndex = 0; operandIndex < operands.count(); operandIndex++) {
+					Assertions.assertTrue(operands.offset(operandIndex) + operands.length(operandIndex) <= length);
+				}
+				sinkBuffer.append(HexFormat.LOWER_CASE.format(address)).append('\n');
+				nextAddress[0] += length;
+			}, 0, 4096);
+		}
+
+		Assertions.assertEquals(nextAddress[0], decoded);
+		Assertions.assertEquals(labelBuffer.toString(), sinkBuffer.toString());
+	}
+
+	@Test
+	void testX86b32DecoderSinkOperandRanges() throws IOException {
+		X86Decoder decoder = new X86b32Decoder();
+		// add eax,[esp+8] / add eax,ebx / add eax,5
+		byte[] code = { 0x03, 0x44, 0x24, 0x08, 0x01, (byte) 0xd8, (byte) 0x83, (byte) 0xc0, 0x05 };
+		StringBuilder rangeBuffer = new StringBuilder();
+
+		try (ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(code))) {
+			decoder.decode(in, (address, length, mnemonicId, operands, rawBytes) -> {
+				for (int operandIndex = 0; operandIndex < operands.count(); operandIndex++) {
+					rangeBuffer.append(operandIndex == 0 ? "" : " ").append(operands.offset(operandIndex)).append('+')
+							.append(operands.length(operandIndex));
+				}
+				rangeBuffer.append('\n');
+			}, 0, code.length);
+		}
+
+		Assertions.assertEquals("1+1 1+3\n1+1 1+1\n1+1 2+1\n", rangeBuffer.toString());
+	}
+
 	private ReadableByteChannel getCode(Path path, long offset, int length) throws IOException {
 		byte[] code = new byte[length];
 